@@ -29,6 +29,12 @@ import org.wso2.carbon.user.core.service.RealmService;
  */
 public class ApplicationManagementServiceHolder {
 
+    /**
+     * Name the calls to the ApplicationManagementService are timed under. The service is used through its class, so
+     * its calls are timed at the call sites rather than by a timing proxy.
+     */
+    public static final String APPLICATION_MANAGEMENT_SERVICE = "ApplicationManagementService";
+
     private static ApplicationManagementService applicationManagementService;
     private static OAuthAdminServiceImpl oauthAdminService;
     private static STSAdminServiceInterface stsAdminService;
@@ -18,6 +18,7 @@ package org.wso2.carbon.identity.api.server.application.management.common.factor
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.identity.cors.mgt.core.CORSManagementService;
 
 /**
@@ -42,7 +43,7 @@ public class CORSMgtOGSiServiceFactory extends AbstractFactoryBean<CORSManagemen
                     getThreadLocalCarbonContext().getOSGiService(CORSManagementService.class, null);
 
             if (taskOperationService != null) {
-                this.corsManagementService = taskOperationService;
+                this.corsManagementService = BackendTimingProxy.wrap(CORSManagementService.class, taskOperationService);
             } else {
                 throw new Exception("Unable to retrieve corsManagementService service.");
             }
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.application.management.common.factor
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -44,7 +45,7 @@ public class RealmServiceOSGIServiceFactory extends AbstractFactoryBean<RealmSer
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .getOSGiService(RealmService.class, null);
             if (realmService != null) {
-                this.realmService = realmService;
+                this.realmService = BackendTimingProxy.wrap(RealmService.class, realmService);
             } else {
                 throw new Exception("Unable to retrieve RealmService service.");
             }
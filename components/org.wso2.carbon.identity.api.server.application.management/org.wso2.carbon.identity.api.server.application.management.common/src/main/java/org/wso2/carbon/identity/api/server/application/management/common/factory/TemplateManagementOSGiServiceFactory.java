@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.application.management.common.factor
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.identity.template.mgt.TemplateManager;
 
 /**
@@ -44,7 +45,7 @@ public class TemplateManagementOSGiServiceFactory extends AbstractFactoryBean<Te
                             .getOSGiService(TemplateManager.class, null);
 
             if (templateManager != null) {
-                this.templateManager = templateManager;
+                this.templateManager = BackendTimingProxy.wrap(TemplateManager.class, templateManager);
             } else {
                 throw new Exception("Unable to retrieve TemplateManager service.");
             }
@@ -30,6 +30,10 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Application
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplateModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplatesList;
 import org.wso2.carbon.identity.api.server.application.management.v1.AuthProtocolMetadata;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkResponse;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetResponse;
 import org.wso2.carbon.identity.api.server.application.management.v1.CustomInboundProtocolConfiguration;
 import org.wso2.carbon.identity.api.server.application.management.v1.CustomInboundProtocolMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.Error;
@@ -45,6 +49,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.SAML2Servic
 import org.wso2.carbon.identity.api.server.application.management.v1.SAMLMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustConfiguration;
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustMetaData;
+import org.wso2.carbon.identity.api.server.common.async.AsyncRequestExecutor;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationsApiService;
 
 import javax.validation.Valid;
@@ -63,6 +68,30 @@ public class ApplicationsApi  {
     @Autowired
     private ApplicationsApiService delegate;
 
+    @Valid
+    @POST
+    @Path("/bulk")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Execute a bulk request on applications ", notes = "This API provides the capability to create multiple applications in a single request. Each operation is executed as if it was sent as a separate request, and the results are returned in the order of the operations. The supported operation is 'POST /applications'. The bulk request is authorized as a single create request, hence update and delete operations are not supported. The resource access control configuration must protect 'POST /api/server/v1/applications/bulk' with the create permission and scope below.<br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/create <br>   <b>Scope required:</b> <br>       * internal_application_mgt_create ", response = BulkResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Results of the executed operations.", response = BulkResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 413, message = "Payload Too Large", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response bulkApplicationOperations(@ApiParam(value = "This represents the operations to be executed." ,required=true) @Valid BulkRequest bulkRequest) {
+
+        return delegate.bulkApplicationOperations(bulkRequest );
+    }
+
     @Valid
     @PUT
     @Path("/{applicationId}/owner")
@@ -384,7 +413,7 @@ public class ApplicationsApi  {
     @GET
     
     
-    @Produces({ "application/json" })
+    @Produces({ "application/json", "application/cbor", "application/x-jackson-smile" })
     @ApiOperation(value = "List applications ", notes = "This API provides the capability to retrieve the list of applications.<br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/view <br>   <b>Scope required:</b> <br>       * internal_application_mgt_view ", response = ApplicationListResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
@@ -400,16 +429,16 @@ public class ApplicationsApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response getAllApplications(    @Valid @Min(1)@ApiParam(value = "Maximum number of records to return. ", defaultValue="30") @DefaultValue("30")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ", defaultValue="0") @DefaultValue("0")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations. Currently supports only filtering based on the 'name' attribute.  /applications?filter=name+eq+user_portal /applications?filter=name+co+prod ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _This parameter is not supported yet._ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet._ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response _This parameter is not supported yet_ ")  @QueryParam("attributes") String attributes) {
+    public Response getAllApplications(    @Valid @Min(1)@ApiParam(value = "Maximum number of records to return. ", defaultValue="30") @DefaultValue("30")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ", defaultValue="0") @DefaultValue("0")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations. Currently supports only filtering based on the 'name' attribute.  /applications?filter=name+eq+user_portal /applications?filter=name+co+prod ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _This parameter is not supported yet._ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet._ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response _This parameter is not supported yet_ ")  @QueryParam("attributes") String attributes,     @Valid@ApiParam(value = "Cursor of the item after which the records should be returned, as given in the 'next' link of a previous page. Cannot be used along with the 'offset' or 'before' parameters. ")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the item before which the records should be returned, as given in the 'previous' link of a previous page. Cannot be used along with the 'offset' or 'after' parameters. ")  @QueryParam("before") String before) {
 
-        return delegate.getAllApplications(limit,  offset,  filter,  sortOrder,  sortBy,  attributes );
+        return delegate.getAllApplications(limit,  offset,  filter,  sortOrder,  sortBy,  attributes,  after,  before );
     }
 
     @Valid
     @GET
     @Path("/{applicationId}")
     
-    @Produces({ "application/json", "application/xml",  })
+    @Produces({ "application/json", "application/xml", "application/cbor", "application/x-jackson-smile" })
     @ApiOperation(value = "Retrieve application by ID ", notes = "This API provides the capability to retrieve the application information by ID. <br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/view <br>   <b>Scope required:</b> <br>       * internal_application_mgt_view ", response = ApplicationResponseModel.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
@@ -429,6 +458,29 @@ public class ApplicationsApi  {
         return delegate.getApplication(applicationId );
     }
 
+    @Valid
+    @GET
+    @Path("/.get")
+    
+    @Produces({ "application/json", "application/cbor", "application/x-jackson-smile" })
+    @ApiOperation(value = "Retrieve multiple applications by their IDs ", notes = "This API provides the capability to retrieve multiple applications in a single request by giving their IDs. The result of each ID is returned in the order of the request, with the status and error of the IDs which could not be retrieved, such as a 404 for an ID which does not exist. Since the request only reads applications, it is a GET request, and is authorized with the view permission and scope below. <br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/applicationmgt/view <br>   <b>Scope required:</b> <br>       * internal_application_mgt_view ", response = MultiGetResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Applications", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Results of the requested IDs.", response = MultiGetResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getApplicationsByIds(    @Valid@ApiParam(value = "IDs of the applications to be retrieved, either comma separated or as repeated parameters. ",required=true)  @QueryParam("ids") List<String> ids) {
+
+        return delegate.getApplicationsByIds(ids );
+    }
+
     @Valid
     @GET
     @Path("/{applicationId}/authenticators")
@@ -979,9 +1031,9 @@ public class ApplicationsApi  {
         @ApiResponse(code = 409, message = "Conflict", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response updateInboundSAMLConfiguration(@ApiParam(value = "ID of the application.",required=true) @PathParam("applicationId") String applicationId, @ApiParam(value = "This represents the SAML2 protocol attributes of the application." ,required=true) @Valid SAML2Configuration saML2Configuration) {
+    public Object updateInboundSAMLConfiguration(@ApiParam(value = "ID of the application.",required=true) @PathParam("applicationId") String applicationId, @ApiParam(value = "This represents the SAML2 protocol attributes of the application." ,required=true) @Valid SAML2Configuration saML2Configuration) {
 
-        return delegate.updateInboundSAMLConfiguration(applicationId,  saML2Configuration );
+        return AsyncRequestExecutor.getInstance().execute(() -> delegate.updateInboundSAMLConfiguration(applicationId,  saML2Configuration ));
     }
 
     @Valid
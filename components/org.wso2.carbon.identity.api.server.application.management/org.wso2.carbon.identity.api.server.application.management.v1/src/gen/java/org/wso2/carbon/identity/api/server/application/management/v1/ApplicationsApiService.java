@@ -30,6 +30,8 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Application
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplateModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplatesList;
 import org.wso2.carbon.identity.api.server.application.management.v1.AuthProtocolMetadata;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import java.util.List;
 import org.wso2.carbon.identity.api.server.application.management.v1.CustomInboundProtocolConfiguration;
 import org.wso2.carbon.identity.api.server.application.management.v1.CustomInboundProtocolMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.Error;
@@ -50,6 +52,8 @@ import javax.ws.rs.core.Response;
 
 public interface ApplicationsApiService {
 
+      public Response bulkApplicationOperations(BulkRequest bulkRequest);
+
       public Response changeApplicationOwner(String applicationId, ApplicationOwner applicationOwner);
 
       public Response createApplication(ApplicationModel applicationModel, String template);
@@ -76,10 +80,12 @@ public interface ApplicationsApiService {
 
       public Response getAllApplicationTemplates(Integer limit, Integer offset, SearchContext searchContext);
 
-      public Response getAllApplications(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String attributes);
+      public Response getAllApplications(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String attributes, String after, String before);
 
       public Response getApplication(String applicationId);
 
+      public Response getApplicationsByIds(List<String> ids);
+
       public Response getConfiguredAuthenticators(String applicationId);
 
       public Response getApplicationTemplate(String templateId);
@@ -72,7 +72,14 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplateListItem;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetExecutor;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetResponse;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEvent;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendCallTimer;
+import org.wso2.carbon.identity.api.server.common.pagination.CursorPaginator;
+import org.wso2.carbon.identity.api.server.common.projection.FieldMask;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementClientException;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
@@ -124,6 +131,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -140,6 +148,7 @@ import static org.wso2.carbon.identity.api.server.application.management.common.
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ISSUER;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.NAME;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.TEMPLATE_ID;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder.APPLICATION_MANAGEMENT_SERVICE;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.buildBadRequestError;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.buildNotImplementedError;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.getInboundAuthKey;
@@ -189,12 +198,17 @@ public class ServerApplicationManagementService {
     private ServerApplicationMetadataService applicationMetadataService;
 
     public ApplicationListResponse getAllApplications(Integer limit, Integer offset, String filter, String sortOrder,
-                                                      String sortBy, String requiredAttributes) {
+                                                      String sortBy, String requiredAttributes, String after,
+                                                      String before) {
 
         handleNotImplementedCapabilities(sortOrder, sortBy);
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
 
         limit = validateAndGetLimit(limit);
+        CursorPaginator cursorPaginator = null;
+        if (CursorPaginator.isCursorRequest(after, before)) {
+            cursorPaginator = CursorPaginator.forRequest(after, before, offset, limit);
+        }
         offset = validateAndGetOffset(offset);
 
         List<String> submittedFilterAttributes = new ArrayList<>();
@@ -213,18 +227,32 @@ public class ServerApplicationManagementService {
 
         String username = ContextLoader.getUsernameFromContext();
         try {
-            int totalResults = getApplicationManagementService()
-                    .getCountOfApplications(tenantDomain, username, filter);
-
-            ApplicationBasicInfo[] filteredAppList = getApplicationManagementService()
-                    .getApplicationBasicInfo(tenantDomain, username, filter, offset, limit);
+            int totalResults = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getCountOfApplications", () ->
+                    getApplicationManagementService().getCountOfApplications(tenantDomain, username, filter));
+
+            ApplicationBasicInfo[] filteredAppList;
+            if (cursorPaginator != null) {
+                int fetchOffset = cursorPaginator.getFetchOffset();
+                int fetchLimit = cursorPaginator.getFetchLimit();
+                ApplicationBasicInfo[] appWindow = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE,
+                        "getApplicationBasicInfo", () -> getApplicationManagementService().getApplicationBasicInfo(
+                                tenantDomain, username, filter, fetchOffset, fetchLimit));
+                filteredAppList = cursorPaginator.selectPage(Arrays.asList(appWindow),
+                        ApplicationBasicInfo::getApplicationName).toArray(new ApplicationBasicInfo[0]);
+                offset = cursorPaginator.getPageOffset();
+            } else {
+                int pageOffset = offset;
+                int pageLimit = limit;
+                filteredAppList = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getApplicationBasicInfo", () ->
+                        getApplicationManagementService().getApplicationBasicInfo(tenantDomain, username, filter,
+                                pageOffset, pageLimit));
+            }
             int resultsInCurrentPage = filteredAppList.length;
+            List<Link> links = buildApplicationListLinks(limit, offset, totalResults, filter, filteredAppList,
+                    cursorPaginator);
 
-            List<String> requestedAttributeList = new ArrayList<>();
-            if (StringUtils.isNotEmpty(requiredAttributes)) {
-                requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
-                validateRequiredAttributes(requestedAttributeList);
-            }
+            List<String> requestedAttributeList = new ArrayList<>(FieldMask.parse(requiredAttributes).getFields());
+            validateRequiredAttributes(requestedAttributeList);
 
             // Add clientId as a required attribute when there's clientId as a filter param.
             if (!requestedAttributeList.contains(CLIENT_ID) && submittedFilterAttributes.contains(CLIENT_ID)) {
@@ -243,25 +271,16 @@ public class ServerApplicationManagementService {
                         .totalResults(totalResults)
                         .startIndex(offset + 1)
                         .count(resultsInCurrentPage)
-                        .applications(getApplicationListItems(serviceProviderList, requestedAttributeList))
-                        .links(Util.buildPaginationLinks(limit, offset, totalResults,
-                                        APPLICATION_MANAGEMENT_PATH_COMPONENT)
-                                .entrySet()
-                                .stream()
-                                .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
-                                .collect(Collectors.toList()));
+                        .applications(getApplicationListItems(serviceProviderList,
+                                FieldMask.of(requestedAttributeList)))
+                        .links(links);
             } else {
                 return new ApplicationListResponse()
                         .totalResults(totalResults)
                         .startIndex(offset + 1)
                         .count(resultsInCurrentPage)
                         .applications(getApplicationListItems(filteredAppList))
-                        .links(Util.buildPaginationLinks(limit, offset, totalResults,
-                                        APPLICATION_MANAGEMENT_PATH_COMPONENT)
-                                .entrySet()
-                                .stream()
-                                .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
-                                .collect(Collectors.toList()));
+                        .links(links);
             }
 
         } catch (IdentityApplicationManagementException e) {
@@ -315,15 +334,33 @@ public class ServerApplicationManagementService {
 
         List<ServiceProvider> serviceProviderList = new ArrayList<>();
         for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = getApplicationManagementService().
-                    getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
+            ServiceProvider serviceProvider = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE,
+                    "getApplicationWithRequiredAttributes", () ->
+                            getApplicationManagementService().getApplicationWithRequiredAttributes(
+                                    applicationBasicInfo.getApplicationId(), requestedAttributeList));
             serviceProviderList.add(serviceProvider);
         }
         return serviceProviderList;
     }
 
 
+    private List<Link> buildApplicationListLinks(int limit, int offset, int totalResults, String filter,
+                                                 ApplicationBasicInfo[] applications,
+                                                 CursorPaginator cursorPaginator) {
+
+        Map<String, String> links;
+        if (cursorPaginator != null) {
+            links = cursorPaginator.buildLinks(APPLICATION_MANAGEMENT_PATH_COMPONENT, Arrays.asList(applications),
+                    ApplicationBasicInfo::getApplicationName, totalResults, filter);
+        } else {
+            links = Util.buildPaginationLinks(limit, offset, totalResults, APPLICATION_MANAGEMENT_PATH_COMPONENT);
+        }
+        return links.entrySet()
+                .stream()
+                .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
+                .collect(Collectors.toList());
+    }
+
     private int validateAndGetOffset(Integer offset) {
 
         if (offset != null && offset >= 0) {
@@ -355,6 +392,18 @@ public class ServerApplicationManagementService {
         return new ServiceProviderToApiModel().apply(application);
     }
 
+    /**
+     * Get the applications identified by the IDs of a multi-get request. The backend retrieves applications one at a
+     * time, hence the IDs are resolved in parallel.
+     *
+     * @param ids IDs of the applications, as given in the ids query parameter.
+     * @return Application, or the error, of each ID.
+     */
+    public MultiGetResponse getApplicationsByIds(List<String> ids) {
+
+        return MultiGetExecutor.resolveInParallel(ids, this::getApplication);
+    }
+
     /**
      * Get the authenticators configured for an application.
      *
@@ -365,8 +414,9 @@ public class ServerApplicationManagementService {
 
         ArrayList<ConfiguredAuthenticatorsModal> response = new ArrayList<>();
         try {
-            AuthenticationStep[] authenticationSteps = getApplicationManagementService()
-                    .getConfiguredAuthenticators(applicationId);
+            AuthenticationStep[] authenticationSteps = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE,
+                    "getConfiguredAuthenticators", () ->
+                            getApplicationManagementService().getConfiguredAuthenticators(applicationId));
 
             if (authenticationSteps == null) {
                 throw buildClientError(ErrorMessage.APPLICATION_NOT_FOUND, applicationId);
@@ -416,8 +466,9 @@ public class ServerApplicationManagementService {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            return getApplicationManagementService().exportSPApplicationFromAppID(
-                    applicationId, exportSecrets, tenantDomain);
+            return BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "exportSPApplicationFromAppID", () ->
+                    getApplicationManagementService().exportSPApplicationFromAppID(applicationId, exportSecrets,
+                            tenantDomain));
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error exporting application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -456,12 +507,15 @@ public class ServerApplicationManagementService {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
 
-            ImportResponse importResponse = getApplicationManagementService()
-                    .importSPApplication(spFileContent, tenantDomain, username, isAppUpdate);
+            ImportResponse importResponse = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE,
+                    "importSPApplication", () -> getApplicationManagementService().importSPApplication(spFileContent,
+                            tenantDomain, username, isAppUpdate));
 
             if (importResponse.getResponseCode() == ImportResponse.FAILED) {
                 throw handleErrorResponse(importResponse);
             } else {
+                publishApplicationChange(importResponse.getApplicationResourceId(),
+                        isAppUpdate ? ChangeEvent.Operation.UPDATED : ChangeEvent.Operation.CREATED);
                 return importResponse.getApplicationResourceId();
             }
         } catch (IOException e) {
@@ -516,12 +570,14 @@ public class ServerApplicationManagementService {
         String applicationId = null;
         ServiceProvider application = new ApiModelToServiceProvider().apply(applicationModel);
         try {
-            applicationId = getApplicationManagementService().createApplication(application, tenantDomain, username);
+            applicationId = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "createApplication", () ->
+                    getApplicationManagementService().createApplication(application, tenantDomain, username));
             if (applicationModel.getInboundProtocolConfiguration() != null &&
                     applicationModel.getInboundProtocolConfiguration().getOidc() != null) {
                 OAuthInboundFunctions.updateCorsOrigins(applicationId, applicationModel
                         .getInboundProtocolConfiguration().getOidc());
             }
+            publishApplicationChange(applicationId, ChangeEvent.Operation.CREATED);
             return applicationId;
         } catch (IdentityApplicationManagementException e) {
             if (log.isDebugEnabled()) {
@@ -569,8 +625,10 @@ public class ServerApplicationManagementService {
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
-            getApplicationManagementService()
-                    .updateApplicationByResourceId(applicationId, appToUpdate, tenantDomain, username);
+            BackendCallTimer.run(APPLICATION_MANAGEMENT_SERVICE, "updateApplicationByResourceId", () ->
+                    getApplicationManagementService().updateApplicationByResourceId(applicationId, appToUpdate,
+                            tenantDomain, username));
+            publishApplicationChange(applicationId, ChangeEvent.Operation.UPDATED);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error patching application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -594,7 +652,10 @@ public class ServerApplicationManagementService {
             }
 
             // Delete Application.
-            getApplicationManagementService().deleteApplicationByResourceId(applicationId, tenantDomain, username);
+            BackendCallTimer.run(APPLICATION_MANAGEMENT_SERVICE, "deleteApplicationByResourceId", () ->
+                    getApplicationManagementService().deleteApplicationByResourceId(applicationId, tenantDomain,
+                            username));
+            publishApplicationChange(applicationId, ChangeEvent.Operation.DELETED);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error deleting application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -648,7 +709,9 @@ public class ServerApplicationManagementService {
     private ServiceProvider getResidentSp(String tenantDomain) throws IdentityApplicationManagementException {
 
         ServiceProvider application =
-                getApplicationManagementService().getServiceProvider(ApplicationConstants.LOCAL_SP, tenantDomain);
+                BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getServiceProvider", () ->
+                        getApplicationManagementService().getServiceProvider(ApplicationConstants.LOCAL_SP,
+                                tenantDomain));
         if (application == null) {
             throw Utils.buildServerError("Resident application cannot be found for tenantDomain: " + tenantDomain);
         }
@@ -1115,7 +1178,8 @@ public class ServerApplicationManagementService {
         ServiceProvider application;
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            application = getApplicationManagementService().getApplicationByResourceId(applicationId, tenantDomain);
+            application = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getApplicationByResourceId", () ->
+                    getApplicationManagementService().getApplicationByResourceId(applicationId, tenantDomain));
             if (application == null) {
                 throw buildClientError(ErrorMessage.APPLICATION_NOT_FOUND, applicationId, tenantDomain);
             }
@@ -1143,25 +1207,15 @@ public class ServerApplicationManagementService {
     }
 
     private List<ApplicationListItem> getApplicationListItems(List<ServiceProvider> serviceProviderList,
-                                                              List<String> requiredAttributes) {
+                                                              FieldMask requiredAttributes) {
 
+        // Only the required attributes are built on top of the basic application information.
+        ServiceProviderToApiModel serviceProviderToApiModel = new ServiceProviderToApiModel(requiredAttributes);
+        ApplicationInfoWithRequiredPropsToApiModel applicationInfoToApiModel =
+                new ApplicationInfoWithRequiredPropsToApiModel();
         List<ApplicationListItem> applicationListItems = new ArrayList<>();
         for (ServiceProvider serviceProvider : serviceProviderList) {
-            ApplicationResponseModel  applicationResponseModel =
-                    new ServiceProviderToApiModel().apply(serviceProvider);
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_ID))) {
-                applicationResponseModel.templateId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ADVANCED_CONFIGURATIONS))) {
-                applicationResponseModel.advancedConfigurations(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(CLIENT_ID))) {
-                applicationResponseModel.clientId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ISSUER))) {
-                applicationResponseModel.issuer(null);
-            }
-            applicationListItems.add(new ApplicationInfoWithRequiredPropsToApiModel().apply(applicationResponseModel));
+            applicationListItems.add(applicationInfoToApiModel.apply(serviceProviderToApiModel.apply(serviceProvider)));
         }
         return applicationListItems;
     }
@@ -1223,14 +1277,27 @@ public class ServerApplicationManagementService {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
 
-            getApplicationManagementService().updateApplicationByResourceId(
-                    applicationId, updatedApplication, tenantDomain, username);
+            BackendCallTimer.run(APPLICATION_MANAGEMENT_SERVICE, "updateApplicationByResourceId", () ->
+                    getApplicationManagementService().updateApplicationByResourceId(applicationId, updatedApplication,
+                            tenantDomain, username));
+            publishApplicationChange(applicationId, ChangeEvent.Operation.UPDATED);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error updating application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
         }
     }
 
+    /**
+     * Publish a change of the given application to the change feed of the tenant.
+     *
+     * @param applicationId Unique id of the changed application.
+     * @param operation     Operation performed on the application.
+     */
+    private void publishApplicationChange(String applicationId, ChangeEvent.Operation operation) {
+
+        ChangeFeed.getInstance().publish(ChangeEvent.ResourceType.APPLICATION, applicationId, operation);
+    }
+
     private void handleNotImplementedCapabilities(String sortOrder, String sortBy) {
 
         ErrorMessage errorEnum = null;
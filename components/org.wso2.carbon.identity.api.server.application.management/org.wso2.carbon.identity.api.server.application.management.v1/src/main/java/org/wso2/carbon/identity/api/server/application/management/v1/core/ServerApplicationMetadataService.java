@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.SAMLMetaDat
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendCallTimer;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
 import org.wso2.carbon.identity.base.IdentityException;
@@ -57,6 +58,7 @@ import static org.wso2.carbon.identity.api.server.application.management.common.
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_RETRIEVING_SAML_METADATA;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_WS_TRUST_METADATA_SERVICE_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.getOAuthGrantTypeNames;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder.APPLICATION_MANAGEMENT_SERVICE;
 
 /**
  * Calls internal osgi services to get required application metadata.
@@ -78,8 +80,9 @@ public class ServerApplicationMetadataService {
 
         // Add custom inbound protocols
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators =
-                ApplicationManagementServiceHolder.getApplicationManagementService()
-                        .getAllInboundAuthenticatorConfig();
+                BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getAllInboundAuthenticatorConfig", () ->
+                        ApplicationManagementServiceHolder.getApplicationManagementService()
+                                .getAllInboundAuthenticatorConfig());
 
         for (Map.Entry<String, AbstractInboundAuthenticatorConfig> entry : allCustomAuthenticators
                 .entrySet()) {
@@ -250,8 +253,9 @@ public class ServerApplicationMetadataService {
 
         String protocolName = URLDecoder.decode(inboundProtocolName);
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators =
-                ApplicationManagementServiceHolder.getApplicationManagementService()
-                        .getAllInboundAuthenticatorConfig();
+                BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getAllInboundAuthenticatorConfig", () ->
+                        ApplicationManagementServiceHolder.getApplicationManagementService()
+                                .getAllInboundAuthenticatorConfig());
 
         // Loop through all custom inbound protocols and match the name.
         for (Map.Entry<String, AbstractInboundAuthenticatorConfig> entry : allCustomAuthenticators
@@ -313,8 +317,9 @@ public class ServerApplicationMetadataService {
     public AdaptiveAuthTemplates getAdaptiveAuthTemplates() {
 
         AdaptiveAuthTemplates adaptiveAuthTemplates = new AdaptiveAuthTemplates();
-        adaptiveAuthTemplates.setTemplatesJSON(ApplicationManagementServiceHolder.getApplicationManagementService()
-                .getAuthenticationTemplatesJSON());
+        adaptiveAuthTemplates.setTemplatesJSON(BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE,
+                "getAuthenticationTemplatesJSON", () -> ApplicationManagementServiceHolder
+                        .getApplicationManagementService().getAuthenticationTemplatesJSON()));
         return adaptiveAuthTemplates;
     }
 
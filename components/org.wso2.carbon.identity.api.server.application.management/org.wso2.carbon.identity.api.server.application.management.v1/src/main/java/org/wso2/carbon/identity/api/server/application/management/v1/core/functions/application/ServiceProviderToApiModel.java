@@ -38,6 +38,8 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundAuthConfigToApiModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.provisioning.BuildProvisioningConfiguration;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendCallTimer;
+import org.wso2.carbon.identity.api.server.common.projection.FieldMask;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
@@ -62,6 +64,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder.APPLICATION_MANAGEMENT_SERVICE;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.arrayToStream;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.UpdateAdvancedConfigurations.TYPE_JWKS;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.UpdateAdvancedConfigurations.TYPE_PEM;
@@ -73,7 +76,8 @@ import static org.wso2.carbon.identity.base.IdentityConstants.SKIP_CONSENT;
 import static org.wso2.carbon.identity.base.IdentityConstants.SKIP_LOGOUT_CONSENT;
 
 /**
- * Converts the backend model ServiceProvider into the corresponding API model object.
+ * Converts the backend model ServiceProvider into the corresponding API model object. When created with a
+ * {@link FieldMask}, the identifying fields are always set, and the other fields only if they are included in the mask.
  */
 public class ServiceProviderToApiModel implements Function<ServiceProvider, ApplicationResponseModel> {
 
@@ -83,34 +87,74 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
             .getApplicationManagementService().getSystemApplications();
     private static final String IS_FRAGMENT_APP = "isFragmentApp";
 
+    private final FieldMask mask;
+
+    public ServiceProviderToApiModel() {
+
+        this(FieldMask.ALL);
+    }
+
+    /**
+     * Create a converter which builds only the fields of the API model included in the given mask.
+     *
+     * @param mask Fields of the API model to be built. E.g. clientId,advancedConfigurations
+     */
+    public ServiceProviderToApiModel(FieldMask mask) {
+
+        this.mask = mask;
+    }
+
     @Override
     public ApplicationResponseModel apply(ServiceProvider application) {
 
         if (isResidentSp(application)) {
-            return new ApplicationResponseModel()
+            ApplicationResponseModel residentApplication = new ApplicationResponseModel()
                     .id(application.getApplicationResourceId())
                     .name(application.getApplicationName())
                     .description(application.getDescription())
-                    .provisioningConfigurations(buildProvisioningConfiguration(application))
                     .access(ApplicationResponseModel.AccessEnum.READ);
-        } else {
-            return new ApplicationResponseModel()
-                    .id(application.getApplicationResourceId())
-                    .name(application.getApplicationName())
-                    .description(application.getDescription())
-                    .imageUrl(application.getImageUrl())
-                    .accessUrl(application.getAccessUrl())
-                    .clientId(getClientId(application))
-                    .issuer(getIssuer(application))
-                    .templateId(application.getTemplateId())
-                    .isManagementApp(application.isManagementApp())
-                    .claimConfiguration(buildClaimConfiguration(application))
-                    .inboundProtocols(buildInboundProtocols(application))
-                    .advancedConfigurations(buildAdvancedAppConfiguration(application))
-                    .provisioningConfigurations(buildProvisioningConfiguration(application))
-                    .authenticationSequence(buildAuthenticationSequence(application))
-                    .access(getAccess(application.getApplicationName()));
+            if (mask.includes("provisioningConfigurations")) {
+                residentApplication.provisioningConfigurations(buildProvisioningConfiguration(application));
+            }
+            return residentApplication;
+        }
+        ApplicationResponseModel applicationResponseModel = new ApplicationResponseModel()
+                .id(application.getApplicationResourceId())
+                .name(application.getApplicationName())
+                .description(application.getDescription())
+                .imageUrl(application.getImageUrl())
+                .accessUrl(application.getAccessUrl());
+        if (mask.includes("clientId")) {
+            applicationResponseModel.clientId(getClientId(application));
+        }
+        if (mask.includes("issuer")) {
+            applicationResponseModel.issuer(getIssuer(application));
+        }
+        if (mask.includes("templateId")) {
+            applicationResponseModel.templateId(application.getTemplateId());
+        }
+        if (mask.includes("isManagementApp")) {
+            applicationResponseModel.isManagementApp(application.isManagementApp());
+        }
+        if (mask.includes("claimConfiguration")) {
+            applicationResponseModel.claimConfiguration(buildClaimConfiguration(application));
+        }
+        if (mask.includes("inboundProtocols")) {
+            applicationResponseModel.inboundProtocols(buildInboundProtocols(application));
+        }
+        if (mask.includes("advancedConfigurations")) {
+            applicationResponseModel.advancedConfigurations(buildAdvancedAppConfiguration(application));
+        }
+        if (mask.includes("provisioningConfigurations")) {
+            applicationResponseModel.provisioningConfigurations(buildProvisioningConfiguration(application));
+        }
+        if (mask.includes("authenticationSequence")) {
+            applicationResponseModel.authenticationSequence(buildAuthenticationSequence(application));
+        }
+        if (mask.includes("access")) {
+            applicationResponseModel.access(getAccess(application.getApplicationName()));
         }
+        return applicationResponseModel;
     }
 
     private List<InboundProtocolListItem> buildInboundProtocols(ServiceProvider application) {
@@ -206,9 +250,10 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
 
         ServiceProvider defaultSP;
         try {
-            defaultSP = ApplicationManagementServiceHolder.getApplicationManagementService()
-                    .getServiceProvider(IdentityApplicationConstants.DEFAULT_SP_CONFIG,
-                            MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            defaultSP = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE, "getServiceProvider", () ->
+                    ApplicationManagementServiceHolder.getApplicationManagementService().getServiceProvider(
+                            IdentityApplicationConstants.DEFAULT_SP_CONFIG,
+                            MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
         } catch (IdentityApplicationManagementException e) {
             throw Utils.buildServerError("Error while loading default SP configurations.", e);
         }
@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
         .InboundFunctions;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendCallTimer;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
@@ -41,6 +42,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder.APPLICATION_MANAGEMENT_SERVICE;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.buildBadRequestError;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils.buildServerError;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols.OAUTH2;
@@ -175,8 +177,10 @@ public class OAuthInboundFunctions {
 
             // Set CORS origins as allowed domains.
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            String applicationResourceId = ApplicationManagementServiceHolder.getApplicationManagementService()
-                    .getServiceProviderByClientId(clientId, OAUTH2, tenantDomain).getApplicationResourceId();
+            String applicationResourceId = BackendCallTimer.time(APPLICATION_MANAGEMENT_SERVICE,
+                    "getServiceProviderByClientId", () -> ApplicationManagementServiceHolder
+                            .getApplicationManagementService().getServiceProviderByClientId(clientId, OAUTH2,
+                                    tenantDomain)).getApplicationResourceId();
             List<CORSOrigin> corsOriginList = ApplicationManagementServiceHolder.getCorsManagementService()
                     .getApplicationCORSOrigins(applicationResourceId, tenantDomain);
             openIDConnectConfiguration.setAllowedOrigins(corsOriginList.stream().map(CORSOrigin::getOrigin)
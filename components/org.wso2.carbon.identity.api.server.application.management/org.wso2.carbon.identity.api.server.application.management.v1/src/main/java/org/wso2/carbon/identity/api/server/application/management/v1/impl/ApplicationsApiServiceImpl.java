@@ -39,10 +39,15 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.Server
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationMetadataService;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkOperationRouter;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequestExecutor;
+import org.wso2.carbon.identity.api.server.common.etag.EntityTagHelper;
 
 import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
 
 /**
@@ -50,18 +55,25 @@ import javax.ws.rs.core.Response;
  */
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
+    private static final String APPLICATIONS_PATH = "/applications";
+
     @Autowired
     private ServerApplicationManagementService applicationManagementService;
 
     @Autowired
     private ServerApplicationMetadataService applicationMetadataService;
 
+    // Bulk requests are authorized with the create scope, hence only the create operation is routed.
+    private final BulkRequestExecutor bulkRequestExecutor = new BulkRequestExecutor(new BulkOperationRouter()
+            .route(HttpMethod.POST, APPLICATIONS_PATH, request ->
+                    createApplication(request.getData(ApplicationModel.class), null)));
+
     @Override
     public Response getAllApplications(Integer limit, Integer offset, String filter, String sortOrder, String sortBy,
-                                       String requiredAttributes) {
+                                       String requiredAttributes, String after, String before) {
 
         ApplicationListResponse listResponse = applicationManagementService
-                .getAllApplications(limit, offset, filter, sortOrder, sortBy, requiredAttributes);
+                .getAllApplications(limit, offset, filter, sortOrder, sortBy, requiredAttributes, after, before);
         return Response.ok().entity(listResponse).build();
     }
 
@@ -71,6 +83,12 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         return Response.ok().entity(applicationManagementService.getApplication(applicationId)).build();
     }
 
+    @Override
+    public Response getApplicationsByIds(List<String> ids) {
+
+        return Response.ok().entity(applicationManagementService.getApplicationsByIds(ids)).build();
+    }
+
     @Override
     public Response getConfiguredAuthenticators(String applicationId) {
 
@@ -91,6 +109,12 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         return Response.ok().build();
     }
 
+    @Override
+    public Response bulkApplicationOperations(BulkRequest bulkRequest) {
+
+        return Response.ok().entity(bulkRequestExecutor.execute(bulkRequest)).build();
+    }
+
     @Override
     public Response createApplication(ApplicationModel applicationModel, String template) {
 
@@ -304,37 +328,38 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     @Override
     public Response getInboundProtocols(Boolean customOnly) {
 
-        return Response.ok().entity(applicationMetadataService.getInboundProtocols(customOnly)).build();
+        return EntityTagHelper.okStatic(applicationMetadataService.getInboundProtocols(customOnly)).build();
     }
 
     @Override
     public Response getCustomProtocolMetadata(String inboundProtocolId) {
 
-        return Response.ok().entity(applicationMetadataService.getCustomProtocolMetadata(inboundProtocolId)).build();
+        return EntityTagHelper.okStatic(applicationMetadataService.getCustomProtocolMetadata(inboundProtocolId))
+                .build();
     }
 
     @Override
     public Response getOIDCMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getOIDCMetadata()).build();
+        return EntityTagHelper.okStatic(applicationMetadataService.getOIDCMetadata()).build();
     }
 
     @Override
     public Response getSAMLMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getSAMLMetadata()).build();
+        return EntityTagHelper.okStatic(applicationMetadataService.getSAMLMetadata()).build();
     }
 
     @Override
     public Response getWSTrustMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getWSTrustMetadata()).build();
+        return EntityTagHelper.okStatic(applicationMetadataService.getWSTrustMetadata()).build();
     }
 
     @Override
     public Response getAdaptiveAuthTemplates() {
 
-        return Response.ok().entity(applicationMetadataService.getAdaptiveAuthTemplates()).build();
+        return EntityTagHelper.okStatic(applicationMetadataService.getAdaptiveAuthTemplates()).build();
     }
 
     @Override
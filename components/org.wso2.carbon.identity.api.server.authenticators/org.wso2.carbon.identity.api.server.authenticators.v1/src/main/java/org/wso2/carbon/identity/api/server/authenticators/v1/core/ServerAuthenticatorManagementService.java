@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.authenticators.common.Constants;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.NameFilter;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.async.SingleFlight;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
@@ -65,6 +66,8 @@ public class ServerAuthenticatorManagementService {
 
     private static final Log log = LogFactory.getLog(ServerAuthenticatorManagementService.class);
 
+    private final SingleFlight<List<Authenticator>> authenticatorsFlight = new SingleFlight<>("authenticators");
+
     /**
      * Retrieves the list of available authenticators.
      *
@@ -75,6 +78,12 @@ public class ServerAuthenticatorManagementService {
      */
     public List<Authenticator> getAuthenticators(String filter, Integer limit, Integer offset) {
 
+        // Identical concurrent reads of a tenant share a single retrieval.
+        return authenticatorsFlight.execute(() -> listAuthenticators(filter, limit, offset), filter, limit, offset);
+    }
+
+    private List<Authenticator> listAuthenticators(String filter, Integer limit, Integer offset) {
+
         handleNotImplementedCapabilities(limit, offset);
 
         try {
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.mockito.MockedStatic;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.ServiceURL;
+import org.wso2.carbon.identity.core.ServiceURLBuilder;
+import org.wso2.carbon.identity.core.URLBuilderException;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.wso2.carbon.identity.api.server.common.Constants.TENANT_NAME_FROM_CONTEXT;
+
+/**
+ * Prepares the current thread to run server API code outside of the Carbon runtime.
+ *
+ * The static Carbon utilities used while building responses (URL building and tenant resolution) are replaced with
+ * static mocks. Static mocks are bound to the thread that created them, so benchmark state that opens an environment
+ * must use {@code Scope.Thread}. The server API response caches are disabled unless configured otherwise, so that the
+ * benchmarks measure the backend reads and the response mapping.
+ */
+public class BenchmarkEnvironment implements AutoCloseable {
+
+    public static final String TENANT_DOMAIN = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+    public static final int TENANT_ID = MultitenantConstants.SUPER_TENANT_ID;
+    public static final String USERNAME = "admin";
+
+    private static final String RELATIVE_PUBLIC_URL = "/t/carbon.super/api/server/v1/resource";
+    private static final String ABSOLUTE_PUBLIC_URL = "https://localhost:9443" + RELATIVE_PUBLIC_URL;
+    private static final String RESPONSE_CACHE_TTL_PROPERTY = "identity.server.api.cache.ttlSeconds";
+
+    private final List<MockedStatic<?>> staticMocks = new ArrayList<>();
+
+    private BenchmarkEnvironment() {
+
+    }
+
+    /**
+     * Start a super tenant flow on the current thread and mock the static Carbon utilities.
+     *
+     * @return Environment which must be closed from the same thread.
+     * @throws IOException         If the temporary carbon home cannot be created.
+     * @throws URLBuilderException Never thrown by the mocked URL builder.
+     */
+    public static BenchmarkEnvironment start() throws IOException, URLBuilderException {
+
+        if (System.getProperty(CarbonBaseConstants.CARBON_HOME) == null) {
+            System.setProperty(CarbonBaseConstants.CARBON_HOME,
+                    Files.createTempDirectory("carbon-home").toAbsolutePath().toString());
+        }
+        if (System.getProperty(RESPONSE_CACHE_TTL_PROPERTY) == null) {
+            System.setProperty(RESPONSE_CACHE_TTL_PROPERTY, "0");
+        }
+        BenchmarkEnvironment environment = new BenchmarkEnvironment();
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(TENANT_DOMAIN);
+        carbonContext.setTenantId(TENANT_ID);
+        carbonContext.setUsername(USERNAME);
+        IdentityUtil.threadLocalProperties.get().put(TENANT_NAME_FROM_CONTEXT, TENANT_DOMAIN);
+
+        MockedStatic<IdentityTenantUtil> identityTenantUtil = environment.register(
+                mockStatic(IdentityTenantUtil.class));
+        identityTenantUtil.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled).thenReturn(false);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(TENANT_ID);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(anyInt()))
+                .thenReturn(TENANT_DOMAIN);
+
+        ServiceURL serviceURL = mock(ServiceURL.class);
+        when(serviceURL.getRelativePublicURL()).thenReturn(RELATIVE_PUBLIC_URL);
+        when(serviceURL.getAbsolutePublicURL()).thenReturn(ABSOLUTE_PUBLIC_URL);
+        ServiceURLBuilder serviceURLBuilder = mock(ServiceURLBuilder.class, RETURNS_SELF);
+        when(serviceURLBuilder.build()).thenReturn(serviceURL);
+        MockedStatic<ServiceURLBuilder> serviceURLBuilderStatic = environment.register(
+                mockStatic(ServiceURLBuilder.class));
+        serviceURLBuilderStatic.when(ServiceURLBuilder::create).thenReturn(serviceURLBuilder);
+
+        return environment;
+    }
+
+    /**
+     * Keep track of a static mock so that it is released when the environment is closed.
+     *
+     * @param staticMock Static mock created on the current thread.
+     * @param <T>        Mocked type.
+     * @return The given static mock.
+     */
+    public <T> MockedStatic<T> register(MockedStatic<T> staticMock) {
+
+        staticMocks.add(staticMock);
+        return staticMock;
+    }
+
+    @Override
+    public void close() {
+
+        for (MockedStatic<?> staticMock : staticMocks) {
+            staticMock.close();
+        }
+        staticMocks.clear();
+        IdentityUtil.threadLocalProperties.get().remove(TENANT_NAME_FROM_CONTEXT);
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks.application;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationResponseModel;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApiModel;
+import org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment;
+import org.wso2.carbon.identity.application.common.model.AuthenticationStep;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures {@link ServiceProviderToApiModel#apply(ServiceProvider)} against an in-memory application management
+ * service.
+ *
+ * Run with -prof gc to see the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceProviderToApiModelBenchmark {
+
+    private static final String APPLICATION_ID = "0d7b4a9e-5f61-4c3b-8a2e-19f0c6d3b7a4";
+    private static final String APPLICATION_NAME = "benchmark-app";
+    private static final int AUTHENTICATION_STEP_COUNT = 2;
+    private static final int SP_PROPERTY_COUNT = 10;
+
+    @Param({"10", "100"})
+    private int claimMappings;
+
+    private BenchmarkEnvironment environment;
+    private ServiceProviderToApiModel serviceProviderToApiModel;
+    private ServiceProvider serviceProvider;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        environment = BenchmarkEnvironment.start();
+
+        // Must be registered before ServiceProviderToApiModel is initialized, since it reads the system
+        // applications in a static initializer.
+        ApplicationManagementService applicationManagementService = mock(ApplicationManagementService.class);
+        when(applicationManagementService.getSystemApplications()).thenReturn(Collections.emptySet());
+        ApplicationManagementServiceHolder.setApplicationManagementService(applicationManagementService);
+
+        MockedStatic<ApplicationMgtUtil> applicationMgtUtil = environment.register(
+                mockStatic(ApplicationMgtUtil.class));
+        applicationMgtUtil.when(() -> ApplicationMgtUtil.isUserAuthorized(anyString(), anyString())).thenReturn(true);
+
+        serviceProviderToApiModel = new ServiceProviderToApiModel();
+        serviceProvider = buildServiceProvider(claimMappings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public ApplicationResponseModel apply() {
+
+        return serviceProviderToApiModel.apply(serviceProvider);
+    }
+
+    private static ServiceProvider buildServiceProvider(int claimMappingCount) {
+
+        ServiceProvider application = new ServiceProvider();
+        application.setApplicationResourceId(APPLICATION_ID);
+        application.setApplicationName(APPLICATION_NAME);
+        application.setDescription("Application used by the benchmarks.");
+        application.setImageUrl("https://localhost/images/app.png");
+        application.setAccessUrl("https://localhost/app");
+
+        InboundAuthenticationRequestConfig oauthConfig = new InboundAuthenticationRequestConfig();
+        oauthConfig.setInboundAuthType("oauth2");
+        oauthConfig.setInboundAuthKey("benchmark_client_id");
+        oauthConfig.setFriendlyName("OAuth2");
+        InboundAuthenticationConfig inboundAuthConfig = new InboundAuthenticationConfig();
+        inboundAuthConfig.setInboundAuthenticationRequestConfigs(new InboundAuthenticationRequestConfig[]{oauthConfig});
+        application.setInboundAuthenticationConfig(inboundAuthConfig);
+
+        ClaimMapping[] mappings = new ClaimMapping[claimMappingCount];
+        for (int i = 0; i < claimMappingCount; i++) {
+            Claim localClaim = new Claim();
+            localClaim.setClaimUri("http://wso2.org/claims/benchmark" + i);
+            Claim remoteClaim = new Claim();
+            remoteClaim.setClaimUri("http://wso2.org/claims/benchmark" + i);
+            ClaimMapping mapping = new ClaimMapping();
+            mapping.setLocalClaim(localClaim);
+            mapping.setRemoteClaim(remoteClaim);
+            mapping.setRequested(true);
+            mappings[i] = mapping;
+        }
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setLocalClaimDialect(true);
+        claimConfig.setClaimMappings(mappings);
+        application.setClaimConfig(claimConfig);
+
+        AuthenticationStep[] steps = new AuthenticationStep[AUTHENTICATION_STEP_COUNT];
+        for (int i = 0; i < AUTHENTICATION_STEP_COUNT; i++) {
+            LocalAuthenticatorConfig authenticator = new LocalAuthenticatorConfig();
+            authenticator.setName("BasicAuthenticator");
+            authenticator.setDisplayName("basic");
+            AuthenticationStep step = new AuthenticationStep();
+            step.setStepOrder(i + 1);
+            step.setLocalAuthenticatorConfigs(new LocalAuthenticatorConfig[]{authenticator});
+            step.setSubjectStep(i == 0);
+            step.setAttributeStep(i == 0);
+            steps[i] = step;
+        }
+        LocalAndOutboundAuthenticationConfig authConfig = new LocalAndOutboundAuthenticationConfig();
+        authConfig.setAuthenticationType("flow");
+        authConfig.setAuthenticationSteps(steps);
+        application.setLocalAndOutBoundAuthenticationConfig(authConfig);
+
+        ServiceProviderProperty[] spProperties = new ServiceProviderProperty[SP_PROPERTY_COUNT];
+        for (int i = 0; i < SP_PROPERTY_COUNT; i++) {
+            ServiceProviderProperty property = new ServiceProviderProperty();
+            property.setName("benchmarkProperty" + i);
+            property.setValue("value" + i);
+            spProperties[i] = property;
+        }
+        application.setSpProperties(spProperties);
+        return application;
+    }
+}
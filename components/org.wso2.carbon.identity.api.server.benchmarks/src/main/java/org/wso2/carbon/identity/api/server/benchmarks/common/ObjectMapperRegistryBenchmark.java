@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticator;
+import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticatorRequest;
+import org.wso2.carbon.identity.api.server.idp.v1.model.IdentityProviderPOSTRequest;
+import org.wso2.carbon.identity.api.server.idp.v1.model.Property;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares creating an ObjectMapper per call with the cached readers and writers of {@link ObjectMapperRegistry},
+ * using an identity provider template script as the payload.
+ *
+ * Run with -prof gc to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperRegistryBenchmark {
+
+    private static final int AUTHENTICATOR_COUNT = 3;
+    private static final int PROPERTY_COUNT = 20;
+
+    private IdentityProviderPOSTRequest template;
+    private String templateScript;
+
+    @Setup
+    public void setup() throws Exception {
+
+        template = buildTemplate();
+        templateScript = new ObjectMapper().writeValueAsString(template);
+    }
+
+    @Benchmark
+    public IdentityProviderPOSTRequest readWithNewObjectMapper() throws Exception {
+
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.readValue(templateScript, IdentityProviderPOSTRequest.class);
+    }
+
+    @Benchmark
+    public IdentityProviderPOSTRequest readWithCachedReader() throws Exception {
+
+        return ObjectMapperRegistry.getReader(IdentityProviderPOSTRequest.class).readValue(templateScript);
+    }
+
+    @Benchmark
+    public String writeWithNewObjectMapper() throws Exception {
+
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.writeValueAsString(template);
+    }
+
+    @Benchmark
+    public String writeWithCachedWriter() throws Exception {
+
+        return ObjectMapperRegistry.getWriter(IdentityProviderPOSTRequest.class).writeValueAsString(template);
+    }
+
+    private static IdentityProviderPOSTRequest buildTemplate() {
+
+        List<FederatedAuthenticator> authenticators = new ArrayList<>();
+        for (int i = 0; i < AUTHENTICATOR_COUNT; i++) {
+            List<Property> properties = new ArrayList<>();
+            for (int j = 0; j < PROPERTY_COUNT; j++) {
+                Property property = new Property();
+                property.setKey("BenchmarkProperty" + j);
+                property.setValue("value" + j);
+                properties.add(property);
+            }
+            FederatedAuthenticator authenticator = new FederatedAuthenticator();
+            authenticator.setAuthenticatorId("QmVuY2htYXJrQXV0aGVudGljYXRvcg" + i);
+            authenticator.setName("BenchmarkAuthenticator" + i);
+            authenticator.setIsEnabled(true);
+            authenticator.setIsDefault(i == 0);
+            authenticator.setTags(Collections.singletonList("Social-Login"));
+            authenticator.setProperties(properties);
+            authenticators.add(authenticator);
+        }
+        FederatedAuthenticatorRequest federatedAuthenticators = new FederatedAuthenticatorRequest();
+        federatedAuthenticators.setDefaultAuthenticatorId(authenticators.get(0).getAuthenticatorId());
+        federatedAuthenticators.setAuthenticators(authenticators);
+
+        IdentityProviderPOSTRequest template = new IdentityProviderPOSTRequest();
+        template.setName("benchmark-template");
+        template.setDescription("Identity provider template used by the benchmarks.");
+        template.setImage("https://localhost/images/idp.png");
+        template.setIsPrimary(false);
+        template.setIsFederationHub(false);
+        template.setFederatedAuthenticators(federatedAuthenticators);
+        return template;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks.idp;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.idp.v1.core.IdentityProviderCopier;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying an identity provider with a Gson round trip, as done before updates of an IdP, with the
+ * copy of {@link IdentityProviderCopier}, which copies the configurations but not the certificates.
+ *
+ * Run with -prof gc to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdentityProviderCopyBenchmark {
+
+    @Param({"10", "100"})
+    private int claimMappings;
+
+    private IdentityProvider identityProvider;
+
+    @Setup
+    public void setup() {
+
+        identityProvider = IdentityProviderFixtures.buildIdentityProvider(claimMappings);
+    }
+
+    @Benchmark
+    public IdentityProvider copyWithGson() {
+
+        Gson gson = new Gson();
+        return gson.fromJson(gson.toJson(identityProvider), IdentityProvider.class);
+    }
+
+    @Benchmark
+    public IdentityProvider copyStructurally() throws IdentityProviderManagementException {
+
+        return IdentityProviderCopier.copyOf(identityProvider);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks.idp;
+
+import org.wso2.carbon.identity.application.common.model.CertificateInfo;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.JustInTimeProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.LocalRole;
+import org.wso2.carbon.identity.application.common.model.PermissionsAndRoleConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
+import org.wso2.carbon.identity.application.common.model.RoleMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds in-memory identity providers and local claims used by the IdP benchmarks.
+ */
+public class IdentityProviderFixtures {
+
+    public static final String IDP_ID = "a8f4e5b0-7c1d-4d8e-9f2a-3b6c1d2e4f50";
+    private static final String LOCAL_CLAIM_URI_FORMAT = "http://wso2.org/claims/benchmark%d";
+    private static final String DISPLAY_NAME_PROPERTY = "DisplayName";
+    private static final int AUTHENTICATOR_COUNT = 5;
+    private static final int CONNECTOR_COUNT = 3;
+    private static final int PROPERTY_COUNT = 20;
+    private static final int ROLE_MAPPING_COUNT = 20;
+    private static final int CERTIFICATE_SIZE = 2048;
+
+    private IdentityProviderFixtures() {
+
+    }
+
+    /**
+     * Build the local claims of the benchmark tenant.
+     *
+     * @param count Number of local claims.
+     * @return Local claims.
+     */
+    public static List<LocalClaim> buildLocalClaims(int count) {
+
+        List<LocalClaim> localClaims = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put(DISPLAY_NAME_PROPERTY, "Benchmark Claim " + i);
+            localClaims.add(new LocalClaim(String.format(LOCAL_CLAIM_URI_FORMAT, i), Collections.emptyList(),
+                    properties));
+        }
+        return localClaims;
+    }
+
+    /**
+     * Build an identity provider with the given number of claim mappings. Every mapping refers to one of the local
+     * claims returned by {@link #buildLocalClaims(int)}.
+     *
+     * @param claimMappingCount Number of claim mappings.
+     * @return Identity provider.
+     */
+    public static IdentityProvider buildIdentityProvider(int claimMappingCount) {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setResourceId(IDP_ID);
+        identityProvider.setIdentityProviderName("Benchmark IdP");
+        identityProvider.setIdentityProviderDescription("Identity provider used by the benchmarks.");
+        identityProvider.setEnable(true);
+        identityProvider.setAlias("https://localhost:9443/oauth2/token");
+        identityProvider.setImageUrl("https://localhost/images/idp.png");
+
+        IdentityProviderProperty issuer = new IdentityProviderProperty();
+        issuer.setName("idpIssuerName");
+        issuer.setValue("https://idp.example.com");
+        identityProvider.setIdpProperties(new IdentityProviderProperty[]{issuer});
+
+        CertificateInfo certificateInfo = new CertificateInfo();
+        certificateInfo.setThumbPrint("thumbprint");
+        certificateInfo.setCertValue(repeat('c', CERTIFICATE_SIZE));
+        identityProvider.setCertificateInfoArray(new CertificateInfo[]{certificateInfo});
+
+        identityProvider.setClaimConfig(buildClaimConfig(claimMappingCount));
+        identityProvider.setPermissionAndRoleConfig(buildRoleConfig());
+        identityProvider.setFederatedAuthenticatorConfigs(buildFederatedAuthenticators());
+        identityProvider.setDefaultAuthenticatorConfig(identityProvider.getFederatedAuthenticatorConfigs()[0]);
+        identityProvider.setProvisioningConnectorConfigs(buildProvisioningConnectors());
+
+        JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
+        jitConfig.setProvisioningEnabled(true);
+        jitConfig.setProvisioningUserStore("PRIMARY");
+        identityProvider.setJustInTimeProvisioningConfig(jitConfig);
+        return identityProvider;
+    }
+
+    private static ClaimConfig buildClaimConfig(int claimMappingCount) {
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setLocalClaimDialect(false);
+        List<ClaimMapping> claimMappings = new ArrayList<>(claimMappingCount);
+        List<Claim> idpClaims = new ArrayList<>(claimMappingCount);
+        for (int i = 0; i < claimMappingCount; i++) {
+            Claim localClaim = new Claim();
+            localClaim.setClaimUri(String.format(LOCAL_CLAIM_URI_FORMAT, i));
+            Claim remoteClaim = new Claim();
+            remoteClaim.setClaimUri("remote_claim_" + i);
+            ClaimMapping claimMapping = new ClaimMapping();
+            claimMapping.setLocalClaim(localClaim);
+            claimMapping.setRemoteClaim(remoteClaim);
+            claimMappings.add(claimMapping);
+            idpClaims.add(remoteClaim);
+        }
+        claimConfig.setClaimMappings(claimMappings.toArray(new ClaimMapping[0]));
+        claimConfig.setIdpClaims(idpClaims.toArray(new Claim[0]));
+        claimConfig.setUserClaimURI(String.format(LOCAL_CLAIM_URI_FORMAT, 0));
+        claimConfig.setRoleClaimURI(String.format(LOCAL_CLAIM_URI_FORMAT, 1));
+        return claimConfig;
+    }
+
+    private static PermissionsAndRoleConfig buildRoleConfig() {
+
+        PermissionsAndRoleConfig roleConfig = new PermissionsAndRoleConfig();
+        List<RoleMapping> roleMappings = new ArrayList<>(ROLE_MAPPING_COUNT);
+        List<String> idpRoles = new ArrayList<>(ROLE_MAPPING_COUNT);
+        for (int i = 0; i < ROLE_MAPPING_COUNT; i++) {
+            roleMappings.add(new RoleMapping(new LocalRole("PRIMARY", "role" + i), "idpRole" + i));
+            idpRoles.add("idpRole" + i);
+        }
+        roleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+        roleConfig.setIdpRoles(idpRoles.toArray(new String[0]));
+        return roleConfig;
+    }
+
+    private static FederatedAuthenticatorConfig[] buildFederatedAuthenticators() {
+
+        FederatedAuthenticatorConfig[] authenticators = new FederatedAuthenticatorConfig[AUTHENTICATOR_COUNT];
+        for (int i = 0; i < AUTHENTICATOR_COUNT; i++) {
+            FederatedAuthenticatorConfig authenticator = new FederatedAuthenticatorConfig();
+            authenticator.setName("BenchmarkAuthenticator" + i);
+            authenticator.setDisplayName("Benchmark Authenticator " + i);
+            authenticator.setEnabled(true);
+            authenticator.setProperties(buildProperties("authenticator" + i));
+            authenticators[i] = authenticator;
+        }
+        return authenticators;
+    }
+
+    private static ProvisioningConnectorConfig[] buildProvisioningConnectors() {
+
+        ProvisioningConnectorConfig[] connectors = new ProvisioningConnectorConfig[CONNECTOR_COUNT];
+        for (int i = 0; i < CONNECTOR_COUNT; i++) {
+            ProvisioningConnectorConfig connector = new ProvisioningConnectorConfig();
+            connector.setName("BenchmarkConnector" + i);
+            connector.setEnabled(true);
+            connector.setProvisioningProperties(buildProperties("connector" + i));
+            connectors[i] = connector;
+        }
+        return connectors;
+    }
+
+    private static Property[] buildProperties(String prefix) {
+
+        Property[] properties = new Property[PROPERTY_COUNT];
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            Property property = new Property();
+            property.setName(prefix + ".property" + i);
+            property.setValue("value" + i);
+            properties[i] = property;
+        }
+        return properties;
+    }
+
+    private static String repeat(char character, int count) {
+
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(character);
+        }
+        return builder.toString();
+    }
+}
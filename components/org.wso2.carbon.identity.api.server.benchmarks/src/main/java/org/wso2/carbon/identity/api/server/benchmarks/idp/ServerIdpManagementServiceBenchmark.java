@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks.idp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment;
+import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
+import org.wso2.carbon.identity.api.server.idp.v1.core.ServerIdpManagementService;
+import org.wso2.carbon.identity.api.server.idp.v1.model.Claims;
+import org.wso2.carbon.identity.api.server.idp.v1.model.IdentityProviderResponse;
+import org.wso2.carbon.identity.api.server.idp.v1.model.Patch;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures response building in {@link ServerIdpManagementService} against in-memory backend services.
+ *
+ * Run with -prof gc to see the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerIdpManagementServiceBenchmark {
+
+    private static final int LOCAL_CLAIM_COUNT = 200;
+
+    @Param({"10", "100"})
+    private int claimMappings;
+
+    private BenchmarkEnvironment environment;
+    private ServerIdpManagementService idpManagementService;
+    private List<Patch> descriptionPatch;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        environment = BenchmarkEnvironment.start();
+
+        IdentityProvider identityProvider = IdentityProviderFixtures.buildIdentityProvider(claimMappings);
+        IdentityProviderManager identityProviderManager = mock(IdentityProviderManager.class);
+        when(identityProviderManager.getIdPByResourceId(eq(IdentityProviderFixtures.IDP_ID), anyString(),
+                anyBoolean())).thenReturn(identityProvider);
+        when(identityProviderManager.updateIdPByResourceId(eq(IdentityProviderFixtures.IDP_ID),
+                any(IdentityProvider.class), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+        IdentityProviderServiceHolder.setIdentityProviderManager(identityProviderManager);
+
+        ClaimMetadataManagementService claimMetadataManagementService = mock(ClaimMetadataManagementService.class);
+        when(claimMetadataManagementService.getLocalClaims(anyString()))
+                .thenReturn(IdentityProviderFixtures.buildLocalClaims(LOCAL_CLAIM_COUNT));
+        IdentityProviderServiceHolder.setClaimMetadataManagementService(claimMetadataManagementService);
+
+        idpManagementService = new ServerIdpManagementService();
+        descriptionPatch = Collections.singletonList(new Patch().operation(Patch.OperationEnum.REPLACE)
+                .path("/description").value("Updated by the benchmark."));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    /**
+     * Full IdP response, including claim, role, authenticator and provisioning sections.
+     */
+    @Benchmark
+    public IdentityProviderResponse getIdentityProvider() {
+
+        return idpManagementService.getIDP(IdentityProviderFixtures.IDP_ID);
+    }
+
+    /**
+     * Claim configuration response, which resolves the display name of every mapped local claim.
+     */
+    @Benchmark
+    public Claims getClaimConfig() {
+
+        return idpManagementService.getClaimConfig(IdentityProviderFixtures.IDP_ID);
+    }
+
+    /**
+     * Root level patch, which copies the cached IdP with IdentityProviderCopier before applying the operations.
+     */
+    @Benchmark
+    public IdentityProviderResponse patchIdentityProvider() {
+
+        return idpManagementService.patchIDP(IdentityProviderFixtures.IDP_ID, descriptionPatch);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.benchmarks.userstore;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.benchmarks.BenchmarkEnvironment;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
+import org.wso2.carbon.identity.api.server.userstore.v1.core.ServerUserStoreService;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
+import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
+import org.wso2.carbon.identity.user.store.configuration.dto.PropertyDTO;
+import org.wso2.carbon.identity.user.store.configuration.dto.UserStoreDTO;
+import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures {@link ServerUserStoreService#getUserStoreList(Integer, Integer, String, String, String)} against an
+ * in-memory user store configuration service and user store manager registry.
+ *
+ * Run with -prof gc to see the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerUserStoreServiceBenchmark {
+
+    private static final String USER_STORE_CLASS_FORMAT = "org.wso2.carbon.user.core.benchmark.UserStoreManager%d";
+    private static final int USER_STORE_CLASS_COUNT = 8;
+    private static final int PROPERTY_COUNT = 40;
+    private static final String REQUIRED_ATTRIBUTES = "ConnectionURL,ConnectionName,Disabled";
+
+    @Param({"10", "100"})
+    private int userStores;
+
+    private BenchmarkEnvironment environment;
+    private ServerUserStoreService serverUserStoreService;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        environment = BenchmarkEnvironment.start();
+
+        Set<String> userStoreClasses = new LinkedHashSet<>();
+        Map<String, Boolean> userStoreManagersType = new HashMap<>();
+        for (int i = 0; i < USER_STORE_CLASS_COUNT; i++) {
+            String className = String.format(USER_STORE_CLASS_FORMAT, i);
+            userStoreClasses.add(className);
+            userStoreManagersType.put(className, i % 2 == 0);
+        }
+        MockedStatic<UserStoreManagerRegistry> registry = environment.register(
+                mockStatic(UserStoreManagerRegistry.class));
+        registry.when(UserStoreManagerRegistry::getUserStoreManagerClasses).thenReturn(userStoreClasses);
+        registry.when(UserStoreManagerRegistry::getUserStoreManagersType).thenReturn(userStoreManagersType);
+
+        UserStoreConfigService userStoreConfigService = mock(UserStoreConfigService.class);
+        when(userStoreConfigService.getUserStores()).thenReturn(buildUserStores(userStores));
+        UserStoreConfigServiceHolder.getInstance().setUserStoreConfigService(userStoreConfigService);
+
+        serverUserStoreService = new ServerUserStoreService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        environment.close();
+    }
+
+    @Benchmark
+    public List<UserStoreListResponse> getUserStoreList() {
+
+        return serverUserStoreService.getUserStoreList(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<UserStoreListResponse> getUserStoreListWithRequiredAttributes() {
+
+        return serverUserStoreService.getUserStoreList(null, null, null, null, REQUIRED_ATTRIBUTES);
+    }
+
+    private static UserStoreDTO[] buildUserStores(int count) {
+
+        UserStoreDTO[] userStoreDTOS = new UserStoreDTO[count];
+        for (int i = 0; i < count; i++) {
+            PropertyDTO[] properties = new PropertyDTO[PROPERTY_COUNT];
+            properties[0] = new PropertyDTO("ConnectionURL", "ldap://localhost:" + (10389 + i));
+            properties[1] = new PropertyDTO("ConnectionName", "uid=admin,ou=system");
+            properties[2] = new PropertyDTO("Disabled", "false");
+            for (int j = 3; j < PROPERTY_COUNT; j++) {
+                properties[j] = new PropertyDTO("BenchmarkProperty" + j, "value" + j);
+            }
+            UserStoreDTO userStoreDTO = new UserStoreDTO();
+            userStoreDTO.setDomainId("BENCHMARK-" + i);
+            userStoreDTO.setDescription("User store used by the benchmarks.");
+            userStoreDTO.setClassName(String.format(USER_STORE_CLASS_FORMAT, i % USER_STORE_CLASS_COUNT));
+            userStoreDTO.setDisabled(false);
+            userStoreDTO.setProperties(properties);
+            userStoreDTOS[i] = userStoreDTO;
+        }
+        return userStoreDTOS;
+    }
+}
@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.api.server.branding.preference.management.v1.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -27,6 +26,9 @@ import org.wso2.carbon.identity.api.server.branding.preference.management.common
 import org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceServiceHolder;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.utils.BrandingPreferenceUtils;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.BrandingPreferenceModel;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEvent;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
@@ -98,6 +100,8 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_ADDING_BRANDING_PREFERENCE, tenantDomain);
         }
+        publishBrandingPreferenceChange(responseDTO.getType(), responseDTO.getName(), responseDTO.getLocale(),
+                ChangeEvent.Operation.CREATED);
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
 
@@ -117,6 +121,7 @@ public class BrandingPreferenceManagementService {
 
         try {
             BrandingPreferenceServiceHolder.getBrandingPreferenceManager().deleteBrandingPreference(type, name, locale);
+            publishBrandingPreferenceChange(type, name, locale, ChangeEvent.Operation.DELETED);
         } catch (BrandingPreferenceMgtException e) {
             if (BRANDING_PREFERENCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
                 if (log.isDebugEnabled()) {
@@ -200,9 +205,27 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_UPDATING_BRANDING_PREFERENCE, tenantDomain);
         }
+        publishBrandingPreferenceChange(responseDTO.getType(), responseDTO.getName(), responseDTO.getLocale(),
+                ChangeEvent.Operation.UPDATED);
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
 
+    /**
+     * Publish a change of a branding preference to the change feed of the tenant. Branding preferences do not have
+     * an id of their own, so the change is identified by the type, name and locale of the preference.
+     *
+     * @param type      Resource type.
+     * @param name      Name.
+     * @param locale    Language preference.
+     * @param operation Operation performed on the branding preference.
+     */
+    private void publishBrandingPreferenceChange(String type, String name, String locale,
+                                                 ChangeEvent.Operation operation) {
+
+        ChangeFeed.getInstance().publish(ChangeEvent.ResourceType.BRANDING_PREFERENCE,
+                type + "/" + name + "/" + locale, operation);
+    }
+
     /**
      * Build branding preference requestDTO from request body.
      *
@@ -251,10 +274,9 @@ public class BrandingPreferenceManagementService {
      */
     private String generatePreferencesJSONFromRequest(Object object) {
 
-        ObjectMapper mapper = new ObjectMapper();
         String preferencesJSON = null;
         try {
-            preferencesJSON = mapper.writeValueAsString(object);
+            preferencesJSON = ObjectMapperRegistry.getWriter().writeValueAsString(object);
         } catch (JsonProcessingException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error while generating JSON string from the branding preference request.", e);
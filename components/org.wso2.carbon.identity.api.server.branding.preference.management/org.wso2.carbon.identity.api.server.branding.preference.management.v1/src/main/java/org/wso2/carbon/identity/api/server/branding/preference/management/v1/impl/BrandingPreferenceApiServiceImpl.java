@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.api.server.branding.preference.management.v1.mod
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.etag.EntityTagHelper;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
@@ -115,8 +116,8 @@ public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiSe
                 return Response.status(Response.Status.BAD_REQUEST).build();
             }
         }
-        return Response.ok()
-                .entity(brandingPreferenceManagementService.getBrandingPreference(type, name, locale)).build();
+        return EntityTagHelper.ok(brandingPreferenceManagementService.getBrandingPreference(type, name, locale))
+                .build();
     }
 
     @Override
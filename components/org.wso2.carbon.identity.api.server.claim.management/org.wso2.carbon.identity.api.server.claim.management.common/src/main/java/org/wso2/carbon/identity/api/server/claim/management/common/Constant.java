@@ -171,7 +171,9 @@ public class Constant {
         ERROR_CODE_USERSTORE_NOT_SPECIFIED_IN_MAPPINGS("CMT-60005", "Userstore not specified",
                 "Mapped userstore cannot be empty"),
         ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS("CMT-60006", "Attribute mapping not specified",
-                "Attribute mapping cannot be empty");
+                "Attribute mapping cannot be empty"),
+        ERROR_CODE_INVALID_ATTRIBUTE("CMT-60007", "Invalid attribute",
+                "Attribute %s cannot be requested in the attributes parameter");
 
         private final String code;
         private final String message;
@@ -30,6 +30,9 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalCla
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ExternalClaimResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkResponse;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetResponse;
 
 import java.util.List;
 
@@ -125,6 +128,32 @@ public class ClaimManagementApi  {
         return delegate.addLocalClaim(localClaim);
     }
 
+    @Valid
+    @POST
+    @Path("/bulk")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Execute a bulk request on claim dialects and claims.",
+            notes = "Add multiple claim dialects, local claims and external claims in a single request. Each operation is executed as if it was sent as a separate request, and the results are returned in the order of the operations. The supported operations are the POST operations of this API. The bulk request is authorized as a single create request, hence update and delete operations are not supported. The resource access control configuration must protect 'POST /api/server/v1/claim-dialects/bulk' with the create permission and scope below. <br> <b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/create <br> <b>Scope required:</b> <br> * internal_claim_meta_create",
+            response = BulkResponse.class)
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "Results of the executed operations."),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Invalid input request."),
+        
+        @io.swagger.annotations.ApiResponse(code = 401, message = "Unauthorized."),
+        
+        @io.swagger.annotations.ApiResponse(code = 403, message = "Resource Forbidden."),
+        
+        @io.swagger.annotations.ApiResponse(code = 413, message = "Payload Too Large."),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Internal Server Error.") })
+
+    public Response bulkClaimOperations(@ApiParam(value = "Operations to execute." ,required=true ) @Valid BulkRequest bulkRequest) {
+
+        return delegate.bulkClaimOperations(bulkRequest);
+    }
+
     @Valid
     @DELETE
     @Path("/{dialect-id}")
@@ -344,6 +373,30 @@ public class ClaimManagementApi  {
         return delegate.getLocalClaims(attributes,limit,offset,filter,sort,excludeIdentityClaims);
     }
 
+    @Valid
+    @GET
+    @Path("/local/claims/.get")
+    
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Retrieve multiple local claims.",
+            notes = "Retrieve multiple local claims in a single request by giving their IDs. The result of each ID is returned in the order of the request, with the status and error of the IDs which could not be retrieved, such as a 404 for an ID which does not exist. Since the request only reads claims, it is a GET request, and is authorized with the view permission and scope below. <br> <b>Permission required:</b> <br> * /permission/admin/manage/identity/claimmgt/metadata/view <br> <b>Scope required:</b> <br> * internal_claim_meta_view",
+            response = MultiGetResponse.class)
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "Results of the requested IDs."),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Invalid input request."),
+        
+        @io.swagger.annotations.ApiResponse(code = 401, message = "Unauthorized."),
+        
+        @io.swagger.annotations.ApiResponse(code = 403, message = "Resource Forbidden."),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Internal Server Error.") })
+
+    public Response getLocalClaimsByIds(@ApiParam(value = "IDs of the claims to retrieve, either comma separated or as repeated parameters.",required=true) @QueryParam("ids")  List<String> ids) {
+
+        return delegate.getLocalClaimsByIds(ids);
+    }
+
     @Valid
     @PUT
     @Path("/{dialect-id}")
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalCla
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ClaimDialectResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ExternalClaimResDTO;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
 
 import java.util.List;
 
@@ -42,6 +43,8 @@ public abstract class ClaimManagementApiService {
 
     public abstract Response addLocalClaim(LocalClaimReqDTO localClaim);
 
+    public abstract Response bulkClaimOperations(BulkRequest bulkRequest);
+
     public abstract Response deleteClaimDialect(String dialectId);
 
     public abstract Response deleteExternalClaim(String dialectId, String claimId);
@@ -60,6 +63,8 @@ public abstract class ClaimManagementApiService {
 
     public abstract Response getLocalClaims(String attributes, Integer limit, Integer offset, String filter, String sort, Boolean excludeIdentityClaims);
 
+    public abstract Response getLocalClaimsByIds(List<String> ids);
+
     public abstract Response updateClaimDialect(String dialectId, ClaimDialectReqDTO claimDialect);
 
     public abstract Response updateExternalClaim(String dialectId, String claimId, ExternalClaimReqDTO externalClaim);
@@ -24,8 +24,15 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.JsonArrayStreamingOutput;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetExecutor;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetResponse;
+import org.wso2.carbon.identity.api.server.common.cache.ResponseCache;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEvent;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.projection.FieldMask;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
@@ -51,15 +58,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_DIALECT_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS;
@@ -113,12 +122,22 @@ public class ServerClaimManagementService {
     private static final Log LOG = LogFactory.getLog(ServerClaimManagementService.class);
     private static final String REL_CLAIMS = "claims";
     private static final String IDENTITY_CLAIM_URI = "http://wso2.org/claims/identity/";
+    private static final String ID_ATTRIBUTE = "id";
+    private static final String ATTRIBUTE_MAPPING_ATTRIBUTE = "attributeMapping";
+    private static final String PROPERTIES_ATTRIBUTE = "properties";
+    private static final Set<String> LOCAL_CLAIM_ATTRIBUTES = new HashSet<>(Arrays.asList(ID_ATTRIBUTE, "claimURI",
+            "dialectURI", "description", "displayOrder", "displayName", "readOnly", "regEx", "required",
+            "supportedByDefault", ATTRIBUTE_MAPPING_ATTRIBUTE, PROPERTIES_ATTRIBUTE));
     private static final List<String> conflictErrorScenarios = Arrays.asList(
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_CLAIM_DIALECT.getCode(),
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_EXTERNAL_CLAIM_URI.getCode(),
             ClaimConstants.ErrorMessage.ERROR_CODE_EXISTING_LOCAL_CLAIM_URI.getCode()
     );
 
+    private final ResponseCache<List<LocalClaim>> localClaimsCache = new ResponseCache<>("localClaims");
+    private final ResponseCache<List<ClaimDialect>> claimDialectsCache = new ResponseCache<>("claimDialects");
+    private final ResponseCache<List<ExternalClaim>> externalClaimsCache = new ResponseCache<>("externalClaims");
+
     /**
      * Add a claim dialect.
      *
@@ -131,6 +150,8 @@ public class ServerClaimManagementService {
             getClaimMetadataManagementService().addClaimDialect(
                     createClaimDialect(claimDialectReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.CLAIM_DIALECT, getResourceId(claimDialectReqDTO.getDialectURI()),
+                    ChangeEvent.Operation.CREATED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_DIALECT,
                     claimDialectReqDTO.getDialectURI());
@@ -157,6 +178,7 @@ public class ServerClaimManagementService {
             getClaimMetadataManagementService().removeClaimDialect(
                     new ClaimDialect(claimDialectURI),
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.CLAIM_DIALECT, dialectId, ChangeEvent.Operation.DELETED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_DIALECT, dialectId);
         }
@@ -172,8 +194,7 @@ public class ServerClaimManagementService {
     public ClaimDialectResDTO getClaimDialect(String dialectId) {
 
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
+            List<ClaimDialect> claimDialectList = getCachedClaimDialects();
             String decodedDialectId;
             if (StringUtils.equals(dialectId, LOCAL_DIALECT_PATH)) {
                 decodedDialectId = LOCAL_DIALECT;
@@ -206,8 +227,7 @@ public class ServerClaimManagementService {
 
         handleNotImplementedCapabilities(limit, offset, filter, sort);
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
+            List<ClaimDialect> claimDialectList = getCachedClaimDialects();
 
             return getClaimDialectResDTOs(claimDialectList);
 
@@ -234,6 +254,7 @@ public class ServerClaimManagementService {
                         createClaimDialect(base64DecodeId(dialectId)),
                         createClaimDialect(claimDialectReqDTO),
                         ContextLoader.getTenantDomainFromContext());
+                handleClaimChange(ChangeEvent.ResourceType.CLAIM_DIALECT, dialectId, ChangeEvent.Operation.UPDATED);
             } else {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Skipping db update as the old dialectURI and the new dialectURI is the same. " +
@@ -270,6 +291,8 @@ public class ServerClaimManagementService {
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
             getClaimMetadataManagementService().addLocalClaim(createLocalClaim(localClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.LOCAL_CLAIM, getResourceId(localClaimReqDTO.getClaimURI()),
+                    ChangeEvent.Operation.CREATED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM,
                     localClaimReqDTO.getClaimURI());
@@ -299,6 +322,7 @@ public class ServerClaimManagementService {
             getClaimMetadataManagementService().removeLocalClaim(
                     claimURI,
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.LOCAL_CLAIM, claimId, ChangeEvent.Operation.DELETED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_LOCAL_CLAIM, claimId);
         }
@@ -314,8 +338,7 @@ public class ServerClaimManagementService {
     public LocalClaimResDTO getLocalClaim(String claimId) {
 
         try {
-            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                    ContextLoader.getTenantDomainFromContext());
+            List<LocalClaim> localClaimList = getCachedLocalClaims();
 
             LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
 
@@ -330,6 +353,37 @@ public class ServerClaimManagementService {
         }
     }
 
+    /**
+     * Retrieve the local claims identified by the IDs of a multi-get request. The local claims are read in one pass
+     * and the IDs are resolved against them.
+     *
+     * @param ids IDs of the local claims, as given in the ids query parameter.
+     * @return Local claim, or the error, of each ID.
+     */
+    public MultiGetResponse getLocalClaimsByIds(List<String> ids) {
+
+        Map<String, LocalClaim> localClaims = new HashMap<>();
+        try {
+            for (LocalClaim localClaim : getCachedLocalClaims()) {
+                localClaims.put(localClaim.getClaimURI(), localClaim);
+            }
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
+        }
+
+        return MultiGetExecutor.resolve(ids, claimId -> {
+            try {
+                LocalClaim localClaim = localClaims.get(base64DecodeId(claimId));
+                if (localClaim == null) {
+                    throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId);
+                }
+                return getLocalClaimResDTO(localClaim);
+            } catch (ClaimMetadataException e) {
+                throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIM, claimId);
+            }
+        });
+    }
+
     /**
      * Retrieve all claims belonging to the local dialect.
      *
@@ -339,16 +393,16 @@ public class ServerClaimManagementService {
      * @param offset                offset (optional).
      * @param filter                filter (optional).
      * @param sort                  sort (optional).
-     * @return List of local claims.
+     * @return Local claims, streamed as a JSON array.
      */
-    public List<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes, Integer limit,
-                                                 Integer offset, String filter, String sort) {
+    public StreamingOutput getLocalClaims(Boolean excludeIdentityClaims, String attributes, Integer limit,
+                                          Integer offset, String filter, String sort) {
 
-        handleNotImplementedCapabilities(attributes, limit, offset, filter, sort);
+        handleNotImplementedCapabilities(limit, offset, filter, sort);
+        FieldMask mask = parseLocalClaimAttributes(attributes);
 
         try {
-            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                    ContextLoader.getTenantDomainFromContext());
+            List<LocalClaim> localClaimList = getCachedLocalClaims();
 
             if (excludeIdentityClaims != null && excludeIdentityClaims) {
                 localClaimList = localClaimList.stream()
@@ -356,7 +410,8 @@ public class ServerClaimManagementService {
                         .collect(Collectors.toList());
             }
 
-            return getLocalClaimResDTOs(localClaimList);
+            return JsonArrayStreamingOutput.of(localClaimList, localClaim -> getLocalClaimResDTO(localClaim, mask),
+                    mask);
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
@@ -384,6 +439,7 @@ public class ServerClaimManagementService {
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
             getClaimMetadataManagementService().updateLocalClaim(createLocalClaim(localClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.LOCAL_CLAIM, claimId, ChangeEvent.Operation.UPDATED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId);
         } catch (UserStoreException e) {
@@ -409,6 +465,8 @@ public class ServerClaimManagementService {
             getClaimMetadataManagementService().addExternalClaim(
                     createExternalClaim(dialectId, externalClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.EXTERNAL_CLAIM, getResourceId(externalClaimReqDTO.getClaimURI()),
+                    ChangeEvent.Operation.CREATED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_EXTERNAL_CLAIM,
                     externalClaimReqDTO.getClaimURI());
@@ -440,6 +498,7 @@ public class ServerClaimManagementService {
                     externalClaimDialectURI,
                     externalClaimURI,
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.EXTERNAL_CLAIM, claimId, ChangeEvent.Operation.DELETED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_EXTERNAL_CLAIM, claimId);
         }
@@ -456,9 +515,7 @@ public class ServerClaimManagementService {
     public ExternalClaimResDTO getExternalClaim(String dialectId, String claimId) {
 
         try {
-            List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                    base64DecodeId(dialectId),
-                    ContextLoader.getTenantDomainFromContext());
+            List<ExternalClaim> externalClaimList = getCachedExternalClaims(base64DecodeId(dialectId));
 
             if (CollectionUtils.isEmpty(externalClaimList)) {
                 throw handleClaimManagementClientError(ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT, NOT_FOUND, dialectId);
@@ -486,16 +543,15 @@ public class ServerClaimManagementService {
      * @param offset    offset (optional).
      * @param filter    filter (optional).
      * @param sort      sort (optional).
-     * @return List of external claims.
+     * @return External claims, streamed as a JSON array.
      */
-    public List<ExternalClaimResDTO> getExternalClaims(String dialectId, Integer limit, Integer offset,
-                                                       String filter, String sort) {
+    public StreamingOutput getExternalClaims(String dialectId, Integer limit, Integer offset,
+                                             String filter, String sort) {
 
         handleNotImplementedCapabilities(limit, offset, filter, sort);
 
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
+            List<ClaimDialect> claimDialectList = getCachedClaimDialects();
             String decodedDialectId = base64DecodeId(dialectId);
             ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
 
@@ -503,10 +559,8 @@ public class ServerClaimManagementService {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
             }
 
-            List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                    base64DecodeId(dialectId),
-                    ContextLoader.getTenantDomainFromContext());
-            return getExternalClaimResDTOs(externalClaimList);
+            List<ExternalClaim> externalClaimList = getCachedExternalClaims(base64DecodeId(dialectId));
+            return JsonArrayStreamingOutput.of(externalClaimList, this::getExternalClaimResDTO);
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_EXTERNAL_CLAIMS, dialectId);
@@ -530,12 +584,48 @@ public class ServerClaimManagementService {
             getClaimMetadataManagementService().updateExternalClaim(
                     createExternalClaim(dialectId, externalClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            handleClaimChange(ChangeEvent.ResourceType.EXTERNAL_CLAIM, claimId, ChangeEvent.Operation.UPDATED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_EXTERNAL_CLAIM, claimId, dialectId);
         }
         getResourceId(externalClaimReqDTO.getClaimURI());
     }
 
+    private List<LocalClaim> getCachedLocalClaims() throws ClaimMetadataException {
+
+        return localClaimsCache.get(() ->
+                getClaimMetadataManagementService().getLocalClaims(ContextLoader.getTenantDomainFromContext()));
+    }
+
+    private List<ClaimDialect> getCachedClaimDialects() throws ClaimMetadataException {
+
+        return claimDialectsCache.get(() ->
+                getClaimMetadataManagementService().getClaimDialects(ContextLoader.getTenantDomainFromContext()));
+    }
+
+    private List<ExternalClaim> getCachedExternalClaims(String dialectURI) throws ClaimMetadataException {
+
+        return externalClaimsCache.get(() -> getClaimMetadataManagementService().getExternalClaims(dialectURI,
+                ContextLoader.getTenantDomainFromContext()), dialectURI);
+    }
+
+    /**
+     * Evict the cached claim reads of the tenant after a write and publish the change to the change feed. Dialect and
+     * local claim changes are reflected in the external claims as well, so all the claim caches are evicted together.
+     *
+     * @param resourceType Type of the changed claim resource.
+     * @param resourceId   Identifier of the changed claim resource.
+     * @param operation    Operation performed on the resource.
+     */
+    private void handleClaimChange(ChangeEvent.ResourceType resourceType, String resourceId,
+                                   ChangeEvent.Operation operation) {
+
+        localClaimsCache.invalidateTenant();
+        claimDialectsCache.invalidateTenant();
+        externalClaimsCache.invalidateTenant();
+        ChangeFeed.getInstance().publish(resourceType, resourceId, operation);
+    }
+
     private ClaimDialect extractDialectFromDialectList(String dialectURI, List<ClaimDialect> dialectList) {
 
         for (ClaimDialect dialect : dialectList) {
@@ -635,20 +725,12 @@ public class ServerClaimManagementService {
         return externalClaimResDTO;
     }
 
-    private List<ExternalClaimResDTO> getExternalClaimResDTOs(List<ExternalClaim> externalClaimList) {
-
-        List<ExternalClaimResDTO> externalClaimResDTOList = new ArrayList<>();
-
-        if (CollectionUtils.isNotEmpty(externalClaimList)) {
-            for (ExternalClaim externalClaim : externalClaimList) {
-                externalClaimResDTOList.add(getExternalClaimResDTO(externalClaim));
-            }
-        }
+    private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim) {
 
-        return externalClaimResDTOList;
+        return getLocalClaimResDTO(localClaim, FieldMask.ALL);
     }
 
-    private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim) {
+    private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim, FieldMask mask) {
 
         LocalClaimResDTO localClaimResDTO = new LocalClaimResDTO();
 
@@ -681,30 +763,23 @@ public class ServerClaimManagementService {
         localClaimResDTO.setRequired(Boolean.valueOf(claimProperties.remove(PROP_REQUIRED)));
         localClaimResDTO.setSupportedByDefault(Boolean.valueOf(claimProperties.remove(PROP_SUPPORTED_BY_DEFAULT)));
 
-        List<AttributeMappingDTO> attributeMappingDTOs = new ArrayList<>();
-        for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
-            AttributeMappingDTO attributeMappingDTO = new AttributeMappingDTO();
+        if (mask.includes(ATTRIBUTE_MAPPING_ATTRIBUTE)) {
+            List<AttributeMappingDTO> attributeMappingDTOs = new ArrayList<>();
+            for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                AttributeMappingDTO attributeMappingDTO = new AttributeMappingDTO();
 
-            attributeMappingDTO.setUserstore(attributeMapping.getUserStoreDomain());
-            attributeMappingDTO.setMappedAttribute(attributeMapping.getAttributeName());
+                attributeMappingDTO.setUserstore(attributeMapping.getUserStoreDomain());
+                attributeMappingDTO.setMappedAttribute(attributeMapping.getAttributeName());
 
-            attributeMappingDTOs.add(attributeMappingDTO);
+                attributeMappingDTOs.add(attributeMappingDTO);
+            }
+            localClaimResDTO.setAttributeMapping(attributeMappingDTOs);
         }
-        localClaimResDTO.setAttributeMapping(attributeMappingDTOs);
-        localClaimResDTO.setProperties(mapToProperties(claimProperties));
-
-        return localClaimResDTO;
-    }
-
-    private List<LocalClaimResDTO> getLocalClaimResDTOs(List<LocalClaim> localClaimList) {
-
-        List<LocalClaimResDTO> localClaimResDTOList = new ArrayList<>();
-
-        for (LocalClaim localClaim : localClaimList) {
-            localClaimResDTOList.add(getLocalClaimResDTO(localClaim));
+        if (mask.includes(PROPERTIES_ATTRIBUTE)) {
+            localClaimResDTO.setProperties(mapToProperties(claimProperties));
         }
 
-        return localClaimResDTOList;
+        return localClaimResDTO;
     }
 
     private LocalClaim createLocalClaim(LocalClaimReqDTO localClaimReqDTO) {
@@ -783,8 +858,7 @@ public class ServerClaimManagementService {
 
     private boolean isDialectExists(String dialectId) throws ClaimMetadataException {
 
-        List<ClaimDialect> claimDialectList =
-                getClaimMetadataManagementService().getClaimDialects(ContextLoader.getTenantDomainFromContext());
+        List<ClaimDialect> claimDialectList = getCachedClaimDialects();
         ClaimDialect claimDialect = extractDialectFromDialectList(base64DecodeId(dialectId), claimDialectList);
 
         return claimDialect != null;
@@ -843,11 +917,6 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
-
-        handleNotImplementedCapabilities(null, limit, offset, filter, sort);
-    }
-
     private APIError handleException(Exception e, Constant.ErrorMessage errorEnum, String... data) {
 
         ErrorResponse errorResponse = getErrorBuilder(errorEnum, data)
@@ -858,8 +927,7 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(String attributes, Integer limit, Integer offset, String filter,
-                                                  String sort) {
+    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
 
         Constant.ErrorMessage errorEnum = null;
 
@@ -871,8 +939,6 @@ public class ServerClaimManagementService {
             errorEnum = ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
         } else if (sort != null) {
             errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        } else if (attributes != null) {
-            errorEnum = ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
         }
 
         if (errorEnum != null) {
@@ -883,6 +949,18 @@ public class ServerClaimManagementService {
         }
     }
 
+    private FieldMask parseLocalClaimAttributes(String attributes) {
+
+        FieldMask mask = FieldMask.parse(attributes);
+        for (String attribute : mask.getFields()) {
+            if (!LOCAL_CLAIM_ATTRIBUTES.contains(attribute)) {
+                throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_INVALID_ATTRIBUTE, BAD_REQUEST,
+                        attribute);
+            }
+        }
+        return mask.with(ID_ATTRIBUTE);
+    }
+
     private ErrorResponse.Builder getErrorBuilder(Constant.ErrorMessage errorEnum, String... data) {
 
         return new ErrorResponse.Builder()
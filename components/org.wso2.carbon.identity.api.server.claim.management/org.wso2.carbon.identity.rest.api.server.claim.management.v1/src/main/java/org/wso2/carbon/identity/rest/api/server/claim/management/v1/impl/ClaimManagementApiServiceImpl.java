@@ -17,6 +17,9 @@
 package org.wso2.carbon.identity.rest.api.server.claim.management.v1.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkOperationRouter;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequestExecutor;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.ClaimManagementApiService;
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.core.ServerClaimManagementService;
 
@@ -25,6 +28,9 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.External
 import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimReqDTO;
 
 import java.net.URI;
+import java.util.List;
+
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
@@ -37,9 +43,24 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIF
  */
 public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
 
+    private static final String DIALECT_ID = "dialect-id";
+    private static final String DIALECT_PATH = CMT_PATH_COMPONENT + "/{" + DIALECT_ID + "}";
+    private static final String LOCAL_CLAIMS_PATH = CMT_PATH_COMPONENT + "/" + LOCAL_DIALECT_PATH + "/claims";
+    private static final String EXTERNAL_CLAIMS_PATH = DIALECT_PATH + "/claims";
+
     @Autowired
     private ServerClaimManagementService claimManagementService;
 
+    // Bulk requests are authorized with the create scope, hence only the create operations are routed. Local claim
+    // routes are registered first, since the external claim routes also match the local dialect.
+    private final BulkRequestExecutor bulkRequestExecutor = new BulkRequestExecutor(new BulkOperationRouter()
+            .route(HttpMethod.POST, LOCAL_CLAIMS_PATH, request ->
+                    addLocalClaim(request.getData(LocalClaimReqDTO.class)))
+            .route(HttpMethod.POST, CMT_PATH_COMPONENT, request ->
+                    addClaimDialect(request.getData(ClaimDialectReqDTO.class)))
+            .route(HttpMethod.POST, EXTERNAL_CLAIMS_PATH, request ->
+                    addExternalClaim(request.getPathParam(DIALECT_ID), request.getData(ExternalClaimReqDTO.class))));
+
     @Override
     public Response addClaimDialect(ClaimDialectReqDTO claimDialect) {
 
@@ -61,6 +82,12 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
         return Response.created(getResourceLocation(LOCAL_DIALECT_PATH, resourceId)).build();
     }
 
+    @Override
+    public Response bulkClaimOperations(BulkRequest bulkRequest) {
+
+        return Response.ok().entity(bulkRequestExecutor.execute(bulkRequest)).build();
+    }
+
     @Override
     public Response deleteClaimDialect(String dialectId) {
 
@@ -122,6 +149,12 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
                 excludeIdentityClaims, attributes, limit, offset, filter, sort)).build();
     }
 
+    @Override
+    public Response getLocalClaimsByIds(List<String> ids) {
+
+        return Response.ok().entity(claimManagementService.getLocalClaimsByIds(ids)).build();
+    }
+
     @Override
     public Response updateClaimDialect(String dialectId, ClaimDialectReqDTO claimDialect) {
 
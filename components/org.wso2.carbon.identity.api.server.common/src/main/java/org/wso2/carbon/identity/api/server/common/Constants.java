@@ -16,6 +16,11 @@
 
 package org.wso2.carbon.identity.api.server.common;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.ErrorPrefix.ASYNC_PREFIX;
+import static org.wso2.carbon.identity.api.server.common.Constants.ErrorPrefix.BULK_PREFIX;
+import static org.wso2.carbon.identity.api.server.common.Constants.ErrorPrefix.CHANGE_FEED_PREFIX;
+import static org.wso2.carbon.identity.api.server.common.Constants.ErrorPrefix.PAGINATION_PREFIX;
+import static org.wso2.carbon.identity.api.server.common.Constants.ErrorPrefix.RATE_LIMIT_PREFIX;
 import static org.wso2.carbon.identity.api.server.common.Constants.ErrorPrefix.USER_MANAGEMENT_PREFIX;
 
 /**
@@ -39,7 +44,12 @@ public class Constants {
      */
     public enum ErrorPrefix {
 
-        USER_MANAGEMENT_PREFIX("UMG-");
+        USER_MANAGEMENT_PREFIX("UMG-"),
+        PAGINATION_PREFIX("PGN-"),
+        BULK_PREFIX("BLK-"),
+        ASYNC_PREFIX("ASY-"),
+        RATE_LIMIT_PREFIX("RTL-"),
+        CHANGE_FEED_PREFIX("CHF-");
 
         private final String prefix;
 
@@ -58,7 +68,45 @@ public class Constants {
     public enum ErrorMessages {
 
         ERROR_CODE_INVALID_USERNAME(USER_MANAGEMENT_PREFIX.getPrefix() + "10001", "Invalid UserID provided", "The " +
-                "provided userId is invalid.");
+                "provided userId is invalid."),
+        ERROR_CODE_INVALID_PAGINATION_CURSOR(PAGINATION_PREFIX.getPrefix() + "60001", "Invalid pagination cursor",
+                "The provided pagination cursor is invalid."),
+        ERROR_CODE_CONFLICTING_PAGINATION_PARAMETERS(PAGINATION_PREFIX.getPrefix() + "60002",
+                "Conflicting pagination parameters", "Only one of the 'after', 'before' and 'offset' " +
+                "parameters can be used in a request."),
+        ERROR_CODE_BUILDING_PAGINATION_LINKS(PAGINATION_PREFIX.getPrefix() + "65001", "Unable to build page links",
+                "Server encountered an error while building the pagination links."),
+        ERROR_CODE_INVALID_BULK_REQUEST(BULK_PREFIX.getPrefix() + "60001", "Invalid bulk request",
+                "The bulk request must contain at least one operation, and each operation must have a method " +
+                        "and a path."),
+        ERROR_CODE_TOO_MANY_BULK_OPERATIONS(BULK_PREFIX.getPrefix() + "60002", "Too many bulk operations",
+                "The bulk request contains %d operations, which exceeds the maximum of %d operations."),
+        ERROR_CODE_UNSUPPORTED_BULK_OPERATION(BULK_PREFIX.getPrefix() + "60003", "Unsupported bulk operation",
+                "The operation %s %s is not supported in a bulk request of this API."),
+        ERROR_CODE_INVALID_BULK_OPERATION_DATA(BULK_PREFIX.getPrefix() + "60004", "Invalid operation data",
+                "The data of the operation %s %s is invalid."),
+        ERROR_CODE_INVALID_MULTI_GET_REQUEST(BULK_PREFIX.getPrefix() + "60005", "Invalid multi-get request",
+                "The multi-get request must contain at least one ID, and the IDs must not be blank."),
+        ERROR_CODE_TOO_MANY_MULTI_GET_IDS(BULK_PREFIX.getPrefix() + "60006", "Too many IDs",
+                "The multi-get request contains %d IDs, which exceeds the maximum of %d IDs."),
+        ERROR_CODE_ERROR_EXECUTING_BULK_OPERATION(BULK_PREFIX.getPrefix() + "65001",
+                "Unable to execute the operation", "Server encountered an error while executing the operation " +
+                "%s %s."),
+        ERROR_CODE_ERROR_RETRIEVING_MULTI_GET_RESOURCE(BULK_PREFIX.getPrefix() + "65002",
+                "Unable to retrieve the resource", "Server encountered an error while retrieving the resource %s."),
+        ERROR_CODE_SERVER_BUSY(ASYNC_PREFIX.getPrefix() + "65001", "Server is busy",
+                "Server cannot accept more requests of this kind at the moment. Retry the request later."),
+        ERROR_CODE_OPERATION_TIMED_OUT(ASYNC_PREFIX.getPrefix() + "65002", "Operation timed out",
+                "The operation did not complete within %d seconds. It may still complete, hence check the state " +
+                "of the resource before retrying the request."),
+        ERROR_CODE_TOO_MANY_REQUESTS(RATE_LIMIT_PREFIX.getPrefix() + "60001", "Too many requests",
+                "The tenant has exceeded the rate limit of %s requests. Retry the request after %d seconds."),
+        ERROR_CODE_INVALID_CHANGE_FEED_RESOURCE_TYPE(CHANGE_FEED_PREFIX.getPrefix() + "60001",
+                "Invalid resource type", "The resource type %s is not supported. Supported types are: %s."),
+        ERROR_CODE_INVALID_CHANGE_FEED_PARAMETER(CHANGE_FEED_PREFIX.getPrefix() + "60002", "Invalid parameter",
+                "The value of the parameter %s must not be negative."),
+        ERROR_CODE_TOO_MANY_CHANGE_FEED_WAITERS(CHANGE_FEED_PREFIX.getPrefix() + "65001", "Too many waiting requests",
+                "The tenant has too many requests waiting for changes. Retry the request later.");
 
         private final String code;
         private final String message;
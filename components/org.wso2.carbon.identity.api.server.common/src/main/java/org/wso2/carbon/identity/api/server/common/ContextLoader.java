@@ -29,6 +29,8 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.core.Response;
 
@@ -45,6 +47,14 @@ public class ContextLoader {
 
     private static final Log LOG = LogFactory.getLog(ContextLoader.class);
 
+    private static final String PATH_SEPARATOR = "/";
+    private static final int MAX_CACHED_URL_PREFIXES = 1000;
+    private static final String ORGANIZATION_KEY_PREFIX = "o:";
+    private static final String TENANT_KEY_PREFIX = "t:";
+    private static final String TENANT_QUALIFIED_KEY_PREFIX = "q:";
+    private static final Map<String, String> RELATIVE_URL_PREFIXES = new ConcurrentHashMap<>();
+    private static final Map<String, String> ABSOLUTE_URL_PREFIXES = new ConcurrentHashMap<>();
+
     /**
      * Retrieves loaded tenant domain from carbon context.
      *
@@ -88,16 +98,7 @@ public class ContextLoader {
      */
     public static URI buildURIForBody(String endpoint) {
 
-        String url;
-        String context = getContext(endpoint);
-
-        try {
-            url = ServiceURLBuilder.create().addPath(context).build().getRelativePublicURL();
-        } catch (URLBuilderException e) {
-            String errorDescription = "Server encountered an error while building URL for response body.";
-            throw buildInternalServerError(e, errorDescription);
-        }
-        return URI.create(url);
+        return URI.create(getRelativeURLPrefix() + StringUtils.removeEnd(endpoint, PATH_SEPARATOR));
     }
 
     /**
@@ -110,17 +111,103 @@ public class ContextLoader {
      */
     public static URI buildURIForHeader(String endpoint) {
 
-        URI loc;
-        String context = getContext(endpoint);
+        return URI.create(getAbsoluteURLPrefix() + StringUtils.removeEnd(endpoint, PATH_SEPARATOR));
+    }
+
+    /**
+     * Get a link builder for resources under the given base path, to be used in response bodies. The server API
+     * context is resolved once when the builder is created, so the builder should be preferred over
+     * {@link #buildURIForBody(String)} when building links for every element of a list.
+     * Ex: /t/<tenant-domain>/api/server/<base-path>/<path-segment>
+     *
+     * @param basePath Relative path of the resource collection. Ex: /v1/userstores
+     * @return Link builder which appends path segments to the resolved base path.
+     */
+    public static LinkBuilder getLinkBuilderForBody(String basePath) {
+
+        return new LinkBuilder(getRelativeURLPrefix() + basePath);
+    }
+
+    /**
+     * Get a link builder for resources under the given base path, to be used in response headers.
+     * Ex: https://localhost:9443/t/<tenant-domain>/api/server/<base-path>/<path-segment>
+     *
+     * @param basePath Relative path of the resource collection. Ex: /v1/keystores
+     * @return Link builder which appends path segments to the resolved base path.
+     */
+    public static LinkBuilder getLinkBuilderForHeader(String basePath) {
+
+        return new LinkBuilder(getAbsoluteURLPrefix() + basePath);
+    }
+
+    /**
+     * Clear the cached server API URL prefixes. The prefixes are already keyed by whether tenant qualified URLs are
+     * enabled, so this is only needed if the URL configuration of the server is changed at runtime.
+     */
+    public static void clearURLPrefixCache() {
+
+        RELATIVE_URL_PREFIXES.clear();
+        ABSOLUTE_URL_PREFIXES.clear();
+    }
+
+    private static String getRelativeURLPrefix() {
+
+        String cacheKey = getURLPrefixCacheKey();
+        String prefix = RELATIVE_URL_PREFIXES.get(cacheKey);
+        if (prefix == null) {
+            try {
+                prefix = ServiceURLBuilder.create().addPath(getContext()).build().getRelativePublicURL();
+            } catch (URLBuilderException e) {
+                String errorDescription = "Server encountered an error while building URL for response body.";
+                throw buildInternalServerError(e, errorDescription);
+            }
+            cacheURLPrefix(RELATIVE_URL_PREFIXES, cacheKey, prefix);
+        }
+        return prefix;
+    }
+
+    private static String getAbsoluteURLPrefix() {
+
+        String cacheKey = getURLPrefixCacheKey();
+        String prefix = ABSOLUTE_URL_PREFIXES.get(cacheKey);
+        if (prefix == null) {
+            try {
+                prefix = ServiceURLBuilder.create().addPath(getContext()).build().getAbsolutePublicURL();
+            } catch (URLBuilderException e) {
+                String errorDescription = "Server encountered an error while building URL for response header.";
+                throw buildInternalServerError(e, errorDescription);
+            }
+            cacheURLPrefix(ABSOLUTE_URL_PREFIXES, cacheKey, prefix);
+        }
+        return prefix;
+    }
+
+    private static void cacheURLPrefix(Map<String, String> cache, String cacheKey, String prefix) {
 
-        try {
-            String url = ServiceURLBuilder.create().addPath(context).build().getAbsolutePublicURL();
-            loc = URI.create(url);
-        } catch (URLBuilderException e) {
-            String errorDescription = "Server encountered an error while building URL for response header.";
-            throw buildInternalServerError(e, errorDescription);
+        // Keeps the cache bounded when requests are served for a large number of tenants or organizations.
+        if (cache.size() >= MAX_CACHED_URL_PREFIXES) {
+            cache.clear();
+        }
+        cache.put(cacheKey, prefix);
+    }
+
+    /**
+     * Builds the key the URL prefix of the current request is cached against. In tenant qualified mode the
+     * ServiceURLBuilder resolves the tenant from the context, hence the tenant domain is part of the key in both
+     * modes.
+     *
+     * @return Cache key of the URL prefix.
+     */
+    private static String getURLPrefixCacheKey() {
+
+        String organizationId = getOrganizationIdFromContext();
+        if (StringUtils.isNotBlank(organizationId)) {
+            return ORGANIZATION_KEY_PREFIX + organizationId;
+        }
+        if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled()) {
+            return TENANT_QUALIFIED_KEY_PREFIX + getTenantDomainFromContext();
         }
-        return loc;
+        return TENANT_KEY_PREFIX + getTenantDomainFromContext();
     }
 
     /**
@@ -130,22 +217,21 @@ public class ContextLoader {
      * In tenant qualified mode the ServiceURLBuilder appends the tenant domain to the URI as a path param
      * automatically. But in non tenant qualified mode, we need to append the tenant domain to the path manually.
      *
-     * @param endpoint Relative endpoint path.
      * @return Context of the API.
      */
-    private static String getContext(String endpoint) {
+    private static String getContext() {
 
         String context;
         String organizationId = getOrganizationIdFromContext();
         if (StringUtils.isNotBlank(organizationId)) {
             context = String.format(ORGANIZATION_CONTEXT_PATH_COMPONENT, organizationId) +
-                    SERVER_API_PATH_COMPONENT + endpoint;
+                    SERVER_API_PATH_COMPONENT;
         } else {
             if (IdentityTenantUtil.isTenantQualifiedUrlsEnabled()) {
-                context = SERVER_API_PATH_COMPONENT + endpoint;
+                context = SERVER_API_PATH_COMPONENT;
             } else {
                 context = String.format(TENANT_CONTEXT_PATH_COMPONENT, getTenantDomainFromContext()) +
-                        SERVER_API_PATH_COMPONENT + endpoint;
+                        SERVER_API_PATH_COMPONENT;
             }
         }
         return context;
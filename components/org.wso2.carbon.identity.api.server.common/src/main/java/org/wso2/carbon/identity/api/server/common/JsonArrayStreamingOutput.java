@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.wso2.carbon.identity.api.server.common.projection.FieldMask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Response entity which writes a collection as a JSON array, mapping each backend object to its API model only
+ * when the element is written. Only one API model is alive at a time, so list endpoints do not hold a full copy of
+ * the API models, nor the full JSON document, for the duration of the request.
+ *
+ * The first element is mapped when the entity is created, so that a mapper which fails for every element is
+ * reported as an error response before the response is committed. A failure while mapping a later element aborts
+ * the response, hence validations and backend calls should be done before creating the entity. The source is
+ * iterated again when the entity is written, so it must be re-iterable.
+ *
+ * @param <T> Type of the backend objects.
+ */
+public class JsonArrayStreamingOutput<T> implements StreamingOutput {
+
+    private static final ObjectWriter ELEMENT_WRITER = ObjectMapperRegistry.getWriter()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final Iterable<T> source;
+    private final Function<? super T, ?> mapper;
+    private final boolean empty;
+    private final Object firstModel;
+    private final ObjectWriter elementWriter;
+
+    /**
+     * Create a streaming entity for the given source.
+     *
+     * @param source Backend objects to be written. A null source is written as an empty array.
+     * @param mapper Function which maps a backend object to its API model.
+     */
+    public JsonArrayStreamingOutput(Iterable<T> source, Function<? super T, ?> mapper) {
+
+        this(source, mapper, FieldMask.ALL);
+    }
+
+    /**
+     * Create a streaming entity for the given source, which writes only the fields of the API models included in
+     * the given mask.
+     *
+     * @param source Backend objects to be written. A null source is written as an empty array.
+     * @param mapper Function which maps a backend object to its API model.
+     * @param mask   Fields of the API models to be written.
+     */
+    public JsonArrayStreamingOutput(Iterable<T> source, Function<? super T, ?> mapper, FieldMask mask) {
+
+        this.source = source != null ? source : Collections.emptyList();
+        this.mapper = mapper;
+        Iterator<T> elements = this.source.iterator();
+        this.empty = !elements.hasNext();
+        this.firstModel = empty ? null : mapper.apply(elements.next());
+        this.elementWriter = mask.isAll() ? ELEMENT_WRITER :
+                mask.getWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Create a streaming entity for the given source.
+     *
+     * @param source Backend objects to be written. A null source is written as an empty array.
+     * @param mapper Function which maps a backend object to its API model.
+     * @param <T>    Type of the backend objects.
+     * @return Streaming entity.
+     */
+    public static <T> JsonArrayStreamingOutput<T> of(Iterable<T> source, Function<? super T, ?> mapper) {
+
+        return new JsonArrayStreamingOutput<>(source, mapper);
+    }
+
+    /**
+     * Create a streaming entity for the given source, which writes only the fields of the API models included in
+     * the given mask.
+     *
+     * @param source Backend objects to be written. A null source is written as an empty array.
+     * @param mapper Function which maps a backend object to its API model.
+     * @param mask   Fields of the API models to be written.
+     * @param <T>    Type of the backend objects.
+     * @return Streaming entity.
+     */
+    public static <T> JsonArrayStreamingOutput<T> of(Iterable<T> source, Function<? super T, ?> mapper,
+                                                     FieldMask mask) {
+
+        return new JsonArrayStreamingOutput<>(source, mapper, mask);
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+
+        try (JsonGenerator generator = ObjectMapperRegistry.getObjectMapper().getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            Iterator<T> elements = source.iterator();
+            if (!empty && elements.hasNext()) {
+                elements.next();
+                elementWriter.writeValue(generator, firstModel);
+            }
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, mapper.apply(elements.next()));
+            }
+            generator.writeEndArray();
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.net.URI;
+
+/**
+ * Builds links to the resources under an already resolved server API base URL, by appending path segments to it.
+ * Instances are obtained from {@link ContextLoader#getLinkBuilderForBody(String)} and
+ * {@link ContextLoader#getLinkBuilderForHeader(String)}.
+ */
+public class LinkBuilder {
+
+    private static final char PATH_SEPARATOR = '/';
+
+    private final String baseURL;
+
+    LinkBuilder(String baseURL) {
+
+        this.baseURL = baseURL;
+    }
+
+    /**
+     * Build a link by appending the given path segments to the base URL. A separator is added in front of the
+     * segments which do not start with one.
+     * Ex: build("abc") on /t/carbon.super/api/server/v1/userstores gives /t/carbon.super/api/server/v1/userstores/abc
+     *
+     * @param pathSegments Path segments to append.
+     * @return Link to the resource.
+     */
+    public String build(String... pathSegments) {
+
+        if (pathSegments.length == 0) {
+            return baseURL;
+        }
+        StringBuilder link = new StringBuilder(baseURL);
+        for (String pathSegment : pathSegments) {
+            if (pathSegment.isEmpty() || pathSegment.charAt(0) != PATH_SEPARATOR) {
+                link.append(PATH_SEPARATOR);
+            }
+            link.append(pathSegment);
+        }
+        return link.toString();
+    }
+
+    /**
+     * Build a link by appending the given path segments to the base URL.
+     *
+     * @param pathSegments Path segments to append.
+     * @return Link to the resource as a URI.
+     */
+    public URI buildURI(String... pathSegments) {
+
+        return URI.create(build(pathSegments));
+    }
+}
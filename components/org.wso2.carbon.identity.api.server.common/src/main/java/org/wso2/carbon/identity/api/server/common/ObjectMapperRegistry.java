@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared Jackson mapper for the server APIs, with cached readers and writers per target type.
+ *
+ * ObjectMapper instances are expensive to create and build their serializer caches lazily, so creating one per call
+ * pays for both every time. Readers and writers are immutable and thread safe, and can be reused across requests.
+ * The mapper uses the Jackson defaults and must not be reconfigured by callers.
+ */
+public class ObjectMapperRegistry {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter DEFAULT_WRITER = OBJECT_MAPPER.writer();
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private ObjectMapperRegistry() {
+
+    }
+
+    /**
+     * Get the shared object mapper.
+     *
+     * @return Shared ObjectMapper.
+     */
+    public static ObjectMapper getObjectMapper() {
+
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Get a reader which deserializes JSON to the given type.
+     *
+     * @param type Target type.
+     * @return Cached ObjectReader for the type.
+     */
+    public static ObjectReader getReader(Class<?> type) {
+
+        ObjectReader reader = READERS.get(type);
+        if (reader == null) {
+            reader = READERS.computeIfAbsent(type, OBJECT_MAPPER::readerFor);
+        }
+        return reader;
+    }
+
+    /**
+     * Get a writer which serializes values of the given type to JSON.
+     *
+     * @param type Type of the values to be serialized.
+     * @return Cached ObjectWriter for the type.
+     */
+    public static ObjectWriter getWriter(Class<?> type) {
+
+        ObjectWriter writer = WRITERS.get(type);
+        if (writer == null) {
+            writer = WRITERS.computeIfAbsent(type, OBJECT_MAPPER::writerFor);
+        }
+        return writer;
+    }
+
+    /**
+     * Get a writer which serializes values based on their runtime type.
+     *
+     * @return Shared ObjectWriter.
+     */
+    public static ObjectWriter getWriter() {
+
+        return DEFAULT_WRITER;
+    }
+
+    /**
+     * Convert the given value to the given type through the shared mapper.
+     *
+     * @param fromValue Value to be converted.
+     * @param toType    Target type.
+     * @param <T>       Target type.
+     * @return Converted value.
+     */
+    public static <T> T convertValue(Object fromValue, Class<T> toType) {
+
+        return OBJECT_MAPPER.convertValue(fromValue, toType);
+    }
+}
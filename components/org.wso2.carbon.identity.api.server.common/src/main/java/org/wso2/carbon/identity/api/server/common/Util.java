@@ -25,6 +25,7 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Common util class
@@ -33,8 +34,7 @@ public class Util {
 
     private static final String PAGE_LINK_REL_NEXT = "next";
     private static final String PAGE_LINK_REL_PREVIOUS = "previous";
-    private static final String PAGINATION_LINK_FORMAT = Constants.V1_API_PATH_COMPONENT
-            + "%s?offset=%d&limit=%d";
+    private static final String PAGINATION_QUERY_FORMAT = "?offset=%d&limit=%d";
 
     /**
      * Get ChallengeQuestionManager osgi service
@@ -57,12 +57,26 @@ public class Util {
         if (isCorrelationIDPresent()) {
             ref = MDC.get(Constants.CORRELATION_ID_MDC);
         } else {
-            ref = UUID.randomUUID().toString();
-
+            ref = generateCorrelationId();
         }
         return ref;
     }
 
+    /**
+     * Generate a random version 4 UUID for correlating an error response with its log line. Unlike
+     * {@link UUID#randomUUID()}, this does not use the shared SecureRandom, as correlation IDs need not be
+     * unpredictable.
+     *
+     * @return correlation-id
+     */
+    private static String generateCorrelationId() {
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~0xC000000000000000L) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
     /**
      * Check whether correlation id present in the log MDC
      *
@@ -110,12 +124,13 @@ public class Util {
                                                            String servicePathComponent) {
 
         Map<String, String> links = new HashMap<>();
+        String pageURL = ContextLoader.getLinkBuilderForBody(Constants.V1_API_PATH_COMPONENT + servicePathComponent)
+                .build();
 
         // Next link.
         if ((currentOffset + limit) < totalResultsFromSearch) {
-            links.put(PAGE_LINK_REL_NEXT, ContextLoader.buildURIForBody
-                    (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, (currentOffset + limit), limit))
-                    .toString());
+            links.put(PAGE_LINK_REL_NEXT, pageURL +
+                    String.format(PAGINATION_QUERY_FORMAT, (currentOffset + limit), limit));
         }
 
         /*
@@ -124,13 +139,10 @@ public class Util {
         */
         if (currentOffset > 0) {
             if ((currentOffset - limit) >= 0) { // A previous page of size 'limit' exists.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent,
-                                calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit))
-                        .toString());
+                links.put(PAGE_LINK_REL_PREVIOUS, pageURL + String.format(PAGINATION_QUERY_FORMAT,
+                        calculateOffsetForPreviousLink(currentOffset, limit, totalResultsFromSearch), limit));
             } else { // A previous page exists but it's size is less than the specified limit.
-                links.put(PAGE_LINK_REL_PREVIOUS, ContextLoader.buildURIForBody
-                        (String.format(PAGINATION_LINK_FORMAT, servicePathComponent, 0, currentOffset)).toString());
+                links.put(PAGE_LINK_REL_PREVIOUS, pageURL + String.format(PAGINATION_QUERY_FORMAT, 0, currentOffset));
             }
         }
 
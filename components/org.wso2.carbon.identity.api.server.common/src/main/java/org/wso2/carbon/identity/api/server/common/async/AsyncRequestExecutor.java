@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.async;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.continuations.ContinuationProvider;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendCallContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Executes slow server API operations off the servlet container threads, so that they do not starve the container
+ * pool which also serves the fast reads.
+ *
+ * Operations are queued per tenant and the workers take them from the tenants in turn, so a tenant with a burst of
+ * slow operations does not delay the operations of the other tenants. The pool is bounded by the following system
+ * properties.
+ * <ul>
+ * <li>identity.server.api.async.threads: Number of worker threads. Default 32.</li>
+ * <li>identity.server.api.async.maxThreadsPerTenant: Number of workers a single tenant may occupy. Defaults to all
+ * the workers.</li>
+ * <li>identity.server.api.async.queueCapacity: Number of operations which may wait for a worker. Operations beyond
+ * that are rejected with 503. Default 1000.</li>
+ * <li>identity.server.api.async.virtualThreads: Use virtual threads for the workers, when the runtime supports
+ * them. Default false.</li>
+ * <li>identity.server.api.async.timeoutSeconds: Time after which a request is answered with 503 if its operation
+ * has not completed. The operation itself is not interrupted. Default 120.</li>
+ * </ul>
+ * Operations run in the tenant, user and correlation context of the request that submitted them.
+ *
+ * A request can only be suspended when the servlet serving the server APIs, and every filter in front of it, is
+ * async-supported. Otherwise the operations run synchronously on the request thread.
+ */
+public class AsyncRequestExecutor {
+
+    private static final Log LOG = LogFactory.getLog(AsyncRequestExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "server-api-async-worker-";
+    private static final int THREADS = Math.max(1, Integer.getInteger("identity.server.api.async.threads", 32));
+    private static final int MAX_THREADS_PER_TENANT = Math.max(1,
+            Integer.getInteger("identity.server.api.async.maxThreadsPerTenant", THREADS));
+    private static final int QUEUE_CAPACITY = Integer.getInteger("identity.server.api.async.queueCapacity", 1000);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("identity.server.api.async.virtualThreads");
+    private static final long TIMEOUT_SECONDS = Math.max(1,
+            Long.getLong("identity.server.api.async.timeoutSeconds", 120));
+    private static final AsyncRequestExecutor INSTANCE = new AsyncRequestExecutor();
+
+    private final TenantFairQueue queue = new TenantFairQueue(QUEUE_CAPACITY, MAX_THREADS_PER_TENANT);
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "server-api-async-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean synchronousFallbackLogged = new AtomicBoolean();
+
+    private AsyncRequestExecutor() {
+
+        ThreadFactory threadFactory = createThreadFactory();
+        for (int i = 0; i < THREADS; i++) {
+            threadFactory.newThread(this::work).start();
+        }
+    }
+
+    /**
+     * Get the executor shared by the server APIs. The workers are started on first use.
+     *
+     * @return Async request executor.
+     */
+    public static AsyncRequestExecutor getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Execute an operation asynchronously when the request can be suspended. The result is meant to be returned by
+     * the resource method, which declares Object as its return type for that reason. An exception thrown by the
+     * operation completes the stage with that exception, so it is mapped to a response the same way as for
+     * synchronous operations.
+     *
+     * @param operation Operation to execute.
+     * @return Stage completed with the response of the operation, or the response itself when the request cannot be
+     * suspended.
+     */
+    public Object execute(Supplier<Response> operation) {
+
+        if (!isSuspendable()) {
+            if (synchronousFallbackLogged.compareAndSet(false, true)) {
+                LOG.info("The server API servlet is not async-supported. Slow server API operations run on the " +
+                        "request threads.");
+            }
+            return operation.get();
+        }
+
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        RequestContextSnapshot requestContext = RequestContextSnapshot.capture();
+        boolean backendTiming = BackendTimingProxy.isEnabled();
+        if (backendTiming) {
+            // Backend calls are made on the worker thread, and the response may be written by yet another thread. So
+            // the calls are collected on the worker and reported with the response it completes.
+            BackendCallContext.end();
+        }
+        Runnable task = () -> requestContext.run(() -> {
+            if (result.isDone()) {
+                // The request timed out while the operation was queued.
+                return;
+            }
+            if (backendTiming) {
+                BackendCallContext.begin();
+            }
+            try {
+                Response response = operation.get();
+                if (backendTiming) {
+                    String serverTiming = BackendCallContext.end();
+                    if (serverTiming != null) {
+                        response.getMetadata().add(BackendCallContext.SERVER_TIMING_HEADER, serverTiming);
+                    }
+                }
+                result.complete(response);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                if (backendTiming) {
+                    BackendCallContext.end();
+                }
+            }
+        });
+        if (!queue.offer(StringUtils.defaultString(requestContext.getTenantDomain()), task)) {
+            result.completeExceptionally(buildServerBusyError());
+            return result;
+        }
+        ScheduledFuture<?> timeout = timer.schedule(() -> result.completeExceptionally(buildTimeoutError()),
+                TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        result.whenComplete((response, e) -> timeout.cancel(false));
+        return result;
+    }
+
+    /**
+     * A request can be suspended only if the servlet container provided a continuation for it.
+     *
+     * @return True if the current request can be suspended.
+     */
+    private static boolean isSuspendable() {
+
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        return message != null && message.get(ContinuationProvider.class.getName()) != null;
+    }
+
+    private void work() {
+
+        while (true) {
+            TenantFairQueue.TenantTask tenantTask;
+            try {
+                tenantTask = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                tenantTask.getTask().run();
+            } catch (RuntimeException e) {
+                LOG.error("Error while executing an asynchronous server API operation.", e);
+            } finally {
+                queue.complete(tenantTask.getTenantDomain());
+            }
+        }
+    }
+
+    private static APIError buildServerBusyError() {
+
+        Constants.ErrorMessages error = Constants.ErrorMessages.ERROR_CODE_SERVER_BUSY;
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(error.getDescription())
+                .build(LOG, "Rejected an asynchronous server API operation as the queue is full.");
+        return new APIError(Response.Status.SERVICE_UNAVAILABLE, errorResponse);
+    }
+
+    private static APIError buildTimeoutError() {
+
+        Constants.ErrorMessages error = Constants.ErrorMessages.ERROR_CODE_OPERATION_TIMED_OUT;
+        String description = String.format(error.getDescription(), TIMEOUT_SECONDS);
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(description)
+                .build(LOG, "An asynchronous server API operation did not complete within " + TIMEOUT_SECONDS +
+                        " seconds.");
+        return new APIError(Response.Status.SERVICE_UNAVAILABLE, errorResponse);
+    }
+
+    private static ThreadFactory createThreadFactory() {
+
+        if (VIRTUAL_THREADS) {
+            try {
+                // Resolved reflectively, as the server APIs are compiled for runtimes without virtual threads.
+                Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                builder = builderType.getMethod("name", String.class, long.class)
+                        .invoke(builder, THREAD_NAME_PREFIX, 1L);
+                return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                LOG.warn("Virtual threads are not supported by the runtime. Using platform threads for the " +
+                        "asynchronous server API operations.");
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
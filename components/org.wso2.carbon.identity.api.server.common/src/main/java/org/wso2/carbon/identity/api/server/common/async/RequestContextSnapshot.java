@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.async;
+
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tenant, user and correlation context of a request thread, captured to be applied on the threads which execute
+ * work on behalf of the request.
+ */
+public class RequestContextSnapshot {
+
+    private final String tenantDomain;
+    private final int tenantId;
+    private final String username;
+    private final String organizationId;
+    private final Map<String, Object> threadLocalProperties;
+    private final Map<String, String> mdcContext;
+
+    private RequestContextSnapshot(PrivilegedCarbonContext carbonContext) {
+
+        this.tenantDomain = carbonContext.getTenantDomain();
+        this.tenantId = carbonContext.getTenantId();
+        this.username = carbonContext.getUsername();
+        this.organizationId = carbonContext.getOrganizationId();
+        this.threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        this.mdcContext = MDC.getCopyOfContextMap();
+    }
+
+    /**
+     * Capture the context of the current thread.
+     *
+     * @return Snapshot of the context of the current thread.
+     */
+    public static RequestContextSnapshot capture() {
+
+        return new RequestContextSnapshot(PrivilegedCarbonContext.getThreadLocalCarbonContext());
+    }
+
+    /**
+     * Get the tenant domain of the captured context.
+     *
+     * @return Tenant domain.
+     */
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Run a task in the captured context. The context is applied in a new tenant flow, which is ended and cleared
+     * once the task completes, so that nothing leaks to the next task of the thread.
+     *
+     * @param task Task to run.
+     */
+    public void run(Runnable task) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(tenantDomain);
+            carbonContext.setTenantId(tenantId);
+            carbonContext.setUsername(username);
+            carbonContext.setOrganizationId(organizationId);
+            IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            task.run();
+        } finally {
+            MDC.clear();
+            IdentityUtil.threadLocalProperties.remove();
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.async;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces identical concurrent reads, so that they share a single backend computation and its result.
+ *
+ * Reads are identical when they are made in the same tenant and organization, on the same endpoint and with the same
+ * normalized query. The first read of a key computes the result, and the reads of the same key which arrive while it is in
+ * flight wait for it and get the same result, or the same exception. Nothing is kept once the computation
+ * completes, so a read which arrives afterwards computes the result again. Since the result is shared between
+ * the requests, callers must not modify it.
+ *
+ * @param <V> Type of the result.
+ */
+public class SingleFlight<V> {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final String endpoint;
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Create a single-flight group for the reads of an endpoint.
+     *
+     * @param endpoint Name of the endpoint, used to key the reads.
+     */
+    public SingleFlight(String endpoint) {
+
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Compute the result of a read, or wait for the identical read which is already computing it.
+     *
+     * @param computation Backend computation of the read.
+     * @param query       Query parameters of the read.
+     * @param <E>         Type of the exception thrown by the computation.
+     * @return Result of the read.
+     * @throws E If the computation failed.
+     */
+    public <E extends Exception> V execute(Computation<V, E> computation, Object... query) throws E {
+
+        String key = buildKey(query);
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return await(leader);
+        }
+        try {
+            V result = computation.compute();
+            flight.complete(result);
+            return result;
+        } catch (Exception | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(CompletableFuture<V> leader) throws E {
+
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the read of " + endpoint + ".", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // Only the checked exception declared by the computation can reach here.
+            throw (E) cause;
+        }
+    }
+
+    private String buildKey(Object... query) {
+
+        StringBuilder key = new StringBuilder(StringUtils.defaultString(ContextLoader.getTenantDomainFromContext()))
+                .append(KEY_SEPARATOR).append(StringUtils.defaultString(ContextLoader.getOrganizationIdFromContext()))
+                .append(KEY_SEPARATOR).append(endpoint);
+        for (Object parameter : query) {
+            key.append(KEY_SEPARATOR);
+            if (parameter != null) {
+                key.append(StringUtils.trimToEmpty(parameter.toString()));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Backend computation of a read.
+     *
+     * @param <V> Type of the result.
+     * @param <E> Type of the exception thrown by the computation.
+     */
+    @FunctionalInterface
+    public interface Computation<V, E extends Exception> {
+
+        V compute() throws E;
+    }
+}
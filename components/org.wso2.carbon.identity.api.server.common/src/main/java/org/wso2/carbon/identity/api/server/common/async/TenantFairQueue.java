@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.async;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded queue which hands out the tasks of the tenants in turn. A tenant is ready while it has queued tasks and
+ * fewer running tasks than the per tenant limit.
+ */
+final class TenantFairQueue {
+
+    private final int capacity;
+    private final int maxRunningPerTenant;
+    private final Map<String, TenantTasks> tenants = new HashMap<>();
+    private final Deque<String> readyTenants = new ArrayDeque<>();
+    private int size;
+
+    /**
+     * Create an empty queue.
+     *
+     * @param capacity            Number of tasks which may be queued.
+     * @param maxRunningPerTenant Number of tasks of a single tenant which may run at the same time.
+     */
+    TenantFairQueue(int capacity, int maxRunningPerTenant) {
+
+        this.capacity = capacity;
+        this.maxRunningPerTenant = Math.max(1, maxRunningPerTenant);
+    }
+
+    /**
+     * Queue a task of a tenant.
+     *
+     * @param tenantDomain Tenant domain of the task.
+     * @param task         Task to queue.
+     * @return False if the queue is full.
+     */
+    synchronized boolean offer(String tenantDomain, Runnable task) {
+
+        if (size >= capacity) {
+            return false;
+        }
+        TenantTasks tenantTasks = tenants.computeIfAbsent(tenantDomain, key -> new TenantTasks());
+        tenantTasks.queued.add(task);
+        size++;
+        markReady(tenantDomain, tenantTasks);
+        return true;
+    }
+
+    /**
+     * Take the next task of the next ready tenant, without waiting. The task is counted as running until
+     * {@link #complete(String)} is called for its tenant.
+     *
+     * @return Next task, or null if no tenant is ready.
+     */
+    synchronized TenantTask poll() {
+
+        String tenantDomain = readyTenants.poll();
+        if (tenantDomain == null) {
+            return null;
+        }
+        TenantTasks tenantTasks = tenants.get(tenantDomain);
+        tenantTasks.ready = false;
+        Runnable task = tenantTasks.queued.poll();
+        tenantTasks.running++;
+        size--;
+        markReady(tenantDomain, tenantTasks);
+        return new TenantTask(tenantDomain, task);
+    }
+
+    /**
+     * Take the next task of the next ready tenant, waiting until a tenant is ready.
+     *
+     * @return Next task.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    synchronized TenantTask take() throws InterruptedException {
+
+        TenantTask tenantTask;
+        while ((tenantTask = poll()) == null) {
+            wait();
+        }
+        return tenantTask;
+    }
+
+    /**
+     * Record that a task taken from the queue has completed.
+     *
+     * @param tenantDomain Tenant domain of the task.
+     */
+    synchronized void complete(String tenantDomain) {
+
+        TenantTasks tenantTasks = tenants.get(tenantDomain);
+        tenantTasks.running--;
+        if (tenantTasks.running == 0 && tenantTasks.queued.isEmpty()) {
+            tenants.remove(tenantDomain);
+        } else {
+            markReady(tenantDomain, tenantTasks);
+        }
+    }
+
+    /**
+     * Get the number of queued tasks.
+     *
+     * @return Number of tasks waiting to be taken.
+     */
+    synchronized int size() {
+
+        return size;
+    }
+
+    private void markReady(String tenantDomain, TenantTasks tenantTasks) {
+
+        if (!tenantTasks.ready && !tenantTasks.queued.isEmpty() && tenantTasks.running < maxRunningPerTenant) {
+            tenantTasks.ready = true;
+            readyTenants.add(tenantDomain);
+            notify();
+        }
+    }
+
+    /**
+     * Task queued by a tenant.
+     */
+    static final class TenantTask {
+
+        private final String tenantDomain;
+        private final Runnable task;
+
+        private TenantTask(String tenantDomain, Runnable task) {
+
+            this.tenantDomain = tenantDomain;
+            this.task = task;
+        }
+
+        String getTenantDomain() {
+
+            return tenantDomain;
+        }
+
+        Runnable getTask() {
+
+            return task;
+        }
+    }
+
+    /**
+     * Queued and running tasks of a tenant.
+     */
+    private static final class TenantTasks {
+
+        private final Deque<Runnable> queued = new ArrayDeque<>();
+        private int running;
+        private boolean ready;
+    }
+}
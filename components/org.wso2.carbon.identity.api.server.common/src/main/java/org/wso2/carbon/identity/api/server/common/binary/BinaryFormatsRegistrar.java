@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.binary;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.Bus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registers the {@link CborProvider} and {@link SmileProvider} as bus level JAX-RS providers of the server API web
+ * application, so that every endpoint which advertises the binary media types can serve them. The providers are
+ * registered unless disabled with the identity.server.api.binaryFormats.enabled system property, or unless the Jackson
+ * binary data formats are not available at runtime, in which case the endpoints keep serving JSON only.
+ *
+ * The jackson-dataformat-cbor and jackson-dataformat-smile dependencies are provided, like the other Jackson
+ * dependencies of the APIs, so the product must package them, in the version of the jackson-dataformat-binary.version
+ * property, into the WEB-INF/lib of the server API web application for the binary formats to be served. Otherwise
+ * this is logged at INFO level once.
+ *
+ * Each API declares this bean in its cxf configuration under the same bean id, and registration is idempotent, so
+ * the providers are added only once per bus. Bus level providers are read when a JAX-RS server is created, so the
+ * cxf configuration of the APIs must be loaded before the servers of the web application are created.
+ */
+public class BinaryFormatsRegistrar {
+
+    private static final Log LOG = LogFactory.getLog(BinaryFormatsRegistrar.class);
+    private static final String BUS_PROVIDERS_PROPERTY = "org.apache.cxf.jaxrs.bus.providers";
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("identity.server.api.binaryFormats.enabled", "true"));
+    private static final AtomicBoolean UNAVAILABLE_LOGGED = new AtomicBoolean();
+
+    /**
+     * Add the binary format providers to the given bus.
+     *
+     * @param bus CXF bus serving the server APIs.
+     */
+    public void setBus(Bus bus) {
+
+        if (!ENABLED || !isAvailable()) {
+            return;
+        }
+        synchronized (bus) {
+            List<Object> providers = new ArrayList<>();
+            Object existing = bus.getProperty(BUS_PROVIDERS_PROPERTY);
+            if (existing instanceof List) {
+                providers.addAll((List<?>) existing);
+            }
+            boolean changed = false;
+            if (!containsInstanceOf(providers, CborProvider.class)) {
+                providers.add(new CborProvider());
+                changed = true;
+            }
+            if (!containsInstanceOf(providers, SmileProvider.class)) {
+                providers.add(new SmileProvider());
+                changed = true;
+            }
+            if (changed) {
+                bus.setProperty(BUS_PROVIDERS_PROPERTY, providers);
+            }
+        }
+    }
+
+    private static boolean isAvailable() {
+
+        try {
+            Class.forName("com.fasterxml.jackson.dataformat.cbor.CBORFactory", false,
+                    BinaryFormatsRegistrar.class.getClassLoader());
+            Class.forName("com.fasterxml.jackson.dataformat.smile.SmileFactory", false,
+                    BinaryFormatsRegistrar.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            if (UNAVAILABLE_LOGGED.compareAndSet(false, true)) {
+                LOG.info("Jackson CBOR and Smile data formats are not available to the server API web application, " +
+                        "hence the " + CborProvider.APPLICATION_CBOR + " and " + SmileProvider.APPLICATION_SMILE +
+                        " media types are not served. Package jackson-dataformat-cbor and jackson-dataformat-smile " +
+                        "into the WEB-INF/lib of the web application to serve them, or set " +
+                        "identity.server.api.binaryFormats.enabled to false to skip this check.");
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while loading the Jackson binary data formats.", e);
+            }
+            return false;
+        }
+    }
+
+    private static boolean containsInstanceOf(List<Object> providers, Class<?> type) {
+
+        for (Object provider : providers) {
+            if (type.isInstance(provider)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
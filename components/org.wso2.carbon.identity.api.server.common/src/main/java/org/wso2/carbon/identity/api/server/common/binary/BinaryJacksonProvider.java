@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.binary;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+/**
+ * Reads and writes the API models in a binary Jackson data format, for clients which negotiate the format instead of
+ * JSON to avoid the cost of encoding and parsing JSON text. The models are mapped with the same annotations as in
+ * JSON, so the binary documents have the same structure as the JSON documents.
+ *
+ * Entities which are already serialized, such as strings, byte arrays, streams and streaming outputs, are left to the
+ * other providers.
+ */
+public abstract class BinaryJacksonProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    private final MediaType mediaType;
+    private final ObjectMapper objectMapper;
+
+    protected BinaryJacksonProvider(MediaType mediaType, JsonFactory jsonFactory) {
+
+        this.mediaType = mediaType;
+        this.objectMapper = new ObjectMapper(jsonFactory)
+                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+
+        return isSupported(mediaType) && isMappable(type);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+
+        try {
+            return objectMapper.readerFor(toJavaType(type, genericType)).readValue(entityStream);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed " + this.mediaType + " request body.", e);
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+
+        return isSupported(mediaType) && isMappable(type);
+    }
+
+    @Override
+    public long getSize(Object value, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType) {
+
+        return -1;
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+
+        // The representation depends on the Accept header, so shared caches must not serve it to JSON clients.
+        httpHeaders.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        objectMapper.writerFor(toJavaType(type, genericType)).writeValue(entityStream, value);
+    }
+
+    private boolean isSupported(MediaType mediaType) {
+
+        return mediaType != null && this.mediaType.isCompatible(mediaType) && !mediaType.isWildcardType() &&
+                !mediaType.isWildcardSubtype();
+    }
+
+    private JavaType toJavaType(Class<?> type, Type genericType) {
+
+        return objectMapper.getTypeFactory().constructType(genericType != null ? genericType : type);
+    }
+
+    private static boolean isMappable(Class<?> type) {
+
+        return type != String.class && type != byte[].class && !InputStream.class.isAssignableFrom(type) &&
+                !Reader.class.isAssignableFrom(type) && !StreamingOutput.class.isAssignableFrom(type) &&
+                !Response.class.isAssignableFrom(type);
+    }
+}
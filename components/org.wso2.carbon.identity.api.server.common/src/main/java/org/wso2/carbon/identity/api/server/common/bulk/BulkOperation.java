@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+/**
+ * Single operation of a bulk request.
+ */
+@ApiModel(description = "Operation of a bulk request.")
+public class BulkOperation {
+
+    private String method;
+    private String path;
+    private String bulkId;
+    private JsonNode data;
+
+    /**
+     * HTTP method of the operation. E.g. POST
+     **/
+    @ApiModelProperty(required = true, value = "HTTP method of the operation.")
+    @JsonProperty("method")
+    public String getMethod() {
+
+        return method;
+    }
+
+    public void setMethod(String method) {
+
+        this.method = method;
+    }
+
+    /**
+     * Path of the resource relative to the API. E.g. /applications/{applicationId}
+     **/
+    @ApiModelProperty(required = true, value = "Path of the resource relative to the API.")
+    @JsonProperty("path")
+    public String getPath() {
+
+        return path;
+    }
+
+    public void setPath(String path) {
+
+        this.path = path;
+    }
+
+    /**
+     * Client defined identifier of the operation, which is returned with the result of the operation.
+     **/
+    @ApiModelProperty(value = "Client defined identifier of the operation.")
+    @JsonProperty("bulkId")
+    public String getBulkId() {
+
+        return bulkId;
+    }
+
+    public void setBulkId(String bulkId) {
+
+        this.bulkId = bulkId;
+    }
+
+    /**
+     * Request body of the operation.
+     **/
+    @ApiModelProperty(value = "Request body of the operation.")
+    @JsonProperty("data")
+    public JsonNode getData() {
+
+        return data;
+    }
+
+    public void setData(JsonNode data) {
+
+        this.data = data;
+    }
+}
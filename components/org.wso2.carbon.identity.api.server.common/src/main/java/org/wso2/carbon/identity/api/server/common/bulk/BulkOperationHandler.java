@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Executes a bulk operation routed to it by a {@link BulkOperationRouter}. Handlers usually delegate to the API
+ * service method serving the same method and path, so that a bulk operation behaves exactly like the individual
+ * request.
+ */
+@FunctionalInterface
+public interface BulkOperationHandler {
+
+    /**
+     * Execute the operation.
+     *
+     * @param request Operation with its path parameters and data.
+     * @return Response of the operation.
+     */
+    Response handle(BulkOperationRequest request);
+}
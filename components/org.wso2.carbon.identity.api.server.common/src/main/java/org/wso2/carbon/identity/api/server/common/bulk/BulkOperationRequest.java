@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Bulk operation matched to a route, with the path parameters resolved from the route template.
+ */
+public class BulkOperationRequest {
+
+    private final String method;
+    private final String path;
+    private final Map<String, String> pathParams;
+    private final JsonNode data;
+
+    BulkOperationRequest(String method, String path, Map<String, String> pathParams, JsonNode data) {
+
+        this.method = method;
+        this.path = path;
+        this.pathParams = pathParams;
+        this.data = data;
+    }
+
+    /**
+     * Get the value of a path parameter of the route.
+     *
+     * @param name Name of the path parameter in the route template.
+     * @return Value of the path parameter.
+     */
+    public String getPathParam(String name) {
+
+        return pathParams.get(name);
+    }
+
+    /**
+     * Read the data of the operation as the given type.
+     *
+     * @param type Type of the request body.
+     * @param <T>  Type of the request body.
+     * @return Request body.
+     * @throws org.wso2.carbon.identity.api.server.common.error.APIError If the data is missing or invalid.
+     */
+    public <T> T getData(Class<T> type) {
+
+        return readData(ObjectMapperRegistry.getObjectMapper().constructType(type));
+    }
+
+    /**
+     * Read the data of the operation as a list of the given type.
+     *
+     * @param type Type of the list elements.
+     * @param <T>  Type of the list elements.
+     * @return Request body.
+     * @throws org.wso2.carbon.identity.api.server.common.error.APIError If the data is missing or invalid.
+     */
+    public <T> List<T> getDataList(Class<T> type) {
+
+        return readData(ObjectMapperRegistry.getObjectMapper().getTypeFactory()
+                .constructCollectionType(List.class, type));
+    }
+
+    private <T> T readData(JavaType type) {
+
+        if (data == null || data.isNull()) {
+            throw BulkRequestExecutor.buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_INVALID_BULK_OPERATION_DATA, method, path);
+        }
+        try {
+            return ObjectMapperRegistry.getObjectMapper().readerFor(type).readValue(data);
+        } catch (IOException e) {
+            throw BulkRequestExecutor.buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_INVALID_BULK_OPERATION_DATA, method, path);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+/**
+ * Result of a single operation of a bulk request.
+ */
+@ApiModel(description = "Result of an operation of a bulk request.")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOperationResponse {
+
+    private String method;
+    private String path;
+    private String bulkId;
+    private Integer status;
+    private String location;
+    private Object response;
+
+    /**
+     * HTTP method of the operation.
+     **/
+    @ApiModelProperty(value = "HTTP method of the operation.")
+    @JsonProperty("method")
+    public String getMethod() {
+
+        return method;
+    }
+
+    public void setMethod(String method) {
+
+        this.method = method;
+    }
+
+    /**
+     * Path of the operation.
+     **/
+    @ApiModelProperty(value = "Path of the operation.")
+    @JsonProperty("path")
+    public String getPath() {
+
+        return path;
+    }
+
+    public void setPath(String path) {
+
+        this.path = path;
+    }
+
+    /**
+     * Client defined identifier of the operation.
+     **/
+    @ApiModelProperty(value = "Client defined identifier of the operation.")
+    @JsonProperty("bulkId")
+    public String getBulkId() {
+
+        return bulkId;
+    }
+
+    public void setBulkId(String bulkId) {
+
+        this.bulkId = bulkId;
+    }
+
+    /**
+     * HTTP status code of the operation.
+     **/
+    @ApiModelProperty(value = "HTTP status code of the operation.")
+    @JsonProperty("status")
+    public Integer getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+
+        this.status = status;
+    }
+
+    /**
+     * Location of the resource created by the operation.
+     **/
+    @ApiModelProperty(value = "Location of the resource created by the operation.")
+    @JsonProperty("location")
+    public String getLocation() {
+
+        return location;
+    }
+
+    public void setLocation(String location) {
+
+        this.location = location;
+    }
+
+    /**
+     * Response body of the operation, or the error of a failed operation.
+     **/
+    @ApiModelProperty(value = "Response body of the operation, or the error of a failed operation.")
+    @JsonProperty("response")
+    public Object getResponse() {
+
+        return response;
+    }
+
+    public void setResponse(Object response) {
+
+        this.response = response;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.Response;
+
+/**
+ * Routes the operations of a bulk request to the handlers registered by an API. Routes are matched in the order
+ * they were registered, so routes with literal segments should be registered before the templated routes which
+ * would also match them.
+ *
+ * A bulk request is authorized once, as a POST to the bulk path of the API, which the resource access control
+ * configuration maps to the create scope of the API. The operations are dispatched to the API methods without
+ * further authorization, hence only POST operations can be routed. Routing an update or a delete would let a
+ * caller holding only the create scope modify or remove resources.
+ */
+public class BulkOperationRouter {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final List<Route> routes = new ArrayList<>();
+
+    /**
+     * Register a handler for a method and a path template.
+     *
+     * @param method       HTTP method. Only POST is accepted.
+     * @param pathTemplate Path template relative to the API. E.g. /applications
+     * @param handler      Handler of the matching operations.
+     * @return This router.
+     * @throws IllegalArgumentException If the method is not POST.
+     */
+    public BulkOperationRouter route(String method, String pathTemplate, BulkOperationHandler handler) {
+
+        if (!HttpMethod.POST.equalsIgnoreCase(method)) {
+            throw new IllegalArgumentException("Only POST operations can be routed in a bulk request, since bulk " +
+                    "requests are authorized with the create scope. Method: " + method);
+        }
+        routes.add(new Route(method.toUpperCase(Locale.ENGLISH), split(pathTemplate), handler));
+        return this;
+    }
+
+    /**
+     * Find the handler of the given operation.
+     *
+     * @param operation Bulk operation.
+     * @return Handler bound to the operation, or null if no route matches the operation.
+     */
+    BoundHandler match(BulkOperation operation) {
+
+        String method = operation.getMethod().toUpperCase(Locale.ENGLISH);
+        String[] segments = split(StringUtils.substringBefore(operation.getPath(), "?"));
+        for (Route route : routes) {
+            if (!route.method.equals(method) || route.segments.length != segments.length) {
+                continue;
+            }
+            Map<String, String> pathParams = route.bind(segments);
+            if (pathParams != null) {
+                return new BoundHandler(route.handler, new BulkOperationRequest(operation.getMethod(),
+                        operation.getPath(), pathParams, operation.getData()));
+            }
+        }
+        return null;
+    }
+
+    private static String[] split(String path) {
+
+        return StringUtils.split(path, PATH_SEPARATOR);
+    }
+
+    /**
+     * Handler of an operation, bound to the request resolved from the operation.
+     */
+    static class BoundHandler {
+
+        private final BulkOperationHandler handler;
+        private final BulkOperationRequest request;
+
+        private BoundHandler(BulkOperationHandler handler, BulkOperationRequest request) {
+
+            this.handler = handler;
+            this.request = request;
+        }
+
+        Response handle() {
+
+            return handler.handle(request);
+        }
+    }
+
+    private static class Route {
+
+        private final String method;
+        private final String[] segments;
+        private final BulkOperationHandler handler;
+
+        private Route(String method, String[] segments, BulkOperationHandler handler) {
+
+            this.method = method;
+            this.segments = segments;
+            this.handler = handler;
+        }
+
+        private Map<String, String> bind(String[] pathSegments) {
+
+            Map<String, String> pathParams = new HashMap<>();
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    pathParams.put(segment.substring(1, segment.length() - 1), pathSegments[i]);
+                } else if (!segment.equals(pathSegments[i])) {
+                    return null;
+                }
+            }
+            return pathParams;
+        }
+    }
+}
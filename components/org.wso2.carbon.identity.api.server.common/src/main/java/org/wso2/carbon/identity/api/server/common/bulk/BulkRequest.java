@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk request, which carries a list of operations to be executed against an API.
+ */
+@ApiModel(description = "Bulk request.")
+public class BulkRequest {
+
+    private Integer failOnErrors;
+    private List<BulkOperation> operations = new ArrayList<>();
+
+    /**
+     * Number of failed operations after which the remaining operations are not executed. All the operations are
+     * executed when not specified.
+     **/
+    @ApiModelProperty(value = "Number of failed operations after which the remaining operations are not executed.")
+    @JsonProperty("failOnErrors")
+    public Integer getFailOnErrors() {
+
+        return failOnErrors;
+    }
+
+    public void setFailOnErrors(Integer failOnErrors) {
+
+        this.failOnErrors = failOnErrors;
+    }
+
+    /**
+     * Operations to be executed.
+     **/
+    @ApiModelProperty(required = true, value = "Operations to be executed.")
+    @JsonProperty("operations")
+    public List<BulkOperation> getOperations() {
+
+        return operations;
+    }
+
+    public void setOperations(List<BulkOperation> operations) {
+
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.async.RequestContextSnapshot;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+/**
+ * Executes the operations of a bulk request against the routes of an API, modelled on SCIM bulk requests.
+ *
+ * Operations are executed by up to 'identity.server.api.bulk.parallelism' workers per request, one of which is the
+ * request thread itself. The other workers run on a shared pool of 'identity.server.api.bulk.threads' threads, in
+ * the tenant, user and correlation context of the request. Since operations may run in parallel, an operation must
+ * not depend on the result of another operation of the same request. The results are returned in the order of the
+ * operations. When 'failOnErrors' is set, no further operations are started once that many operations have failed,
+ * and the operations which were not started are left out of the response.
+ */
+public class BulkRequestExecutor {
+
+    private static final Log LOG = LogFactory.getLog(BulkRequestExecutor.class);
+    private static final String PARALLELISM_PROPERTY = "identity.server.api.bulk.parallelism";
+    private static final String MAX_OPERATIONS_PROPERTY = "identity.server.api.bulk.maxOperations";
+    private static final String THREADS_PROPERTY = "identity.server.api.bulk.threads";
+    static final int PARALLELISM = Math.max(1, Integer.getInteger(PARALLELISM_PROPERTY, 4));
+    private static final int MAX_OPERATIONS = Integer.getInteger(MAX_OPERATIONS_PROPERTY, 1000);
+
+    private final BulkOperationRouter router;
+
+    /**
+     * Create an executor for the routes of an API.
+     *
+     * @param router Routes of the API.
+     */
+    public BulkRequestExecutor(BulkOperationRouter router) {
+
+        this.router = router;
+    }
+
+    /**
+     * Execute the operations of a bulk request.
+     *
+     * @param bulkRequest Bulk request.
+     * @return Results of the executed operations.
+     * @throws APIError If the bulk request is invalid.
+     */
+    public BulkResponse execute(BulkRequest bulkRequest) {
+
+        List<BulkOperation> operations = validate(bulkRequest);
+        BulkOperationResponse[] results = new BulkOperationResponse[operations.size()];
+        int failOnErrors = bulkRequest.getFailOnErrors() != null && bulkRequest.getFailOnErrors() > 0 ?
+                bulkRequest.getFailOnErrors() : Integer.MAX_VALUE;
+        Worker worker = new Worker(operations, results, failOnErrors);
+
+        int parallelism = Math.min(PARALLELISM, operations.size());
+        List<Future<?>> futures = new ArrayList<>(parallelism - 1);
+        if (parallelism > 1) {
+            RequestContextSnapshot requestContext = RequestContextSnapshot.capture();
+            for (int i = 1; i < parallelism; i++) {
+                futures.add(WorkerPoolHolder.POOL.submit(() -> requestContext.run(worker)));
+            }
+        }
+        worker.run();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                worker.stop();
+            } catch (ExecutionException e) {
+                // Operation failures are captured in the results, so this is not expected.
+                LOG.error("Error while executing the operations of a bulk request.", e.getCause());
+            }
+        }
+
+        BulkResponse bulkResponse = new BulkResponse();
+        for (BulkOperationResponse result : results) {
+            if (result != null) {
+                bulkResponse.getOperations().add(result);
+            }
+        }
+        return bulkResponse;
+    }
+
+    private List<BulkOperation> validate(BulkRequest bulkRequest) {
+
+        if (bulkRequest == null || bulkRequest.getOperations() == null || bulkRequest.getOperations().isEmpty()) {
+            throw buildError(Response.Status.BAD_REQUEST, Constants.ErrorMessages.ERROR_CODE_INVALID_BULK_REQUEST);
+        }
+        List<BulkOperation> operations = bulkRequest.getOperations();
+        if (operations.size() > MAX_OPERATIONS) {
+            throw buildError(Response.Status.REQUEST_ENTITY_TOO_LARGE,
+                    Constants.ErrorMessages.ERROR_CODE_TOO_MANY_BULK_OPERATIONS, operations.size(), MAX_OPERATIONS);
+        }
+        for (BulkOperation operation : operations) {
+            if (operation == null || StringUtils.isBlank(operation.getMethod())
+                    || StringUtils.isBlank(operation.getPath())) {
+                throw buildError(Response.Status.BAD_REQUEST,
+                        Constants.ErrorMessages.ERROR_CODE_INVALID_BULK_REQUEST);
+            }
+        }
+        return operations;
+    }
+
+    private BulkOperationResponse executeOperation(BulkOperation operation) {
+
+        BulkOperationResponse result = new BulkOperationResponse();
+        result.setMethod(operation.getMethod());
+        result.setPath(operation.getPath());
+        result.setBulkId(operation.getBulkId());
+        try {
+            BulkOperationRouter.BoundHandler handler = router.match(operation);
+            if (handler == null) {
+                throw buildError(Response.Status.NOT_FOUND,
+                        Constants.ErrorMessages.ERROR_CODE_UNSUPPORTED_BULK_OPERATION, operation.getMethod(),
+                        operation.getPath());
+            }
+            Response response = handler.handle();
+            result.setStatus(response.getStatus());
+            if (response.getLocation() != null) {
+                result.setLocation(response.getLocation().toString());
+            }
+            result.setResponse(response.getEntity());
+        } catch (APIError e) {
+            result.setStatus(e.getStatus().getStatusCode());
+            result.setResponse(e.getResponseEntity());
+        } catch (WebApplicationException e) {
+            result.setStatus(e.getResponse().getStatus());
+            result.setResponse(e.getResponse().getEntity());
+        } catch (RuntimeException e) {
+            Constants.ErrorMessages error = Constants.ErrorMessages.ERROR_CODE_ERROR_EXECUTING_BULK_OPERATION;
+            String description = String.format(error.getDescription(), operation.getMethod(), operation.getPath());
+            result.setStatus(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+            result.setResponse(new ErrorResponse.Builder()
+                    .withCode(error.getCode())
+                    .withMessage(error.getMessage())
+                    .withDescription(description)
+                    .build(LOG, e, description));
+        }
+        return result;
+    }
+
+    static APIError buildError(Response.Status status, Constants.ErrorMessages error, Object... data) {
+
+        String description = data.length > 0 ? String.format(error.getDescription(), data) : error.getDescription();
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(description)
+                .build(LOG, description);
+        return new APIError(status, errorResponse);
+    }
+
+    /**
+     * Takes operations of a bulk request one at a time until all of them are started, or too many have failed.
+     */
+    private class Worker implements Runnable {
+
+        private final List<BulkOperation> operations;
+        private final BulkOperationResponse[] results;
+        private final int failOnErrors;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+        private volatile boolean stopped;
+
+        private Worker(List<BulkOperation> operations, BulkOperationResponse[] results, int failOnErrors) {
+
+            this.operations = operations;
+            this.results = results;
+            this.failOnErrors = failOnErrors;
+        }
+
+        @Override
+        public void run() {
+
+            while (!stopped && errors.get() < failOnErrors) {
+                int index = next.getAndIncrement();
+                if (index >= operations.size()) {
+                    return;
+                }
+                BulkOperationResponse result = executeOperation(operations.get(index));
+                results[index] = result;
+                if (result.getStatus() >= Response.Status.BAD_REQUEST.getStatusCode()) {
+                    errors.incrementAndGet();
+                }
+            }
+        }
+
+        private void stop() {
+
+            stopped = true;
+        }
+    }
+
+    /**
+     * Lazily created pool shared by the bulk and multi-get requests of all the APIs.
+     */
+    static class WorkerPoolHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        static final ExecutorService POOL = Executors.newFixedThreadPool(
+                Math.max(1, Integer.getInteger(THREADS_PROPERTY, 16)), runnable -> {
+                    Thread thread = new Thread(runnable, "server-api-bulk-worker-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of a bulk request, with the result of each executed operation in the order of the request.
+ */
+@ApiModel(description = "Bulk response.")
+public class BulkResponse {
+
+    private List<BulkOperationResponse> operations = new ArrayList<>();
+
+    /**
+     * Results of the executed operations.
+     **/
+    @ApiModelProperty(value = "Results of the executed operations.")
+    @JsonProperty("operations")
+    public List<BulkOperationResponse> getOperations() {
+
+        return operations;
+    }
+
+    public void setOperations(List<BulkOperationResponse> operations) {
+
+        this.operations = operations;
+    }
+}
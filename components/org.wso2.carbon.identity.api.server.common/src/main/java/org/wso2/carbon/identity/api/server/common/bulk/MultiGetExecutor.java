@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.async.RequestContextSnapshot;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+/**
+ * Resolves the IDs of a multi-get request to resources. Multi-get requests are GET requests which give the IDs in the
+ * 'ids' query parameter, either comma separated or as repeated parameters, so they are authorized as reads. Each ID is
+ * answered with the resource, or with the status and error it would have been answered with in a single-resource
+ * request, such as a 404 for an ID which does not exist, so a missing ID does not fail the whole request. Duplicate IDs
+ * are resolved once, and the results are returned in the order of the request.
+ *
+ * APIs which can fetch all the requested resources in one backend call resolve the IDs against the fetched resources
+ * with {@link #resolve(List, Function)}. The others fetch each resource separately with
+ * {@link #resolveInParallel(List, Function)}, using the 'identity.server.api.bulk.parallelism' workers of bulk
+ * requests. Since the IDs are part of the URL, requests with more than 'identity.server.api.multiGet.maxIds' IDs are
+ * rejected. Default 100.
+ */
+public final class MultiGetExecutor {
+
+    private static final Log LOG = LogFactory.getLog(MultiGetExecutor.class);
+    private static final char ID_SEPARATOR = ',';
+    private static final int MAX_IDS = Integer.getInteger("identity.server.api.multiGet.maxIds", 100);
+
+    private MultiGetExecutor() {
+
+    }
+
+    /**
+     * Resolve the IDs of a multi-get request on the request thread.
+     *
+     * @param requestedIds Values of the ids query parameter.
+     * @param loader       Retrieves the resource of an ID, throwing an {@link APIError} if it cannot be retrieved.
+     * @return Result of each requested ID.
+     * @throws APIError If the multi-get request is invalid.
+     */
+    public static MultiGetResponse resolve(List<String> requestedIds, Function<String, ?> loader) {
+
+        List<String> ids = validate(requestedIds);
+        MultiGetResponse response = new MultiGetResponse();
+        for (String id : ids) {
+            response.getResources().add(load(id, loader));
+        }
+        return response;
+    }
+
+    /**
+     * Resolve the IDs of a multi-get request with bounded concurrency, in the tenant, user and correlation context of
+     * the request.
+     *
+     * @param requestedIds Values of the ids query parameter.
+     * @param loader       Retrieves the resource of an ID, throwing an {@link APIError} if it cannot be retrieved.
+     * @return Result of each requested ID.
+     * @throws APIError If the multi-get request is invalid.
+     */
+    public static MultiGetResponse resolveInParallel(List<String> requestedIds, Function<String, ?> loader) {
+
+        List<String> ids = validate(requestedIds);
+        MultiGetResult[] results = new MultiGetResult[ids.size()];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < ids.size()) {
+                results[index] = load(ids.get(index), loader);
+            }
+        };
+
+        int parallelism = Math.min(BulkRequestExecutor.PARALLELISM, ids.size());
+        List<Future<?>> futures = new ArrayList<>(parallelism - 1);
+        if (parallelism > 1) {
+            RequestContextSnapshot requestContext = RequestContextSnapshot.capture();
+            for (int i = 1; i < parallelism; i++) {
+                futures.add(BulkRequestExecutor.WorkerPoolHolder.POOL.submit(() -> requestContext.run(worker)));
+            }
+        }
+        worker.run();
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                next.set(ids.size());
+            } catch (ExecutionException e) {
+                // Retrieval failures are captured in the results, so this is not expected.
+                LOG.error("Error while resolving the IDs of a multi-get request.", e.getCause());
+            }
+        }
+
+        MultiGetResponse response = new MultiGetResponse();
+        for (MultiGetResult result : results) {
+            if (result != null) {
+                response.getResources().add(result);
+            }
+        }
+        return response;
+    }
+
+    private static List<String> validate(List<String> requestedIds) {
+
+        if (requestedIds == null || requestedIds.isEmpty()) {
+            throw BulkRequestExecutor.buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_INVALID_MULTI_GET_REQUEST);
+        }
+        LinkedHashSet<String> ids = new LinkedHashSet<>();
+        for (String value : requestedIds) {
+            // IDs may be given comma separated, as repeated parameters or both.
+            for (String id : StringUtils.splitPreserveAllTokens(StringUtils.defaultString(value), ID_SEPARATOR)) {
+                if (StringUtils.isBlank(id)) {
+                    throw BulkRequestExecutor.buildError(Response.Status.BAD_REQUEST,
+                            Constants.ErrorMessages.ERROR_CODE_INVALID_MULTI_GET_REQUEST);
+                }
+                ids.add(id.trim());
+            }
+        }
+        if (ids.isEmpty()) {
+            throw BulkRequestExecutor.buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_INVALID_MULTI_GET_REQUEST);
+        }
+        if (ids.size() > MAX_IDS) {
+            throw BulkRequestExecutor.buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_TOO_MANY_MULTI_GET_IDS, ids.size(), MAX_IDS);
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private static MultiGetResult load(String id, Function<String, ?> loader) {
+
+        MultiGetResult result = new MultiGetResult();
+        result.setId(id);
+        try {
+            result.setResource(loader.apply(id));
+            result.setStatus(Response.Status.OK.getStatusCode());
+        } catch (APIError e) {
+            result.setStatus(e.getStatus().getStatusCode());
+            result.setError(e.getResponseEntity());
+        } catch (WebApplicationException e) {
+            result.setStatus(e.getResponse().getStatus());
+            result.setError(e.getResponse().getEntity());
+        } catch (RuntimeException e) {
+            Constants.ErrorMessages error = Constants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_MULTI_GET_RESOURCE;
+            String description = String.format(error.getDescription(), id);
+            result.setStatus(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+            result.setError(new ErrorResponse.Builder()
+                    .withCode(error.getCode())
+                    .withMessage(error.getMessage())
+                    .withDescription(description)
+                    .build(LOG, e, description));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.bulk;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+/**
+ * Result of a single ID of a multi-get request. Either the resource or the error is set.
+ */
+@ApiModel(description = "Result of an ID of a multi-get request.")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MultiGetResult {
+
+    private String id;
+    private Integer status;
+    private Object resource;
+    private Object error;
+
+    /**
+     * Requested ID.
+     **/
+    @ApiModelProperty(value = "Requested ID.")
+    @JsonProperty("id")
+    public String getId() {
+
+        return id;
+    }
+
+    public void setId(String id) {
+
+        this.id = id;
+    }
+
+    /**
+     * HTTP status code the ID would have been answered with in a single-resource request.
+     **/
+    @ApiModelProperty(value = "HTTP status code the ID would have been answered with in a single-resource request.")
+    @JsonProperty("status")
+    public Integer getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+
+        this.status = status;
+    }
+
+    /**
+     * Retrieved resource.
+     **/
+    @ApiModelProperty(value = "Retrieved resource.")
+    @JsonProperty("resource")
+    public Object getResource() {
+
+        return resource;
+    }
+
+    public void setResource(Object resource) {
+
+        this.resource = resource;
+    }
+
+    /**
+     * Error of an ID which could not be retrieved, such as an ID which does not exist.
+     **/
+    @ApiModelProperty(value = "Error of an ID which could not be retrieved, such as an ID which does not exist.")
+    @JsonProperty("error")
+    public Object getError() {
+
+        return error;
+    }
+
+    public void setError(Object error) {
+
+        this.error = error;
+    }
+}
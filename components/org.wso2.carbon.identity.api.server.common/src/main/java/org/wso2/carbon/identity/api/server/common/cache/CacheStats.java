@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+/**
+ * Point in time statistics of a {@link ResponseCache}.
+ */
+class CacheStats {
+
+    private final int size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long rejections;
+
+    CacheStats(int size, long hits, long misses, long evictions, long rejections) {
+
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.rejections = rejections;
+    }
+
+    int getSize() {
+
+        return size;
+    }
+
+    long getHits() {
+
+        return hits;
+    }
+
+    long getMisses() {
+
+        return misses;
+    }
+
+    long getEvictions() {
+
+        return evictions;
+    }
+
+    long getRejections() {
+
+        return rejections;
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.async.SingleFlight;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, tenant partitioned read-through cache of server API read results.
+ *
+ * Entries are keyed by the tenant domain and the organization id of the request together with the query. They expire
+ * after a time to live, and are evicted by the write methods of the owning service through
+ * {@link #invalidateTenant()} when the resources of a tenant change. When the cache is full, a new entry is admitted
+ * only if it has been read more often recently than the least recently read of a sample of the entries it would
+ * evict, as in TinyLFU, so a burst of one-off reads does not flush the frequently read entries. Concurrent misses of
+ * the same key share a single load.
+ *
+ * Reads do not take a lock. The read frequencies are recorded only when the frequency sketch is not being updated by
+ * another thread, so under contention the admission decisions are made on a sample of the reads.
+ *
+ * Each cache is configured with the following system properties, where the name specific property takes precedence.
+ * <ul>
+ * <li>identity.server.api.cache.[name.]ttlSeconds: Time to live of the entries. Default 0, which disables the cache,
+ * unless the cache is created with a different default.</li>
+ * <li>identity.server.api.cache.[name.]maxEntries: Maximum number of entries across all the tenants. Default
+ * 1000.</li>
+ * </ul>
+ * The cache is local to the node. Writes made outside of the server APIs, or on other nodes of a cluster, are seen
+ * only once the entries expire, hence enable it only where reads that are stale by up to the time to live are
+ * acceptable. Since the cached results are shared between the requests, callers must not modify them.
+ *
+ * @param <V> Type of the cached results.
+ */
+public class ResponseCache<V> {
+
+    private static final String PROPERTY_PREFIX = "identity.server.api.cache.";
+    private static final String TTL_PROPERTY = "ttlSeconds";
+    private static final String MAX_ENTRIES_PROPERTY = "maxEntries";
+    private static final long DEFAULT_TTL_SECONDS = 0;
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final String name;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final SingleFlight<V> loads;
+    private final FrequencySketch sketch;
+    private final ReentrantLock sketchLock = new ReentrantLock();
+    private final ConcurrentMap<CacheKey, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> tenantGenerations = new ConcurrentHashMap<>();
+    private volatile long globalGeneration;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long evictions;
+    private long rejections;
+
+    /**
+     * Create a cache, which is disabled unless its time to live is configured, and register it for monitoring.
+     *
+     * @param name Name of the cache, used in its configuration properties and metrics. E.g. idps
+     */
+    public ResponseCache(String name) {
+
+        this(name, DEFAULT_TTL_SECONDS);
+    }
+
+    /**
+     * Create a cache with a default time to live and register it for monitoring. A non zero default is meant for the
+     * caches whose keys change with the cached data, such as the caches keyed by a version of the data, where the
+     * node local entries cannot go stale.
+     *
+     * @param name              Name of the cache, used in its configuration properties and metrics. E.g. idps
+     * @param defaultTtlSeconds Time to live of the entries when not configured.
+     */
+    public ResponseCache(String name, long defaultTtlSeconds) {
+
+        this(name, getLongProperty(name, TTL_PROPERTY, defaultTtlSeconds),
+                (int) Math.min(Integer.MAX_VALUE, getLongProperty(name, MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES)));
+    }
+
+    ResponseCache(String name, long ttlSeconds, int maxEntries) {
+
+        this.name = name;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        this.maxEntries = Math.max(1, maxEntries);
+        this.loads = new SingleFlight<>("cache." + name);
+        this.sketch = new FrequencySketch(this.maxEntries);
+        ResponseCacheRegistry.getInstance().register(this);
+    }
+
+    /**
+     * Get the cached result of a read in the current tenant, or load and cache it.
+     *
+     * @param loader Backend computation of the read.
+     * @param query  Values identifying the read. E.g. the operation and its parameters.
+     * @param <E>    Type of the exception thrown by the loader.
+     * @return Result of the read.
+     * @throws E If the loader failed.
+     */
+    public <E extends Exception> V get(SingleFlight.Computation<V, E> loader, Object... query) throws E {
+
+        if (ttlNanos == 0) {
+            return loader.compute();
+        }
+        CacheKey key = new CacheKey(getTenantDomain(), getOrganizationId(), buildQuery(query));
+        recordRead(key);
+        CacheEntry<V> entry = entries.get(key);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (entry.expiresAt - now > 0) {
+                entry.lastReadAt = now;
+                hits.increment();
+                return entry.value;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        long generation = getGeneration(key.tenantDomain);
+        // The generation is a part of the load key, so a read made after a write of the tenant never shares the
+        // result of a load which started before the write.
+        Object[] loadKey = new Object[query.length + 1];
+        loadKey[0] = generation;
+        System.arraycopy(query, 0, loadKey, 1, query.length);
+        V value = loads.execute(loader, loadKey);
+        if (value != null) {
+            synchronized (this) {
+                // Skip caching a result that may have been loaded before a write of the tenant.
+                if (generation == getGeneration(key.tenantDomain)) {
+                    put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Evict all the entries of the current tenant, in all of its organizations. To be called by the write methods of
+     * the owning service.
+     */
+    public void invalidateTenant() {
+
+        if (ttlNanos == 0) {
+            return;
+        }
+        String tenantDomain = getTenantDomain();
+        synchronized (this) {
+            tenantGenerations.merge(tenantDomain, 1L, Long::sum);
+            entries.keySet().removeIf(key -> key.tenantDomain.equals(tenantDomain));
+        }
+    }
+
+    /**
+     * Evict all the entries of all the tenants.
+     */
+    public synchronized void invalidateAll() {
+
+        globalGeneration++;
+        entries.clear();
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    synchronized CacheStats getStats() {
+
+        return new CacheStats(entries.size(), hits.sum(), misses.sum(), evictions, rejections);
+    }
+
+    private void recordRead(CacheKey key) {
+
+        // A read which finds the sketch busy is not counted, rather than waiting for it.
+        if (sketchLock.tryLock()) {
+            try {
+                sketch.increment(key);
+            } finally {
+                sketchLock.unlock();
+            }
+        }
+    }
+
+    private int getFrequency(CacheKey key) {
+
+        sketchLock.lock();
+        try {
+            return sketch.frequency(key);
+        } finally {
+            sketchLock.unlock();
+        }
+    }
+
+    private void put(CacheKey key, V value) {
+
+        if (!entries.containsKey(key) && entries.size() >= maxEntries && !makeRoomFor(key)) {
+            rejections++;
+            return;
+        }
+        long now = System.nanoTime();
+        entries.put(key, new CacheEntry<>(value, now + ttlNanos, now));
+    }
+
+    private boolean makeRoomFor(CacheKey candidate) {
+
+        long now = System.nanoTime();
+        Map.Entry<CacheKey, CacheEntry<V>> victim = null;
+        Iterator<Map.Entry<CacheKey, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<CacheKey, CacheEntry<V>> sampled = iterator.next();
+            if (sampled.getValue().expiresAt - now <= 0) {
+                victim = sampled;
+                break;
+            }
+            if (victim == null || sampled.getValue().lastReadAt - victim.getValue().lastReadAt < 0) {
+                victim = sampled;
+            }
+        }
+        if (victim == null) {
+            return true;
+        }
+        boolean expired = victim.getValue().expiresAt - now <= 0;
+        if (!expired && getFrequency(candidate) <= getFrequency(victim.getKey())) {
+            return false;
+        }
+        entries.remove(victim.getKey(), victim.getValue());
+        evictions++;
+        return true;
+    }
+
+    private long getGeneration(String tenantDomain) {
+
+        // Both the counters only increase, so their sum changes whenever either of them changes.
+        Long generation = tenantGenerations.get(tenantDomain);
+        return globalGeneration + (generation == null ? 0 : generation);
+    }
+
+    private static String getTenantDomain() {
+
+        return StringUtils.defaultString(ContextLoader.getTenantDomainFromContext());
+    }
+
+    private static String getOrganizationId() {
+
+        return StringUtils.defaultString(ContextLoader.getOrganizationIdFromContext());
+    }
+
+    private static String buildQuery(Object... query) {
+
+        StringBuilder builder = new StringBuilder();
+        for (Object part : query) {
+            builder.append(KEY_SEPARATOR);
+            if (part != null) {
+                builder.append(StringUtils.trimToEmpty(part.toString()));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static long getLongProperty(String name, String property, long defaultValue) {
+
+        return Long.getLong(PROPERTY_PREFIX + name + "." + property,
+                Long.getLong(PROPERTY_PREFIX + property, defaultValue));
+    }
+
+    /**
+     * Key of a cached read.
+     */
+    private static final class CacheKey {
+
+        private final String tenantDomain;
+        private final String organizationId;
+        private final String query;
+        private final int hash;
+
+        private CacheKey(String tenantDomain, String organizationId, String query) {
+
+            this.tenantDomain = tenantDomain;
+            this.organizationId = organizationId;
+            this.query = query;
+            this.hash = Objects.hash(tenantDomain, organizationId, query);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return tenantDomain.equals(that.tenantDomain) && organizationId.equals(that.organizationId) &&
+                    query.equals(that.query);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hash;
+        }
+    }
+
+    /**
+     * Cached result, its expiry time and the time it was last read.
+     *
+     * @param <V> Type of the result.
+     */
+    private static final class CacheEntry<V> {
+
+        private final V value;
+        private final long expiresAt;
+        private volatile long lastReadAt;
+
+        private CacheEntry(V value, long expiresAt, long lastReadAt) {
+
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastReadAt = lastReadAt;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the server API response caches, exposing their hit and miss statistics through the
+ * {@value #OBJECT_NAME} MBean.
+ */
+public class ResponseCacheRegistry implements ResponseCacheRegistryMBean {
+
+    public static final String OBJECT_NAME = "org.wso2.carbon.identity.api.server:type=ResponseCaches";
+
+    private static final Log LOG = LogFactory.getLog(ResponseCacheRegistry.class);
+    private static final ResponseCacheRegistry INSTANCE = new ResponseCacheRegistry();
+
+    private static final String METRIC_PREFIX = "identity_server_api_cache_";
+
+    private final List<ResponseCache<?>> caches = new CopyOnWriteArrayList<>();
+    private volatile boolean registered;
+
+    private ResponseCacheRegistry() {
+
+    }
+
+    public static ResponseCacheRegistry getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Add a cache to the registry, and register the registry in the platform MBean server if not registered already.
+     *
+     * @param cache Response cache.
+     */
+    void register(ResponseCache<?> cache) {
+
+        caches.add(cache);
+        registerMBean();
+    }
+
+    @Override
+    public long getHitCount() {
+
+        long hits = 0;
+        for (ResponseCache<?> cache : caches) {
+            hits += cache.getStats().getHits();
+        }
+        return hits;
+    }
+
+    @Override
+    public long getMissCount() {
+
+        long misses = 0;
+        for (ResponseCache<?> cache : caches) {
+            misses += cache.getStats().getMisses();
+        }
+        return misses;
+    }
+
+    @Override
+    public String scrape() {
+
+        StringBuilder builder = new StringBuilder();
+        appendHeader(builder, "hits_total", "counter");
+        appendHeader(builder, "misses_total", "counter");
+        appendHeader(builder, "evictions_total", "counter");
+        appendHeader(builder, "rejections_total", "counter");
+        appendHeader(builder, "entries", "gauge");
+        for (ResponseCache<?> cache : caches) {
+            CacheStats stats = cache.getStats();
+            String labels = "{cache=\"" + cache.getName() + "\"} ";
+            builder.append(METRIC_PREFIX).append("hits_total").append(labels).append(stats.getHits()).append('\n');
+            builder.append(METRIC_PREFIX).append("misses_total").append(labels).append(stats.getMisses())
+                    .append('\n');
+            builder.append(METRIC_PREFIX).append("evictions_total").append(labels).append(stats.getEvictions())
+                    .append('\n');
+            builder.append(METRIC_PREFIX).append("rejections_total").append(labels).append(stats.getRejections())
+                    .append('\n');
+            builder.append(METRIC_PREFIX).append("entries").append(labels).append(stats.getSize()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void invalidateAll() {
+
+        for (ResponseCache<?> cache : caches) {
+            cache.invalidateAll();
+        }
+    }
+
+    private synchronized void registerMBean() {
+
+        if (registered) {
+            return;
+        }
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+            registered = true;
+        } catch (JMException e) {
+            LOG.warn("Error while registering the server API response cache MBean.", e);
+        }
+    }
+
+    private static void appendHeader(StringBuilder builder, String metric, String type) {
+
+        builder.append("# TYPE ").append(METRIC_PREFIX).append(metric).append(' ').append(type).append('\n');
+    }
+}
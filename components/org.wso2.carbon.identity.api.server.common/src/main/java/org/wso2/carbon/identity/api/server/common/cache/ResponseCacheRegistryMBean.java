@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+/**
+ * JMX view of the server API response caches.
+ */
+public interface ResponseCacheRegistryMBean {
+
+    /**
+     * Get the total number of reads served from the caches.
+     *
+     * @return Hit count across all the caches.
+     */
+    long getHitCount();
+
+    /**
+     * Get the total number of reads which were not served from the caches.
+     *
+     * @return Miss count across all the caches.
+     */
+    long getMissCount();
+
+    /**
+     * Render the cache statistics in the Prometheus text exposition format.
+     *
+     * @return Cache statistics in Prometheus text format.
+     */
+    String scrape();
+
+    /**
+     * Evict all the entries of all the caches.
+     */
+    void invalidateAll();
+}
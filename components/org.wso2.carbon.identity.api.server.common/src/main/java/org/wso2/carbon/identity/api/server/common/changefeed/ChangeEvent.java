@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.changefeed;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+/**
+ * Change of a configuration resource of a tenant, as published on the {@link ChangeFeed}.
+ */
+@ApiModel(description = "Change of a configuration resource.")
+public class ChangeEvent {
+
+    private final long sequence;
+    private final String version;
+    private final String tenantDomain;
+    private final ResourceType resourceType;
+    private final String resourceId;
+    private final Operation operation;
+    private final long timestamp;
+
+    ChangeEvent(long sequence, String version, String tenantDomain, ResourceType resourceType, String resourceId,
+                Operation operation, long timestamp) {
+
+        this.sequence = sequence;
+        this.version = version;
+        this.tenantDomain = tenantDomain;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.operation = operation;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Version of the change, made of the epoch of the node which published it and a counter, as in
+     * {@code <epoch>.<counter>}.
+     **/
+    @ApiModelProperty(value = "Version of the change, made of the epoch of the node which published it and a " +
+            "counter, as in <epoch>.<counter>. Versions are opaque to clients.")
+    @JsonProperty("version")
+    public String getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Position of the change in the feed of the node which published it.
+     *
+     * @return Counter of the version.
+     */
+    long getSequence() {
+
+        return sequence;
+    }
+
+    /**
+     * Tenant domain of the changed resource.
+     **/
+    @ApiModelProperty(value = "Tenant domain of the changed resource.")
+    @JsonProperty("tenant")
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Type of the changed resource.
+     **/
+    @ApiModelProperty(value = "Type of the changed resource.")
+    @JsonProperty("resourceType")
+    public ResourceType getResourceType() {
+
+        return resourceType;
+    }
+
+    /**
+     * ID of the changed resource, as used in the paths of its API.
+     **/
+    @ApiModelProperty(value = "ID of the changed resource, as used in the paths of its API.")
+    @JsonProperty("resourceId")
+    public String getResourceId() {
+
+        return resourceId;
+    }
+
+    /**
+     * Operation which changed the resource.
+     **/
+    @ApiModelProperty(value = "Operation which changed the resource.")
+    @JsonProperty("operation")
+    public Operation getOperation() {
+
+        return operation;
+    }
+
+    /**
+     * Time of the change, in milliseconds since the epoch.
+     **/
+    @ApiModelProperty(value = "Time of the change, in milliseconds since the epoch.")
+    @JsonProperty("timestamp")
+    public long getTimestamp() {
+
+        return timestamp;
+    }
+
+    /**
+     * Types of the resources whose changes are published.
+     */
+    public enum ResourceType {
+
+        IDENTITY_PROVIDER("identity-provider"),
+        APPLICATION("application"),
+        CLAIM_DIALECT("claim-dialect"),
+        LOCAL_CLAIM("local-claim"),
+        EXTERNAL_CLAIM("external-claim"),
+        USERSTORE("userstore"),
+        BRANDING_PREFERENCE("branding-preference"),
+        GOVERNANCE_CONNECTOR("governance-connector");
+
+        private final String value;
+
+        ResourceType(String value) {
+
+            this.value = value;
+        }
+
+        @JsonValue
+        public String getValue() {
+
+            return value;
+        }
+
+        /**
+         * Get the resource type of a value.
+         *
+         * @param value Value of the resource type. E.g. identity-provider
+         * @return Resource type, or null if there is no such type.
+         */
+        public static ResourceType fromValue(String value) {
+
+            for (ResourceType type : values()) {
+                if (type.value.equals(value)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Operations which change resources.
+     */
+    public enum Operation {
+
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.changefeed;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes of the resources of a tenant after a given version.
+ */
+@ApiModel(description = "Changes of the resources of a tenant after a given version.")
+public class ChangeEventList {
+
+    private List<ChangeEvent> events = new ArrayList<>();
+    private String version;
+    private boolean reset;
+
+    /**
+     * Changes, in the order of their versions.
+     **/
+    @ApiModelProperty(value = "Changes, in the order of their versions.")
+    @JsonProperty("events")
+    public List<ChangeEvent> getEvents() {
+
+        return events;
+    }
+
+    public void setEvents(List<ChangeEvent> events) {
+
+        this.events = events;
+    }
+
+    /**
+     * Version to request the next changes after.
+     **/
+    @ApiModelProperty(value = "Version to request the next changes after.")
+    @JsonProperty("version")
+    public String getVersion() {
+
+        return version;
+    }
+
+    public void setVersion(String version) {
+
+        this.version = version;
+    }
+
+    /**
+     * Whether some of the changes after the requested version are no longer retained, or the requested version was
+     * not issued by this server since it started, in which case the client must reload the resources it keeps instead
+     * of applying the events.
+     **/
+    @ApiModelProperty(value = "Whether some of the changes after the requested version are no longer retained, or " +
+            "the requested version was not issued by this server since it started, in which case the client must " +
+            "reload the resources it keeps instead of applying the events.")
+    @JsonProperty("reset")
+    public boolean isReset() {
+
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+
+        this.reset = reset;
+    }
+}
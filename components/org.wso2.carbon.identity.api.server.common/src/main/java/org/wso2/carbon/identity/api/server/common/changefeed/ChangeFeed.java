@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.changefeed;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+
+/**
+ * Feed of the changes made to the configuration resources of each tenant through the server APIs. The write paths of
+ * the services publish an event per change, and clients which keep copies of the resources long poll the feed for the
+ * changes after the last version they have seen, instead of listing the resources periodically.
+ *
+ * Versions are opaque tokens of the form {@code <epoch>.<counter>}. The epoch is a random ID drawn when the server
+ * starts, and the counter counts the changes published on this node since then. Since a counter is only meaningful
+ * within its epoch, a client which asks for the changes after a version of another epoch, such as a version issued
+ * by another node or before a restart, is told to reload its resources, as is a client which asks for changes older
+ * than the retained events of its tenant. Only the changes made on this node are published, and long polls are
+ * answered as soon as a matching change is published, or with no changes when the wait times out. Waiting requests
+ * are suspended, so they do not hold container threads.
+ *
+ * The feed is configured with the following system properties.
+ * <ul>
+ * <li>identity.server.api.changeFeed.capacity: Number of events retained per tenant. Default 1000.</li>
+ * <li>identity.server.api.changeFeed.maxWaitSeconds: Longest wait of a long poll. Default 60.</li>
+ * <li>identity.server.api.changeFeed.maxWaitersPerTenant: Number of long polls a tenant may have waiting. Default
+ * 100.</li>
+ * </ul>
+ */
+public final class ChangeFeed {
+
+    private static final Log LOG = LogFactory.getLog(ChangeFeed.class);
+    private static final int CAPACITY = Math.max(1, Integer.getInteger("identity.server.api.changeFeed.capacity",
+            1000));
+    private static final int MAX_WAIT_SECONDS = Math.max(0,
+            Integer.getInteger("identity.server.api.changeFeed.maxWaitSeconds", 60));
+    private static final int MAX_WAITERS_PER_TENANT = Math.max(0,
+            Integer.getInteger("identity.server.api.changeFeed.maxWaitersPerTenant", 100));
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+    private static final String TYPE_SEPARATOR = ",";
+    private static final char VERSION_SEPARATOR = '.';
+    private static final ChangeFeed INSTANCE = new ChangeFeed();
+
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    private final AtomicLong sequences = new AtomicLong();
+    private final ConcurrentMap<String, TenantLog> tenantLogs = new ConcurrentHashMap<>();
+
+    private ChangeFeed() {
+
+    }
+
+    public static ChangeFeed getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Publish a change of a resource of the tenant in the context.
+     *
+     * @param resourceType Type of the resource.
+     * @param resourceId   ID of the resource, as used in the paths of its API.
+     * @param operation    Operation which changed the resource.
+     */
+    public void publish(ChangeEvent.ResourceType resourceType, String resourceId, ChangeEvent.Operation operation) {
+
+        String tenantDomain = StringUtils.defaultString(ContextLoader.getTenantDomainFromContext());
+        TenantLog log = getTenantLog(tenantDomain);
+        List<Waiter> resumable = new ArrayList<>();
+        synchronized (log) {
+            long sequence = sequences.incrementAndGet();
+            log.events.addLast(new ChangeEvent(sequence, toVersion(sequence), tenantDomain, resourceType, resourceId,
+                    operation, System.currentTimeMillis()));
+            if (log.events.size() > CAPACITY) {
+                log.evictedSequence = log.events.removeFirst().getSequence();
+            }
+            Iterator<Waiter> waiters = log.waiters.iterator();
+            while (waiters.hasNext()) {
+                Waiter waiter = waiters.next();
+                if (waiter.types.contains(resourceType)) {
+                    waiters.remove();
+                    waiter.changes = getChanges(log, waiter.since, waiter.types, waiter.limit);
+                    resumable.add(waiter);
+                }
+            }
+        }
+        for (Waiter waiter : resumable) {
+            waiter.asyncResponse.resume(Response.ok().entity(waiter.changes).build());
+        }
+    }
+
+    /**
+     * Answer a long poll for the changes of the tenant in the context. The request is answered at once if there are
+     * changes after the given version, and otherwise when a matching change is published or the wait times out.
+     *
+     * @param asyncResponse Suspended request.
+     * @param since         Version after which the changes are requested. When not given, no changes are returned
+     *                      along with the current version, to start following the feed from.
+     * @param types         Comma separated resource types to return the changes of. All types when not given.
+     * @param limit         Maximum number of changes to return. Default 100, maximum 1000.
+     * @param waitSeconds   Seconds to wait for a change when there are none. Default and maximum 60.
+     */
+    public void awaitChanges(AsyncResponse asyncResponse, String since, String types, Integer limit,
+                             Integer waitSeconds) {
+
+        try {
+            Set<ChangeEvent.ResourceType> resourceTypes = parseTypes(types);
+            int maxEvents = limit == null ? DEFAULT_LIMIT :
+                    Math.max(1, Math.min(requireNonNegative("limit", limit), MAX_LIMIT));
+            int wait = waitSeconds == null ? MAX_WAIT_SECONDS :
+                    Math.min(requireNonNegative("wait", waitSeconds), MAX_WAIT_SECONDS);
+
+            String tenantDomain = StringUtils.defaultString(ContextLoader.getTenantDomainFromContext());
+            TenantLog log = getTenantLog(tenantDomain);
+            synchronized (log) {
+                if (StringUtils.isBlank(since)) {
+                    ChangeEventList changes = new ChangeEventList();
+                    changes.setVersion(toVersion(sequences.get()));
+                    asyncResponse.resume(Response.ok().entity(changes).build());
+                    return;
+                }
+                ChangeEventList changes = getChanges(log, since, resourceTypes, maxEvents);
+                if (!changes.getEvents().isEmpty() || changes.isReset() || wait == 0) {
+                    asyncResponse.resume(Response.ok().entity(changes).build());
+                    return;
+                }
+                if (log.waiters.size() >= MAX_WAITERS_PER_TENANT) {
+                    throw buildError(Response.Status.SERVICE_UNAVAILABLE,
+                            Constants.ErrorMessages.ERROR_CODE_TOO_MANY_CHANGE_FEED_WAITERS);
+                }
+                Waiter waiter = new Waiter(asyncResponse, since, resourceTypes, maxEvents);
+                log.waiters.add(waiter);
+                // Set while holding the log, so that a publish cannot resume the request before the timeout is set.
+                asyncResponse.setTimeoutHandler(response -> {
+                    boolean waiting;
+                    synchronized (log) {
+                        waiting = log.waiters.remove(waiter);
+                    }
+                    if (waiting) {
+                        ChangeEventList noChanges = new ChangeEventList();
+                        noChanges.setVersion(since);
+                        response.resume(Response.ok().entity(noChanges).build());
+                    }
+                });
+                asyncResponse.setTimeout(wait, TimeUnit.SECONDS);
+            }
+        } catch (APIError e) {
+            asyncResponse.resume(e);
+        }
+    }
+
+    private TenantLog getTenantLog(String tenantDomain) {
+
+        TenantLog log = tenantLogs.get(tenantDomain);
+        if (log == null) {
+            log = tenantLogs.computeIfAbsent(tenantDomain, domain -> new TenantLog());
+        }
+        return log;
+    }
+
+    private String toVersion(long sequence) {
+
+        return epoch + VERSION_SEPARATOR + sequence;
+    }
+
+    /**
+     * Get the changes of a tenant after the given version. Must be called while holding the log.
+     *
+     * @param log   Log of the tenant.
+     * @param since Version after which the changes are requested.
+     * @param types Resource types to return the changes of.
+     * @param limit Maximum number of changes to return.
+     * @return Changes after the version, or a reset if the version is not one of the current epoch.
+     */
+    private ChangeEventList getChanges(TenantLog log, String since, Set<ChangeEvent.ResourceType> types, int limit) {
+
+        long currentSequence = sequences.get();
+        long sinceSequence = -1;
+        int separator = since.lastIndexOf(VERSION_SEPARATOR);
+        if (separator > 0 && epoch.equals(since.substring(0, separator))) {
+            try {
+                sinceSequence = Long.parseLong(since.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                sinceSequence = -1;
+            }
+        }
+        if (sinceSequence < 0 || sinceSequence > currentSequence) {
+            // The version was not issued by this server since it started, so its counter cannot be compared.
+            ChangeEventList changes = new ChangeEventList();
+            changes.setVersion(toVersion(currentSequence));
+            changes.setReset(true);
+            return changes;
+        }
+        return log.getChanges(sinceSequence, since, types, limit);
+    }
+
+    private static Set<ChangeEvent.ResourceType> parseTypes(String types) {
+
+        if (StringUtils.isBlank(types)) {
+            return EnumSet.allOf(ChangeEvent.ResourceType.class);
+        }
+        Set<ChangeEvent.ResourceType> resourceTypes = EnumSet.noneOf(ChangeEvent.ResourceType.class);
+        for (String type : StringUtils.split(types, TYPE_SEPARATOR)) {
+            ChangeEvent.ResourceType resourceType = ChangeEvent.ResourceType.fromValue(type.trim());
+            if (resourceType == null) {
+                List<String> supportedTypes = new ArrayList<>();
+                for (ChangeEvent.ResourceType supportedType : ChangeEvent.ResourceType.values()) {
+                    supportedTypes.add(supportedType.getValue());
+                }
+                throw buildError(Response.Status.BAD_REQUEST,
+                        Constants.ErrorMessages.ERROR_CODE_INVALID_CHANGE_FEED_RESOURCE_TYPE, type.trim(),
+                        StringUtils.join(supportedTypes, ", "));
+            }
+            resourceTypes.add(resourceType);
+        }
+        return resourceTypes;
+    }
+
+    private static int requireNonNegative(String name, int value) {
+
+        if (value < 0) {
+            throw buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_INVALID_CHANGE_FEED_PARAMETER, name);
+        }
+        return value;
+    }
+
+    private static APIError buildError(Response.Status status, Constants.ErrorMessages error, Object... data) {
+
+        String description = data.length > 0 ? String.format(error.getDescription(), data) : error.getDescription();
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(description)
+                .build(LOG, description);
+        return new APIError(status, errorResponse);
+    }
+
+    /**
+     * Retained events and waiting long polls of a tenant, guarded by the log itself.
+     */
+    private static class TenantLog {
+
+        private final Deque<ChangeEvent> events = new ArrayDeque<>();
+        private final List<Waiter> waiters = new ArrayList<>();
+        private long evictedSequence;
+
+        private ChangeEventList getChanges(long sinceSequence, String since, Set<ChangeEvent.ResourceType> types,
+                                           int limit) {
+
+            ChangeEventList changes = new ChangeEventList();
+            changes.setVersion(since);
+            if (sinceSequence < evictedSequence) {
+                // Changes after the requested version were evicted.
+                changes.setReset(true);
+            }
+            for (ChangeEvent event : events) {
+                if (event.getSequence() <= sinceSequence) {
+                    continue;
+                }
+                if (changes.getEvents().size() >= limit) {
+                    break;
+                }
+                if (types.contains(event.getResourceType())) {
+                    changes.getEvents().add(event);
+                }
+                changes.setVersion(event.getVersion());
+            }
+            return changes;
+        }
+    }
+
+    /**
+     * Long poll waiting for a change.
+     */
+    private static class Waiter {
+
+        private final AsyncResponse asyncResponse;
+        private final String since;
+        private final Set<ChangeEvent.ResourceType> types;
+        private final int limit;
+        private ChangeEventList changes;
+
+        private Waiter(AsyncResponse asyncResponse, String since, Set<ChangeEvent.ResourceType> types, int limit) {
+
+            this.asyncResponse = asyncResponse;
+            this.since = since;
+            this.types = types;
+            this.limit = limit;
+        }
+    }
+}
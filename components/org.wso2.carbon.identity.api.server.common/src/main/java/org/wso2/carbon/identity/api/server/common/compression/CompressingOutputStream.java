@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.compression;
+
+import org.apache.cxf.message.Message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.core.HttpHeaders;
+
+/**
+ * Output stream of a response which buffers the body until it reaches the compression threshold, and compresses it
+ * from then on. The content coding headers are set on the response before the first byte is written to the
+ * underlying stream, and bodies that end below the threshold, or which are not textual, are written as they are.
+ * When a cache key is given, the compressed body is added to the {@link PrecompressedPayloadCache}.
+ */
+class CompressingOutputStream extends OutputStream {
+
+    private static final String EVENT_STREAM_TYPE = "text/event-stream";
+
+    private final Message message;
+    private final OutputStream target;
+    private final String encoding;
+    private final int threshold;
+    private final String cacheKey;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private DeflaterOutputStream compressor;
+    private CapturingOutputStream capture;
+    private boolean passThrough;
+    private boolean closed;
+
+    CompressingOutputStream(Message message, OutputStream target, String encoding, int threshold, String cacheKey) {
+
+        this.message = message;
+        this.target = target;
+        this.encoding = encoding;
+        this.threshold = threshold;
+        this.cacheKey = cacheKey;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+
+        if (passThrough) {
+            target.write(bytes, offset, length);
+        } else if (compressor != null) {
+            compressor.write(bytes, offset, length);
+        } else {
+            buffer.write(bytes, offset, length);
+            if (buffer.size() >= threshold) {
+                startBody(true);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+        // Buffered bytes are kept until the threshold is reached, so only the streams in use are flushed.
+        if (passThrough) {
+            target.flush();
+        } else if (compressor != null) {
+            compressor.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (compressor == null && !passThrough) {
+                startBody(false);
+            }
+            if (compressor != null) {
+                compressor.finish();
+                if (capture != null && capture.getBytes() != null) {
+                    PrecompressedPayloadCache.getInstance().put(cacheKey, capture.getBytes(),
+                            (String) message.get(Message.CONTENT_TYPE));
+                }
+            }
+        } finally {
+            target.close();
+        }
+    }
+
+    private void startBody(boolean thresholdReached) throws IOException {
+
+        byte[] buffered = buffer.toByteArray();
+        buffer = null;
+        if (!thresholdReached || !isCompressible((String) message.get(Message.CONTENT_TYPE))) {
+            passThrough = true;
+            target.write(buffered);
+            return;
+        }
+
+        setCompressionHeaders();
+        OutputStream sink = target;
+        if (cacheKey != null && PrecompressedPayloadCache.getInstance().isEnabled()) {
+            capture = new CapturingOutputStream(target, PrecompressedPayloadCache.getInstance().getMaxPayloadBytes());
+            sink = capture;
+        }
+        if (ResponseCompressionInterceptor.GZIP.equals(encoding)) {
+            compressor = new GZIPOutputStream(sink, true);
+        } else {
+            compressor = new DeflaterOutputStream(sink, true);
+        }
+        compressor.write(buffered);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setCompressionHeaders() {
+
+        Map<String, List<Object>> headers = (Map<String, List<Object>>) message.get(Message.PROTOCOL_HEADERS);
+        if (headers == null) {
+            headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            message.put(Message.PROTOCOL_HEADERS, headers);
+        }
+        Iterator<String> names = headers.keySet().iterator();
+        while (names.hasNext()) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(names.next())) {
+                names.remove();
+            }
+        }
+        headers.put(HttpHeaders.CONTENT_ENCODING, new ArrayList<>(Collections.singletonList(encoding)));
+        List<Object> vary = null;
+        for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+            if (HttpHeaders.VARY.equalsIgnoreCase(header.getKey())) {
+                vary = header.getValue();
+            }
+        }
+        if (vary == null) {
+            headers.put(HttpHeaders.VARY, new ArrayList<>(Collections.singletonList(HttpHeaders.ACCEPT_ENCODING)));
+        } else {
+            vary.add(HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    /**
+     * Only textual bodies are compressed. Event streams are excluded, since their events must reach the client as
+     * they are written.
+     *
+     * @param contentType Content type of the response.
+     * @return True if the body is worth compressing.
+     */
+    private static boolean isCompressible(String contentType) {
+
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ENGLISH);
+        if (type.startsWith(EVENT_STREAM_TYPE)) {
+            return false;
+        }
+        return type.startsWith("text/") || type.startsWith("application/json") ||
+                type.startsWith("application/xml") || type.contains("+json") || type.contains("+xml");
+    }
+
+    /**
+     * Passes the compressed body through to the response while keeping a copy of it, unless it grows beyond the
+     * largest payload the cache keeps.
+     */
+    private static class CapturingOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private final int maxBytes;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        CapturingOutputStream(OutputStream target, int maxBytes) {
+
+            this.target = target;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+
+            target.write(bytes, offset, length);
+            if (copy != null) {
+                if (copy.size() + length > maxBytes) {
+                    copy = null;
+                } else {
+                    copy.write(bytes, offset, length);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+
+            target.flush();
+        }
+
+        @Override
+        public void close() {
+
+            // The underlying stream is closed by the compressing stream.
+        }
+
+        byte[] getBytes() {
+
+            return copy == null ? null : copy.toByteArray();
+        }
+    }
+}
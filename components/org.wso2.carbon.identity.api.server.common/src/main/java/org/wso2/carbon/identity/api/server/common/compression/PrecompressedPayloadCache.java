@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.compression;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of compressed response bodies, keyed by the content coding, the request URI, the accepted media types
+ * and the entity tag of the response. The accepted media types are part of the key since the same entity may be
+ * represented in more than one format. Since the entity tag changes whenever the entity does, an entry never goes
+ * stale, and the least recently used entries are evicted when the cache is full.
+ *
+ * The cache is configured with the following system properties.
+ * <ul>
+ * <li>identity.server.api.compression.precompressed.maxEntries: Maximum number of entries. Default 256. 0 disables
+ * the cache.</li>
+ * <li>identity.server.api.compression.precompressed.maxPayloadBytes: Largest compressed body that is kept. Default
+ * 1048576.</li>
+ * </ul>
+ */
+final class PrecompressedPayloadCache {
+
+    private static final PrecompressedPayloadCache INSTANCE = new PrecompressedPayloadCache(
+            Math.max(0, Integer.getInteger("identity.server.api.compression.precompressed.maxEntries", 256)),
+            Math.max(0, Integer.getInteger("identity.server.api.compression.precompressed.maxPayloadBytes",
+                    1024 * 1024)));
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final int maxEntries;
+    private final int maxPayloadBytes;
+    private final Map<String, Payload> payloads;
+
+    private PrecompressedPayloadCache(int maxEntries, int maxPayloadBytes) {
+
+        this.maxEntries = maxEntries;
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.payloads = new LinkedHashMap<String, Payload>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Payload> eldest) {
+
+                return size() > PrecompressedPayloadCache.this.maxEntries;
+            }
+        };
+    }
+
+    static PrecompressedPayloadCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    static String key(String encoding, String requestUri, String accept, String entityTag) {
+
+        return encoding + KEY_SEPARATOR + requestUri + KEY_SEPARATOR + accept + KEY_SEPARATOR + entityTag;
+    }
+
+    boolean isEnabled() {
+
+        return maxEntries > 0 && maxPayloadBytes > 0;
+    }
+
+    int getMaxPayloadBytes() {
+
+        return maxPayloadBytes;
+    }
+
+    synchronized Payload get(String key) {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        return payloads.get(key);
+    }
+
+    synchronized void put(String key, byte[] bytes, String contentType) {
+
+        if (isEnabled() && contentType != null && bytes.length <= maxPayloadBytes) {
+            payloads.put(key, new Payload(bytes, contentType));
+        }
+    }
+
+    /**
+     * Compressed body of a response along with its content type.
+     */
+    static final class Payload {
+
+        private final byte[] bytes;
+        private final String contentType;
+
+        private Payload(byte[] bytes, String contentType) {
+
+            this.bytes = bytes;
+            this.contentType = contentType;
+        }
+
+        byte[] getBytes() {
+
+            return bytes;
+        }
+
+        String getContentType() {
+
+            return contentType;
+        }
+    }
+}
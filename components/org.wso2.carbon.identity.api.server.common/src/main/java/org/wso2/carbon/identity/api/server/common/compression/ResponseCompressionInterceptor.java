@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.compression;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.jaxrs.interceptor.JAXRSOutInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageContentsList;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.wso2.carbon.identity.api.server.common.etag.ConditionalGetInterceptor;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+/**
+ * Compresses the response bodies with the content coding the client prefers among gzip and deflate.
+ *
+ * Bodies are buffered until they reach the compression threshold, so small responses are sent as they are. The
+ * compressed bodies of OK responses to GET requests which are tagged before they are written, such as the responses
+ * built with {@link org.wso2.carbon.identity.api.server.common.etag.EntityTagHelper#okStatic(Object)}, are kept in a
+ * {@link PrecompressedPayloadCache}. So responses which rarely change, such as the application metadata and the
+ * configuration schemas, are compressed once per entity tag and served from the cache afterwards. Responses whose
+ * tag is computed while the body is written cannot be looked up, and are compressed on every request.
+ *
+ * The interceptor is configured with the following system properties.
+ * <ul>
+ * <li>identity.server.api.compression.enabled: Whether responses are compressed. Default true.</li>
+ * <li>identity.server.api.compression.thresholdBytes: Minimum body size that is compressed. Default 1024.</li>
+ * </ul>
+ */
+public class ResponseCompressionInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("identity.server.api.compression.enabled", "true"));
+    private static final int THRESHOLD_BYTES = Math.max(0, Integer.getInteger(
+            "identity.server.api.compression.thresholdBytes", 1024));
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY_CODING = "*";
+    private static final String QUALITY_PARAMETER = "q=";
+    private static final String CODING_SEPARATOR = ",";
+    private static final String PARAMETER_SEPARATOR = ";";
+
+    public ResponseCompressionInterceptor() {
+
+        super(Phase.MARSHAL);
+        addAfter(ConditionalGetInterceptor.class.getName());
+        addBefore(JAXRSOutInterceptor.class.getName());
+    }
+
+    /**
+     * Whether response compression is enabled.
+     *
+     * @return True unless disabled with the identity.server.api.compression.enabled system property.
+     */
+    public static boolean isEnabled() {
+
+        return ENABLED;
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+
+        Message inMessage = message.getExchange().getInMessage();
+        if (inMessage == null || HttpMethod.HEAD.equals(inMessage.get(Message.HTTP_REQUEST_METHOD))) {
+            return;
+        }
+        MessageContentsList contents = MessageContentsList.getContentsList(message);
+        if (contents == null || contents.isEmpty() || !(contents.get(0) instanceof Response)) {
+            return;
+        }
+        Response response = (Response) contents.get(0);
+        if (!response.hasEntity() || response.getMetadata().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return;
+        }
+        String encoding = negotiate(getRequestHeader(inMessage, HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            return;
+        }
+
+        String cacheKey = null;
+        Object entityTag = response.getMetadata().getFirst(HttpHeaders.ETAG);
+        if (entityTag != null && response.getStatus() == Response.Status.OK.getStatusCode() &&
+                HttpMethod.GET.equals(inMessage.get(Message.HTTP_REQUEST_METHOD))) {
+            List<String> accept = getRequestHeader(inMessage, HttpHeaders.ACCEPT);
+            cacheKey = PrecompressedPayloadCache.key(encoding, (String) inMessage.get(Message.REQUEST_URI),
+                    accept == null ? "" : String.join(CODING_SEPARATOR, accept), entityTag.toString());
+            PrecompressedPayloadCache.Payload payload = PrecompressedPayloadCache.getInstance().get(cacheKey);
+            if (payload != null) {
+                contents.set(0, Response.fromResponse(response)
+                        .entity(payload.getBytes())
+                        .type(payload.getContentType())
+                        .header(HttpHeaders.CONTENT_ENCODING, encoding)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build());
+                return;
+            }
+        }
+
+        OutputStream outputStream = message.getContent(OutputStream.class);
+        if (outputStream != null) {
+            message.setContent(OutputStream.class,
+                    new CompressingOutputStream(message, outputStream, encoding, THRESHOLD_BYTES, cacheKey));
+        }
+    }
+
+    /**
+     * Pick the content coding for the response from the Accept-Encoding header of the request. gzip is preferred over
+     * deflate when the client accepts both with the same quality.
+     *
+     * @param acceptEncoding Values of the Accept-Encoding header.
+     * @return gzip, deflate or null if the client accepts neither.
+     */
+    static String negotiate(List<String> acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return null;
+        }
+        float gzipQuality = -1;
+        float deflateQuality = -1;
+        float anyQuality = -1;
+        for (String headerValue : acceptEncoding) {
+            for (String coding : StringUtils.split(headerValue, CODING_SEPARATOR)) {
+                String[] parts = StringUtils.split(coding, PARAMETER_SEPARATOR);
+                if (parts.length == 0) {
+                    continue;
+                }
+                String name = parts[0].trim().toLowerCase(Locale.ENGLISH);
+                float quality = getQuality(parts);
+                if (GZIP.equals(name) || X_GZIP.equals(name)) {
+                    gzipQuality = Math.max(gzipQuality, quality);
+                } else if (DEFLATE.equals(name)) {
+                    deflateQuality = Math.max(deflateQuality, quality);
+                } else if (ANY_CODING.equals(name)) {
+                    anyQuality = Math.max(anyQuality, quality);
+                }
+            }
+        }
+        if (gzipQuality < 0) {
+            gzipQuality = anyQuality;
+        }
+        if (deflateQuality < 0) {
+            deflateQuality = anyQuality;
+        }
+        if (gzipQuality > 0 && gzipQuality >= deflateQuality) {
+            return GZIP;
+        }
+        return deflateQuality > 0 ? DEFLATE : null;
+    }
+
+    private static float getQuality(String[] codingParts) {
+
+        for (int i = 1; i < codingParts.length; i++) {
+            String parameter = codingParts[i].trim();
+            if (parameter.startsWith(QUALITY_PARAMETER)) {
+                try {
+                    return Float.parseFloat(parameter.substring(QUALITY_PARAMETER.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getRequestHeader(Message inMessage, String name) {
+
+        Map<String, List<String>> headers = (Map<String, List<String>>) inMessage.get(Message.PROTOCOL_HEADERS);
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+}
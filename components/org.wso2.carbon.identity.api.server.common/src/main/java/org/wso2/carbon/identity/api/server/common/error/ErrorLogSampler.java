@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.error;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Rate limits the server error logs of the server APIs per error code, so that a client repeatedly triggering the
+ * same failure does not flood the logs. Within each window, the first error of a code is logged with its stack trace,
+ * the following ones up to the limit are logged with the exception summary only, and the rest are counted and
+ * reported with the first log line of the next window. All the errors are counted and exposed through the
+ * {@value #OBJECT_NAME} MBean. When debug logs are enabled for the logger, every error is logged with its stack trace.
+ *
+ * The limit is configured with the following system properties.
+ * <ul>
+ * <li>identity.server.api.errorLog.limitPerCode: Log lines per error code in a window. Default 20.</li>
+ * <li>identity.server.api.errorLog.windowSeconds: Length of the window. Default 60.</li>
+ * </ul>
+ */
+public class ErrorLogSampler implements ErrorLogSamplerMBean {
+
+    public static final String OBJECT_NAME = "org.wso2.carbon.identity.api.server:type=ErrorLogs";
+
+    private static final Log LOG = LogFactory.getLog(ErrorLogSampler.class);
+    private static final ErrorLogSampler INSTANCE = new ErrorLogSampler();
+
+    private static final int LIMIT_PER_CODE = Math.max(1, Integer.getInteger(
+            "identity.server.api.errorLog.limitPerCode", 20));
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(Math.max(1, Long.getLong(
+            "identity.server.api.errorLog.windowSeconds", 60L)));
+
+    private static final String ERRORS_METRIC_NAME = "identity_server_api_errors_total";
+    private static final String SUPPRESSED_METRIC_NAME = "identity_server_api_error_logs_suppressed_total";
+
+    // Bounds the memory used when the backend reports a large number of distinct error codes.
+    private static final int MAX_CODES = 1000;
+    private static final String OVERFLOW_CODE = "_other";
+    private static final String UNKNOWN_CODE = "_unknown";
+
+    private final ConcurrentMap<String, CodeWindow> windows = new ConcurrentHashMap<>();
+    private volatile boolean registered;
+
+    private ErrorLogSampler() {
+
+    }
+
+    public static ErrorLogSampler getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Log a server error, unless the log limit of its error code has been reached in the current window.
+     *
+     * @param log           Logger of the API reporting the error.
+     * @param code          Error code of the response.
+     * @param correlationId Correlation ID to include in the log line, or null if it is already in the log MDC.
+     * @param message       Error message.
+     * @param e             Cause of the error.
+     */
+    void log(Log log, String code, String correlationId, String message, Exception e) {
+
+        CodeWindow window = getWindow(code);
+        window.errors.increment();
+        if (log.isDebugEnabled()) {
+            log.error(buildLogLine(code, correlationId, message, null, 0), e);
+            return;
+        }
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        int logged;
+        long suppressed;
+        synchronized (window) {
+            long now = System.nanoTime();
+            if (now - window.start >= WINDOW_NANOS) {
+                window.start = now;
+                window.logged = 0;
+            }
+            if (window.logged >= LIMIT_PER_CODE) {
+                window.suppressedInWindow++;
+                window.suppressed.increment();
+                return;
+            }
+            logged = ++window.logged;
+            suppressed = window.suppressedInWindow;
+            window.suppressedInWindow = 0;
+        }
+        if (logged == 1) {
+            log.error(buildLogLine(code, correlationId, message, null, suppressed), e);
+        } else {
+            log.error(buildLogLine(code, correlationId, message, e, suppressed));
+        }
+    }
+
+    @Override
+    public long getErrorCount() {
+
+        long total = 0;
+        for (CodeWindow window : windows.values()) {
+            total += window.errors.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public long getSuppressedCount() {
+
+        long total = 0;
+        for (CodeWindow window : windows.values()) {
+            total += window.suppressed.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public String scrape() {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("# TYPE ").append(ERRORS_METRIC_NAME).append(" counter\n");
+        for (Map.Entry<String, CodeWindow> entry : windows.entrySet()) {
+            builder.append(ERRORS_METRIC_NAME).append("{code=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().errors.sum()).append('\n');
+        }
+        builder.append("# TYPE ").append(SUPPRESSED_METRIC_NAME).append(" counter\n");
+        for (Map.Entry<String, CodeWindow> entry : windows.entrySet()) {
+            builder.append(SUPPRESSED_METRIC_NAME).append("{code=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().suppressed.sum()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private CodeWindow getWindow(String code) {
+
+        String key = code == null ? UNKNOWN_CODE : code;
+        CodeWindow window = windows.get(key);
+        if (window == null) {
+            if (!registered) {
+                registerMBean();
+            }
+            if (windows.size() >= MAX_CODES) {
+                key = OVERFLOW_CODE;
+            }
+            window = windows.computeIfAbsent(key, k -> new CodeWindow(System.nanoTime() - WINDOW_NANOS));
+        }
+        return window;
+    }
+
+    private synchronized void registerMBean() {
+
+        if (registered) {
+            return;
+        }
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn("Error while registering the server API error log MBean.", e);
+        }
+        registered = true;
+    }
+
+    private static String buildLogLine(String code, String correlationId, String message, Exception summary,
+                                       long suppressed) {
+
+        StringBuilder builder = new StringBuilder(128);
+        if (correlationId != null) {
+            builder.append("correlationID: ").append(correlationId).append(" | ");
+        }
+        builder.append("errorCode: ").append(code).append(" | message: ").append(message);
+        if (summary != null) {
+            builder.append(" | cause: ").append(summary);
+        }
+        if (suppressed > 0) {
+            builder.append(" | ").append(suppressed).append(" similar errors were not logged");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Log limit state and counters of an error code.
+     */
+    private static final class CodeWindow {
+
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        private long start;
+        private int logged;
+        private long suppressedInWindow;
+
+        private CodeWindow(long start) {
+
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.error;
+
+/**
+ * JMX view of the server API error logging.
+ */
+public interface ErrorLogSamplerMBean {
+
+    /**
+     * Get the number of server errors reported, including the ones whose log lines were suppressed.
+     *
+     * @return Server error count.
+     */
+    long getErrorCount();
+
+    /**
+     * Get the number of server error log lines suppressed by the per error code limit.
+     *
+     * @return Suppressed log line count.
+     */
+    long getSuppressedCount();
+
+    /**
+     * Render the per error code counters in the Prometheus text exposition format.
+     *
+     * @return Error counters in Prometheus text format.
+     */
+    String scrape();
+}
@@ -66,14 +66,20 @@ public class ErrorResponse extends ErrorDTO {
             return error;
         }
 
+        /**
+         * Error response builder for server errors. The error is logged through the {@link ErrorLogSampler}, which
+         * limits the log lines per error code.
+         *
+         * @param log Logger.
+         * @param e Cause of the error.
+         * @param message Error message.
+         * @return ErrorResponse object.
+         */
         public ErrorResponse build(Log log, Exception e, String message) {
+
             ErrorResponse error = build();
-            String errorMessageFormat = "errorCode: %s | message: %s";
-            String errorMsg = String.format(errorMessageFormat, error.getCode(), message);
-            if (!isCorrelationIDPresent()) {
-                errorMsg = String.format("correlationID: %s | " + errorMsg, error.getRef());
-            }
-            log.error(errorMsg, e);
+            ErrorLogSampler.getInstance().log(log, error.getCode(), isCorrelationIDPresent() ? null : error.getRef(),
+                    message, e);
             return error;
         }
 
@@ -87,14 +93,13 @@ public class ErrorResponse extends ErrorDTO {
         public ErrorResponse build(Log log, String message) {
 
             ErrorResponse error = build();
-            String errorMessageFormat = "errorCode: %s | message: %s";
-            String errorMsg = String.format(errorMessageFormat, error.getCode(), message);
-            if (!isCorrelationIDPresent()) {
-                errorMsg = String.format("correlationID: %s | " + errorMsg, error.getRef());
-            }
-
             if (log.isDebugEnabled()) {
-                log.debug(errorMsg);
+                StringBuilder errorMsg = new StringBuilder();
+                if (!isCorrelationIDPresent()) {
+                    errorMsg.append("correlationID: ").append(error.getRef()).append(" | ");
+                }
+                errorMsg.append("errorCode: ").append(error.getCode()).append(" | message: ").append(message);
+                log.debug(errorMsg.toString());
             }
             return error;
         }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.etag;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.jaxrs.interceptor.JAXRSOutInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageContentsList;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+/**
+ * Answers conditional GET requests. When an OK response carries an entity tag which matches the If-None-Match
+ * header of the request, the response is replaced with a 304 which keeps the headers but has no body.
+ *
+ * Responses built with {@link EntityTagHelper#ok(Object)} carry no entity tag yet. Their body is written through an
+ * {@link EntityTaggingOutputStream}, which hashes it as it is written and adds the tag, or answers with a 304, before
+ * any byte reaches the client. Since the body is held back meanwhile, only bodies up to the following limit are
+ * tagged, and larger bodies are sent without an entity tag.
+ * <ul>
+ * <li>identity.server.api.etag.maxBufferedBytes: Largest body which is tagged with its hash. Default 262144.</li>
+ * </ul>
+ */
+public class ConditionalGetInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final String ENTITY_TAG_SEPARATOR = ",";
+    private static final int MAX_BUFFERED_BYTES = Math.max(0,
+            Integer.getInteger("identity.server.api.etag.maxBufferedBytes", 256 * 1024));
+
+    public ConditionalGetInterceptor() {
+
+        super(Phase.MARSHAL);
+        addBefore(JAXRSOutInterceptor.class.getName());
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+
+        Message inMessage = message.getExchange().getInMessage();
+        if (inMessage == null) {
+            return;
+        }
+        Object httpMethod = inMessage.get(Message.HTTP_REQUEST_METHOD);
+        if (!HttpMethod.GET.equals(httpMethod) && !HttpMethod.HEAD.equals(httpMethod)) {
+            return;
+        }
+        MessageContentsList contents = MessageContentsList.getContentsList(message);
+        if (contents == null || contents.isEmpty() || !(contents.get(0) instanceof Response)) {
+            return;
+        }
+        Response response = (Response) contents.get(0);
+        if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        Object entityTag = response.getMetadata().getFirst(HttpHeaders.ETAG);
+        if (entityTag == null && Boolean.TRUE.equals(message.getExchange().get(EntityTagHelper.DEFERRED_ENTITY_TAG))) {
+            if (HttpMethod.GET.equals(httpMethod)) {
+                deferEntityTag(message, getIfNoneMatch(inMessage));
+                return;
+            }
+            // The body of a HEAD response is not written, so its tag is computed from the entity.
+            EntityTag computedEntityTag = EntityTagHelper.computeEntityTag(response.getEntity());
+            if (computedEntityTag == null) {
+                return;
+            }
+            response = Response.fromResponse(response).tag(computedEntityTag).build();
+            contents.set(0, response);
+            entityTag = computedEntityTag;
+        }
+        if (entityTag == null || !matches(getIfNoneMatch(inMessage), entityTag.toString())) {
+            return;
+        }
+
+        Response.ResponseBuilder notModified = Response.notModified();
+        for (Map.Entry<String, List<Object>> header : response.getMetadata().entrySet()) {
+            if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(header.getKey()) ||
+                    HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                continue;
+            }
+            for (Object value : header.getValue()) {
+                notModified.header(header.getKey(), value);
+            }
+        }
+        contents.set(0, notModified.build());
+    }
+
+    private static void deferEntityTag(Message message, List<String> ifNoneMatch) {
+
+        OutputStream outputStream = message.getContent(OutputStream.class);
+        if (outputStream != null) {
+            message.setContent(OutputStream.class, new EntityTaggingOutputStream(message, outputStream, ifNoneMatch,
+                    MAX_BUFFERED_BYTES));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getIfNoneMatch(Message inMessage) {
+
+        Map<String, List<String>> headers = (Map<String, List<String>>) inMessage.get(Message.PROTOCOL_HEADERS);
+        if (headers == null) {
+            return null;
+        }
+        return headers.get(HttpHeaders.IF_NONE_MATCH);
+    }
+
+    /**
+     * If-None-Match uses the weak comparison, hence weak request tags match the strong tag of the response as well.
+     *
+     * @param ifNoneMatch Values of the If-None-Match header.
+     * @param entityTag   Quoted entity tag of the response.
+     * @return True if the response entity is one of the entities the client already has.
+     */
+    static boolean matches(List<String> ifNoneMatch, String entityTag) {
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String headerValue : ifNoneMatch) {
+            for (String requestTag : StringUtils.split(headerValue, ENTITY_TAG_SEPARATOR)) {
+                String tag = StringUtils.removeStart(requestTag.trim(), WEAK_ENTITY_TAG_PREFIX);
+                if (ANY_ENTITY_TAG.equals(tag) || entityTag.equals(tag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
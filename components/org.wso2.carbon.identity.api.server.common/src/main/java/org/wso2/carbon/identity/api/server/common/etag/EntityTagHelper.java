@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.etag;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Builds responses carrying strong entity tags, to be used by read endpoints which are polled often. The tag is
+ * derived either from a stable hash of the serialized entity, or from a version key supplied by the service. When
+ * the tag matches the If-None-Match header of the request, {@link ConditionalGetInterceptor} turns the response
+ * into a 304 without a body.
+ *
+ * Hash based tags are computed by {@link ConditionalGetInterceptor} while the body is written, so the entity is
+ * serialized only once. They are computed here only when no request is in progress.
+ */
+public class EntityTagHelper {
+
+    private static final Log LOG = LogFactory.getLog(EntityTagHelper.class);
+    private static final String HASH_ALGORITHM = "SHA-256";
+    static final String DEFERRED_ENTITY_TAG = EntityTagHelper.class.getName() + ".deferred";
+    private static final OutputStream DISCARDING_STREAM = new OutputStream() {
+
+        @Override
+        public void write(int b) {
+
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+
+        }
+    };
+
+    private EntityTagHelper() {
+
+    }
+
+    /**
+     * Build an OK response for the entity, tagged with the hash of its representation. Within a request, the tag is
+     * added by {@link ConditionalGetInterceptor} once the body is written, which holds the body back meanwhile, so
+     * bodies beyond the size limit of the interceptor are sent untagged. Prefer {@link #ok(Object, String)} when the
+     * service has a version of the entity.
+     *
+     * @param entity Response entity.
+     * @return Response builder with the entity, and its entity tag if no request is in progress.
+     */
+    public static Response.ResponseBuilder ok(Object entity) {
+
+        Response.ResponseBuilder builder = Response.ok().entity(entity);
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        if (message != null && message.getExchange() != null) {
+            message.getExchange().put(DEFERRED_ENTITY_TAG, Boolean.TRUE);
+            return builder;
+        }
+        EntityTag entityTag = computeEntityTag(entity);
+        if (entityTag != null) {
+            builder.tag(entityTag);
+        }
+        return builder;
+    }
+
+    /**
+     * Build an OK response for a small entity which rarely changes, such as protocol metadata or configuration
+     * schemas, tagged with the hash of its representation. Unlike {@link #ok(Object)}, the tag is computed before the
+     * body is written, so the compressed body of the response can be served from the precompressed payloads. The
+     * entity is serialized once more to compute the tag, hence this is meant for small entities only.
+     *
+     * @param entity Response entity.
+     * @return Response builder with the entity and its entity tag.
+     */
+    public static Response.ResponseBuilder okStatic(Object entity) {
+
+        Response.ResponseBuilder builder = Response.ok().entity(entity);
+        EntityTag entityTag = computeEntityTag(entity);
+        if (entityTag != null) {
+            builder.tag(entityTag);
+        }
+        return builder;
+    }
+
+    /**
+     * Build an OK response for the entity, tagged with the given version key. The version key must change whenever
+     * the entity changes.
+     *
+     * @param entity     Response entity.
+     * @param versionKey Version of the entity.
+     * @return Response builder with the entity and its entity tag.
+     */
+    public static Response.ResponseBuilder ok(Object entity, String versionKey) {
+
+        return Response.ok().entity(entity).tag(fromVersionKey(versionKey));
+    }
+
+    /**
+     * Compute a strong entity tag from the JSON representation of the given entity. A {@link StreamingOutput}
+     * entity is written to the digest as is, and must therefore be able to write itself more than once.
+     *
+     * @param entity Entity to be tagged.
+     * @return Entity tag, or null if the entity could not be serialized.
+     */
+    public static EntityTag computeEntityTag(Object entity) {
+
+        if (entity == null) {
+            return null;
+        }
+        MessageDigest digest = getDigest();
+        try (DigestOutputStream digestStream = new DigestOutputStream(DISCARDING_STREAM, digest)) {
+            if (entity instanceof StreamingOutput) {
+                ((StreamingOutput) entity).write(digestStream);
+            } else {
+                ObjectMapperRegistry.getWriter().writeValue(digestStream, entity);
+            }
+        } catch (IOException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while serializing the response entity of type: " + entity.getClass().getName()
+                        + " to compute the entity tag.", e);
+            }
+            return null;
+        }
+        return toEntityTag(digest.digest());
+    }
+
+    /**
+     * Build a strong entity tag from a version key supplied by the service.
+     *
+     * @param versionKey Version of the entity.
+     * @return Entity tag.
+     */
+    public static EntityTag fromVersionKey(String versionKey) {
+
+        return toEntityTag(getDigest().digest(versionKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static EntityTag toEntityTag(byte[] hash) {
+
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(hash));
+    }
+
+    static MessageDigest getDigest() {
+
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
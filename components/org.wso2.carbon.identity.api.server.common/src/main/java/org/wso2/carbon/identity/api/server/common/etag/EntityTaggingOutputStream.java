@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.etag;
+
+import org.apache.cxf.message.Message;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+/**
+ * Output stream of an OK response which hashes the body as it is written and buffers it. When the body is complete,
+ * the hash is added to the response as its entity tag before the body is written to the underlying stream. If the
+ * tag matches the If-None-Match header of the request, the response is turned into a 304 and the body is dropped.
+ *
+ * Only bodies up to a size limit are buffered. Once a body grows beyond the limit, the buffered bytes are written to
+ * the underlying stream and the rest of the body is passed through, without an entity tag.
+ */
+class EntityTaggingOutputStream extends OutputStream {
+
+    private final Message message;
+    private final OutputStream target;
+    private final List<String> ifNoneMatch;
+    private final int maxBufferedBytes;
+    private final MessageDigest digest = EntityTagHelper.getDigest();
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private boolean closed;
+
+    EntityTaggingOutputStream(Message message, OutputStream target, List<String> ifNoneMatch, int maxBufferedBytes) {
+
+        this.message = message;
+        this.target = target;
+        this.ifNoneMatch = ifNoneMatch;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+
+        if (buffer == null) {
+            target.write(bytes, offset, length);
+            return;
+        }
+        if (buffer.size() + length > maxBufferedBytes) {
+            // The body is too large to be held back, hence it is sent without an entity tag.
+            buffer.writeTo(target);
+            buffer = null;
+            target.write(bytes, offset, length);
+            return;
+        }
+        digest.update(bytes, offset, length);
+        buffer.write(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+        // While the entity tag is not known, the body is held back, hence there is nothing to flush.
+        if (buffer == null) {
+            target.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (buffer == null) {
+                return;
+            }
+            String entityTag = EntityTagHelper.toEntityTag(digest.digest()).toString();
+            Map<String, List<Object>> headers = getHeaders();
+            headers.put(HttpHeaders.ETAG, new ArrayList<>(Collections.singletonList(entityTag)));
+            if (ConditionalGetInterceptor.matches(ifNoneMatch, entityTag)) {
+                message.put(Message.RESPONSE_CODE, Response.Status.NOT_MODIFIED.getStatusCode());
+                message.remove(Message.CONTENT_TYPE);
+                removeHeader(headers, HttpHeaders.CONTENT_TYPE);
+                removeHeader(headers, HttpHeaders.CONTENT_LENGTH);
+            } else {
+                buffer.writeTo(target);
+            }
+        } finally {
+            target.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<Object>> getHeaders() {
+
+        Map<String, List<Object>> headers = (Map<String, List<Object>>) message.get(Message.PROTOCOL_HEADERS);
+        if (headers == null) {
+            headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            message.put(Message.PROTOCOL_HEADERS, headers);
+        }
+        return headers;
+    }
+
+    private static void removeHeader(Map<String, List<Object>> headers, String name) {
+
+        Iterator<String> names = headers.keySet().iterator();
+        while (names.hasNext()) {
+            if (name.equalsIgnoreCase(names.next())) {
+                names.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects the backend service calls made while serving the current request, so that they can be reported back
+ * to the client in the {@value #SERVER_TIMING_HEADER} response header.
+ */
+public class BackendCallContext {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<Map<String, CallSummary>> CALLS = new ThreadLocal<>();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private BackendCallContext() {
+
+    }
+
+    /**
+     * Start collecting the backend calls of a new request on the current thread.
+     */
+    public static void begin() {
+
+        CALLS.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Record a backend call against the request being served on the current thread. Calls made outside of a request
+     * are ignored.
+     *
+     * @param name          Name of the backend method.
+     * @param durationNanos Time taken by the call in nanoseconds.
+     * @param failed        Whether the call ended with an exception.
+     */
+    static void record(String name, long durationNanos, boolean failed) {
+
+        Map<String, CallSummary> calls = CALLS.get();
+        if (calls == null) {
+            return;
+        }
+        CallSummary summary = calls.computeIfAbsent(name, k -> new CallSummary());
+        summary.count++;
+        summary.totalNanos += durationNanos;
+        if (failed) {
+            summary.errors++;
+        }
+    }
+
+    /**
+     * Stop collecting backend calls on the current thread and build the {@value #SERVER_TIMING_HEADER} header value
+     * describing them.
+     *
+     * @return Server-Timing header value, or null if no backend calls were made.
+     */
+    public static String end() {
+
+        Map<String, CallSummary> calls = CALLS.get();
+        CALLS.remove();
+        if (calls == null || calls.isEmpty()) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, CallSummary> entry : calls.entrySet()) {
+            CallSummary summary = entry.getValue();
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(entry.getKey()).append(";dur=")
+                    .append(String.format(Locale.ROOT, "%.3f", summary.totalNanos / NANOS_PER_MILLI))
+                    .append(";desc=\"").append(summary.count).append(summary.count == 1 ? " call" : " calls");
+            if (summary.errors > 0) {
+                builder.append(", ").append(summary.errors).append(" failed");
+            }
+            builder.append('"');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Backend calls made to a single method during a request.
+     */
+    private static final class CallSummary {
+
+        private int count;
+        private int errors;
+        private long totalNanos;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Aggregated call count, latency and error count of the backend OSGi service methods invoked through
+ * {@link BackendTimingProxy}, exposed through the {@value #OBJECT_NAME} MBean.
+ */
+public class BackendCallMetrics implements BackendCallMetricsMBean {
+
+    public static final String OBJECT_NAME = "org.wso2.carbon.identity.api.server:type=BackendCallMetrics";
+
+    private static final Log LOG = LogFactory.getLog(BackendCallMetrics.class);
+    private static final BackendCallMetrics INSTANCE = new BackendCallMetrics();
+
+    private static final String METRIC_NAME = "identity_server_api_backend_call_duration_seconds";
+    private static final String ERROR_METRIC_NAME = "identity_server_api_backend_call_errors_total";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+
+    private final ConcurrentMap<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private volatile boolean registered;
+
+    private BackendCallMetrics() {
+
+    }
+
+    public static BackendCallMetrics getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Record a single backend call.
+     *
+     * @param service       Simple name of the backend service interface.
+     * @param method        Name of the invoked method.
+     * @param durationNanos Time taken by the call in nanoseconds.
+     * @param failed        Whether the call ended with an exception.
+     */
+    public void record(String service, String method, long durationNanos, boolean failed) {
+
+        String key = service + '.' + method;
+        MethodStats stats = methods.get(key);
+        if (stats == null) {
+            stats = methods.computeIfAbsent(key, k -> new MethodStats(service, method));
+        }
+        stats.histogram.record(durationNanos);
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Register this registry in the platform MBean server, if not registered already.
+     */
+    public synchronized void registerMBean() {
+
+        if (registered) {
+            return;
+        }
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+            registered = true;
+        } catch (JMException e) {
+            LOG.warn("Error while registering the server API backend call metrics MBean.", e);
+        }
+    }
+
+    @Override
+    public int getMethodCount() {
+
+        return methods.size();
+    }
+
+    @Override
+    public String scrape() {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("# TYPE ").append(METRIC_NAME).append(" summary\n");
+        for (MethodStats stats : methods.values()) {
+            for (double quantile : QUANTILES) {
+                builder.append(METRIC_NAME).append('{').append(stats.labels).append(",quantile=\"")
+                        .append(quantile).append("\"} ")
+                        .append(stats.histogram.getValueAtPercentile(quantile * 100) / MICROS_PER_SECOND)
+                        .append('\n');
+            }
+            builder.append(METRIC_NAME).append("_count{").append(stats.labels).append("} ")
+                    .append(stats.histogram.getCount()).append('\n');
+            builder.append(METRIC_NAME).append("_sum{").append(stats.labels).append("} ")
+                    .append(stats.histogram.getSumMicros() / MICROS_PER_SECOND).append('\n');
+        }
+        builder.append("# TYPE ").append(ERROR_METRIC_NAME).append(" counter\n");
+        for (Map.Entry<String, MethodStats> entry : methods.entrySet()) {
+            builder.append(ERROR_METRIC_NAME).append('{').append(entry.getValue().labels).append("} ")
+                    .append(entry.getValue().errors.sum()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void reset() {
+
+        methods.clear();
+    }
+
+    /**
+     * Statistics of a single backend method.
+     */
+    private static final class MethodStats {
+
+        private final String labels;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        MethodStats(String service, String method) {
+
+            this.labels = "service=\"" + service + "\",method=\"" + method + "\"";
+        }
+    }
+}
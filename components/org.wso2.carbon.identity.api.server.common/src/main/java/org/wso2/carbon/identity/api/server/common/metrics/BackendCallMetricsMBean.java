@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+/**
+ * JMX view of the backend service call metrics of the server APIs.
+ */
+public interface BackendCallMetricsMBean {
+
+    /**
+     * Get the number of backend service methods being tracked.
+     *
+     * @return Number of tracked backend methods.
+     */
+    int getMethodCount();
+
+    /**
+     * Render the recorded metrics in the Prometheus text exposition format.
+     *
+     * @return Metrics in Prometheus text format.
+     */
+    String scrape();
+
+    /**
+     * Discard all the recorded metrics.
+     */
+    void reset();
+}
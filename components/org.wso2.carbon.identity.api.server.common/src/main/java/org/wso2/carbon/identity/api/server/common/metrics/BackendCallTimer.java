@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+/**
+ * Times the calls made to a backend service which cannot be wrapped in a {@link BackendTimingProxy}, since it is
+ * used through its class rather than an interface. The calls are reported to {@link BackendCallMetrics} and to the
+ * {@link BackendCallContext} of the request being served, in the same way as the proxied calls, and are made
+ * without timing unless backend call timing is enabled.
+ */
+public final class BackendCallTimer {
+
+    private BackendCallTimer() {
+
+    }
+
+    /**
+     * Call a backend service operation which returns a result and record its time.
+     *
+     * @param serviceName Name of the backend service.
+     * @param operation   Name of the operation called.
+     * @param call        Call to the operation.
+     * @param <T>         Type of the result.
+     * @param <E>         Type of the exception thrown by the operation.
+     * @return Result of the operation.
+     * @throws E If the operation fails.
+     */
+    public static <T, E extends Exception> T time(String serviceName, String operation, BackendCall<T, E> call)
+            throws E {
+
+        if (!BackendTimingProxy.isEnabled()) {
+            return call.call();
+        }
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.call();
+            failed = false;
+            return result;
+        } finally {
+            record(serviceName, operation, System.nanoTime() - startTime, failed);
+        }
+    }
+
+    /**
+     * Call a backend service operation which returns no result and record its time.
+     *
+     * @param serviceName Name of the backend service.
+     * @param operation   Name of the operation called.
+     * @param task        Call to the operation.
+     * @param <E>         Type of the exception thrown by the operation.
+     * @throws E If the operation fails.
+     */
+    public static <E extends Exception> void run(String serviceName, String operation, BackendTask<E> task)
+            throws E {
+
+        time(serviceName, operation, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    static void record(String serviceName, String operation, long duration, boolean failed) {
+
+        BackendCallMetrics.getInstance().record(serviceName, operation, duration, failed);
+        BackendCallContext.record(serviceName + '.' + operation, duration, failed);
+    }
+
+    /**
+     * Call to a backend service operation which returns a result.
+     *
+     * @param <T> Type of the result.
+     * @param <E> Type of the exception thrown by the operation.
+     */
+    @FunctionalInterface
+    public interface BackendCall<T, E extends Exception> {
+
+        T call() throws E;
+    }
+
+    /**
+     * Call to a backend service operation which returns no result.
+     *
+     * @param <E> Type of the exception thrown by the operation.
+     */
+    @FunctionalInterface
+    public interface BackendTask<E extends Exception> {
+
+        void run() throws E;
+    }
+}
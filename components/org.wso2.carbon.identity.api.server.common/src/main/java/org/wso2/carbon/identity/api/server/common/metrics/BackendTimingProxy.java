@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Times the calls made to a backend OSGi service. Enabled by starting the server with
+ * -D{@value #ENABLE_PROPERTY}=true, in which case the OSGi service factories hand out proxies that report every call
+ * to {@link BackendCallMetrics} and to the {@link BackendCallContext} of the request being served. Services which
+ * are used through their class cannot be proxied, and their calls are timed with a {@link BackendCallTimer} instead.
+ */
+public class BackendTimingProxy implements InvocationHandler {
+
+    public static final String ENABLE_PROPERTY = "identity.server.api.backendTiming.enabled";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLE_PROPERTY);
+
+    private final Object service;
+    private final String serviceName;
+
+    private BackendTimingProxy(Object service, String serviceName) {
+
+        this.service = service;
+        this.serviceName = serviceName;
+    }
+
+    /**
+     * Check whether backend call timing is enabled.
+     *
+     * @return True if backend calls are timed.
+     */
+    public static boolean isEnabled() {
+
+        return ENABLED;
+    }
+
+    /**
+     * Wrap the given backend service in a timing proxy, if backend call timing is enabled.
+     *
+     * @param serviceInterface Interface the service is used through.
+     * @param service          Backend service.
+     * @param <T>              Type of the service interface.
+     * @return Timing proxy of the service, or the service itself if timing is disabled.
+     */
+    public static <T> T wrap(Class<T> serviceInterface, T service) {
+
+        if (!ENABLED || service == null || !serviceInterface.isInterface() || Proxy.isProxyClass(service.getClass())) {
+            return service;
+        }
+        return serviceInterface.cast(Proxy.newProxyInstance(serviceInterface.getClassLoader(),
+                new Class<?>[]{serviceInterface}, new BackendTimingProxy(service, serviceInterface.getSimpleName())));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+        if (method.getDeclaringClass() == Object.class) {
+            return invokeService(method, args);
+        }
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invokeService(method, args);
+            failed = false;
+            return result;
+        } finally {
+            BackendCallTimer.record(serviceName, method.getName(), System.nanoTime() - startTime, failed);
+        }
+    }
+
+    private Object invokeService(Method method, Object[] args) throws Throwable {
+
+        try {
+            return method.invoke(service, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
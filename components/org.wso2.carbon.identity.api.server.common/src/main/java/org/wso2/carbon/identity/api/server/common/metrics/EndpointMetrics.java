@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of per endpoint latency histograms of the server APIs. Requests are tracked per endpoint template,
+ * HTTP method, tenant and response status, and exposed through the {@value #OBJECT_NAME} MBean.
+ */
+public class EndpointMetrics implements EndpointMetricsMBean {
+
+    public static final String OBJECT_NAME = "org.wso2.carbon.identity.api.server:type=EndpointMetrics";
+
+    private static final Log LOG = LogFactory.getLog(EndpointMetrics.class);
+    private static final EndpointMetrics INSTANCE = new EndpointMetrics();
+
+    private static final String METRIC_NAME = "identity_server_api_request_duration_seconds";
+    private static final String MAX_METRIC_NAME = "identity_server_api_request_duration_seconds_max";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+
+    // Bounds the memory used when requests are spread over a large number of tenants.
+    private static final int MAX_SERIES = 10000;
+    private static final String OVERFLOW_TENANT = "_other";
+
+    private final ConcurrentMap<SeriesKey, LatencyHistogram> series = new ConcurrentHashMap<>();
+    private volatile boolean registered;
+
+    private EndpointMetrics() {
+
+    }
+
+    public static EndpointMetrics getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Record the duration of a served request.
+     *
+     * @param endpoint      Endpoint URI template.
+     * @param httpMethod    HTTP method of the request.
+     * @param tenantDomain  Tenant domain the request was served for.
+     * @param status        HTTP status code of the response.
+     * @param durationNanos Time taken to serve the request in nanoseconds.
+     */
+    public void record(String endpoint, String httpMethod, String tenantDomain, int status, long durationNanos) {
+
+        SeriesKey key = new SeriesKey(endpoint, httpMethod, tenantDomain, status);
+        LatencyHistogram histogram = series.get(key);
+        if (histogram == null) {
+            if (series.size() >= MAX_SERIES) {
+                key = new SeriesKey(endpoint, httpMethod, OVERFLOW_TENANT, status);
+            }
+            histogram = series.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    /**
+     * Register this registry in the platform MBean server, if not registered already.
+     */
+    public synchronized void registerMBean() {
+
+        if (registered) {
+            return;
+        }
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!mBeanServer.isRegistered(objectName)) {
+                mBeanServer.registerMBean(this, objectName);
+            }
+            registered = true;
+        } catch (JMException e) {
+            LOG.warn("Error while registering the server API endpoint metrics MBean.", e);
+        }
+    }
+
+    @Override
+    public int getSeriesCount() {
+
+        return series.size();
+    }
+
+    @Override
+    public long getTotalRequestCount() {
+
+        long total = 0;
+        for (LatencyHistogram histogram : series.values()) {
+            total += histogram.getCount();
+        }
+        return total;
+    }
+
+    @Override
+    public String scrape() {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("# TYPE ").append(METRIC_NAME).append(" summary\n");
+        for (Map.Entry<SeriesKey, LatencyHistogram> entry : series.entrySet()) {
+            String labels = entry.getKey().toLabels();
+            LatencyHistogram histogram = entry.getValue();
+            for (double quantile : QUANTILES) {
+                builder.append(METRIC_NAME).append('{').append(labels).append(",quantile=\"").append(quantile)
+                        .append("\"} ").append(toSeconds(histogram.getValueAtPercentile(quantile * 100)))
+                        .append('\n');
+            }
+            builder.append(METRIC_NAME).append("_count{").append(labels).append("} ")
+                    .append(histogram.getCount()).append('\n');
+            builder.append(METRIC_NAME).append("_sum{").append(labels).append("} ")
+                    .append(toSeconds(histogram.getSumMicros())).append('\n');
+        }
+        builder.append("# TYPE ").append(MAX_METRIC_NAME).append(" gauge\n");
+        for (Map.Entry<SeriesKey, LatencyHistogram> entry : series.entrySet()) {
+            builder.append(MAX_METRIC_NAME).append('{').append(entry.getKey().toLabels()).append("} ")
+                    .append(toSeconds(entry.getValue().getMaxMicros())).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void reset() {
+
+        series.clear();
+    }
+
+    private static double toSeconds(long micros) {
+
+        return micros / MICROS_PER_SECOND;
+    }
+
+    private static String escape(String labelValue) {
+
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Identifies a single tracked series.
+     */
+    private static final class SeriesKey {
+
+        private final String endpoint;
+        private final String httpMethod;
+        private final String tenantDomain;
+        private final int status;
+        private final int hash;
+
+        SeriesKey(String endpoint, String httpMethod, String tenantDomain, int status) {
+
+            this.endpoint = endpoint;
+            this.httpMethod = httpMethod;
+            this.tenantDomain = tenantDomain;
+            this.status = status;
+            this.hash = Objects.hash(endpoint, httpMethod, tenantDomain, status);
+        }
+
+        String toLabels() {
+
+            return "endpoint=\"" + escape(endpoint) + "\",method=\"" + escape(httpMethod) + "\",tenant=\""
+                    + escape(tenantDomain) + "\",status=\"" + status + "\"";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SeriesKey)) {
+                return false;
+            }
+            SeriesKey that = (SeriesKey) o;
+            return status == that.status && endpoint.equals(that.endpoint) && httpMethod.equals(that.httpMethod)
+                    && tenantDomain.equals(that.tenantDomain);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return hash;
+        }
+    }
+}
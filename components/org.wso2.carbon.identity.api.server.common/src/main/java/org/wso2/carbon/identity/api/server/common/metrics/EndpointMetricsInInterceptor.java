@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+
+/**
+ * Marks the arrival time and tenant of a server API request, to be picked up by
+ * {@link EndpointMetricsOutInterceptor} once the response is written.
+ */
+public class EndpointMetricsInInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    static final String REQUEST_START_TIME = EndpointMetricsInInterceptor.class.getName() + ".startTime";
+    static final String REQUEST_TENANT_DOMAIN = EndpointMetricsInInterceptor.class.getName() + ".tenantDomain";
+
+    public EndpointMetricsInInterceptor() {
+
+        super(Phase.RECEIVE);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+
+        message.getExchange().put(REQUEST_START_TIME, System.nanoTime());
+        message.getExchange().put(REQUEST_TENANT_DOMAIN, ContextLoader.getTenantDomainFromContext());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+/**
+ * JMX view of the server API endpoint metrics.
+ */
+public interface EndpointMetricsMBean {
+
+    /**
+     * Get the number of endpoint, method, tenant and status combinations being tracked.
+     *
+     * @return Number of tracked series.
+     */
+    int getSeriesCount();
+
+    /**
+     * Get the number of requests recorded across all the series.
+     *
+     * @return Total recorded request count.
+     */
+    long getTotalRequestCount();
+
+    /**
+     * Render the recorded metrics in the Prometheus text exposition format.
+     *
+     * @return Metrics in Prometheus text format.
+     */
+    String scrape();
+
+    /**
+     * Discard all the recorded metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.endpoint.Endpoint;
+import org.apache.cxf.jaxrs.model.OperationResourceInfo;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Records the time taken to serve a server API request in {@link EndpointMetrics}. Registered in both the out and
+ * the out fault chains, so that failed requests are tracked against their error status.
+ */
+public class EndpointMetricsOutInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    public EndpointMetricsOutInterceptor() {
+
+        super(Phase.SETUP_ENDING);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+
+        Exchange exchange = message.getExchange();
+        // Removing the start time makes sure a request is recorded only once, even when it fails half way
+        // through the out chain.
+        Long startTime = (Long) exchange.remove(EndpointMetricsInInterceptor.REQUEST_START_TIME);
+        if (startTime == null) {
+            return;
+        }
+        long duration = System.nanoTime() - startTime;
+
+        OperationResourceInfo operation = exchange.get(OperationResourceInfo.class);
+        String endpoint = UNMATCHED_ENDPOINT;
+        String httpMethod = null;
+        if (operation != null) {
+            endpoint = getEndpointAddress(exchange) + operation.getClassResourceInfo().getURITemplate().getValue()
+                    + operation.getURITemplate().getValue();
+            httpMethod = operation.getHttpMethod();
+        }
+        if (httpMethod == null && exchange.getInMessage() != null) {
+            httpMethod = (String) exchange.getInMessage().get(Message.HTTP_REQUEST_METHOD);
+        }
+        String tenantDomain = (String) exchange.get(EndpointMetricsInInterceptor.REQUEST_TENANT_DOMAIN);
+
+        EndpointMetrics.getInstance().record(endpoint, StringUtils.defaultString(httpMethod),
+                StringUtils.defaultString(tenantDomain), getStatus(message), duration);
+    }
+
+    private static String getEndpointAddress(Exchange exchange) {
+
+        Endpoint endpoint = exchange.getEndpoint();
+        if (endpoint == null || endpoint.getEndpointInfo() == null) {
+            return StringUtils.EMPTY;
+        }
+        return StringUtils.removeEnd(StringUtils.defaultString(endpoint.getEndpointInfo().getAddress()), "/");
+    }
+
+    private static int getStatus(Message message) {
+
+        Object status = message.get(Message.RESPONSE_CODE);
+        if (status instanceof Integer) {
+            return (Integer) status;
+        }
+        if (message == message.getExchange().getOutFaultMessage()) {
+            return Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
+        }
+        return Response.Status.OK.getStatusCode();
+    }
+}
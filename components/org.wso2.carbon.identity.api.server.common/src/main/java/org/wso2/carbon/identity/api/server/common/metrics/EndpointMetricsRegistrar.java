@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.message.Message;
+
+import java.util.List;
+
+/**
+ * Registers the endpoint metrics interceptors on the CXF bus of the server API web application and exposes
+ * {@link EndpointMetrics} over JMX. When backend call timing is enabled, the {@link BackendCallMetrics} are exposed
+ * as well and the backend calls of each request are reported in the Server-Timing response header.
+ *
+ * Each API declares this bean in its cxf configuration under the same bean id, and registration is idempotent, so
+ * the interceptors are added only once per bus.
+ */
+public class EndpointMetricsRegistrar {
+
+    /**
+     * Add the endpoint metrics interceptors to the given bus.
+     *
+     * @param bus CXF bus serving the server APIs.
+     */
+    public void setBus(Bus bus) {
+
+        synchronized (bus) {
+            if (!containsInstanceOf(bus.getInInterceptors(), EndpointMetricsInInterceptor.class)) {
+                bus.getInInterceptors().add(new EndpointMetricsInInterceptor());
+            }
+            if (!containsInstanceOf(bus.getOutInterceptors(), EndpointMetricsOutInterceptor.class)) {
+                bus.getOutInterceptors().add(new EndpointMetricsOutInterceptor());
+            }
+            if (!containsInstanceOf(bus.getOutFaultInterceptors(), EndpointMetricsOutInterceptor.class)) {
+                bus.getOutFaultInterceptors().add(new EndpointMetricsOutInterceptor());
+            }
+            if (BackendTimingProxy.isEnabled()) {
+                if (!containsInstanceOf(bus.getInInterceptors(), ServerTimingInInterceptor.class)) {
+                    bus.getInInterceptors().add(new ServerTimingInInterceptor());
+                }
+                if (!containsInstanceOf(bus.getOutInterceptors(), ServerTimingOutInterceptor.class)) {
+                    bus.getOutInterceptors().add(new ServerTimingOutInterceptor());
+                }
+                if (!containsInstanceOf(bus.getOutFaultInterceptors(), ServerTimingOutInterceptor.class)) {
+                    bus.getOutFaultInterceptors().add(new ServerTimingOutInterceptor());
+                }
+            }
+        }
+        EndpointMetrics.getInstance().registerMBean();
+        if (BackendTimingProxy.isEnabled()) {
+            BackendCallMetrics.getInstance().registerMBean();
+        }
+    }
+
+    private static boolean containsInstanceOf(List<Interceptor<? extends Message>> interceptors, Class<?> type) {
+
+        for (Interceptor<? extends Message> interceptor : interceptors) {
+            if (type.isInstance(interceptor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
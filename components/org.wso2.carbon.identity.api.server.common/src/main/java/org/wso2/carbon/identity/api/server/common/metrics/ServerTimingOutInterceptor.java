@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.metrics;
+
+import org.apache.cxf.jaxrs.interceptor.JAXRSOutInterceptor;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageContentsList;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Adds the backend calls made while serving a server API request to the response as a
+ * {@value BackendCallContext#SERVER_TIMING_HEADER} header. Runs right before the response is serialized, since the
+ * headers can no longer be changed once the entity is written.
+ */
+public class ServerTimingOutInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    public ServerTimingOutInterceptor() {
+
+        super(Phase.MARSHAL);
+        addBefore(JAXRSOutInterceptor.class.getName());
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+
+        String serverTiming = BackendCallContext.end();
+        if (serverTiming == null) {
+            return;
+        }
+        MessageContentsList contents = MessageContentsList.getContentsList(message);
+        if (contents != null && !contents.isEmpty() && contents.get(0) instanceof Response) {
+            ((Response) contents.get(0)).getMetadata().add(BackendCallContext.SERVER_TIMING_HEADER, serverTiming);
+        }
+    }
+}
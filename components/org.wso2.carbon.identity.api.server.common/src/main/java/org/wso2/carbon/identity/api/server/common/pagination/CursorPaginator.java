@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Resolves the 'after' and 'before' cursor parameters of a list request to the window of items to be fetched from
+ * the backend, selects the requested page from that window, and builds the cursor based 'next' and 'previous'
+ * links of the page.
+ *
+ * The window includes the item identified by the cursor, so that the page can be aligned on its sort key when items
+ * were added or removed ahead of the cursor since it was issued. Backends which only page by offset are still
+ * queried by offset, and the cursor position is used as the starting point of the window.
+ *
+ * The cursors are positions in a sorted result set, hence the links carry the filter and the sort parameters of the
+ * request, so that the following pages are fetched in the same order.
+ */
+public class CursorPaginator {
+
+    private static final Log LOG = LogFactory.getLog(CursorPaginator.class);
+    private static final String PAGE_LINK_REL_NEXT = "next";
+    private static final String PAGE_LINK_REL_PREVIOUS = "previous";
+    private static final String CURSOR_AFTER_QUERY_FORMAT = "?limit=%d&after=%s";
+    private static final String CURSOR_BEFORE_QUERY_FORMAT = "?limit=%d&before=%s";
+    private static final String FILTER_QUERY_FORMAT = "&filter=%s";
+    private static final String SORT_BY_QUERY_FORMAT = "&sortBy=%s";
+    private static final String SORT_ORDER_QUERY_FORMAT = "&sortOrder=%s";
+
+    private final PaginationCursor cursor;
+    private final boolean backward;
+    private final int limit;
+    private final int fetchOffset;
+    private final int fetchLimit;
+    private final String sortBy;
+    private final String sortOrder;
+    private int pageOffset;
+
+    private CursorPaginator(PaginationCursor cursor, boolean backward, int limit, String sortBy, String sortOrder) {
+
+        this.cursor = cursor;
+        this.backward = backward;
+        this.limit = limit;
+        this.sortBy = sortBy;
+        this.sortOrder = sortOrder;
+        if (backward) {
+            this.fetchOffset = Math.max(0, cursor.getPosition() - limit);
+            this.fetchLimit = cursor.getPosition() - fetchOffset + 1;
+        } else {
+            this.fetchOffset = cursor.getPosition();
+            this.fetchLimit = limit + 1;
+        }
+        this.pageOffset = fetchOffset;
+    }
+
+    /**
+     * Check whether the request pages with a cursor.
+     *
+     * @param after  Value of the 'after' parameter.
+     * @param before Value of the 'before' parameter.
+     * @return True if either of the cursor parameters is present.
+     */
+    public static boolean isCursorRequest(String after, String before) {
+
+        return StringUtils.isNotBlank(after) || StringUtils.isNotBlank(before);
+    }
+
+    /**
+     * Create a paginator for a cursor request of an unsorted list.
+     *
+     * @param after  Value of the 'after' parameter.
+     * @param before Value of the 'before' parameter.
+     * @param offset Value of the 'offset' parameter, which must not be used along with a cursor.
+     * @param limit  Value of the 'limit' parameter.
+     * @return Paginator for the request.
+     * @throws APIError If the cursor is malformed or conflicting parameters are present.
+     * @see #forRequest(String, String, Integer, Integer, String, String)
+     */
+    public static CursorPaginator forRequest(String after, String before, Integer offset, Integer limit) {
+
+        return forRequest(after, before, offset, limit, null, null);
+    }
+
+    /**
+     * Create a paginator for a cursor request.
+     *
+     * @param after     Value of the 'after' parameter.
+     * @param before    Value of the 'before' parameter.
+     * @param offset    Value of the 'offset' parameter, which must not be used along with a cursor.
+     * @param limit     Value of the 'limit' parameter. The configured default page size is used when it is not
+     *                  specified, and the page size is capped at the configured maximum.
+     * @param sortBy    Value of the 'sortBy' parameter, which is carried in the page links.
+     * @param sortOrder Value of the 'sortOrder' parameter, which is carried in the page links.
+     * @return Paginator for the request.
+     * @throws APIError If the cursor is malformed or conflicting parameters are present.
+     */
+    public static CursorPaginator forRequest(String after, String before, Integer offset, Integer limit,
+                                             String sortBy, String sortOrder) {
+
+        if ((StringUtils.isNotBlank(after) && StringUtils.isNotBlank(before)) || (offset != null && offset != 0)) {
+            throw buildError(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessages.ERROR_CODE_CONFLICTING_PAGINATION_PARAMETERS);
+        }
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, IdentityUtil.getMaximumItemPerPage()) :
+                IdentityUtil.getDefaultItemsPerPage();
+        if (StringUtils.isNotBlank(before)) {
+            return new CursorPaginator(PaginationCursor.decode(before), true, pageSize, sortBy, sortOrder);
+        }
+        return new CursorPaginator(PaginationCursor.decode(after), false, pageSize, sortBy, sortOrder);
+    }
+
+    /**
+     * Get the offset from which the backend should be queried.
+     *
+     * @return Offset of the window.
+     */
+    public int getFetchOffset() {
+
+        return fetchOffset;
+    }
+
+    /**
+     * Get the number of items the backend should be queried for.
+     *
+     * @return Size of the window.
+     */
+    public int getFetchLimit() {
+
+        return fetchLimit;
+    }
+
+    /**
+     * Get the page size of the request.
+     *
+     * @return Page size.
+     */
+    public int getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Get the offset of the first item of the page selected by {@link #selectPage(List, Function)}.
+     *
+     * @return Offset of the page.
+     */
+    public int getPageOffset() {
+
+        return pageOffset;
+    }
+
+    /**
+     * Select the requested page from the window returned by the backend, excluding the item identified by the
+     * cursor.
+     *
+     * @param window  Items returned by the backend for the window.
+     * @param sortKey Function which returns the sort key of an item.
+     * @param <T>     Type of the items.
+     * @return Items of the page.
+     */
+    public <T> List<T> selectPage(List<T> window, Function<? super T, String> sortKey) {
+
+        if (window == null || window.isEmpty()) {
+            pageOffset = fetchOffset;
+            return Collections.emptyList();
+        }
+        int cursorIndex = indexOfCursor(window, sortKey);
+        int from;
+        int to;
+        if (backward) {
+            if (cursorIndex < 0) {
+                // The cursor item is gone, so the page ends where it used to be.
+                cursorIndex = Math.min(window.size(), cursor.getPosition() - fetchOffset);
+            }
+            from = Math.max(0, cursorIndex - limit);
+            to = cursorIndex;
+        } else {
+            // When the cursor item is gone, the items following it have moved to the start of the window.
+            from = cursorIndex + 1;
+            to = Math.min(window.size(), from + limit);
+        }
+        if (cursorIndex < 0 && LOG.isDebugEnabled()) {
+            LOG.debug("Item of the pagination cursor at position: " + cursor.getPosition() + " is no longer in the "
+                    + "result set. Paging from the cursor position.");
+        }
+        pageOffset = fetchOffset + from;
+        return window.subList(from, to);
+    }
+
+    /**
+     * Build the cursor based 'next' and 'previous' links of a page. The links carry the filter, and the sort
+     * parameters the paginator was created with.
+     *
+     * @param servicePathComponent API service path. E.g: /applications
+     * @param page                 Items of the page.
+     * @param sortKey              Function which returns the sort key of an item.
+     * @param total                Total number of items in the result set.
+     * @param filter               Filter of the request, if any.
+     * @param <T>                  Type of the items.
+     * @return A map containing pagination link key-value pairs.
+     */
+    public <T> Map<String, String> buildLinks(String servicePathComponent, List<T> page,
+                                              Function<? super T, String> sortKey, int total, String filter) {
+
+        Map<String, String> links = new HashMap<>();
+        if (page.isEmpty()) {
+            return links;
+        }
+        String pageURL = ContextLoader.getLinkBuilderForBody(Constants.V1_API_PATH_COMPONENT + servicePathComponent)
+                .build();
+        String query = buildQuery(FILTER_QUERY_FORMAT, filter) + buildQuery(SORT_BY_QUERY_FORMAT, sortBy) +
+                buildQuery(SORT_ORDER_QUERY_FORMAT, sortOrder);
+
+        int lastPosition = pageOffset + page.size() - 1;
+        if (lastPosition + 1 < total) {
+            String next = new PaginationCursor(lastPosition, sortKey.apply(page.get(page.size() - 1))).encode();
+            links.put(PAGE_LINK_REL_NEXT, pageURL + String.format(CURSOR_AFTER_QUERY_FORMAT, limit, next)
+                    + query);
+        }
+        if (pageOffset > 0) {
+            String previous = new PaginationCursor(pageOffset, sortKey.apply(page.get(0))).encode();
+            links.put(PAGE_LINK_REL_PREVIOUS, pageURL + String.format(CURSOR_BEFORE_QUERY_FORMAT, limit, previous)
+                    + query);
+        }
+        return links;
+    }
+
+    private <T> int indexOfCursor(List<T> window, Function<? super T, String> sortKey) {
+
+        if (backward) {
+            for (int i = window.size() - 1; i >= 0; i--) {
+                if (Objects.equals(cursor.getSortKey(), sortKey.apply(window.get(i)))) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < window.size(); i++) {
+                if (Objects.equals(cursor.getSortKey(), sortKey.apply(window.get(i)))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String buildQuery(String queryFormat, String value) {
+
+        if (StringUtils.isBlank(value)) {
+            return StringUtils.EMPTY;
+        }
+        try {
+            return String.format(queryFormat, URLEncoder.encode(value, StandardCharsets.UTF_8.name()));
+        } catch (UnsupportedEncodingException e) {
+            throw buildError(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessages.ERROR_CODE_BUILDING_PAGINATION_LINKS);
+        }
+    }
+
+    private static APIError buildError(Response.Status status, Constants.ErrorMessages error) {
+
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(error.getDescription())
+                .build(LOG, error.getDescription());
+        return new APIError(status, errorResponse);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Opaque pagination cursor which identifies the item a page starts after, or ends before. The cursor carries the
+ * sort key of that item along with its position in the result set, and is exchanged with clients as a base64url
+ * encoded string.
+ */
+public class PaginationCursor {
+
+    private static final Log LOG = LogFactory.getLog(PaginationCursor.class);
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = ":";
+
+    private final int position;
+    private final String sortKey;
+
+    /**
+     * Create a cursor for the item at the given position.
+     *
+     * @param position Zero based position of the item in the result set.
+     * @param sortKey  Sort key of the item.
+     */
+    public PaginationCursor(int position, String sortKey) {
+
+        this.position = position;
+        this.sortKey = sortKey != null ? sortKey : StringUtils.EMPTY;
+    }
+
+    /**
+     * Get the position of the item identified by the cursor.
+     *
+     * @return Zero based position of the item in the result set.
+     */
+    public int getPosition() {
+
+        return position;
+    }
+
+    /**
+     * Get the sort key of the item identified by the cursor.
+     *
+     * @return Sort key of the item.
+     */
+    public String getSortKey() {
+
+        return sortKey;
+    }
+
+    /**
+     * Encode the cursor to be sent to the client.
+     *
+     * @return Base64url encoded cursor.
+     */
+    public String encode() {
+
+        String value = VERSION + SEPARATOR + position + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor received from the client.
+     *
+     * @param encodedCursor Base64url encoded cursor.
+     * @return Decoded cursor.
+     * @throws APIError If the cursor is malformed.
+     */
+    public static PaginationCursor decode(String encodedCursor) {
+
+        String value;
+        try {
+            value = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw buildInvalidCursorError(encodedCursor);
+        }
+        // The sort key is kept last, since it may contain the separator.
+        String[] parts = value.split(SEPARATOR, 3);
+        if (parts.length != 3 || !VERSION.equals(parts[0]) || !StringUtils.isNumeric(parts[1])
+                || StringUtils.isEmpty(parts[1])) {
+            throw buildInvalidCursorError(encodedCursor);
+        }
+        int position;
+        try {
+            position = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw buildInvalidCursorError(encodedCursor);
+        }
+        String sortKey = parts[2];
+        return new PaginationCursor(position, sortKey);
+    }
+
+    private static APIError buildInvalidCursorError(String encodedCursor) {
+
+        Constants.ErrorMessages error = Constants.ErrorMessages.ERROR_CODE_INVALID_PAGINATION_CURSOR;
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(error.getDescription())
+                .build(LOG, "Invalid pagination cursor: " + encodedCursor);
+        return new APIError(Response.Status.BAD_REQUEST, errorResponse);
+    }
+}
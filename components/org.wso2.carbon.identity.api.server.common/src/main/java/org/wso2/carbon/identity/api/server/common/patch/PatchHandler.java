@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.patch;
+
+import java.util.List;
+
+/**
+ * Applies a patch operation on a path of a resource.
+ *
+ * @param <T> Type of the resource being patched.
+ */
+@FunctionalInterface
+public interface PatchHandler<T> {
+
+    /**
+     * Apply the operation.
+     *
+     * @param target     Working copy of the resource.
+     * @param parameters Values of the parameter segments of the matched path, in order. Index parameters are digits.
+     * @param value      Value of the patch operation.
+     */
+    void apply(T target, List<String> parameters, String value);
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.patch;
+
+/**
+ * Operations of a JSON patch supported by the server APIs.
+ */
+public enum PatchOperation {
+
+    ADD,
+    REMOVE,
+    REPLACE;
+
+    /**
+     * Resolve the operation of a patch of an API model. The operation enums of the API models are generated per API,
+     * and their values are the same as the names of these operations.
+     *
+     * @param operation Operation of the API model.
+     * @return Patch operation, or null if the operation is not given or not supported.
+     */
+    public static PatchOperation of(Object operation) {
+
+        if (operation == null) {
+            return null;
+        }
+        String value = operation.toString();
+        for (PatchOperation patchOperation : values()) {
+            if (patchOperation.name().equals(value)) {
+                return patchOperation;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.patch;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Compiled set of the JSON patch operations supported on a resource type, E.g. replace of {@code /name} and add of
+ * {@code /certificate/certificates/{index}}.
+ *
+ * The supported paths are compiled into a trie of path segments when the router is built, so a patch document is
+ * applied by walking the segments of each path once and dispatching to the handler of the operation, without matching
+ * any regular expressions. A patch document is applied in a single pass over its operations, on a working copy of the
+ * resource supplied by the caller.
+ *
+ * Path templates are JSON pointers. A {@code {index}} segment matches an array index, and any other {@code {...}}
+ * segment matches any segment, with the JSON pointer escapes decoded. Literal segments take precedence over parameter
+ * segments. Routers are immutable and can be shared between requests.
+ *
+ * @param <T> Type of the resource being patched.
+ */
+public final class PatchRouter<T> {
+
+    private static final char SEPARATOR = '/';
+    private static final String INDEX_PARAMETER = "{index}";
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    private final Node<T> root;
+    private final BiFunction<PatchOperation, String, ? extends RuntimeException> unsupported;
+
+    private PatchRouter(Builder<T> builder) {
+
+        this.root = builder.root;
+        this.unsupported = builder.unsupported;
+    }
+
+    /**
+     * Apply the operations of a patch document in order.
+     *
+     * @param target    Working copy of the resource.
+     * @param patches   Patch operations of the API model.
+     * @param operation Accessor of the operation of a patch.
+     * @param path      Accessor of the path of a patch.
+     * @param value     Accessor of the value of a patch.
+     * @param <P>       Type of the patch operations of the API model.
+     */
+    public <P> void apply(T target, List<P> patches, Function<P, ?> operation, Function<P, String> path,
+                          Function<P, String> value) {
+
+        if (patches == null || patches.isEmpty()) {
+            return;
+        }
+        for (P patch : patches) {
+            apply(target, PatchOperation.of(operation.apply(patch)), path.apply(patch), value.apply(patch));
+        }
+    }
+
+    /**
+     * Apply a patch operation.
+     *
+     * @param target    Working copy of the resource.
+     * @param operation Patch operation.
+     * @param path      Path of the patch operation.
+     * @param value     Value of the patch operation.
+     */
+    public void apply(T target, PatchOperation operation, String path, String value) {
+
+        List<String> parameters = new ArrayList<>(2);
+        Node<T> node = operation == null ? null : match(path, parameters);
+        PatchHandler<T> handler = node == null ? null : node.handlers.get(operation);
+        if (handler == null) {
+            throw unsupported.apply(operation, path);
+        }
+        handler.apply(target, Collections.unmodifiableList(parameters), value);
+    }
+
+    private Node<T> match(String path, List<String> parameters) {
+
+        if (StringUtils.isEmpty(path) || path.charAt(0) != SEPARATOR) {
+            return null;
+        }
+        Node<T> node = root;
+        int start = 1;
+        while (node != null) {
+            int end = path.indexOf(SEPARATOR, start);
+            String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+            Node<T> next = node.children.get(segment);
+            if (next == null) {
+                if (node.index != null && isIndex(segment)) {
+                    next = node.index;
+                    parameters.add(segment);
+                } else if (node.parameter != null) {
+                    next = node.parameter;
+                    parameters.add(unescape(segment));
+                }
+            }
+            node = next;
+            if (end < 0) {
+                return node;
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static boolean isIndex(String segment) {
+
+        if (segment.isEmpty() || segment.length() > MAX_INDEX_DIGITS) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String unescape(String segment) {
+
+        if (segment.indexOf('~') < 0) {
+            return segment;
+        }
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Segment of the supported paths.
+     */
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> children = new HashMap<>();
+        private final Map<PatchOperation, PatchHandler<T>> handlers = new EnumMap<>(PatchOperation.class);
+        private Node<T> index;
+        private Node<T> parameter;
+    }
+
+    /**
+     * Builder of a {@link PatchRouter}.
+     *
+     * @param <T> Type of the resource being patched.
+     */
+    public static final class Builder<T> {
+
+        private final Node<T> root = new Node<>();
+        private final BiFunction<PatchOperation, String, ? extends RuntimeException> unsupported;
+
+        /**
+         * Create a builder.
+         *
+         * @param unsupported Builds the error thrown for an operation and path which are not supported. The
+         *                    operation is null when it is not given or not supported on any path.
+         */
+        public Builder(BiFunction<PatchOperation, String, ? extends RuntimeException> unsupported) {
+
+            this.unsupported = unsupported;
+        }
+
+        /**
+         * Support an operation on a path.
+         *
+         * @param operation    Patch operation.
+         * @param pathTemplate JSON pointer of the path, with {@code {index}} or {@code {name}} parameter segments.
+         * @param handler      Handler applying the operation.
+         * @return This builder.
+         */
+        public Builder<T> on(PatchOperation operation, String pathTemplate, PatchHandler<T> handler) {
+
+            if (StringUtils.isEmpty(pathTemplate) || pathTemplate.charAt(0) != SEPARATOR) {
+                throw new IllegalArgumentException("Patch path should start with '/': " + pathTemplate);
+            }
+            Node<T> node = root;
+            for (String segment : StringUtils.splitPreserveAllTokens(pathTemplate.substring(1),
+                    String.valueOf(SEPARATOR))) {
+                if (INDEX_PARAMETER.equals(segment)) {
+                    if (node.index == null) {
+                        node.index = new Node<>();
+                    }
+                    node = node.index;
+                } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (node.parameter == null) {
+                        node.parameter = new Node<>();
+                    }
+                    node = node.parameter;
+                } else {
+                    node = node.children.computeIfAbsent(segment, key -> new Node<>());
+                }
+            }
+            if (node.handlers.put(operation, handler) != null) {
+                throw new IllegalArgumentException("Duplicate handler for " + operation + " " + pathTemplate);
+            }
+            return this;
+        }
+
+        public PatchRouter<T> build() {
+
+            return new PatchRouter<>(this);
+        }
+    }
+}
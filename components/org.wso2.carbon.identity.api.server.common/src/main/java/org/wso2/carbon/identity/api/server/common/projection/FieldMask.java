@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled form of an {@code attributes} or {@code requiredAttributes} query parameter, E.g.
+ * {@code claimURI,displayName,attributeMapping.userstore}.
+ *
+ * Mappers consult the mask before computing a field, so that fields which are not requested are neither fetched nor
+ * built, and {@link #getWriter()} serializes only the included fields of the API models. Nested fields are given with
+ * dotted paths, and a field included without nested paths is included with all of its nested fields. Arrays are
+ * transparent, so the same paths apply to a single model and to the elements of a list of models.
+ *
+ * Masks are immutable, and the masks parsed from recent parameter values are cached.
+ */
+public final class FieldMask {
+
+    /**
+     * Mask which includes every field.
+     */
+    public static final FieldMask ALL = new FieldMask(null);
+
+    private static final String FILTER_ID = "fieldMask";
+    private static final int MAX_CACHED_MASKS = 1000;
+    private static final ConcurrentMap<String, FieldMask> PARSED_MASKS = new ConcurrentHashMap<>();
+    private static final ObjectMapper PROJECTING_MAPPER = ObjectMapperRegistry.getObjectMapper().copy()
+            .setAnnotationIntrospector(new FieldMaskAnnotationIntrospector());
+
+    // Null when all the fields are included.
+    private final Map<String, FieldMask> fields;
+    private volatile ObjectWriter writer;
+
+    private FieldMask(Map<String, FieldMask> fields) {
+
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a comma separated list of field paths.
+     *
+     * @param attributes Field paths. A blank value includes every field.
+     * @return Field mask.
+     */
+    public static FieldMask parse(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return ALL;
+        }
+        FieldMask mask = PARSED_MASKS.get(attributes);
+        if (mask == null) {
+            mask = of(Arrays.asList(StringUtils.split(attributes, ',')));
+            if (PARSED_MASKS.size() >= MAX_CACHED_MASKS) {
+                PARSED_MASKS.clear();
+            }
+            PARSED_MASKS.putIfAbsent(attributes, mask);
+        }
+        return mask;
+    }
+
+    /**
+     * Parse a comma separated list of field names, without treating dots as nested paths. Used for fields whose names
+     * may contain dots, such as user store property names.
+     *
+     * @param attributes Field names. A blank value includes every field.
+     * @return Field mask.
+     */
+    public static FieldMask parseNames(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return ALL;
+        }
+        Map<String, FieldMask> fields = new LinkedHashMap<>();
+        for (String name : StringUtils.split(attributes, ',')) {
+            String field = StringUtils.trimToEmpty(name);
+            if (!field.isEmpty()) {
+                fields.put(field, ALL);
+            }
+        }
+        return new FieldMask(fields);
+    }
+
+    /**
+     * Create a mask including the given field paths.
+     *
+     * @param paths Field paths. E.g. attributeMapping.userstore
+     * @return Field mask.
+     */
+    public static FieldMask of(Collection<String> paths) {
+
+        Map<String, FieldMask> fields = new LinkedHashMap<>();
+        for (String path : paths) {
+            addPath(fields, StringUtils.trimToEmpty(path));
+        }
+        return new FieldMask(fields);
+    }
+
+    /**
+     * Create a mask including the fields of this mask and the given field paths. Fields which are always returned,
+     * such as identifiers, are added to the requested mask with this.
+     *
+     * @param paths Field paths to include.
+     * @return Field mask.
+     */
+    public FieldMask with(String... paths) {
+
+        if (isAll()) {
+            return this;
+        }
+        Map<String, FieldMask> merged = new LinkedHashMap<>(fields);
+        for (String path : paths) {
+            addPath(merged, path);
+        }
+        return new FieldMask(merged);
+    }
+
+    /**
+     * Whether every field is included.
+     *
+     * @return True if the mask does not exclude any field.
+     */
+    public boolean isAll() {
+
+        return fields == null;
+    }
+
+    /**
+     * Whether the given field is included, fully or through some of its nested fields.
+     *
+     * @param field Field name.
+     * @return True if the field is to be computed and serialized.
+     */
+    public boolean includes(String field) {
+
+        return fields == null || fields.containsKey(field);
+    }
+
+    /**
+     * Get the mask of the nested fields of a field.
+     *
+     * @param field Field name.
+     * @return Mask of the nested fields, {@link #ALL} if the field is fully included, or null if the field is not
+     * included.
+     */
+    public FieldMask getChild(String field) {
+
+        return fields == null ? ALL : fields.get(field);
+    }
+
+    /**
+     * Get the names of the included top level fields.
+     *
+     * @return Field names, or an empty set if every field is included.
+     */
+    public Set<String> getFields() {
+
+        return fields == null ? Collections.emptySet() : Collections.unmodifiableSet(fields.keySet());
+    }
+
+    /**
+     * Get a writer which serializes only the included fields of the API models.
+     *
+     * @return Object writer applying this mask.
+     */
+    public ObjectWriter getWriter() {
+
+        if (isAll()) {
+            return ObjectMapperRegistry.getWriter();
+        }
+        ObjectWriter fieldMaskWriter = writer;
+        if (fieldMaskWriter == null) {
+            fieldMaskWriter = PROJECTING_MAPPER.writer(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, new FieldMaskFilter(this)));
+            writer = fieldMaskWriter;
+        }
+        return fieldMaskWriter;
+    }
+
+    private static void addPath(Map<String, FieldMask> fields, String path) {
+
+        if (path.isEmpty()) {
+            return;
+        }
+        int separator = path.indexOf('.');
+        if (separator < 0) {
+            fields.put(path, ALL);
+            return;
+        }
+        String field = path.substring(0, separator);
+        FieldMask child = fields.get(field);
+        if (child == ALL) {
+            // The field is already fully included.
+            return;
+        }
+        Map<String, FieldMask> childFields = child == null ? new LinkedHashMap<>() : new LinkedHashMap<>(child.fields);
+        addPath(childFields, path.substring(separator + 1));
+        fields.put(field, new FieldMask(childFields));
+    }
+
+    /**
+     * Applies the field mask filter to all the serialized beans, so that the API models need not be annotated.
+     */
+    private static final class FieldMaskAnnotationIntrospector extends JacksonAnnotationIntrospector {
+
+        private static final long serialVersionUID = 4460519286393307419L;
+
+        @Override
+        public Object findFilterId(Annotated annotated) {
+
+            if (annotated instanceof AnnotatedClass && !Map.class.isAssignableFrom(annotated.getRawType())) {
+                return FILTER_ID;
+            }
+            return super.findFilterId(annotated);
+        }
+    }
+}
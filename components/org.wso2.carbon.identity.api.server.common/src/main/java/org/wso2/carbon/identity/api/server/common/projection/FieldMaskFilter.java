@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.projection;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Jackson property filter which writes a bean property only if its path is included in a {@link FieldMask}. The path
+ * of the bean being written is taken from the output context of the generator, skipping the array levels.
+ */
+class FieldMaskFilter extends SimpleBeanPropertyFilter {
+
+    private final FieldMask mask;
+
+    FieldMaskFilter(FieldMask mask) {
+
+        this.mask = mask;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+
+        FieldMask beanMask = resolveMask(jgen.getOutputContext());
+        if (beanMask != null && beanMask.includes(writer.getName())) {
+            writer.serializeAsField(pojo, jgen, provider);
+        } else if (!jgen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, jgen, provider);
+        }
+    }
+
+    private FieldMask resolveMask(JsonStreamContext beanContext) {
+
+        Deque<String> path = new ArrayDeque<>();
+        for (JsonStreamContext context = beanContext.getParent(); context != null && !context.inRoot();
+             context = context.getParent()) {
+            if (context.inObject()) {
+                path.push(context.getCurrentName());
+            }
+        }
+        FieldMask beanMask = mask;
+        for (String field : path) {
+            if (beanMask == null || beanMask.isAll()) {
+                break;
+            }
+            beanMask = beanMask.getChild(field);
+        }
+        return beanMask;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.ratelimit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * Admits the server API requests through the {@link TenantRateLimiter}. A request of a tenant which has exceeded the
+ * limit of the request class is answered with a 429 and a Retry-After header, without invoking the resource method.
+ */
+public class RateLimitInterceptor extends AbstractPhaseInterceptor<Message> {
+
+    private static final Log LOG = LogFactory.getLog(RateLimitInterceptor.class);
+
+    public RateLimitInterceptor() {
+
+        super(Phase.PRE_INVOKE);
+    }
+
+    @Override
+    public void handleMessage(Message message) {
+
+        if (message.getExchange().get(Response.class) != null) {
+            return;
+        }
+        RequestClass requestClass = RequestClass.of((String) message.get(Message.HTTP_REQUEST_METHOD),
+                (String) message.get(Message.REQUEST_URI));
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        long retryAfterNanos = TenantRateLimiter.getInstance().tryAcquire(tenantDomain, requestClass);
+        if (retryAfterNanos > 0) {
+            message.getExchange().put(Response.class, buildTooManyRequestsResponse(tenantDomain, requestClass,
+                    retryAfterNanos));
+        }
+    }
+
+    private static Response buildTooManyRequestsResponse(String tenantDomain, RequestClass requestClass,
+                                                         long retryAfterNanos) {
+
+        long retryAfterSeconds = toRetryAfterSeconds(retryAfterNanos);
+        Constants.ErrorMessages error = Constants.ErrorMessages.ERROR_CODE_TOO_MANY_REQUESTS;
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(error.getCode())
+                .withMessage(error.getMessage())
+                .withDescription(String.format(error.getDescription(), requestClass.getPropertyName(),
+                        retryAfterSeconds))
+                .build(LOG, "Rejected a " + requestClass.getPropertyName() + " request of the tenant: " +
+                        tenantDomain + " as the tenant has exceeded its rate limit.");
+        return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .type(MediaType.APPLICATION_JSON)
+                .entity(errorResponse)
+                .build();
+    }
+
+    /**
+     * Round the wait until a token becomes available up to whole seconds, as required by the Retry-After header.
+     *
+     * @param retryAfterNanos Nanoseconds until a token becomes available.
+     * @return Seconds to wait, at least 1.
+     */
+    static long toRetryAfterSeconds(long retryAfterNanos) {
+
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (retryAfterNanos + second - 1) / second);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.ratelimit;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.interceptor.Interceptor;
+import org.apache.cxf.message.Message;
+
+/**
+ * Registers the {@link RateLimitInterceptor} on the CXF bus of the server API web application, if rate limiting is
+ * enabled. Each API declares this bean in its cxf configuration under the same bean id, and registration is
+ * idempotent, so the interceptor is added only once per bus.
+ */
+public class RateLimitRegistrar {
+
+    /**
+     * Add the rate limit interceptor to the given bus.
+     *
+     * @param bus CXF bus serving the server APIs.
+     */
+    public void setBus(Bus bus) {
+
+        if (!TenantRateLimiter.isEnabled()) {
+            return;
+        }
+        synchronized (bus) {
+            for (Interceptor<? extends Message> interceptor : bus.getInInterceptors()) {
+                if (interceptor instanceof RateLimitInterceptor) {
+                    return;
+                }
+            }
+            bus.getInInterceptors().add(new RateLimitInterceptor());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.ratelimit;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Locale;
+
+import javax.ws.rs.HttpMethod;
+
+/**
+ * Classes of server API requests which are rate limited separately.
+ */
+public enum RequestClass {
+
+    /**
+     * Requests which only read resources.
+     */
+    READ,
+
+    /**
+     * Requests which create, update or delete resources.
+     */
+    WRITE,
+
+    /**
+     * Requests which are expensive for the server, such as imports, exports, bulk requests, remote fetch triggers
+     * and tenant creation.
+     */
+    EXPENSIVE;
+
+    private static final String[] EXPENSIVE_PATH_SUFFIXES = {"/import", "/export", "/bulk", "/trigger"};
+    private static final String TENANTS_PATH_SUFFIX = "/tenants";
+    private static final String PATH_SEPARATOR = "/";
+
+    /**
+     * Name of the class as used in the configuration properties.
+     *
+     * @return Lower case name of the class. E.g. expensive
+     */
+    public String getPropertyName() {
+
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Classify a request by its method and path.
+     *
+     * @param httpMethod HTTP method of the request.
+     * @param path       Path of the request.
+     * @return Class of the request.
+     */
+    public static RequestClass of(String httpMethod, String path) {
+
+        String normalizedPath = StringUtils.removeEnd(StringUtils.defaultString(path), PATH_SEPARATOR);
+        for (String suffix : EXPENSIVE_PATH_SUFFIXES) {
+            if (normalizedPath.endsWith(suffix)) {
+                return EXPENSIVE;
+            }
+        }
+        if (HttpMethod.POST.equals(httpMethod) && normalizedPath.endsWith(TENANTS_PATH_SUFFIX)) {
+            return EXPENSIVE;
+        }
+        if (HttpMethod.GET.equals(httpMethod) || HttpMethod.HEAD.equals(httpMethod) ||
+                HttpMethod.OPTIONS.equals(httpMethod)) {
+            return READ;
+        }
+        return WRITE;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.ratelimit;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per tenant rate limiter of the server API requests. Each tenant has a {@link TokenBucket} for each
+ * {@link RequestClass}, so a tenant which floods the server with one class of requests neither affects the other
+ * tenants, nor its own requests of the other classes.
+ *
+ * The limits are configured with the following system properties, where the tenant specific property takes
+ * precedence. A rate of 0 disables the limit of the class.
+ * <ul>
+ * <li>identity.server.api.rateLimit.enabled: Whether the requests are rate limited. Default false.</li>
+ * <li>identity.server.api.rateLimit.[tenant.{tenant-domain}.]{class}.ratePerSecond: Sustained request rate, where
+ * the class is read, write or expensive. Default 100, 20 and 1 respectively.</li>
+ * <li>identity.server.api.rateLimit.[tenant.{tenant-domain}.]{class}.burst: Number of requests admitted at once
+ * after an idle period. Default 200, 40 and 5 respectively.</li>
+ * </ul>
+ * A request is charged a single token regardless of its size, so a bulk or a multi-get request costs as much as any
+ * other request of its class. Hence, when enabling the limits, size the expensive class for the operations a bulk
+ * request may carry, which are bounded by identity.server.api.bulk.maxOperations.
+ */
+public final class TenantRateLimiter {
+
+    private static final Log LOG = LogFactory.getLog(TenantRateLimiter.class);
+    private static final String PROPERTY_PREFIX = "identity.server.api.rateLimit.";
+    private static final String TENANT_PROPERTY_PREFIX = PROPERTY_PREFIX + "tenant.";
+    private static final String RATE_PROPERTY = ".ratePerSecond";
+    private static final String BURST_PROPERTY = ".burst";
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(PROPERTY_PREFIX + "enabled",
+            "false"));
+    private static final Map<RequestClass, Limit> DEFAULT_LIMITS = new EnumMap<>(RequestClass.class);
+    private static final TokenBucket UNLIMITED = null;
+    private static final TenantRateLimiter INSTANCE = new TenantRateLimiter();
+
+    static {
+        DEFAULT_LIMITS.put(RequestClass.READ, new Limit(100, 200));
+        DEFAULT_LIMITS.put(RequestClass.WRITE, new Limit(20, 40));
+        DEFAULT_LIMITS.put(RequestClass.EXPENSIVE, new Limit(1, 5));
+    }
+
+    private final ConcurrentMap<String, Map<RequestClass, TokenBucket>> tenantBuckets = new ConcurrentHashMap<>();
+
+    private TenantRateLimiter() {
+
+    }
+
+    public static TenantRateLimiter getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Whether the server API requests are rate limited.
+     *
+     * @return True if enabled with the identity.server.api.rateLimit.enabled system property.
+     */
+    public static boolean isEnabled() {
+
+        return ENABLED;
+    }
+
+    /**
+     * Admit a request of a tenant if the tenant has not exceeded the limit of the request class.
+     *
+     * @param tenantDomain Tenant domain of the request.
+     * @param requestClass Class of the request.
+     * @return 0 if the request is admitted, otherwise the nanoseconds after which it can be retried.
+     */
+    public long tryAcquire(String tenantDomain, RequestClass requestClass) {
+
+        String tenant = StringUtils.defaultString(tenantDomain);
+        Map<RequestClass, TokenBucket> buckets = tenantBuckets.get(tenant);
+        if (buckets == null) {
+            buckets = tenantBuckets.computeIfAbsent(tenant, TenantRateLimiter::createBuckets);
+        }
+        TokenBucket bucket = buckets.get(requestClass);
+        if (bucket == UNLIMITED) {
+            return 0;
+        }
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    private static Map<RequestClass, TokenBucket> createBuckets(String tenantDomain) {
+
+        Map<RequestClass, TokenBucket> buckets = new EnumMap<>(RequestClass.class);
+        for (RequestClass requestClass : RequestClass.values()) {
+            Limit defaultLimit = DEFAULT_LIMITS.get(requestClass);
+            String property = requestClass.getPropertyName();
+            String tenantProperty = TENANT_PROPERTY_PREFIX + tenantDomain + "." + property;
+            double rate = getDoubleProperty(tenantProperty + RATE_PROPERTY,
+                    getDoubleProperty(PROPERTY_PREFIX + property + RATE_PROPERTY, defaultLimit.ratePerSecond));
+            int burst = (int) getDoubleProperty(tenantProperty + BURST_PROPERTY,
+                    getDoubleProperty(PROPERTY_PREFIX + property + BURST_PROPERTY, defaultLimit.burst));
+            buckets.put(requestClass, rate > 0 ? new TokenBucket(rate, burst) : UNLIMITED);
+        }
+        return buckets;
+    }
+
+    private static double getDoubleProperty(String property, double defaultValue) {
+
+        String value = System.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid value: " + value + " for the rate limit property: " + property + ". Using the " +
+                    "default value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static final class Limit {
+
+        private final double ratePerSecond;
+        private final int burst;
+
+        private Limit(double ratePerSecond, int burst) {
+
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs test code as if it served a request of a tenant and an organization, by stubbing the {@link ContextLoader} on
+ * the calling thread. Static stubs are thread local, so code running on other threads must be wrapped separately.
+ */
+public final class ContextLoaderStub {
+
+    private ContextLoaderStub() {
+
+    }
+
+    /**
+     * Call the given code in the context of a request.
+     *
+     * @param tenantDomain   Tenant domain of the request.
+     * @param organizationId Organization ID of the request.
+     * @param callable       Code to call.
+     * @param <V>            Type of the result.
+     * @return Result of the code.
+     * @throws Exception If the code failed.
+     */
+    public static <V> V call(String tenantDomain, String organizationId, Callable<V> callable) throws Exception {
+
+        try (MockedStatic<ContextLoader> contextLoader = Mockito.mockStatic(ContextLoader.class)) {
+            contextLoader.when(ContextLoader::getTenantDomainFromContext).thenReturn(tenantDomain);
+            contextLoader.when(ContextLoader::getOrganizationIdFromContext).thenReturn(organizationId);
+            return callable.call();
+        }
+    }
+}
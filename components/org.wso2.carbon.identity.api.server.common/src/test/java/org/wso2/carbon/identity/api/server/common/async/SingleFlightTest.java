@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.async;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoaderStub;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests of {@link SingleFlight}.
+ */
+public class SingleFlightTest {
+
+    private static final String TENANT = "carbon.super";
+    private static final String ORGANIZATION = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    @Test(timeOut = TIMEOUT_MILLIS)
+    public void testConcurrentReadsShareComputation() throws Exception {
+
+        SingleFlight<String> singleFlight = new SingleFlight<>("test");
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        FutureTask<String> leader = start(() -> singleFlight.execute(() -> {
+            computations.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "result";
+        }, "query", 1));
+        started.await();
+        // The query parts are trimmed, so the follower reads the same key.
+        FutureTask<String> follower = startWaiting(() -> singleFlight.execute(() -> {
+            computations.incrementAndGet();
+            return "other";
+        }, " query ", 1));
+        release.countDown();
+
+        assertEquals(leader.get(), "result");
+        assertSame(follower.get(), leader.get());
+        assertEquals(computations.get(), 1);
+    }
+
+    @Test(timeOut = TIMEOUT_MILLIS)
+    public void testCheckedExceptionPropagatesToWaitingReads() throws Exception {
+
+        SingleFlight<String> singleFlight = new SingleFlight<>("test");
+        TestException failure = new TestException();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        FutureTask<String> leader = start(() -> singleFlight.execute(() -> {
+            started.countDown();
+            release.await();
+            throw failure;
+        }, "query"));
+        started.await();
+        FutureTask<String> follower = startWaiting(() -> singleFlight.<Exception>execute(() -> "other", "query"));
+        release.countDown();
+
+        assertSame(getFailure(leader), failure);
+        assertSame(getFailure(follower), failure);
+    }
+
+    @Test(timeOut = TIMEOUT_MILLIS)
+    public void testRuntimeExceptionPropagatesToWaitingReads() throws Exception {
+
+        SingleFlight<String> singleFlight = new SingleFlight<>("test");
+        IllegalStateException failure = new IllegalStateException("Backend failure.");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        FutureTask<String> leader = start(() -> singleFlight.execute(() -> {
+            started.countDown();
+            release.await();
+            throw failure;
+        }, "query"));
+        started.await();
+        FutureTask<String> follower = startWaiting(() -> singleFlight.<RuntimeException>execute(() -> "other",
+                "query"));
+        release.countDown();
+
+        assertSame(getFailure(leader), failure);
+        assertSame(getFailure(follower), failure);
+    }
+
+    @Test(timeOut = TIMEOUT_MILLIS)
+    public void testDifferentKeysAreNotShared() throws Exception {
+
+        SingleFlight<String> singleFlight = new SingleFlight<>("test");
+        SingleFlight<String> otherEndpoint = new SingleFlight<>("other");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        FutureTask<String> leader = start(() -> singleFlight.execute(() -> {
+            started.countDown();
+            release.await();
+            return "result";
+        }, "query", 1));
+        started.await();
+
+        // A read which wrongly joined the blocked read would not return before the test times out.
+        assertEquals(ContextLoaderStub.call(TENANT, ORGANIZATION,
+                () -> singleFlight.execute(() -> "other query", "query", 2)), "other query");
+        assertEquals(ContextLoaderStub.call("wso2.com", ORGANIZATION,
+                () -> singleFlight.execute(() -> "other tenant", "query", 1)), "other tenant");
+        assertEquals(ContextLoaderStub.call(TENANT, "a5a1b3c6-1bfc-4a64-8bfa-0aeb1e6b3c9e",
+                () -> singleFlight.execute(() -> "other organization", "query", 1)), "other organization");
+        assertEquals(ContextLoaderStub.call(TENANT, ORGANIZATION,
+                () -> otherEndpoint.execute(() -> "other endpoint", "query", 1)), "other endpoint");
+
+        release.countDown();
+        assertEquals(leader.get(), "result");
+    }
+
+    @Test
+    public void testCompletedReadsAreNotRetained() throws Exception {
+
+        SingleFlight<String> singleFlight = new SingleFlight<>("test");
+        AtomicInteger computations = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            ContextLoaderStub.call(TENANT, ORGANIZATION, () -> singleFlight.execute(() ->
+                    String.valueOf(computations.incrementAndGet()), "query"));
+        }
+        assertEquals(computations.get(), 2);
+    }
+
+    @Test
+    public void testFailedReadsAreNotRetained() throws Exception {
+
+        SingleFlight<String> singleFlight = new SingleFlight<>("test");
+
+        try {
+            ContextLoaderStub.call(TENANT, ORGANIZATION, () -> singleFlight.<TestException>execute(() -> {
+                throw new TestException();
+            }, "query"));
+            fail("Read did not fail.");
+        } catch (TestException e) {
+            // Expected.
+        }
+        assertEquals(ContextLoaderStub.call(TENANT, ORGANIZATION, () -> singleFlight.execute(() -> "result",
+                "query")), "result");
+    }
+
+    private static <V> FutureTask<V> start(Callable<V> callable) {
+
+        FutureTask<V> task = new FutureTask<>(() -> ContextLoaderStub.call(TENANT, ORGANIZATION, callable));
+        new Thread(task).start();
+        return task;
+    }
+
+    /**
+     * Start a read and wait until it waits for the read in flight.
+     */
+    private static <V> FutureTask<V> startWaiting(Callable<V> callable) throws InterruptedException {
+
+        FutureTask<V> task = new FutureTask<>(() -> ContextLoaderStub.call(TENANT, ORGANIZATION, callable));
+        Thread thread = new Thread(task);
+        thread.start();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (thread.getState() != Thread.State.WAITING && !task.isDone()) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Read did not wait for the read in flight.");
+            }
+            Thread.sleep(1);
+        }
+        return task;
+    }
+
+    private static Throwable getFailure(FutureTask<?> task) throws InterruptedException {
+
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        fail("Read did not fail.");
+        return null;
+    }
+
+    /**
+     * Checked exception of a backend computation.
+     */
+    private static class TestException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
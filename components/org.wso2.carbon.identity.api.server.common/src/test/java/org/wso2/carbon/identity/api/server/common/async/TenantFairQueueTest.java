@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.async;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link TenantFairQueue}.
+ */
+public class TenantFairQueueTest {
+
+    private static final String TENANT_A = "a.com";
+    private static final String TENANT_B = "b.com";
+
+    @Test
+    public void testTasksOfTenantsAreTakenInTurn() {
+
+        TenantFairQueue queue = new TenantFairQueue(10, 10);
+        for (int i = 0; i < 3; i++) {
+            queue.offer(TENANT_A, () -> { });
+        }
+        queue.offer(TENANT_B, () -> { });
+
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        assertEquals(queue.poll().getTenantDomain(), TENANT_B);
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testTasksOfTenantAreTakenInOrder() {
+
+        TenantFairQueue queue = new TenantFairQueue(10, 10);
+        Runnable first = () -> { };
+        Runnable second = () -> { };
+        queue.offer(TENANT_A, first);
+        queue.offer(TENANT_A, second);
+
+        assertSame(queue.poll().getTask(), first);
+        assertSame(queue.poll().getTask(), second);
+    }
+
+    @Test
+    public void testRunningTasksOfTenantAreCapped() {
+
+        TenantFairQueue queue = new TenantFairQueue(10, 2);
+        for (int i = 0; i < 3; i++) {
+            queue.offer(TENANT_A, () -> { });
+        }
+        queue.offer(TENANT_B, () -> { });
+
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        assertEquals(queue.poll().getTenantDomain(), TENANT_B);
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        // The third task of the tenant waits until one of its running tasks completes.
+        assertNull(queue.poll());
+        assertEquals(queue.size(), 1);
+    }
+
+    @Test
+    public void testTenantIsReadyAgainAfterTaskCompletes() {
+
+        TenantFairQueue queue = new TenantFairQueue(10, 1);
+        queue.offer(TENANT_A, () -> { });
+        queue.offer(TENANT_A, () -> { });
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        assertNull(queue.poll());
+
+        queue.complete(TENANT_A);
+
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+        assertEquals(queue.size(), 0);
+    }
+
+    @Test
+    public void testTasksBeyondCapacityAreRejected() {
+
+        TenantFairQueue queue = new TenantFairQueue(2, 10);
+        assertTrue(queue.offer(TENANT_A, () -> { }));
+        assertTrue(queue.offer(TENANT_B, () -> { }));
+
+        assertFalse(queue.offer(TENANT_A, () -> { }));
+        assertEquals(queue.size(), 2);
+
+        // Running tasks do not count against the capacity.
+        queue.poll();
+        assertTrue(queue.offer(TENANT_A, () -> { }));
+    }
+
+    @Test
+    public void testCompletedTenantIsForgotten() {
+
+        TenantFairQueue queue = new TenantFairQueue(10, 1);
+        queue.offer(TENANT_A, () -> { });
+        queue.poll();
+        queue.complete(TENANT_A);
+
+        queue.offer(TENANT_A, () -> { });
+
+        assertEquals(queue.poll().getTenantDomain(), TENANT_A);
+    }
+
+    @Test(timeOut = 10000)
+    public void testTakeWaitsForTask() throws Exception {
+
+        TenantFairQueue queue = new TenantFairQueue(10, 10);
+        CompletableFuture<TenantFairQueue.TenantTask> taken = new CompletableFuture<>();
+        Thread worker = new Thread(() -> {
+            try {
+                taken.complete(queue.take());
+            } catch (InterruptedException e) {
+                taken.completeExceptionally(e);
+            }
+        });
+        worker.start();
+        while (worker.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        assertFalse(taken.isDone());
+
+        queue.offer(TENANT_A, () -> { });
+
+        assertEquals(taken.get(5, TimeUnit.SECONDS).getTenantDomain(), TENANT_A);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of {@link FrequencySketch}.
+ */
+public class FrequencySketchTest {
+
+    @Test
+    public void testFrequencyOfUnreadKeyIsZero() {
+
+        FrequencySketch sketch = new FrequencySketch(100);
+
+        assertEquals(sketch.frequency("idp-1"), 0);
+    }
+
+    @Test
+    public void testFrequencyCountsReads() {
+
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("idp-1");
+        }
+        sketch.increment("idp-2");
+
+        assertEquals(sketch.frequency("idp-1"), 3);
+        assertEquals(sketch.frequency("idp-2"), 1);
+    }
+
+    @Test
+    public void testFrequencyIsCapped() {
+
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("idp-1");
+        }
+
+        assertEquals(sketch.frequency("idp-1"), 15);
+    }
+
+    @Test
+    public void testFrequenciesAreHalvedAfterSamplePeriod() {
+
+        // The sample period of a sketch of a single entry cache is 10 reads.
+        FrequencySketch sketch = new FrequencySketch(1);
+        for (int i = 0; i < 8; i++) {
+            sketch.increment("idp-1");
+        }
+        sketch.increment("idp-2");
+        assertEquals(sketch.frequency("idp-1"), 8);
+
+        sketch.increment("idp-2");
+
+        assertEquals(sketch.frequency("idp-1"), 4);
+        assertEquals(sketch.frequency("idp-2"), 1);
+    }
+}
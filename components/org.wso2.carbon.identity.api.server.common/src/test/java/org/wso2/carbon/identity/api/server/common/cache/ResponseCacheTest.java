@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoaderStub;
+import org.wso2.carbon.identity.api.server.common.async.SingleFlight;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of {@link ResponseCache}.
+ */
+public class ResponseCacheTest {
+
+    private static final String TENANT = "carbon.super";
+    private static final String ORGANIZATION = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String OTHER_ORGANIZATION = "a5a1b3c6-1bfc-4a64-8bfa-0aeb1e6b3c9e";
+    private static final long TTL_SECONDS = 60;
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    @Test
+    public void testReadsAreCached() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+        CountingLoader loader = new CountingLoader();
+
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-1"), "1");
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, " idp-1 "), "1");
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-2"), "2");
+
+        CacheStats stats = cache.getStats();
+        assertEquals(stats.getSize(), 2);
+        assertEquals(stats.getHits(), 1);
+        assertEquals(stats.getMisses(), 2);
+    }
+
+    @Test
+    public void testZeroTimeToLiveDisablesCache() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", 0, 10);
+        CountingLoader loader = new CountingLoader();
+
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-1"), "1");
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-1"), "2");
+        assertEquals(cache.getStats().getSize(), 0);
+    }
+
+    @Test
+    public void testTenantsAndOrganizationsAreNotShared() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+        CountingLoader loader = new CountingLoader();
+
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-1"), "1");
+        assertEquals(get(cache, "wso2.com", ORGANIZATION, loader, "idp-1"), "2");
+        assertEquals(get(cache, TENANT, OTHER_ORGANIZATION, loader, "idp-1"), "3");
+        assertEquals(get(cache, TENANT, null, loader, "idp-1"), "4");
+        assertEquals(get(cache, TENANT, OTHER_ORGANIZATION, loader, "idp-1"), "3");
+    }
+
+    @Test
+    public void testInvalidateTenantEvictsAllOrganizationsOfTenant() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+        CountingLoader loader = new CountingLoader();
+        get(cache, TENANT, ORGANIZATION, loader, "idp-1");
+        get(cache, TENANT, OTHER_ORGANIZATION, loader, "idp-1");
+        get(cache, "wso2.com", ORGANIZATION, loader, "idp-1");
+
+        ContextLoaderStub.call(TENANT, ORGANIZATION, () -> {
+            cache.invalidateTenant();
+            return null;
+        });
+
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-1"), "4");
+        assertEquals(get(cache, TENANT, OTHER_ORGANIZATION, loader, "idp-1"), "5");
+        assertEquals(get(cache, "wso2.com", ORGANIZATION, loader, "idp-1"), "3");
+    }
+
+    @Test
+    public void testLoadRacingWriteIsNotCached() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+
+        // The tenant is written while the read is loading, so the loaded result may predate the write.
+        String stale = get(cache, TENANT, ORGANIZATION, () -> {
+            cache.invalidateTenant();
+            return "stale";
+        }, "idp-1");
+
+        assertEquals(stale, "stale");
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "fresh", "idp-1"), "fresh");
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "not loaded", "idp-1"), "fresh");
+    }
+
+    @Test(timeOut = TIMEOUT_MILLIS)
+    public void testReadAfterWriteDoesNotJoinEarlierLoad() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FutureTask<String> staleRead = new FutureTask<>(() -> get(cache, TENANT, ORGANIZATION, () -> {
+            started.countDown();
+            release.await();
+            return "stale";
+        }, "idp-1"));
+        new Thread(staleRead).start();
+        started.await();
+
+        ContextLoaderStub.call(TENANT, ORGANIZATION, () -> {
+            cache.invalidateTenant();
+            return null;
+        });
+        // A read which joined the blocked load would not return before the test times out.
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "fresh", "idp-1"), "fresh");
+
+        release.countDown();
+        assertEquals(staleRead.get(), "stale");
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "not loaded", "idp-1"), "fresh");
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+        CountingLoader loader = new CountingLoader();
+        get(cache, TENANT, ORGANIZATION, loader, "idp-1");
+        get(cache, "wso2.com", ORGANIZATION, loader, "idp-1");
+
+        cache.invalidateAll();
+
+        assertEquals(cache.getStats().getSize(), 0);
+        assertEquals(get(cache, TENANT, ORGANIZATION, loader, "idp-1"), "3");
+        assertEquals(get(cache, "wso2.com", ORGANIZATION, loader, "idp-1"), "4");
+    }
+
+    @Test
+    public void testFullCacheAdmitsOnlyMoreFrequentlyReadEntries() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 2);
+        for (int i = 0; i < 4; i++) {
+            get(cache, TENANT, ORGANIZATION, () -> "hot-1", "hot-1");
+        }
+        // Ensure that hot-1 is the least recently read entry.
+        Thread.sleep(1);
+        for (int i = 0; i < 4; i++) {
+            get(cache, TENANT, ORGANIZATION, () -> "hot-2", "hot-2");
+        }
+
+        // Each read of the new entry misses until it has been read more often than the entry it would evict.
+        for (int i = 0; i < 4; i++) {
+            get(cache, TENANT, ORGANIZATION, () -> "cold", "cold");
+        }
+        assertEquals(cache.getStats().getRejections(), 4);
+        assertEquals(cache.getStats().getEvictions(), 0);
+
+        get(cache, TENANT, ORGANIZATION, () -> "cold", "cold");
+        CacheStats stats = cache.getStats();
+        assertEquals(stats.getRejections(), 4);
+        assertEquals(stats.getEvictions(), 1);
+        assertEquals(stats.getSize(), 2);
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "not loaded", "cold"), "cold");
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "not loaded", "hot-2"), "hot-2");
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "reloaded", "hot-1"), "reloaded");
+    }
+
+    @Test
+    public void testNullResultsAreNotCached() throws Exception {
+
+        ResponseCache<String> cache = new ResponseCache<>("test", TTL_SECONDS, 10);
+
+        get(cache, TENANT, ORGANIZATION, () -> null, "idp-1");
+
+        assertEquals(cache.getStats().getSize(), 0);
+        assertEquals(get(cache, TENANT, ORGANIZATION, () -> "loaded", "idp-1"), "loaded");
+    }
+
+    private static String get(ResponseCache<String> cache, String tenantDomain, String organizationId,
+                              SingleFlight.Computation<String, Exception> loader, Object... query) throws Exception {
+
+        return ContextLoaderStub.call(tenantDomain, organizationId, () -> cache.get(loader, query));
+    }
+
+    /**
+     * Loader which returns the number of times it was called.
+     */
+    private static class CountingLoader implements SingleFlight.Computation<String, Exception> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String compute() {
+
+            return String.valueOf(calls.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+
+package org.wso2.carbon.identity.api.server.common.changefeed;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoaderStub;
+
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link ChangeFeed}.
+ */
+public class ChangeFeedTest {
+
+    private static final String ORGANIZATION = "10084a8d-113f-4211-a0d5-efe36b082211";
+
+    @Test
+    public void testChangesAfterVersion() throws Exception {
+
+        String tenant = "changes.com";
+        String version = getChanges(tenant, null).getVersion();
+        publish(tenant, "idp-1");
+
+        ChangeEventList changes = getChanges(tenant, version);
+
+        assertFalse(changes.isReset());
+        assertEquals(changes.getEvents().size(), 1);
+        assertEquals(changes.getEvents().get(0).getResourceId(), "idp-1");
+        assertEquals(changes.getVersion(), changes.getEvents().get(0).getVersion());
+        assertEquals(epochOf(changes.getVersion()), epochOf(version));
+        assertTrue(getChanges(tenant, changes.getVersion()).getEvents().isEmpty());
+    }
+
+    @Test
+    public void testVersionOfAnotherEpochIsReset() throws Exception {
+
+        String tenant = "epochs.com";
+        String version = getChanges(tenant, null).getVersion();
+        publish(tenant, "idp-1");
+        // A version of another node, or of this node before a restart, with a counter this node has issued.
+        String otherVersion = "0" + epochOf(version) + ".0";
+
+        ChangeEventList changes = getChanges(tenant, otherVersion);
+
+        assertTrue(changes.isReset());
+        assertTrue(changes.getEvents().isEmpty());
+        assertEquals(epochOf(changes.getVersion()), epochOf(version));
+        assertNotEquals(changes.getVersion(), otherVersion);
+    }
+
+    @Test
+    public void testMalformedVersionIsReset() throws Exception {
+
+        String tenant = "malformed.com";
+        String version = getChanges(tenant, null).getVersion();
+
+        for (String since : new String[]{"1792281600000123", epochOf(version) + ".", epochOf(version) + ".x",
+                "." + version}) {
+            ChangeEventList changes = getChanges(tenant, since);
+
+            assertTrue(changes.isReset(), since);
+            assertEquals(epochOf(changes.getVersion()), epochOf(version), since);
+        }
+    }
+
+    private static void publish(String tenant, String resourceId) throws Exception {
+
+        ContextLoaderStub.call(tenant, ORGANIZATION, () -> {
+            ChangeFeed.getInstance().publish(ChangeEvent.ResourceType.IDENTITY_PROVIDER, resourceId,
+                    ChangeEvent.Operation.CREATED);
+            return null;
+        });
+    }
+
+    private static ChangeEventList getChanges(String tenant, String since) throws Exception {
+
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        ContextLoaderStub.call(tenant, ORGANIZATION, () -> {
+            ChangeFeed.getInstance().awaitChanges(asyncResponse, since, null, null, 0);
+            return null;
+        });
+        ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+        Mockito.verify(asyncResponse).resume(response.capture());
+        return (ChangeEventList) ((Response) response.getValue()).getEntity();
+    }
+
+    private static String epochOf(String version) {
+
+        return version.substring(0, version.lastIndexOf('.'));
+    }
+}
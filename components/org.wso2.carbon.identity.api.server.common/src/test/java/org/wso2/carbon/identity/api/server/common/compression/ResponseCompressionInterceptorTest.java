@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.compression;
+
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageContentsList;
+import org.apache.cxf.message.MessageImpl;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link ResponseCompressionInterceptor}.
+ */
+public class ResponseCompressionInterceptorTest {
+
+    private static final String BODY = buildBody();
+
+    private final ResponseCompressionInterceptor interceptor = new ResponseCompressionInterceptor();
+
+    @Test
+    public void testSecondGetOfTaggedResponseIsServedFromCache() throws Exception {
+
+        String uri = "/api/server/v1/applications/meta/inbound-protocols/oidc";
+        EntityTag entityTag = new EntityTag("oidc-1");
+
+        ByteArrayOutputStream firstBody = new ByteArrayOutputStream();
+        Message first = newResponse(uri, Response.ok(BODY).tag(entityTag).build(), firstBody);
+        interceptor.handleMessage(first);
+        writeBody(first);
+        assertEquals(getHeader(first, HttpHeaders.CONTENT_ENCODING), ResponseCompressionInterceptor.GZIP);
+        assertEquals(decompress(firstBody.toByteArray()), BODY);
+
+        ByteArrayOutputStream secondBody = new ByteArrayOutputStream();
+        Message second = newResponse(uri, Response.ok(BODY).tag(entityTag).build(), secondBody);
+        interceptor.handleMessage(second);
+
+        // The compressed body is returned as the entity, and the body is not compressed again.
+        assertSame(second.getContent(OutputStream.class), secondBody);
+        Response response = (Response) MessageContentsList.getContentsList(second).get(0);
+        assertTrue(response.getEntity() instanceof byte[]);
+        assertEquals((byte[]) response.getEntity(), firstBody.toByteArray());
+        assertEquals(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), ResponseCompressionInterceptor.GZIP);
+        assertEquals(response.getHeaderString(HttpHeaders.ETAG), entityTag.toString());
+        assertEquals(response.getMediaType(), MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Test
+    public void testChangedEntityTagIsNotServedFromCache() throws Exception {
+
+        String uri = "/api/server/v1/configs/schemas";
+        Message first = newResponse(uri, Response.ok(BODY).tag(new EntityTag("schemas-1")).build(),
+                new ByteArrayOutputStream());
+        interceptor.handleMessage(first);
+        writeBody(first);
+
+        ByteArrayOutputStream secondBody = new ByteArrayOutputStream();
+        Message second = newResponse(uri, Response.ok(BODY).tag(new EntityTag("schemas-2")).build(), secondBody);
+        interceptor.handleMessage(second);
+
+        assertTrue(second.getContent(OutputStream.class) instanceof CompressingOutputStream);
+        assertTrue(MessageContentsList.getContentsList(second).get(0) instanceof Response);
+        assertFalse(((Response) MessageContentsList.getContentsList(second).get(0)).getEntity() instanceof byte[]);
+    }
+
+    @Test
+    public void testUntaggedResponseIsNotServedFromCache() throws Exception {
+
+        String uri = "/api/server/v1/permission-management/permissions";
+        Message first = newResponse(uri, Response.ok(BODY).build(), new ByteArrayOutputStream());
+        interceptor.handleMessage(first);
+        writeBody(first);
+
+        Message second = newResponse(uri, Response.ok(BODY).build(), new ByteArrayOutputStream());
+        interceptor.handleMessage(second);
+
+        assertTrue(second.getContent(OutputStream.class) instanceof CompressingOutputStream);
+    }
+
+    private static Message newResponse(String uri, Response response, OutputStream body) {
+
+        Message request = new MessageImpl();
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put(HttpHeaders.ACCEPT_ENCODING, Collections.singletonList("gzip, deflate"));
+        headers.put(HttpHeaders.ACCEPT, Collections.singletonList(MediaType.APPLICATION_JSON));
+        request.put(Message.PROTOCOL_HEADERS, headers);
+        request.put(Message.HTTP_REQUEST_METHOD, HttpMethod.GET);
+        request.put(Message.REQUEST_URI, uri);
+
+        Message message = new MessageImpl();
+        Exchange exchange = new ExchangeImpl();
+        exchange.setInMessage(request);
+        exchange.setOutMessage(message);
+        message.setExchange(exchange);
+        message.setContent(List.class, new MessageContentsList(response));
+        message.setContent(OutputStream.class, body);
+        return message;
+    }
+
+    /**
+     * Write the body as the JAX-RS runtime would, once the interceptors have run.
+     *
+     * @param message Response message.
+     * @throws Exception If the body could not be written.
+     */
+    private static void writeBody(Message message) throws Exception {
+
+        message.put(Message.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        try (OutputStream output = message.getContent(OutputStream.class)) {
+            output.write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getHeader(Message message, String name) {
+
+        Map<String, List<Object>> headers = (Map<String, List<Object>>) message.get(Message.PROTOCOL_HEADERS);
+        assertNotNull(headers);
+        List<Object> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0).toString();
+    }
+
+    private static String decompress(byte[] compressed) throws Exception {
+
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                decompressed.write(buffer, 0, read);
+            }
+        }
+        return new String(decompressed.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String buildBody() {
+
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"name\":\"grant-type-").append(i).append("\",\"displayName\":\"Grant Type ").append(i)
+                    .append("\"}");
+        }
+        return body.append(']').toString();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.etag;
+
+import org.apache.cxf.message.Message;
+import org.apache.cxf.message.MessageImpl;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link EntityTaggingOutputStream}.
+ */
+public class EntityTaggingOutputStreamTest {
+
+    private static final byte[] BODY = "{\"name\":\"console\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String ENTITY_TAG = EntityTagHelper.toEntityTag(EntityTagHelper.getDigest().digest(BODY))
+            .toString();
+
+    @Test
+    public void testBodyIsTagged() throws Exception {
+
+        Message message = new MessageImpl();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (EntityTaggingOutputStream output = new EntityTaggingOutputStream(message, target, null, 1024)) {
+            output.write(BODY, 0, 5);
+            output.flush();
+            assertEquals(target.size(), 0);
+            output.write(BODY, 5, BODY.length - 5);
+        }
+
+        assertEquals(target.toByteArray(), BODY);
+        assertEquals(getHeaders(message).get(HttpHeaders.ETAG), Collections.singletonList(ENTITY_TAG));
+        assertNull(message.get(Message.RESPONSE_CODE));
+    }
+
+    @Test
+    public void testMatchingBodyIsNotModified() throws Exception {
+
+        Message message = new MessageImpl();
+        message.put(Message.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (EntityTaggingOutputStream output = new EntityTaggingOutputStream(message, target,
+                Collections.singletonList("W/" + ENTITY_TAG), 1024)) {
+            output.write(BODY, 0, BODY.length);
+        }
+
+        assertEquals(target.size(), 0);
+        assertEquals(message.get(Message.RESPONSE_CODE), Response.Status.NOT_MODIFIED.getStatusCode());
+        assertNull(message.get(Message.CONTENT_TYPE));
+        assertEquals(getHeaders(message).get(HttpHeaders.ETAG), Collections.singletonList(ENTITY_TAG));
+    }
+
+    @Test
+    public void testBodyBeyondLimitIsPassedThroughUntagged() throws Exception {
+
+        Message message = new MessageImpl();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (EntityTaggingOutputStream output = new EntityTaggingOutputStream(message, target,
+                Collections.singletonList(ENTITY_TAG), 10)) {
+            output.write(BODY, 0, 5);
+            assertEquals(target.size(), 0);
+            output.write(BODY, 5, BODY.length - 5);
+            // The buffered bytes are written as soon as the limit is exceeded.
+            assertEquals(target.size(), BODY.length);
+        }
+
+        assertEquals(target.toByteArray(), BODY);
+        assertNull(message.get(Message.RESPONSE_CODE));
+        Map<String, List<Object>> headers = getHeaders(message);
+        assertTrue(headers == null || !headers.containsKey(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testBodyAtLimitIsTagged() throws Exception {
+
+        Message message = new MessageImpl();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        try (EntityTaggingOutputStream output = new EntityTaggingOutputStream(message, target, null,
+                BODY.length)) {
+            output.write(BODY, 0, BODY.length);
+        }
+
+        assertFalse(getHeaders(message).get(HttpHeaders.ETAG).isEmpty());
+        assertEquals(target.toByteArray(), BODY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<Object>> getHeaders(Message message) {
+
+        return (Map<String, List<Object>>) message.get(Message.PROTOCOL_HEADERS);
+    }
+}
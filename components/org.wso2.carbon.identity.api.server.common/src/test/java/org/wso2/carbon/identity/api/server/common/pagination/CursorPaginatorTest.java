@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.LinkBuilder;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Tests of {@link CursorPaginator}.
+ */
+public class CursorPaginatorTest {
+
+    private static final int MAXIMUM_ITEMS_PER_PAGE = 100;
+    private static final int DEFAULT_ITEMS_PER_PAGE = 15;
+    private static final String PAGE_URL = "/t/carbon.super/api/server/v1/identity-providers";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtil = Mockito.mockStatic(IdentityUtil.class);
+        identityUtil.when(IdentityUtil::getMaximumItemPerPage).thenReturn(MAXIMUM_ITEMS_PER_PAGE);
+        identityUtil.when(IdentityUtil::getDefaultItemsPerPage).thenReturn(DEFAULT_ITEMS_PER_PAGE);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+    }
+
+    @Test
+    public void testPageSize() {
+
+        assertEquals(after(10, "k10", null).getLimit(), DEFAULT_ITEMS_PER_PAGE);
+        assertEquals(after(10, "k10", 0).getLimit(), DEFAULT_ITEMS_PER_PAGE);
+        assertEquals(after(10, "k10", 5).getLimit(), 5);
+        assertEquals(after(10, "k10", 1000).getLimit(), MAXIMUM_ITEMS_PER_PAGE);
+    }
+
+    @Test
+    public void testConflictingParametersAreRejected() {
+
+        String cursor = new PaginationCursor(10, "k10").encode();
+
+        assertConflicting(() -> CursorPaginator.forRequest(cursor, cursor, null, 3));
+        assertConflicting(() -> CursorPaginator.forRequest(cursor, null, 5, 3));
+        assertConflicting(() -> CursorPaginator.forRequest(null, cursor, 5, 3));
+    }
+
+    @Test
+    public void testForwardPage() {
+
+        CursorPaginator paginator = after(10, "k10", 3);
+        assertEquals(paginator.getFetchOffset(), 10);
+        assertEquals(paginator.getFetchLimit(), 4);
+
+        List<String> page = paginator.selectPage(items(10, 14), key -> key);
+
+        assertEquals(page, Arrays.asList("k11", "k12", "k13"));
+        assertEquals(paginator.getPageOffset(), 11);
+    }
+
+    @Test
+    public void testForwardPageIsAlignedWhenItemsAreAddedAhead() {
+
+        CursorPaginator paginator = after(10, "k10", 3);
+        // An item was added ahead of the cursor item, which moved to position 11.
+        List<String> window = items(9, 13);
+
+        List<String> page = paginator.selectPage(window, key -> key);
+
+        assertEquals(page, Arrays.asList("k11", "k12"));
+        assertEquals(paginator.getPageOffset(), 12);
+    }
+
+    @Test
+    public void testForwardPageWhenCursorItemIsRemoved() {
+
+        CursorPaginator paginator = after(10, "k10", 3);
+
+        List<String> page = paginator.selectPage(items(11, 15), key -> key);
+
+        assertEquals(page, Arrays.asList("k11", "k12", "k13"));
+        assertEquals(paginator.getPageOffset(), 10);
+    }
+
+    @Test
+    public void testLastForwardPage() {
+
+        CursorPaginator paginator = after(10, "k10", 3);
+
+        List<String> page = paginator.selectPage(items(10, 12), key -> key);
+
+        assertEquals(page, Collections.singletonList("k11"));
+    }
+
+    @Test
+    public void testBackwardPage() {
+
+        CursorPaginator paginator = before(10, "k10", 3);
+        assertEquals(paginator.getFetchOffset(), 7);
+        assertEquals(paginator.getFetchLimit(), 4);
+
+        List<String> page = paginator.selectPage(items(7, 11), key -> key);
+
+        assertEquals(page, Arrays.asList("k07", "k08", "k09"));
+        assertEquals(paginator.getPageOffset(), 7);
+    }
+
+    @Test
+    public void testBackwardPageAtStart() {
+
+        CursorPaginator paginator = before(2, "k02", 3);
+        assertEquals(paginator.getFetchOffset(), 0);
+        assertEquals(paginator.getFetchLimit(), 3);
+
+        List<String> page = paginator.selectPage(items(0, 3), key -> key);
+
+        assertEquals(page, Arrays.asList("k00", "k01"));
+        assertEquals(paginator.getPageOffset(), 0);
+    }
+
+    @Test
+    public void testBackwardPageWhenCursorItemIsRemoved() {
+
+        CursorPaginator paginator = before(10, "k10", 3);
+        // The cursor item is gone, so the item after it moved to its position.
+        List<String> window = new ArrayList<>(items(7, 10));
+        window.add("k11");
+
+        List<String> page = paginator.selectPage(window, key -> key);
+
+        assertEquals(page, Arrays.asList("k07", "k08", "k09"));
+        assertEquals(paginator.getPageOffset(), 7);
+    }
+
+    @Test
+    public void testEmptyWindow() {
+
+        CursorPaginator paginator = after(10, "k10", 3);
+
+        assertTrue(paginator.selectPage(Collections.<String>emptyList(), key -> key).isEmpty());
+        assertEquals(paginator.getPageOffset(), 10);
+    }
+
+    @Test
+    public void testLinksCarrySortParameters() {
+
+        CursorPaginator paginator = CursorPaginator.forRequest(new PaginationCursor(10, "k10").encode(), null, null,
+                3, "name", "DESC");
+        List<String> page = paginator.selectPage(items(10, 14), key -> key);
+
+        Map<String, String> links = buildLinks(paginator, page, 20, "name sw k");
+
+        assertEquals(links.get("next"), PAGE_URL + "?limit=3&after=" + new PaginationCursor(13, "k13").encode() +
+                "&filter=name+sw+k&sortBy=name&sortOrder=DESC");
+        assertEquals(links.get("previous"), PAGE_URL + "?limit=3&before=" + new PaginationCursor(11, "k11").encode()
+                + "&filter=name+sw+k&sortBy=name&sortOrder=DESC");
+    }
+
+    @Test
+    public void testLinksOfUnsortedRequest() {
+
+        CursorPaginator paginator = after(10, "k10", 3);
+        List<String> page = paginator.selectPage(items(10, 14), key -> key);
+
+        Map<String, String> links = buildLinks(paginator, page, 20, null);
+
+        assertFalse(links.get("next").contains("sort"), links.get("next"));
+        assertFalse(links.get("previous").contains("sort"), links.get("previous"));
+    }
+
+    private static Map<String, String> buildLinks(CursorPaginator paginator, List<String> page, int total,
+                                                  String filter) {
+
+        LinkBuilder linkBuilder = Mockito.mock(LinkBuilder.class);
+        Mockito.when(linkBuilder.build()).thenReturn(PAGE_URL);
+        try (MockedStatic<ContextLoader> contextLoader = Mockito.mockStatic(ContextLoader.class)) {
+            contextLoader.when(() -> ContextLoader.getLinkBuilderForBody(Mockito.anyString())).thenReturn(linkBuilder);
+            return paginator.buildLinks("/identity-providers", page, key -> key, total, filter);
+        }
+    }
+
+    private static CursorPaginator after(int position, String sortKey, Integer limit) {
+
+        return CursorPaginator.forRequest(new PaginationCursor(position, sortKey).encode(), null, null, limit);
+    }
+
+    private static CursorPaginator before(int position, String sortKey, Integer limit) {
+
+        return CursorPaginator.forRequest(null, new PaginationCursor(position, sortKey).encode(), 0, limit);
+    }
+
+    /**
+     * Build the sort keys of the items at the given positions.
+     *
+     * @param from First position, inclusive.
+     * @param to   Last position, exclusive.
+     * @return Sort keys.
+     */
+    private static List<String> items(int from, int to) {
+
+        List<String> items = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            items.add(String.format("k%02d", i));
+        }
+        return items;
+    }
+
+    private static void assertConflicting(Runnable request) {
+
+        APIError error = expectThrows(APIError.class, request::run);
+
+        assertEquals(error.getStatus(), Response.Status.BAD_REQUEST);
+        assertEquals(error.getCode(),
+                Constants.ErrorMessages.ERROR_CODE_CONFLICTING_PAGINATION_PARAMETERS.getCode());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.pagination;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import javax.ws.rs.core.Response;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Tests of {@link PaginationCursor}.
+ */
+public class PaginationCursorTest {
+
+    @DataProvider
+    public Object[][] cursorData() {
+
+        return new Object[][]{
+                {0, "idp-1"},
+                {42, "urn:ietf:params:scim:schemas:core:2.0:User"},
+                {Integer.MAX_VALUE, "\u00c4\u00d6\u00dc \u65e5\u672c"},
+                {7, ""}
+        };
+    }
+
+    @Test(dataProvider = "cursorData")
+    public void testRoundTrip(int position, String sortKey) {
+
+        String encoded = new PaginationCursor(position, sortKey).encode();
+        PaginationCursor decoded = PaginationCursor.decode(encoded);
+
+        assertEquals(decoded.getPosition(), position);
+        assertEquals(decoded.getSortKey(), sortKey);
+    }
+
+    @Test
+    public void testEncodedCursorIsUrlSafe() {
+
+        String encoded = new PaginationCursor(1, "???>>>~~~").encode();
+
+        assertFalse(encoded.matches(".*[+/=].*"), encoded);
+    }
+
+    @Test
+    public void testNullSortKeyIsEmpty() {
+
+        assertEquals(PaginationCursor.decode(new PaginationCursor(3, null).encode()).getSortKey(), "");
+    }
+
+    @DataProvider
+    public Object[][] invalidCursorData() {
+
+        return new Object[][]{
+                {"not a cursor!"},
+                {""},
+                {encode("2:5:idp-1")},
+                {encode("1:5")},
+                {encode("1::idp-1")},
+                {encode("1:-5:idp-1")},
+                {encode("1:five:idp-1")},
+                {encode("1:2147483648:idp-1")},
+                {encode("idp-1")}
+        };
+    }
+
+    @Test(dataProvider = "invalidCursorData")
+    public void testInvalidCursorIsRejected(String encodedCursor) {
+
+        APIError error = expectThrows(APIError.class, () -> PaginationCursor.decode(encodedCursor));
+
+        assertEquals(error.getStatus(), Response.Status.BAD_REQUEST);
+        assertEquals(error.getCode(), Constants.ErrorMessages.ERROR_CODE_INVALID_PAGINATION_CURSOR.getCode());
+    }
+
+    @Test
+    public void testTamperedPositionIsDecoded() {
+
+        // The cursor is not signed, so a tampered position is only checked to be a valid position. The paginator
+        // aligns the page on the sort key instead of trusting the position.
+        PaginationCursor decoded = PaginationCursor.decode(encode("1:1000:idp-1"));
+
+        assertEquals(decoded.getPosition(), 1000);
+        assertEquals(decoded.getSortKey(), "idp-1");
+    }
+
+    private static String encode(String value) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.patch;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Tests of {@link PatchRouter}.
+ */
+public class PatchRouterTest {
+
+    private PatchRouter<List<String>> router;
+
+    @BeforeMethod
+    public void setUp() {
+
+        router = new PatchRouter.Builder<List<String>>(
+                (operation, path) -> new IllegalStateException("Unsupported " + operation + " " + path))
+                .on(PatchOperation.REPLACE, "/name", recorder("name"))
+                .on(PatchOperation.REMOVE, "/certificates/{index}", recorder("certificate"))
+                .on(PatchOperation.REPLACE, "/claims/{claimUri}", recorder("claim"))
+                .on(PatchOperation.REPLACE, "/claims/roleClaim", recorder("roleClaim"))
+                .on(PatchOperation.ADD, "/groups/{index}/members/{name}", recorder("member"))
+                .build();
+    }
+
+    @Test
+    public void testLiteralPath() {
+
+        List<String> calls = new ArrayList<>();
+        router.apply(calls, PatchOperation.REPLACE, "/name", "idp-1");
+
+        assertEquals(calls, Collections.singletonList("name[]=idp-1"));
+    }
+
+    @Test
+    public void testLiteralSegmentTakesPrecedenceOverParameter() {
+
+        List<String> calls = new ArrayList<>();
+        router.apply(calls, PatchOperation.REPLACE, "/claims/roleClaim", "role");
+        router.apply(calls, PatchOperation.REPLACE, "/claims/emailClaim", "email");
+
+        assertEquals(calls, Arrays.asList("roleClaim[]=role", "claim[emailClaim]=email"));
+    }
+
+    @Test
+    public void testIndexParameter() {
+
+        List<String> calls = new ArrayList<>();
+        router.apply(calls, PatchOperation.REMOVE, "/certificates/12", null);
+
+        assertEquals(calls, Collections.singletonList("certificate[12]=null"));
+    }
+
+    @Test
+    public void testIndexParameterOnlyMatchesArrayIndexes() {
+
+        List<String> calls = new ArrayList<>();
+
+        assertUnsupported(calls, PatchOperation.REMOVE, "/certificates/first");
+        assertUnsupported(calls, PatchOperation.REMOVE, "/certificates/-1");
+        assertUnsupported(calls, PatchOperation.REMOVE, "/certificates/");
+        assertUnsupported(calls, PatchOperation.REMOVE, "/certificates/1234567890");
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void testParametersAreUnescaped() {
+
+        List<String> calls = new ArrayList<>();
+        router.apply(calls, PatchOperation.REPLACE, "/claims/http:~1~1wso2.org~1claims~1role", "a");
+        router.apply(calls, PatchOperation.REPLACE, "/claims/a~0b", "b");
+        router.apply(calls, PatchOperation.REPLACE, "/claims/a~01", "c");
+
+        assertEquals(calls, Arrays.asList("claim[http://wso2.org/claims/role]=a", "claim[a~b]=b", "claim[a~1]=c"));
+    }
+
+    @Test
+    public void testMultipleParameters() {
+
+        List<String> calls = new ArrayList<>();
+        router.apply(calls, PatchOperation.ADD, "/groups/0/members/admin", "x");
+
+        assertEquals(calls, Collections.singletonList("member[0, admin]=x"));
+    }
+
+    @Test
+    public void testUnsupportedPaths() {
+
+        List<String> calls = new ArrayList<>();
+
+        assertUnsupported(calls, PatchOperation.REPLACE, "/description");
+        assertUnsupported(calls, PatchOperation.REPLACE, "name");
+        assertUnsupported(calls, PatchOperation.REPLACE, "");
+        assertUnsupported(calls, PatchOperation.REPLACE, null);
+        assertUnsupported(calls, PatchOperation.REPLACE, "/name/first");
+        assertUnsupported(calls, PatchOperation.REMOVE, "/certificates");
+        assertUnsupported(calls, PatchOperation.ADD, "/groups/0/members");
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void testUnsupportedOperations() {
+
+        List<String> calls = new ArrayList<>();
+
+        assertUnsupported(calls, PatchOperation.REMOVE, "/name");
+        assertUnsupported(calls, null, "/name");
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    public void testPatchDocumentIsAppliedInOrder() {
+
+        List<String[]> patches = Arrays.asList(new String[]{"REPLACE", "/name", "idp-1"},
+                new String[]{"REMOVE", "/certificates/0", null}, new String[]{"REPLACE", "/name", "idp-2"});
+        List<String> calls = new ArrayList<>();
+
+        router.apply(calls, patches, patch -> patch[0], patch -> patch[1], patch -> patch[2]);
+
+        assertEquals(calls, Arrays.asList("name[]=idp-1", "certificate[0]=null", "name[]=idp-2"));
+    }
+
+    @Test
+    public void testUnknownOperationInPatchDocument() {
+
+        List<String[]> patches = Collections.singletonList(new String[]{"MOVE", "/name", "idp-1"});
+
+        IllegalStateException e = expectThrows(IllegalStateException.class, () -> router.apply(new ArrayList<>(),
+                patches, patch -> patch[0], patch -> patch[1], patch -> patch[2]));
+        assertEquals(e.getMessage(), "Unsupported null /name");
+    }
+
+    @Test
+    public void testDuplicateHandlerIsRejected() {
+
+        PatchRouter.Builder<List<String>> builder = new PatchRouter.Builder<List<String>>(
+                (operation, path) -> new IllegalStateException())
+                .on(PatchOperation.REPLACE, "/claims/{claimUri}", recorder("claim"));
+
+        expectThrows(IllegalArgumentException.class,
+                () -> builder.on(PatchOperation.REPLACE, "/claims/{uri}", recorder("claim")));
+    }
+
+    @Test
+    public void testRelativeTemplateIsRejected() {
+
+        PatchRouter.Builder<List<String>> builder = new PatchRouter.Builder<>(
+                (operation, path) -> new IllegalStateException());
+
+        expectThrows(IllegalArgumentException.class,
+                () -> builder.on(PatchOperation.REPLACE, "name", recorder("name")));
+    }
+
+    private void assertUnsupported(List<String> calls, PatchOperation operation, String path) {
+
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+                () -> router.apply(calls, operation, path, "value"));
+        assertEquals(e.getMessage(), "Unsupported " + operation + " " + path);
+    }
+
+    private static PatchHandler<List<String>> recorder(String name) {
+
+        return (target, parameters, value) -> target.add(name + parameters + "=" + value);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of {@link FieldMask}.
+ */
+public class FieldMaskTest {
+
+    @Test
+    public void testBlankParameterIncludesAllFields() {
+
+        assertSame(FieldMask.parse(null), FieldMask.ALL);
+        assertSame(FieldMask.parse(" "), FieldMask.ALL);
+        assertSame(FieldMask.parseNames(""), FieldMask.ALL);
+        assertTrue(FieldMask.ALL.includes("claimURI"));
+        assertSame(FieldMask.ALL.getChild("attributeMapping"), FieldMask.ALL);
+        assertTrue(FieldMask.ALL.getFields().isEmpty());
+    }
+
+    @Test
+    public void testTopLevelFields() {
+
+        FieldMask mask = FieldMask.parse("claimURI, displayName");
+
+        assertFalse(mask.isAll());
+        assertEquals(mask.getFields(), new LinkedHashSet<>(Arrays.asList("claimURI", "displayName")));
+        assertTrue(mask.includes("displayName"));
+        assertFalse(mask.includes("description"));
+        assertSame(mask.getChild("claimURI"), FieldMask.ALL);
+        assertNull(mask.getChild("description"));
+    }
+
+    @Test
+    public void testNestedPathsAreMerged() {
+
+        FieldMask mask = FieldMask.parse("attributeMapping.userstore,claimURI,attributeMapping.mappedAttribute");
+
+        assertEquals(mask.getFields(), new LinkedHashSet<>(Arrays.asList("attributeMapping", "claimURI")));
+        FieldMask attributeMapping = mask.getChild("attributeMapping");
+        assertFalse(attributeMapping.isAll());
+        assertEquals(attributeMapping.getFields(),
+                new LinkedHashSet<>(Arrays.asList("userstore", "mappedAttribute")));
+        assertSame(attributeMapping.getChild("userstore"), FieldMask.ALL);
+    }
+
+    @Test
+    public void testDeeplyNestedPaths() {
+
+        FieldMask mask = FieldMask.of(Arrays.asList("a.b.c", "a.b.d", "a.e"));
+
+        FieldMask b = mask.getChild("a").getChild("b");
+        assertEquals(b.getFields(), new LinkedHashSet<>(Arrays.asList("c", "d")));
+        assertSame(mask.getChild("a").getChild("e"), FieldMask.ALL);
+    }
+
+    @Test
+    public void testFullInclusionWins() {
+
+        FieldMask fieldFirst = FieldMask.of(Arrays.asList("attributeMapping", "attributeMapping.userstore"));
+        FieldMask pathFirst = FieldMask.of(Arrays.asList("attributeMapping.userstore", "attributeMapping"));
+
+        assertSame(fieldFirst.getChild("attributeMapping"), FieldMask.ALL);
+        assertSame(pathFirst.getChild("attributeMapping"), FieldMask.ALL);
+    }
+
+    @Test
+    public void testWithAddsPaths() {
+
+        FieldMask requested = FieldMask.parse("attributeMapping.userstore");
+
+        FieldMask mask = requested.with("id", "attributeMapping.mappedAttribute");
+
+        assertEquals(mask.getFields(), new LinkedHashSet<>(Arrays.asList("attributeMapping", "id")));
+        assertEquals(mask.getChild("attributeMapping").getFields(),
+                new LinkedHashSet<>(Arrays.asList("userstore", "mappedAttribute")));
+        // The requested mask is not modified.
+        assertEquals(requested.getFields(), Collections.singleton("attributeMapping"));
+        assertEquals(requested.getChild("attributeMapping").getFields(), Collections.singleton("userstore"));
+        assertSame(FieldMask.ALL.with("id"), FieldMask.ALL);
+    }
+
+    @Test
+    public void testParseNamesKeepsDots() {
+
+        FieldMask mask = FieldMask.parseNames("ConnectionURL, Disabled, MultiAttributeSeparator.Enabled");
+
+        assertEquals(mask.getFields(), new LinkedHashSet<>(
+                Arrays.asList("ConnectionURL", "Disabled", "MultiAttributeSeparator.Enabled")));
+        assertSame(mask.getChild("MultiAttributeSeparator.Enabled"), FieldMask.ALL);
+        assertFalse(mask.includes("MultiAttributeSeparator"));
+    }
+
+    @Test
+    public void testParsedMasksAreCached() {
+
+        assertSame(FieldMask.parse("claimURI,displayName"), FieldMask.parse("claimURI,displayName"));
+    }
+
+    @Test
+    public void testWriterSerializesIncludedFields() throws Exception {
+
+        Claim claim = new Claim("http://wso2.org/claims/email", "Email",
+                Arrays.asList(new AttributeMapping("PRIMARY", "mail"), new AttributeMapping("LDAP", "email")));
+        FieldMask mask = FieldMask.parse("claimURI,attributeMapping.userstore");
+        ObjectMapper mapper = new ObjectMapper();
+
+        String json = mask.getWriter().writeValueAsString(Collections.singletonList(claim));
+
+        // Compared as trees, since the order of the properties is not defined.
+        assertTrue(mapper.readTree(json).equals(mapper.readTree("[{\"claimURI\":\"http://wso2.org/claims/email\"," +
+                "\"attributeMapping\":[{\"userstore\":\"PRIMARY\"},{\"userstore\":\"LDAP\"}]}]")), json);
+    }
+
+    /**
+     * API model of a claim.
+     */
+    public static class Claim {
+
+        private final String claimURI;
+        private final String displayName;
+        private final List<AttributeMapping> attributeMapping;
+
+        Claim(String claimURI, String displayName, List<AttributeMapping> attributeMapping) {
+
+            this.claimURI = claimURI;
+            this.displayName = displayName;
+            this.attributeMapping = attributeMapping;
+        }
+
+        public String getClaimURI() {
+
+            return claimURI;
+        }
+
+        public String getDisplayName() {
+
+            return displayName;
+        }
+
+        public List<AttributeMapping> getAttributeMapping() {
+
+            return attributeMapping;
+        }
+    }
+
+    /**
+     * API model of an attribute mapping of a claim.
+     */
+    public static class AttributeMapping {
+
+        private final String userstore;
+        private final String mappedAttribute;
+
+        AttributeMapping(String userstore, String mappedAttribute) {
+
+            this.userstore = userstore;
+            this.mappedAttribute = mappedAttribute;
+        }
+
+        public String getUserstore() {
+
+            return userstore;
+        }
+
+        public String getMappedAttribute() {
+
+            return mappedAttribute;
+        }
+    }
+}
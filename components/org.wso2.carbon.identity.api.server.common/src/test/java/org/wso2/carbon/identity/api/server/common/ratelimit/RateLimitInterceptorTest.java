@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.ratelimit;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of {@link RateLimitInterceptor}.
+ */
+public class RateLimitInterceptorTest {
+
+    @DataProvider
+    public Object[][] retryAfterData() {
+
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return new Object[][]{
+                {1L, 1L},
+                {second / 2, 1L},
+                {second, 1L},
+                {second + 1, 2L},
+                {3 * second - 1, 3L},
+                {3 * second, 3L}
+        };
+    }
+
+    @Test(dataProvider = "retryAfterData")
+    public void testRetryAfterIsRoundedUpToSeconds(long retryAfterNanos, long expectedSeconds) {
+
+        assertEquals(RateLimitInterceptor.toRetryAfterSeconds(retryAfterNanos), expectedSeconds);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common.ratelimit;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests of {@link TokenBucket}.
+ */
+public class TokenBucketTest {
+
+    private static final long EMISSION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    public void testBurstIsAdmitted() {
+
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(bucket.tryAcquire(now), 0);
+        }
+        assertEquals(bucket.tryAcquire(now), EMISSION_INTERVAL);
+    }
+
+    @Test
+    public void testRejectionReportsWaitUntilNextToken() {
+
+        TokenBucket bucket = new TokenBucket(10, 1);
+        long now = System.nanoTime();
+        assertEquals(bucket.tryAcquire(now), 0);
+
+        assertEquals(bucket.tryAcquire(now + EMISSION_INTERVAL / 4), EMISSION_INTERVAL * 3 / 4);
+    }
+
+    @Test
+    public void testTokenIsAddedAfterEmissionInterval() {
+
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(now);
+        }
+
+        assertEquals(bucket.tryAcquire(now + EMISSION_INTERVAL), 0);
+        assertEquals(bucket.tryAcquire(now + EMISSION_INTERVAL), EMISSION_INTERVAL);
+    }
+
+    @Test
+    public void testBurstIsCappedAfterIdlePeriod() {
+
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long later = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(bucket.tryAcquire(later), 0);
+        }
+        assertEquals(bucket.tryAcquire(later), EMISSION_INTERVAL);
+    }
+
+    @Test
+    public void testRejectedRequestDoesNotTakeToken() {
+
+        TokenBucket bucket = new TokenBucket(10, 1);
+        long now = System.nanoTime();
+        bucket.tryAcquire(now);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(now);
+        }
+
+        assertEquals(bucket.tryAcquire(now + EMISSION_INTERVAL), 0);
+    }
+}
@@ -33,20 +33,20 @@ public class Constants {
     // PATCH operation paths.
     public static final String IDLE_SESSION_PATH = "/idleSessionTimeoutPeriod";
     public static final String REMEMBER_ME_PATH = "/rememberMePeriod";
-    public static final String HOME_REALM_PATH_REGEX = "/homeRealmIdentifiers/[0-9]+";
+    public static final String HOME_REALM_PATH = "/homeRealmIdentifiers/{index}";
 
     /**
      * PATCH operation path for CORS configuration.
      */
-    public static final String CORS_CONFIG_ALLOW_GENERIC_HTTP_PATH_REGEX = "^/allowGenericHttpRequests$";
-    public static final String CORS_CONFIG_ALLOW_ANY_ORIGIN_PATH_REGEX = "^/allowAnyOrigin";
-    public static final String CORS_CONFIG_ALLOW_SUBDOMAINS_PATH_REGEX = "^/allowSubdomains$";
-    public static final String CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX = "^/supportedMethods$";
-    public static final String CORS_CONFIG_SUPPORT_ANY_HEADER_PATH_REGEX = "^/supportAnyHeader";
-    public static final String CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX = "^/supportedHeaders$";
-    public static final String CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX = "^/exposedHeaders$";
-    public static final String CORS_CONFIG_SUPPORTS_CREDENTIALS_PATH_REGEX = "^/supportsCredentials$";
-    public static final String CORS_CONFIG_MAX_AGE_PATH_REGEX = "^/maxAge$";
+    public static final String CORS_CONFIG_ALLOW_GENERIC_HTTP_PATH = "/allowGenericHttpRequests";
+    public static final String CORS_CONFIG_ALLOW_ANY_ORIGIN_PATH = "/allowAnyOrigin";
+    public static final String CORS_CONFIG_ALLOW_SUBDOMAINS_PATH = "/allowSubdomains";
+    public static final String CORS_CONFIG_SUPPORTED_METHODS_PATH = "/supportedMethods";
+    public static final String CORS_CONFIG_SUPPORT_ANY_HEADER_PATH = "/supportAnyHeader";
+    public static final String CORS_CONFIG_SUPPORTED_HEADERS_PATH = "/supportedHeaders";
+    public static final String CORS_CONFIG_EXPOSED_HEADERS_PATH = "/exposedHeaders";
+    public static final String CORS_CONFIG_SUPPORTS_CREDENTIALS_PATH = "/supportsCredentials";
+    public static final String CORS_CONFIG_MAX_AGE_PATH = "/maxAge";
 
     /**
      * Enum for error messages.
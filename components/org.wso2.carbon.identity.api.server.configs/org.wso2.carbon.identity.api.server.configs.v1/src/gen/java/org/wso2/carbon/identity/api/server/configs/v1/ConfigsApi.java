@@ -22,6 +22,7 @@ import org.apache.cxf.jaxrs.ext.multipart.Multipart;
 import java.io.InputStream;
 import java.util.List;
 
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEventList;
 import org.wso2.carbon.identity.api.server.configs.v1.model.Authenticator;
 import org.wso2.carbon.identity.api.server.configs.v1.model.AuthenticatorListItem;
 import org.wso2.carbon.identity.api.server.configs.v1.model.CORSConfig;
@@ -37,6 +38,8 @@ import org.wso2.carbon.identity.api.server.configs.v1.ConfigsApiService;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 import io.swagger.annotations.*;
 
@@ -98,6 +101,30 @@ public class ConfigsApi  {
         return delegate.getCORSConfiguration();
     }
 
+    @Valid
+    @GET
+    @Path("/changes")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve the changes of the configuration resources", notes = "Long polls for the changes made to the identity providers, applications, claims, user stores, branding preferences and governance connectors of the tenant after the given version. Start following the feed by calling without a version, and pass the returned version as 'since' in the next call. When 'reset' is true in the response, the requested changes are no longer retained, or the version was not issued by this server since it started, such as a version of another node, and the resources need to be reloaded. Versions are opaque tokens made of an epoch, which identifies the node and its start, and a counter. The changes carry the IDs of the resources of all the types, hence the resource access control configuration must protect 'GET /api/server/v1/configs/changes' with the admin permission and the view scopes of all the types below.<br> <b>Permission required:</b> <br>     * /permission/admin <br> <b>Scope required:</b> <br>     * internal_idp_view <br>     * internal_application_mgt_view <br>     * internal_claim_meta_view <br>     * internal_userstore_view <br>     * internal_config_mgt_view <br>     * internal_governance_view ", response = ChangeEventList.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Change Feed", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = ChangeEventList.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
+    })
+    public void getChanges(    @Valid@ApiParam(value = "Version after which the changes are requested. ")  @QueryParam("since") String since,     @Valid@ApiParam(value = "Comma separated resource types to return the changes of. ")  @QueryParam("types") String types,     @Valid@ApiParam(value = "Maximum number of changes to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Seconds to wait for a change when there are none. ")  @QueryParam("wait") Integer wait, @Suspended AsyncResponse asyncResponse) {
+
+        delegate.getChanges(since,  types,  limit,  wait, asyncResponse);
+    }
+
     @Valid
     @GET
     
@@ -33,6 +33,7 @@ import org.wso2.carbon.identity.api.server.configs.v1.model.Schema;
 import org.wso2.carbon.identity.api.server.configs.v1.model.SchemaListItem;
 import org.wso2.carbon.identity.api.server.configs.v1.model.ScimConfig;
 import org.wso2.carbon.identity.api.server.configs.v1.model.ServerConfig;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 
@@ -42,6 +43,8 @@ public interface ConfigsApiService {
 
       public Response getCORSConfiguration();
 
+      public void getChanges(String since, String types, Integer limit, Integer wait, AsyncResponse asyncResponse);
+
       public Response getConfigs();
 
       public Response getHomeRealmIdentifiers();
@@ -28,8 +28,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.async.SingleFlight;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.patch.PatchOperation;
+import org.wso2.carbon.identity.api.server.common.patch.PatchRouter;
 import org.wso2.carbon.identity.api.server.configs.common.ConfigsServiceHolder;
 import org.wso2.carbon.identity.api.server.configs.common.Constants;
 import org.wso2.carbon.identity.api.server.configs.common.SchemaConfigParser;
@@ -97,6 +100,10 @@ public class ServerConfigManagementService {
 
     private static final Log log = LogFactory.getLog(ServerConfigManagementService.class);
 
+    private final SingleFlight<ServerConfig> configsFlight = new SingleFlight<>("configs");
+    private final PatchRouter<CORSConfiguration> corsPatchRouter = buildCORSPatchRouter();
+    private final PatchRouter<IdentityProvider> residentIdpPatchRouter = buildResidentIdpPatchRouter();
+
     /**
      * Get list of local authenticators supported by the server.
      *
@@ -156,12 +163,17 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Get Server Configs.
+     * Get Server Configs. Identical concurrent reads of a tenant share a single retrieval.
      *
      * @return ServerConfig.
      */
     public ServerConfig getConfigs() {
 
+        return configsFlight.execute(this::buildServerConfig);
+    }
+
+    private ServerConfig buildServerConfig() {
+
         IdentityProvider residentIdP = getResidentIdP();
 
         UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
@@ -299,6 +311,53 @@ public class ServerConfigManagementService {
         }
     }
 
+    /**
+     * Build the router of the patch operations supported on the CORS config. 'REPLACE' is supported on all the
+     * attributes, while 'ADD' and 'REMOVE' are supported on the methods and headers.
+     *
+     * @return Patch router.
+     */
+    private PatchRouter<CORSConfiguration> buildCORSPatchRouter() {
+
+        return new PatchRouter.Builder<CORSConfiguration>((operation, path) -> handleException(
+                Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT,
+                "Unsupported patch operation"))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_ALLOW_GENERIC_HTTP_PATH,
+                        (config, parameters, value) -> config.setAllowGenericHttpRequests(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_ALLOW_ANY_ORIGIN_PATH,
+                        (config, parameters, value) -> config.setAllowAnyOrigin(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_ALLOW_SUBDOMAINS_PATH,
+                        (config, parameters, value) -> config.setAllowSubdomains(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH,
+                        (config, parameters, value) -> config.setSupportedMethods(
+                                new HashSet<>(Collections.singletonList(value))))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_SUPPORT_ANY_HEADER_PATH,
+                        (config, parameters, value) -> config.setSupportAnyHeader(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH,
+                        (config, parameters, value) -> config.setSupportedHeaders(
+                                new HashSet<>(Collections.singletonList(value))))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH,
+                        (config, parameters, value) -> config.setExposedHeaders(
+                                new HashSet<>(Collections.singletonList(value))))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_SUPPORTS_CREDENTIALS_PATH,
+                        (config, parameters, value) -> config.setSupportsCredentials(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.CORS_CONFIG_MAX_AGE_PATH,
+                        (config, parameters, value) -> config.setMaxAge(Integer.parseInt(value)))
+                .on(PatchOperation.ADD, Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH,
+                        (config, parameters, value) -> config.getSupportedMethods().add(value))
+                .on(PatchOperation.ADD, Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH,
+                        (config, parameters, value) -> config.getSupportedHeaders().add(value))
+                .on(PatchOperation.ADD, Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH,
+                        (config, parameters, value) -> config.getExposedHeaders().add(value))
+                .on(PatchOperation.REMOVE, Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH,
+                        (config, parameters, value) -> config.getSupportedMethods().remove(value))
+                .on(PatchOperation.REMOVE, Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH,
+                        (config, parameters, value) -> config.getSupportedHeaders().remove(value))
+                .on(PatchOperation.REMOVE, Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH,
+                        (config, parameters, value) -> config.getExposedHeaders().remove(value))
+                .build();
+    }
+
     /**
      * Patch the CORS config of a tenant.
      *
@@ -319,68 +378,9 @@ public class ServerConfigManagementService {
             throw handleCORSException(e, Constants.ErrorMessage.ERROR_CODE_CORS_CONFIG_RETRIEVE, null);
         }
 
+        corsPatchRouter.apply(corsConfiguration, corsPatchList, CORSPatch::getOperation, CORSPatch::getPath,
+                corsPatch -> corsPatch.getValue().trim());
         try {
-            for (CORSPatch corsPatch : corsPatchList) {
-                String path = corsPatch.getPath();
-                CORSPatch.OperationEnum operation = corsPatch.getOperation();
-                String value = corsPatch.getValue().trim();
-
-                // We support only 'REPLACE', 'ADD' and 'REMOVE' patch operations.
-                if (operation == CORSPatch.OperationEnum.REPLACE) {
-                    if (path.matches(Constants.CORS_CONFIG_ALLOW_GENERIC_HTTP_PATH_REGEX)) {
-                        corsConfiguration.setAllowGenericHttpRequests(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_ALLOW_ANY_ORIGIN_PATH_REGEX)) {
-                        corsConfiguration.setAllowAnyOrigin(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_ALLOW_SUBDOMAINS_PATH_REGEX)) {
-                        corsConfiguration.setAllowSubdomains(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX)) {
-                        corsConfiguration.setSupportedMethods(new HashSet<>(Collections.singletonList(value)));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORT_ANY_HEADER_PATH_REGEX)) {
-                        corsConfiguration.setSupportAnyHeader(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.setSupportedHeaders(new HashSet<>(Collections.singletonList(value)));
-                    } else if (path.matches(Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.setExposedHeaders(new HashSet<>(Collections.singletonList(value)));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTS_CREDENTIALS_PATH_REGEX)) {
-                        corsConfiguration.setSupportsCredentials(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_MAX_AGE_PATH_REGEX)) {
-                        corsConfiguration.setMaxAge(Integer.parseInt(value));
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else if (operation == CORSPatch.OperationEnum.ADD) {
-                    if (path.matches(Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedMethods().add(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedHeaders().add(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getExposedHeaders().add(value);
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else if (operation == CORSPatch.OperationEnum.REMOVE) {
-                    if (path.matches(Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedMethods().remove(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedHeaders().remove(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getExposedHeaders().remove(value);
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else {
-                    // Throw an error if any other patch operations are sent in the request.
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                }
-            }
-
             // Set the patched configuration object as the new CORS configuration for the tenant.
             ConfigsServiceHolder.getInstance().getCorsManagementService()
                     .setCORSConfiguration(corsConfiguration, tenantDomain);
@@ -566,76 +566,75 @@ public class ServerConfigManagementService {
      */
     private void processPatchRequest(List<Patch> patchRequest, IdentityProvider idpToUpdate) {
 
-        if (CollectionUtils.isEmpty(patchRequest)) {
-            return;
+        residentIdpPatchRouter.apply(idpToUpdate, patchRequest, Patch::getOperation, Patch::getPath,
+                Patch::getValue);
+    }
+
+    /**
+     * Build the router of the patch operations supported on the ServerConfig. 'REPLACE' is supported on the session
+     * timeouts and the home realm identifiers, while 'ADD' and 'REMOVE' are supported on the home realm identifiers.
+     *
+     * @return Patch router.
+     */
+    private PatchRouter<IdentityProvider> buildResidentIdpPatchRouter() {
+
+        return new PatchRouter.Builder<IdentityProvider>((operation, path) -> handleException(
+                Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT,
+                operation == PatchOperation.REPLACE ? "Unsupported value for 'path' attribute" :
+                        "Unsupported patch operation"))
+                .on(PatchOperation.REPLACE, Constants.IDLE_SESSION_PATH, (idp, parameters, value) ->
+                        updateIdPProperty(idp, IdentityApplicationConstants.SESSION_IDLE_TIME_OUT, value))
+                .on(PatchOperation.REPLACE, Constants.REMEMBER_ME_PATH, (idp, parameters, value) ->
+                        updateIdPProperty(idp, IdentityApplicationConstants.REMEMBER_ME_TIME_OUT, value))
+                .on(PatchOperation.REPLACE, Constants.HOME_REALM_PATH, this::replaceHomeRealmIdentifier)
+                .on(PatchOperation.ADD, Constants.HOME_REALM_PATH, this::addHomeRealmIdentifier)
+                .on(PatchOperation.REMOVE, Constants.HOME_REALM_PATH, this::removeHomeRealmIdentifier)
+                .build();
+    }
+
+    private void replaceHomeRealmIdentifier(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        int index = Integer.parseInt(parameters.get(0));
+        String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
+        if (ArrayUtils.isNotEmpty(homeRealmArr) && index < homeRealmArr.length) {
+            List<String> homeRealmIds = Arrays.asList(homeRealmArr);
+            homeRealmIds.set(index, value);
+            idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
+        } else {
+            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
+                    .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
         }
-        for (Patch patch : patchRequest) {
-            String path = patch.getPath();
-            Patch.OperationEnum operation = patch.getOperation();
-            String value = patch.getValue();
-            // We support only 'REPLACE', 'ADD' and 'REMOVE' patch operations.
-            if (operation == Patch.OperationEnum.REPLACE) {
-                if (path.matches(Constants.HOME_REALM_PATH_REGEX) && path.split(Constants.PATH_SEPERATOR).length == 3) {
-
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[2]);
-                    String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
-                    if (ArrayUtils.isNotEmpty(homeRealmArr) && (index >= 0)
-                            && (index < homeRealmArr.length)) {
-                        List<String> homeRealmIds = Arrays.asList(homeRealmArr);
-                        homeRealmIds.set(index, value);
-                        idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
-                    } else {
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                    }
-                } else {
-                    switch (path) {
-                        case Constants.IDLE_SESSION_PATH:
-                            updateIdPProperty(idpToUpdate, IdentityApplicationConstants.SESSION_IDLE_TIME_OUT, value);
-                            break;
-                        case Constants.REMEMBER_ME_PATH:
-                            updateIdPProperty(idpToUpdate, IdentityApplicationConstants.REMEMBER_ME_TIME_OUT, value);
-                            break;
-                        default:
-                            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                    .ERROR_CODE_INVALID_INPUT, "Unsupported value for 'path' attribute");
-                    }
-                }
-            } else if (operation == Patch.OperationEnum.ADD && path.matches(Constants.HOME_REALM_PATH_REGEX) && path
-                    .split(Constants.PATH_SEPERATOR).length == 3) {
-                List<String> homeRealmIds;
-                int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[2]);
-                String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
-                if (ArrayUtils.isNotEmpty(homeRealmArr) && (index >= 0) && index <= homeRealmArr.length) {
-                    homeRealmIds = new ArrayList<>(Arrays.asList(homeRealmArr));
-                    homeRealmIds.add(index, value);
-                } else if (index == 0) {
-                    homeRealmIds = new ArrayList<>();
-                    homeRealmIds.add(value);
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                }
-                idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
-            } else if (operation == Patch.OperationEnum.REMOVE && path.matches(Constants.HOME_REALM_PATH_REGEX) &&
-                    path.split(Constants.PATH_SEPERATOR).length == 3) {
-                List<String> homeRealmIds;
-                int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[2]);
-                String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
-                if (ArrayUtils.isNotEmpty(homeRealmArr) && (index >= 0) && index < homeRealmArr.length) {
-                    homeRealmIds = new ArrayList<>(Arrays.asList(homeRealmArr));
-                    homeRealmIds.remove(index);
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                }
-                idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
-            } else {
-                // Throw an error if any other patch operations are sent in the request.
-                throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                        .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-            }
+    }
+
+    private void addHomeRealmIdentifier(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        List<String> homeRealmIds;
+        int index = Integer.parseInt(parameters.get(0));
+        String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
+        if (ArrayUtils.isNotEmpty(homeRealmArr) && index <= homeRealmArr.length) {
+            homeRealmIds = new ArrayList<>(Arrays.asList(homeRealmArr));
+            homeRealmIds.add(index, value);
+        } else if (index == 0) {
+            homeRealmIds = new ArrayList<>();
+            homeRealmIds.add(value);
+        } else {
+            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
+                    .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
+        }
+        idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
+    }
+
+    private void removeHomeRealmIdentifier(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        int index = Integer.parseInt(parameters.get(0));
+        String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
+        if (ArrayUtils.isEmpty(homeRealmArr) || index >= homeRealmArr.length) {
+            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
+                    .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
         }
+        List<String> homeRealmIds = new ArrayList<>(Arrays.asList(homeRealmArr));
+        homeRealmIds.remove(index);
+        idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
     }
 
     private void updateIdPProperty(IdentityProvider identityProvider, String key, String value) {
@@ -17,6 +17,8 @@
 package org.wso2.carbon.identity.api.server.configs.v1.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
+import org.wso2.carbon.identity.api.server.common.etag.EntityTagHelper;
 import org.wso2.carbon.identity.api.server.configs.v1.ConfigsApiService;
 import org.wso2.carbon.identity.api.server.configs.v1.core.ServerConfigManagementService;
 import org.wso2.carbon.identity.api.server.configs.v1.model.CORSPatch;
@@ -25,6 +27,7 @@ import org.wso2.carbon.identity.api.server.configs.v1.model.ScimConfig;
 
 import java.util.List;
 
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response;
 
 /**
@@ -47,10 +50,16 @@ public class ConfigsApiServiceImpl implements ConfigsApiService {
         return Response.ok().entity(configManagementService.getCORSConfiguration()).build();
     }
 
+    @Override
+    public void getChanges(String since, String types, Integer limit, Integer wait, AsyncResponse asyncResponse) {
+
+        ChangeFeed.getInstance().awaitChanges(asyncResponse, since, types, limit, wait);
+    }
+
     @Override
     public Response getConfigs() {
 
-        return Response.ok().entity(configManagementService.getConfigs()).build();
+        return EntityTagHelper.ok(configManagementService.getConfigs()).build();
     }
 
     @Override
@@ -73,7 +82,7 @@ public class ConfigsApiServiceImpl implements ConfigsApiService {
     @Override
     public Response getSchemas() {
 
-        return Response.ok().entity(configManagementService.getSchemas()).build();
+        return EntityTagHelper.okStatic(configManagementService.getSchemas()).build();
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.JsonArrayStreamingOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.cors.common.CORSServiceHolder;
@@ -29,7 +30,6 @@ import org.wso2.carbon.identity.api.server.cors.common.Constants;
 import org.wso2.carbon.identity.api.server.cors.v1.function.CORSApplicationToCORSApplicationObject;
 import org.wso2.carbon.identity.api.server.cors.v1.function.CORSOriginToCORSOriginObject;
 import org.wso2.carbon.identity.api.server.cors.v1.model.CORSApplicationObject;
-import org.wso2.carbon.identity.api.server.cors.v1.model.CORSOriginObject;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceServerException;
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.cors.common.Constants.ErrorMessage.ERROR_CODE_INVALID_CORS_ORIGIN_ID;
 
@@ -80,15 +81,15 @@ public class CORSService {
     /**
      * Get a list of CORS origins allowed by the tenant.
      *
-     * @return List of CORSOriginGetObject.
+     * @return CORSOriginGetObjects, streamed as a JSON array.
      */
-    public List<CORSOriginObject> getCORSOrigins() {
+    public StreamingOutput getCORSOrigins() {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             List<CORSOrigin> corsOriginList = CORSServiceHolder.getInstance().getCorsManagementService()
                     .getTenantCORSOrigins(tenantDomain);
-            return corsOriginList.stream().map(new CORSOriginToCORSOriginObject()).collect(Collectors.toList());
+            return JsonArrayStreamingOutput.of(corsOriginList, new CORSOriginToCORSOriginObject());
         } catch (CORSManagementServiceException e) {
             throw handleCORSException(e, Constants.ErrorMessage.ERROR_CODE_CORS_RETRIEVE, null);
         }
@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.api.server.email.template.common.factory;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.email.mgt.EmailTemplateManager;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 
 /**
  * Factory Beans serves as a factory for creating other beans within the IOC container. This factory bean is used to
@@ -40,7 +41,7 @@ public class OSGIServiceFactory extends AbstractFactoryBean<EmailTemplateManager
             EmailTemplateManager taskOperationService = (EmailTemplateManager) PrivilegedCarbonContext.
                     getThreadLocalCarbonContext().getOSGiService(EmailTemplateManager.class, null);
             if (taskOperationService != null) {
-                this.emailTemplateManager = taskOperationService;
+                this.emailTemplateManager = BackendTimingProxy.wrap(EmailTemplateManager.class, taskOperationService);
             } else {
                 throw new Exception("Unable to retrieve EmailTemplateManager service.");
             }
@@ -28,6 +28,8 @@ import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTem
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.Error;
 import java.util.List;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEmailTemplate;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkResponse;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.EmailApiService;
 
 import javax.validation.Valid;
@@ -93,6 +95,30 @@ public class EmailApi  {
         return delegate.addEmailTemplateType(emailTemplateType );
     }
 
+    @Valid
+    @POST
+    @Path("/template-types/bulk")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Executes a bulk request on email template types and email templates.", notes = "Adds multiple email template types and email templates in a single request. Each operation is executed as if it was sent as a separate request, and the results are returned in the order of the operations. The supported operations are the POST operations of this API. The bulk request is authorized as a single create request, hence update and delete operations are not supported. The resource access control configuration must protect 'POST /api/server/v1/email/template-types/bulk' with the create permission and scope below. <br>  <b>Permission required:</b> <br> * /permission/admin/manage/identity/emailmgt/create <br> <b>Scopes required:</b> <br>* internal_email_mgt_create ", response = BulkResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Email Template Types", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Results of the executed operations.", response = BulkResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 413, message = "Payload Too Large", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response bulkEmailTemplateOperations(@ApiParam(value = "Operations to be executed." ,required=true) @Valid BulkRequest bulkRequest) {
+
+        return delegate.bulkEmailTemplateOperations(bulkRequest );
+    }
+
     @Valid
     @DELETE
     @Path("/template-types/{template-type-id}/templates/{template-id}")
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTem
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.Error;
 import java.util.List;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEmailTemplate;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
 import javax.ws.rs.core.Response;
 
 
@@ -37,6 +38,8 @@ public interface EmailApiService {
 
       public Response addEmailTemplateType(EmailTemplateType emailTemplateType);
 
+      public Response bulkEmailTemplateOperations(BulkRequest bulkRequest);
+
       public Response deleteEmailTemplate(String templateTypeId, String templateId);
 
       public Response deleteEmailTemplateType(String templateTypeId);
@@ -29,6 +29,8 @@ import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtInternalException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.JsonArrayStreamingOutput;
+import org.wso2.carbon.identity.api.server.common.LinkBuilder;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.email.template.common.Constants;
@@ -44,7 +46,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
@@ -72,11 +76,10 @@ public class ServerEmailTemplatesService {
      * @param sortOrder Sort the response in ascending order or descending order. **Not supported at the moment**
      * @param sortBy    Element to sort the responses. **Not supported at the moment**
      * @param requiredAttributes Required attributes in the email template types list response.
-     * @return A list of email template types.
+     * @return Email template types, streamed as a JSON array.
      */
-    public List<EmailTemplateTypeWithoutTemplates> getAllEmailTemplateTypes(Integer limit, Integer offset,
-                                                                            String sortOrder, String sortBy,
-                                                                            String requiredAttributes) {
+    public StreamingOutput getAllEmailTemplateTypes(Integer limit, Integer offset, String sortOrder, String sortBy,
+                                                    String requiredAttributes) {
 
         handleNoteSupportedParameters(limit, offset, sortOrder, sortBy);
 
@@ -97,10 +100,14 @@ public class ServerEmailTemplatesService {
                 }
                 allTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager()
                         .getAllEmailTemplates(getTenantDomainFromContext());
+                // Templates are grouped under their types, so all the types need to be built before writing.
+                return JsonArrayStreamingOutput.of(buildEmailTemplateTypeWithoutTemplatesList(availableTemplateTypes,
+                        allTemplates, requestedAttributeList), Function.identity());
             }
 
-            return buildEmailTemplateTypeWithoutTemplatesList(availableTemplateTypes, allTemplates,
-                    requestedAttributeList);
+            LinkBuilder templateTypeLinkBuilder = getTemplateTypeLinkBuilder();
+            return JsonArrayStreamingOutput.of(availableTemplateTypes, templateType ->
+                    buildEmailTemplateTypeWithoutTemplates(templateType, templateTypeLinkBuilder, null));
         } catch (I18nEmailMgtException e) {
             throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_RETRIEVING_EMAIL_TEMPLATE_TYPES);
         }
@@ -424,21 +431,10 @@ public class ServerEmailTemplatesService {
             List<String> requestedAttributeList) {
 
         Map<String, EmailTemplateTypeWithoutTemplates> templateTypeMap = new HashMap<>();
+        LinkBuilder templateTypeLinkBuilder = getTemplateTypeLinkBuilder();
         for (String templateType : emailTemplateTypes) {
-
-            EmailTemplateTypeWithoutTemplates emailTemplateType = new EmailTemplateTypeWithoutTemplates();
-            // Set display name.
-            emailTemplateType.setDisplayName(templateType);
-            // Set id.
-            String templateTypeId = getEmailTemplateIdFromDisplayName(templateType);
-            emailTemplateType.setId(templateTypeId);
-            // Set location.
-            emailTemplateType.setSelf(getTemplateTypeLocation(templateTypeId));
-
-            if (requestedAttributeList != null) {
-                emailTemplateType.setTemplates(new ArrayList<>());
-            }
-            templateTypeMap.put(templateType, emailTemplateType);
+            templateTypeMap.put(templateType, buildEmailTemplateTypeWithoutTemplates(templateType,
+                    templateTypeLinkBuilder, requestedAttributeList));
         }
 
         // Populate optional email template information if exists.
@@ -487,6 +483,32 @@ public class ServerEmailTemplatesService {
         return new ArrayList<>(templateTypeMap.values());
     }
 
+    /**
+     * Create an EmailTemplateTypeWithoutTemplates object for the given email template type.
+     *
+     * @param templateType            Display name of the email template type.
+     * @param templateTypeLinkBuilder Link builder for the email template types.
+     * @param requestedAttributeList  List of required attributes.
+     * @return EmailTemplateTypeWithoutTemplates object.
+     */
+    private EmailTemplateTypeWithoutTemplates buildEmailTemplateTypeWithoutTemplates(
+            String templateType, LinkBuilder templateTypeLinkBuilder, List<String> requestedAttributeList) {
+
+        EmailTemplateTypeWithoutTemplates emailTemplateType = new EmailTemplateTypeWithoutTemplates();
+        // Set display name.
+        emailTemplateType.setDisplayName(templateType);
+        // Set id.
+        String templateTypeId = getEmailTemplateIdFromDisplayName(templateType);
+        emailTemplateType.setId(templateTypeId);
+        // Set location.
+        emailTemplateType.setSelf(templateTypeLinkBuilder.build(templateTypeId));
+
+        if (requestedAttributeList != null) {
+            emailTemplateType.setTemplates(new ArrayList<>());
+        }
+        return emailTemplateType;
+    }
+
     /**
      * Create an EmailTemplateTypeWithID object by reading an internal EmailTemplate list.
      *
@@ -552,9 +574,13 @@ public class ServerEmailTemplatesService {
 
     private String getTemplateTypeLocation(String templateTypeId) {
 
-        String location = V1_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH +
-                PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return getTemplateTypeLinkBuilder().build(templateTypeId);
+    }
+
+    private LinkBuilder getTemplateTypeLinkBuilder() {
+
+        return ContextLoader.getLinkBuilderForBody(V1_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH +
+                EMAIL_TEMPLATE_TYPES_PATH);
     }
 
     private String getTemplateLocation(String templateTypeId, String templateId) {
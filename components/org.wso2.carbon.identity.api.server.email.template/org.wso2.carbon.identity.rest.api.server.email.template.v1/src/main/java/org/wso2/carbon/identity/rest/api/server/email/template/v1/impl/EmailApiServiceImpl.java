@@ -17,6 +17,9 @@
 package org.wso2.carbon.identity.rest.api.server.email.template.v1.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkOperationRouter;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequestExecutor;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.EmailApiService;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.core.ServerEmailTemplatesService;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
@@ -26,6 +29,7 @@ import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEm
 
 import java.net.URI;
 import java.util.List;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -40,9 +44,21 @@ import static org.wso2.carbon.identity.api.server.email.template.common.Constant
  */
 public class EmailApiServiceImpl implements EmailApiService {
 
+    private static final String TEMPLATE_TYPE_ID = "template-type-id";
+    private static final String TEMPLATE_TYPES_PATH = EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH;
+    private static final String TEMPLATE_TYPE_PATH = TEMPLATE_TYPES_PATH + "/{" + TEMPLATE_TYPE_ID + "}";
+
     @Autowired
     private ServerEmailTemplatesService emailTemplatesService;
 
+    // Bulk requests are authorized with the create scope, hence only the create operations are routed.
+    private final BulkRequestExecutor bulkRequestExecutor = new BulkRequestExecutor(new BulkOperationRouter()
+            .route(HttpMethod.POST, TEMPLATE_TYPES_PATH, request ->
+                    addEmailTemplateType(request.getData(EmailTemplateType.class)))
+            .route(HttpMethod.POST, TEMPLATE_TYPE_PATH, request ->
+                    addEmailTemplate(request.getPathParam(TEMPLATE_TYPE_ID),
+                            request.getData(EmailTemplateWithID.class))));
+
     @Override
     public Response addEmailTemplate(String templateTypeId, EmailTemplateWithID emailTemplateWithID) {
 
@@ -64,6 +80,12 @@ public class EmailApiServiceImpl implements EmailApiService {
         return Response.created(headerLocation).entity(templateType).build();
     }
 
+    @Override
+    public Response bulkEmailTemplateOperations(BulkRequest bulkRequest) {
+
+        return Response.ok().entity(bulkRequestExecutor.execute(bulkRequest)).build();
+    }
+
     @Override
     public Response deleteEmailTemplate(String templateTypeId, String templateId) {
 
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
+import org.wso2.carbon.identity.api.server.common.async.AsyncRequestExecutor;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.RemoteFetchApiService;
 
 import javax.validation.Valid;
@@ -209,9 +210,9 @@ public class RemoteFetchApi  {
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response triggerRemoteFetch(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id) {
+    public Object triggerRemoteFetch(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id) {
 
-        return delegate.triggerRemoteFetch(id );
+        return AsyncRequestExecutor.getInstance().execute(() -> delegate.triggerRemoteFetch(id ));
     }
 
     @Valid
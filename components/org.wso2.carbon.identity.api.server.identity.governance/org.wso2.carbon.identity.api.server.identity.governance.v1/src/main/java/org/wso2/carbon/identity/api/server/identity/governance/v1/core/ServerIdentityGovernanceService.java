@@ -20,6 +20,8 @@ import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEvent;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants;
@@ -293,6 +295,8 @@ public class ServerIdentityGovernanceService {
                 configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
             }
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            ChangeFeed.getInstance().publish(ChangeEvent.ResourceType.GOVERNANCE_CONNECTOR, connectorId,
+                    ChangeEvent.Operation.UPDATED);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -51,7 +51,7 @@ public class Constants {
     public static final String IDP_ISSUER_NAME_PATH = "/idpIssuerName";
     public static final String ALIAS_PATH = "/alias";
     public static final String CERTIFICATE_JWKSURI_PATH = "/certificate/jwksUri";
-    public static final String CERTIFICATE_PATH_REGEX = "/certificate/certificates/[0-9]+";
+    public static final String CERTIFICATE_PATH = "/certificate/certificates/{index}";
 
     // IdP pagination constants.
     public static final String PAGINATION_LINK_FORMAT = "?offset=%d&limit=%d";
@@ -18,6 +18,7 @@ package org.wso2.carbon.identity.api.server.idp.common.factory;
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 
 /**
@@ -42,7 +43,8 @@ public class ClaimMetadataMgtOSGIServiceFactory extends AbstractFactoryBean<Clai
                     (ClaimMetadataManagementService) PrivilegedCarbonContext.
                             getThreadLocalCarbonContext().getOSGiService(ClaimMetadataManagementService.class, null);
             if (taskOperationService != null) {
-                this.claimMetadataManagementService = taskOperationService;
+                this.claimMetadataManagementService =
+                        BackendTimingProxy.wrap(ClaimMetadataManagementService.class, taskOperationService);
             } else {
                 throw new Exception("Unable to retrieve identityProviderManager service.");
             }
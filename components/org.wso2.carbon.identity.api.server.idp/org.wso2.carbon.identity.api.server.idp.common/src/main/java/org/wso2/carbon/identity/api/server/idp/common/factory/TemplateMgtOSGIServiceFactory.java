@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.idp.common.factory;
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.identity.template.mgt.TemplateManager;
 
 /**
@@ -43,7 +44,7 @@ public class TemplateMgtOSGIServiceFactory extends AbstractFactoryBean<TemplateM
             TemplateManager taskOperationService = (TemplateManager) PrivilegedCarbonContext.
                     getThreadLocalCarbonContext().getOSGiService(TemplateManager.class, null);
             if (taskOperationService != null) {
-                this.templateManager = taskOperationService;
+                this.templateManager = BackendTimingProxy.wrap(TemplateManager.class, taskOperationService);
             } else {
                 throw new Exception("Unable to retrieve TemplateManager service.");
             }
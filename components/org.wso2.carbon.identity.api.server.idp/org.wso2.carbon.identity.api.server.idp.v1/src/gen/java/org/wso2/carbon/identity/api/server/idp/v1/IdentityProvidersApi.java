@@ -25,6 +25,9 @@ import java.io.InputStream;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Claims;
 import org.wso2.carbon.identity.api.server.idp.v1.model.ConnectedApps;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Error;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkResponse;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetResponse;
 import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticator;
 import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticatorListResponse;
 import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticatorPUTRequest;
@@ -113,6 +116,30 @@ public class IdentityProvidersApi  {
         return delegate.addIDPTemplate(identityProviderTemplate );
     }
 
+    @Valid
+    @POST
+    @Path("/bulk")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Execute a bulk request on identity providers ", notes = "This API provides the capability to create multiple identity providers in a single request. Each operation is executed as if it was sent as a separate request, and the results are returned in the order of the operations. The supported operation is 'POST /identity-providers'. The bulk request is authorized as a single create request, hence update and delete operations are not supported. The resource access control configuration must protect 'POST /api/server/v1/identity-providers/bulk' with the create permission and scope below.<br>   <b>Permission required:</b> <br>       * /permission/admin/manage/identity/idpmgt/create <br>   <b>Scope required:</b> <br>       * internal_idp_create ", response = BulkResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Identity Providers", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Results of the executed operations.", response = BulkResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 413, message = "Payload Too Large", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response bulkIDPOperations(@ApiParam(value = "This represents the operations to be executed." ,required=true) @Valid BulkRequest bulkRequest) {
+
+        return delegate.bulkIDPOperations(bulkRequest );
+    }
+
     @Valid
     @DELETE
     @Path("/{identity-provider-id}")
@@ -261,7 +288,7 @@ public class IdentityProvidersApi  {
     @GET
     @Path("/{identity-provider-id}")
     
-    @Produces({ "application/json", "application/xml" })
+    @Produces({ "application/json", "application/xml", "application/cbor", "application/x-jackson-smile" })
     @ApiOperation(value = "Retrieve identity provider by identity provider's ID ", notes = "This API provides the capability to retrieve the identity provider details by using its ID. Furthermore, by specifying the \"Accept : application/xml\" header, it provides the ability to export IdP data as XML. <br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/view <br> <b>Scope required:</b> <br>     * internal_idp_view ", response = IdentityProviderResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
@@ -335,7 +362,7 @@ public class IdentityProvidersApi  {
     @GET
     
     
-    @Produces({ "application/json" })
+    @Produces({ "application/json", "application/cbor", "application/x-jackson-smile" })
     @ApiOperation(value = "List identity providers ", notes = "This API provides the capability to retrieve the list of identity providers.<br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/view <br> <b>Scope required:</b> <br>     * internal_idp_view ", response = IdentityProviderListResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
@@ -351,9 +378,32 @@ public class IdentityProvidersApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response getIDPs(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /identity-providers?filter=name+sw+\"google\"+and+isEnabled+eq+\"true\" ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Defines the order in which the retrieved records should be sorted. _This parameter is not supported yet_ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet_ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response. _This parameter is not supported yet_ ")  @QueryParam("requiredAttributes") String requiredAttributes) {
+    public Response getIDPs(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /identity-providers?filter=name+sw+\"google\"+and+isEnabled+eq+\"true\" ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Defines the order in which the retrieved records should be sorted. _This parameter is not supported yet_ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet_ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response. _This parameter is not supported yet_ ")  @QueryParam("requiredAttributes") String requiredAttributes,     @Valid@ApiParam(value = "Cursor of the item after which the records should be returned, as given in the 'next' link of a previous page. Cannot be used along with the 'offset' or 'before' parameters. ")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the item before which the records should be returned, as given in the 'previous' link of a previous page. Cannot be used along with the 'offset' or 'after' parameters. ")  @QueryParam("before") String before) {
+
+        return delegate.getIDPs(limit,  offset,  filter,  sortOrder,  sortBy,  requiredAttributes,  after,  before );
+    }
+
+    @Valid
+    @GET
+    @Path("/.get")
+    
+    @Produces({ "application/json", "application/cbor", "application/x-jackson-smile" })
+    @ApiOperation(value = "Retrieve multiple identity providers by their IDs ", notes = "This API provides the capability to retrieve multiple identity providers in a single request by giving their IDs. The result of each ID is returned in the order of the request, with the status and error of the IDs which could not be retrieved, such as a 404 for an ID which does not exist. Since the request only reads identity providers, it is a GET request, and is authorized with the view permission and scope below. <br> <b>Permission required:</b> <br>     * /permission/admin/manage/identity/idpmgt/view <br> <b>Scope required:</b> <br>     * internal_idp_view ", response = MultiGetResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Identity Providers", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Results of the requested IDs.", response = MultiGetResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getIDPsByIds(    @Valid@ApiParam(value = "IDs of the identity providers to be retrieved, either comma separated or as repeated parameters. ",required=true)  @QueryParam("ids") List<String> ids) {
 
-        return delegate.getIDPs(limit,  offset,  filter,  sortOrder,  sortBy,  requiredAttributes );
+        return delegate.getIDPsByIds(ids );
     }
 
     @Valid
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Claims;
 import org.wso2.carbon.identity.api.server.idp.v1.model.ConnectedApps;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Error;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
 import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticator;
 import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticatorListResponse;
 import org.wso2.carbon.identity.api.server.idp.v1.model.FederatedAuthenticatorPUTRequest;
@@ -56,6 +57,8 @@ public interface IdentityProvidersApiService {
 
       public Response addIDPTemplate(IdentityProviderTemplate identityProviderTemplate);
 
+      public Response bulkIDPOperations(BulkRequest bulkRequest);
+
       public Response deleteIDP(String identityProviderId, Boolean force);
 
       public Response deleteIDPTemplate(String templateId);
@@ -74,7 +77,9 @@ public interface IdentityProvidersApiService {
 
       public Response getIDPTemplates(Integer limit, Integer offset, SearchContext searchContext);
 
-      public Response getIDPs(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String requiredAttributes);
+      public Response getIDPs(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String requiredAttributes, String after, String before);
+
+      public Response getIDPsByIds(List<String> ids);
 
       public Response getJITConfig(String identityProviderId);
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.idp.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+import org.wso2.carbon.identity.api.server.common.cache.ResponseCache;
+import org.wso2.carbon.identity.api.server.idp.v1.model.IdentityProviderPOSTRequest;
+
+import java.io.IOException;
+
+/**
+ * Tenant partitioned cache of the identity providers parsed from the scripts of the IDP templates.
+ *
+ * Entries are keyed by the template ID and a version derived from the template script, so an updated template is
+ * parsed again even when it was updated outside of the server APIs or on another node. The script of a cached entry is
+ * compared with the requested script before the entry is used, so a version collision never serves a stale identity
+ * provider. Hence, unlike the other response caches, this cache is enabled by default. Since the parsed identity
+ * providers are shared between the requests, callers must not modify them.
+ */
+final class IdPTemplateScriptCache {
+
+    private static final long DEFAULT_TTL_SECONDS = 60;
+
+    private final ResponseCache<ParsedScript> parsedScripts = new ResponseCache<>("idpTemplateScripts",
+            DEFAULT_TTL_SECONDS);
+
+    /**
+     * Get the identity provider defined by the given script of an IDP template.
+     *
+     * @param templateId Resource ID of the IDP template.
+     * @param script     Template script.
+     * @return Identity provider defined by the script.
+     * @throws IOException If the script is not a valid identity provider.
+     */
+    IdentityProviderPOSTRequest get(String templateId, String script) throws IOException {
+
+        ParsedScript parsedScript = parsedScripts.get(() -> parse(script), templateId, script.length(),
+                script.hashCode());
+        if (!parsedScript.script.equals(script)) {
+            return parse(script).idp;
+        }
+        return parsedScript.idp;
+    }
+
+    /**
+     * Evict the parsed scripts of the current tenant. To be called when the IDP templates of the tenant change.
+     */
+    void invalidateTenant() {
+
+        parsedScripts.invalidateTenant();
+    }
+
+    private static ParsedScript parse(String script) throws IOException {
+
+        return new ParsedScript(script, ObjectMapperRegistry.getReader(IdentityProviderPOSTRequest.class)
+                .readValue(script));
+    }
+
+    /**
+     * Template script and the identity provider parsed from it.
+     */
+    private static final class ParsedScript {
+
+        private final String script;
+        private final IdentityProviderPOSTRequest idp;
+
+        private ParsedScript(String script, IdentityProviderPOSTRequest idp) {
+
+            this.script = script;
+            this.idp = idp;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.idp.v1.core;
+
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.JustInTimeProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.PermissionsAndRoleConfig;
+import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Copies identity providers which are about to be modified, so that the cached identity provider returned by the
+ * identity provider manager is left untouched.
+ *
+ * The root level attributes are copied, and the configuration sub-trees, which are the authenticator, connector,
+ * property, claim, role and JIT configurations, are deep copied together with Java serialization, as
+ * {@code Utils.deepCopyApplication} does for applications. The update is passed the whole copy, and the identity
+ * provider manager may modify any of these sub-trees while updating, so none of them can be shared with the cached
+ * identity provider. Since they are serialized in a single stream, an authenticator or a connector which is both the
+ * default and one of the configured ones stays a single object in the copy. The certificates, which are not modified
+ * by the update, are the only part shared with the source, and unlike a round trip of the whole identity provider,
+ * they are not copied.
+ */
+public final class IdentityProviderCopier {
+
+    private IdentityProviderCopier() {
+
+    }
+
+    /**
+     * Create a copy of the given identity provider which can be modified without affecting it.
+     *
+     * @param source Identity provider to copy.
+     * @return Copy of the identity provider, or null if the source is null.
+     * @throws IdentityProviderManagementException If the configurations of the identity provider cannot be copied.
+     */
+    public static IdentityProvider copyOf(IdentityProvider source) throws IdentityProviderManagementException {
+
+        if (source == null) {
+            return null;
+        }
+        IdentityProvider copy = new IdentityProvider();
+        copy.setId(source.getId());
+        copy.setResourceId(source.getResourceId());
+        copy.setIdentityProviderName(source.getIdentityProviderName());
+        copy.setIdentityProviderDescription(source.getIdentityProviderDescription());
+        copy.setDisplayName(source.getDisplayName());
+        copy.setAlias(source.getAlias());
+        copy.setPrimary(source.isPrimary());
+        copy.setFederationHub(source.isFederationHub());
+        copy.setEnable(source.isEnable());
+        copy.setHomeRealmId(source.getHomeRealmId());
+        copy.setImageUrl(source.getImageUrl());
+        copy.setTemplateId(source.getTemplateId());
+        copy.setProvisioningRole(source.getProvisioningRole());
+        copy.setCertificateInfoArray(source.getCertificateInfoArray());
+
+        Object[] configs = deepCopy(new Object[]{
+                source.getIdpProperties(),
+                source.getFederatedAuthenticatorConfigs(),
+                source.getDefaultAuthenticatorConfig(),
+                source.getProvisioningConnectorConfigs(),
+                source.getDefaultProvisioningConnectorConfig(),
+                source.getClaimConfig(),
+                source.getPermissionAndRoleConfig(),
+                source.getJustInTimeProvisioningConfig()});
+        copy.setIdpProperties((IdentityProviderProperty[]) configs[0]);
+        copy.setFederatedAuthenticatorConfigs((FederatedAuthenticatorConfig[]) configs[1]);
+        copy.setDefaultAuthenticatorConfig((FederatedAuthenticatorConfig) configs[2]);
+        copy.setProvisioningConnectorConfigs((ProvisioningConnectorConfig[]) configs[3]);
+        copy.setDefaultProvisioningConnectorConfig((ProvisioningConnectorConfig) configs[4]);
+        copy.setClaimConfig((ClaimConfig) configs[5]);
+        copy.setPermissionAndRoleConfig((PermissionsAndRoleConfig) configs[6]);
+        copy.setJustInTimeProvisioningConfig((JustInTimeProvisioningConfig) configs[7]);
+        return copy;
+    }
+
+    private static Object[] deepCopy(Object[] configs) throws IdentityProviderManagementException {
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(configs);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (Object[]) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IdentityProviderManagementException("Error while copying the configurations of the identity " +
+                    "provider.", e);
+        }
+    }
+}
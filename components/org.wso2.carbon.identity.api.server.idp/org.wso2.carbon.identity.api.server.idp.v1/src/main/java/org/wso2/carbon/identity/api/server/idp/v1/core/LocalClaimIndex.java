@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.idp.v1.core;
+
+import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the local claims of a tenant by claim URI, used to resolve the local claims referred by the claim
+ * configuration of identity providers.
+ *
+ * An index is created for a single request and shared by every lookup of that request, so the local claims are
+ * fetched at most once per request, and only when a lookup is made. Since the index never outlives the request, it
+ * always reflects the local claims as of the request and needs no invalidation.
+ */
+final class LocalClaimIndex {
+
+    private final String tenantDomain;
+    private Map<String, LocalClaim> localClaims;
+
+    LocalClaimIndex(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    /**
+     * Get the local claim identified by the given claim URI.
+     *
+     * @param claimUri Local claim URI.
+     * @return Local claim, or null if the tenant has no such local claim.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    LocalClaim get(String claimUri) throws ClaimMetadataException {
+
+        return getLocalClaims().get(claimUri);
+    }
+
+    /**
+     * Get the URIs of the local claims of the tenant.
+     *
+     * @return Local claim URIs.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    Set<String> getClaimURIs() throws ClaimMetadataException {
+
+        return getLocalClaims().keySet();
+    }
+
+    private Map<String, LocalClaim> getLocalClaims() throws ClaimMetadataException {
+
+        if (localClaims == null) {
+            List<LocalClaim> localClaimList =
+                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+            Map<String, LocalClaim> index = new HashMap<>();
+            if (localClaimList != null) {
+                for (LocalClaim localClaim : localClaimList) {
+                    index.putIfAbsent(localClaim.getClaimURI(), localClaim);
+                }
+            }
+            localClaims = Collections.unmodifiableMap(index);
+        }
+        return localClaims;
+    }
+}
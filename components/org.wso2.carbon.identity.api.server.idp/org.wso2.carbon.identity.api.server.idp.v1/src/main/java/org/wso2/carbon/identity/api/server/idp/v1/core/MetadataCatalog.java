@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.idp.v1.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable catalog of the metadata of the federated authenticators or outbound provisioning connectors registered in
+ * the server, keyed by name.
+ *
+ * The metadata changes only when a bundle registers or unregisters an authenticator or connector, which replaces the
+ * registered configs. A catalog therefore remembers the configs it was built from, and {@link #refresh} rebuilds it
+ * only when the registered configs are no longer the same instances.
+ *
+ * @param <C> Type of the registered config.
+ * @param <T> Type of the metadata built from a config.
+ */
+final class MetadataCatalog<C, T> {
+
+    private final C[] configs;
+    private final Map<String, T> entries;
+
+    private MetadataCatalog(C[] configs, Map<String, T> entries) {
+
+        this.configs = configs;
+        this.entries = entries;
+    }
+
+    /**
+     * Get a catalog of the given registered configs, reusing the current catalog if it was built from the same
+     * configs.
+     *
+     * @param current Current catalog, or null if none was built yet.
+     * @param configs Registered configs.
+     * @param name    Function returning the name of a config.
+     * @param builder Function building the metadata of a config.
+     * @param <C>     Type of the registered config.
+     * @param <T>     Type of the metadata built from a config.
+     * @return Catalog of the registered configs.
+     */
+    static <C, T> MetadataCatalog<C, T> refresh(MetadataCatalog<C, T> current, C[] configs, Function<C, String> name,
+                                                Function<C, T> builder) {
+
+        if (current != null && current.isBuiltFrom(configs)) {
+            return current;
+        }
+        Map<String, T> entries = new LinkedHashMap<>();
+        if (configs != null) {
+            for (C config : configs) {
+                entries.putIfAbsent(name.apply(config), builder.apply(config));
+            }
+        }
+        return new MetadataCatalog<>(configs == null ? null : configs.clone(), Collections.unmodifiableMap(entries));
+    }
+
+    /**
+     * Get the metadata of the config with the given name.
+     *
+     * @param name Name of the config.
+     * @return Metadata, or null if no config is registered with the name.
+     */
+    T get(String name) {
+
+        return entries.get(name);
+    }
+
+    /**
+     * Get the metadata of all the registered configs, in the order of registration.
+     *
+     * @return Metadata of the registered configs.
+     */
+    Collection<T> getAll() {
+
+        return entries.values();
+    }
+
+    private boolean isBuiltFrom(C[] registeredConfigs) {
+
+        if (configs == null || registeredConfigs == null) {
+            return configs == registeredConfigs;
+        }
+        if (configs.length != registeredConfigs.length) {
+            return false;
+        }
+        for (int i = 0; i < configs.length; i++) {
+            if (configs[i] != registeredConfigs[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
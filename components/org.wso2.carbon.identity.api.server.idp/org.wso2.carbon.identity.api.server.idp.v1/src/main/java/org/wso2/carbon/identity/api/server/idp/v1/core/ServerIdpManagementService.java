@@ -19,9 +19,6 @@
 package org.wso2.carbon.identity.api.server.idp.v1.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
-import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
@@ -32,8 +29,18 @@ import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetExecutor;
+import org.wso2.carbon.identity.api.server.common.bulk.MultiGetResponse;
+import org.wso2.carbon.identity.api.server.common.cache.ResponseCache;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEvent;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendCallTimer;
+import org.wso2.carbon.identity.api.server.common.pagination.CursorPaginator;
+import org.wso2.carbon.identity.api.server.common.patch.PatchOperation;
+import org.wso2.carbon.identity.api.server.common.patch.PatchRouter;
 import org.wso2.carbon.identity.api.server.idp.common.Constants;
 import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Certificate;
@@ -107,7 +114,6 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.lang.reflect.InvocationTargetException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -143,6 +149,20 @@ import static org.wso2.carbon.identity.configuration.mgt.core.search.constant.Co
 public class ServerIdpManagementService {
 
     private static final Log log = LogFactory.getLog(ServerIdpManagementService.class);
+    private static final int IDP_TEMPLATE_COUNT_BATCH_SIZE = 100;
+    private static final int MAX_IDP_TEMPLATE_COUNT_BATCHES = 100;
+    private static final long IDP_TEMPLATE_COUNT_CACHE_TTL_SECONDS = 60;
+    private static final String IDP_MANAGER = "IdentityProviderManager";
+
+    private final ResponseCache<IdentityProviderListResponse> idpListCache = new ResponseCache<>("idps");
+    private final ResponseCache<IdentityProviderResponse> idpCache = new ResponseCache<>("idp");
+    // The count is evicted on every IDP template write, so unlike the other response caches, it is enabled by default.
+    private final ResponseCache<Integer> idpTemplateCountCache = new ResponseCache<>("idpTemplateCount",
+            IDP_TEMPLATE_COUNT_CACHE_TTL_SECONDS);
+    private final IdPTemplateScriptCache idpTemplateScriptCache = new IdPTemplateScriptCache();
+    private final PatchRouter<IdentityProvider> idpPatchRouter = buildIdpPatchRouter();
+    private volatile MetadataCatalog<FederatedAuthenticatorConfig, MetaFederatedAuthenticator> authenticatorCatalog;
+    private volatile MetadataCatalog<ProvisioningConnectorConfig, MetaOutboundConnector> connectorCatalog;
 
     /**
      * Get list of identity providers.
@@ -153,20 +173,41 @@ public class ServerIdpManagementService {
      * @param filter     Filter string. E.g. filter="name" sw "google" and "isEnabled" eq "true"
      * @param sortBy     Attribute to sort the IDPs by. E.g. name
      * @param sortOrder  Order in which IDPs should be sorted. Can be either ASC or DESC.
+     * @param after      Cursor of the IDP after which the page starts.
+     * @param before     Cursor of the IDP before which the page ends.
      * @return IdentityProviderListResponse.
      */
     public IdentityProviderListResponse getIDPs(String requiredAttributes, Integer limit, Integer offset, String filter,
-                                                String sortBy, String sortOrder) {
+                                                String sortBy, String sortOrder, String after, String before) {
+
+        return idpListCache.get(() -> listIDPs(requiredAttributes, limit, offset, filter, sortBy, sortOrder, after,
+                before), requiredAttributes, limit, offset, filter, sortBy, sortOrder, after, before);
+    }
+
+    private IdentityProviderListResponse listIDPs(String requiredAttributes, Integer limit, Integer offset,
+                                                  String filter, String sortBy, String sortOrder, String after,
+                                                  String before) {
 
         try {
-            List<String> requestedAttributeList = null;
-            if (StringUtils.isNotBlank(requiredAttributes)) {
-                requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
+            List<String> requestedAttributeList = StringUtils.isNotBlank(requiredAttributes) ?
+                    new ArrayList<>(Arrays.asList(requiredAttributes.split(","))) : null;
+            if (CursorPaginator.isCursorRequest(after, before)) {
+                CursorPaginator cursorPaginator = CursorPaginator.forRequest(after, before, offset, limit, sortBy,
+                        sortOrder);
+                return createIDPListResponse(
+                        BackendCallTimer.time(IDP_MANAGER, "getIdPs", () ->
+                                IdentityProviderServiceHolder.getIdentityProviderManager().getIdPs(
+                                        cursorPaginator.getFetchLimit(), cursorPaginator.getFetchOffset(), filter,
+                                        sortBy, sortOrder, ContextLoader.getTenantDomainFromContext(),
+                                        requestedAttributeList)),
+                        requestedAttributeList, cursorPaginator);
             }
             return createIDPListResponse(
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPs(limit, offset, filter,
-                            sortBy, sortOrder, ContextLoader.getTenantDomainFromContext(), requestedAttributeList),
-                    requestedAttributeList);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPs", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPs(limit, offset, filter,
+                                    sortBy, sortOrder, ContextLoader.getTenantDomainFromContext(),
+                                    requestedAttributeList)),
+                    requestedAttributeList, null);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
@@ -182,8 +223,11 @@ public class ServerIdpManagementService {
 
         IdentityProvider identityProvider;
         try {
-            identityProvider = IdentityProviderServiceHolder.getIdentityProviderManager().addIdPWithResourceId(
-                    createIDP(identityProviderPOSTRequest), ContextLoader.getTenantDomainFromContext());
+            IdentityProvider idpToCreate = createIDP(identityProviderPOSTRequest);
+            identityProvider = BackendCallTimer.time(IDP_MANAGER, "addIdPWithResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().addIdPWithResourceId(idpToCreate,
+                            ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(identityProvider.getResourceId(), ChangeEvent.Operation.CREATED);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_ADDING_IDP, null);
         }
@@ -198,10 +242,28 @@ public class ServerIdpManagementService {
      */
     public IdentityProviderResponse getIDP(String idpId) {
 
+        return idpCache.get(() -> retrieveIDP(idpId), idpId);
+    }
+
+    /**
+     * Get the identity providers identified by the resource IDs of a multi-get request. The backend retrieves
+     * identity providers one at a time, hence the IDs are resolved in parallel.
+     *
+     * @param ids Resource IDs of the identity providers, as given in the ids query parameter.
+     * @return Identity provider, or the error, of each ID.
+     */
+    public MultiGetResponse getIDPsByIds(List<String> ids) {
+
+        return MultiGetExecutor.resolveInParallel(ids, this::getIDP);
+    }
+
+    private IdentityProviderResponse retrieveIDP(String idpId) {
+
         try {
             IdentityProvider identityProvider =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
-                            ContextLoader.getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (identityProvider == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -226,17 +288,19 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider identityProvider =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(identityProviderId,
-                            ContextLoader.getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(
+                                    identityProviderId, ContextLoader.getTenantDomainFromContext(), true));
             if (identityProvider == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         identityProviderId);
             }
-            IdentityProvider idpToUpdate = createIdPClone(identityProvider);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(identityProvider);
             processPatchRequest(patchRequest, idpToUpdate);
-            IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(identityProviderId, idpToUpdate,
-                            ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdP = BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(identityProviderId,
+                            idpToUpdate, ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(identityProviderId, ChangeEvent.Operation.UPDATED);
             return createIDPResponse(updatedIdP);
 
         } catch (IdentityProviderManagementException e) {
@@ -252,8 +316,10 @@ public class ServerIdpManagementService {
     public void deleteIDP(String identityProviderId) {
 
         try {
-            IdentityProviderServiceHolder.getIdentityProviderManager().deleteIdPByResourceId(identityProviderId,
-                    ContextLoader.getTenantDomainFromContext());
+            BackendCallTimer.run(IDP_MANAGER, "deleteIdPByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().deleteIdPByResourceId(identityProviderId,
+                            ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(identityProviderId, ChangeEvent.Operation.DELETED);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -268,8 +334,10 @@ public class ServerIdpManagementService {
     public void forceDeleteIDP(String identityProviderId) {
 
         try {
-            IdentityProviderServiceHolder.getIdentityProviderManager().forceDeleteIdpByResourceId(identityProviderId,
-                    ContextLoader.getTenantDomainFromContext());
+            BackendCallTimer.run(IDP_MANAGER, "forceDeleteIdpByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().forceDeleteIdpByResourceId(
+                            identityProviderId, ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(identityProviderId, ChangeEvent.Operation.DELETED);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -284,15 +352,8 @@ public class ServerIdpManagementService {
 
         List<MetaFederatedAuthenticatorListItem> metaAuthenticators = new ArrayList<>();
         try {
-            FederatedAuthenticatorConfig[] authenticatorConfigs =
-                    IdentityProviderServiceHolder.getIdentityProviderManager()
-                            .getAllFederatedAuthenticators();
-            if (ArrayUtils.isNotEmpty(authenticatorConfigs)) {
-                for (FederatedAuthenticatorConfig authenticatorConfig : authenticatorConfigs) {
-                    MetaFederatedAuthenticatorListItem metaFederatedAuthenticator =
-                            createMetaFederatedAuthenticatorListItem(authenticatorConfig);
-                    metaAuthenticators.add(metaFederatedAuthenticator);
-                }
+            for (MetaFederatedAuthenticator authenticator : getAuthenticatorCatalog().getAll()) {
+                metaAuthenticators.add(createMetaFederatedAuthenticatorListItem(authenticator));
             }
             return metaAuthenticators;
         } catch (IdentityProviderManagementException e) {
@@ -308,21 +369,8 @@ public class ServerIdpManagementService {
      */
     public MetaFederatedAuthenticator getMetaFederatedAuthenticator(String id) {
 
-        MetaFederatedAuthenticator authenticator = null;
         try {
-            String authenticatorName = decodeAuthenticatorID(id);
-            FederatedAuthenticatorConfig[] authenticatorConfigs =
-                    IdentityProviderServiceHolder.getIdentityProviderManager()
-                            .getAllFederatedAuthenticators();
-            if (ArrayUtils.isNotEmpty(authenticatorConfigs)) {
-                for (FederatedAuthenticatorConfig authenticatorConfig : authenticatorConfigs) {
-                    if (StringUtils.equals(authenticatorConfig.getName(), authenticatorName)) {
-                        authenticator = createMetaFederatedAuthenticator(authenticatorConfig);
-                        break;
-                    }
-                }
-            }
-            return authenticator;
+            return getAuthenticatorCatalog().get(decodeAuthenticatorID(id));
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_META_AUTHENTICATOR, id);
         }
@@ -348,6 +396,46 @@ public class ServerIdpManagementService {
         }
     }
 
+    /**
+     * Get the catalog of the metadata of the registered federated authenticators. The catalog is rebuilt only when
+     * the registered authenticators have changed since it was last built.
+     *
+     * @return Catalog of federated authenticator metadata.
+     * @throws IdentityProviderManagementException If an error occurred while retrieving the authenticators.
+     */
+    private MetadataCatalog<FederatedAuthenticatorConfig, MetaFederatedAuthenticator> getAuthenticatorCatalog()
+            throws IdentityProviderManagementException {
+
+        MetadataCatalog<FederatedAuthenticatorConfig, MetaFederatedAuthenticator> catalog =
+                MetadataCatalog.refresh(authenticatorCatalog,
+                        BackendCallTimer.time(IDP_MANAGER, "getAllFederatedAuthenticators", () ->
+                                IdentityProviderServiceHolder.getIdentityProviderManager()
+                                        .getAllFederatedAuthenticators()),
+                        FederatedAuthenticatorConfig::getName, this::createMetaFederatedAuthenticator);
+        authenticatorCatalog = catalog;
+        return catalog;
+    }
+
+    /**
+     * Get the catalog of the metadata of the registered outbound provisioning connectors. The catalog is rebuilt only
+     * when the registered connectors have changed since it was last built.
+     *
+     * @return Catalog of outbound provisioning connector metadata.
+     * @throws IdentityProviderManagementException If an error occurred while retrieving the connectors.
+     */
+    private MetadataCatalog<ProvisioningConnectorConfig, MetaOutboundConnector> getConnectorCatalog()
+            throws IdentityProviderManagementException {
+
+        MetadataCatalog<ProvisioningConnectorConfig, MetaOutboundConnector> catalog =
+                MetadataCatalog.refresh(connectorCatalog,
+                        BackendCallTimer.time(IDP_MANAGER, "getAllProvisioningConnectors", () ->
+                                IdentityProviderServiceHolder.getIdentityProviderManager()
+                                        .getAllProvisioningConnectors()),
+                        ProvisioningConnectorConfig::getName, this::createMetaOutboundConnector);
+        connectorCatalog = catalog;
+        return catalog;
+    }
+
     /**
      * Get meta information about Identity Provider's outbound provisioning connectors.
      *
@@ -357,14 +445,8 @@ public class ServerIdpManagementService {
 
         List<MetaOutboundConnectorListItem> metaOutboundConnectors = new ArrayList<>();
         try {
-            ProvisioningConnectorConfig[] connectorConfigs = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .getAllProvisioningConnectors();
-            if (ArrayUtils.isNotEmpty(connectorConfigs)) {
-                for (ProvisioningConnectorConfig connectorConfig : connectorConfigs) {
-                    MetaOutboundConnectorListItem metaOutboundConnector = createMetaOutboundConnectorListItem
-                            (connectorConfig);
-                    metaOutboundConnectors.add(metaOutboundConnector);
-                }
+            for (MetaOutboundConnector connector : getConnectorCatalog().getAll()) {
+                metaOutboundConnectors.add(createMetaOutboundConnectorListItem(connector));
             }
             return metaOutboundConnectors;
         } catch (IdentityProviderManagementException e) {
@@ -381,19 +463,8 @@ public class ServerIdpManagementService {
     public MetaOutboundConnector getMetaOutboundConnector(String id) {
 
         String connectorName = base64URLDecode(id);
-        MetaOutboundConnector connector = null;
         try {
-            ProvisioningConnectorConfig[] connectorConfigs = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .getAllProvisioningConnectors();
-            if (ArrayUtils.isNotEmpty(connectorConfigs)) {
-                for (ProvisioningConnectorConfig connectorConfig : connectorConfigs) {
-                    if (StringUtils.equals(connectorConfig.getName(), connectorName)) {
-                        connector = createMetaOutboundConnector(connectorConfig);
-                        break;
-                    }
-                }
-            }
-            return connector;
+            return getConnectorCatalog().get(connectorName);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_META_CONNECTOR, id);
         }
@@ -411,8 +482,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
 
             if (idP == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
@@ -466,8 +538,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -500,20 +573,22 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
             // Need to create a clone, since modifying the fields of the original object, will modify the cached
             // IDP object.
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(idp);
             updateFederatedAuthenticatorConfig(idpToUpdate, authenticatorRequest);
 
-            IdentityProvider updatedIdp = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(
-                            idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdp = BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId, idpToUpdate,
+                            ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
             return createFederatedAuthenticatorResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -533,21 +608,26 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
             // Need to create a clone, since modifying the fields of the original object, will modify the cached
             // IDP object.
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(idp);
 
             // Create new FederatedAuthenticatorConfig to store the federated authenticator information.
             FederatedAuthenticatorConfig authConfig = createFederatedAuthenticatorConfig(federatedAuthenticatorId,
                     authenticator);
-            FederatedAuthenticatorConfig[] fedAuthConfigs = createFederatedAuthenticatorArrayClone
-                    (federatedAuthenticatorId, idp.getFederatedAuthenticatorConfigs());
+            // The IdP is persisted as a whole, so an update which does not change the authenticator is not written.
+            if (isUnchangedAuthenticator(idp, authConfig, authenticator.getIsDefault())) {
+                return createFederatedAuthenticator(federatedAuthenticatorId, idp);
+            }
+            // The authenticator is replaced in the copied array, the other authenticators are left as they are.
+            FederatedAuthenticatorConfig[] fedAuthConfigs = idpToUpdate.getFederatedAuthenticatorConfigs();
             int configPos = getExistingAuthConfigPosition(fedAuthConfigs, federatedAuthenticatorId);
             // If configPos != -1, modify the existing authenticatorConfig of IDP.
             if (configPos != -1) {
@@ -572,9 +652,10 @@ public class ServerIdpManagementService {
                 idpToUpdate.setDefaultAuthenticatorConfig(null);
             }
 
-            IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(idpId, idpToUpdate, ContextLoader
-                            .getTenantDomainFromContext());
+            IdentityProvider updatedIdP = BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId, idpToUpdate,
+                            ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
             return createFederatedAuthenticator(federatedAuthenticatorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_AUTHENTICATOR,
@@ -592,8 +673,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -633,8 +715,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -666,20 +749,22 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
             // Need to create a clone, since modifying the fields of the original object, will modify the cached
             // IDP object.
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(idp);
             updateOutboundConnectorConfig(idpToUpdate, outboundConnectorRequest);
 
-            IdentityProvider updatedIdp = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(
-                            idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdp = BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId, idpToUpdate,
+                            ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
             return createOutboundProvisioningResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -700,18 +785,23 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idp =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idp == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            IdentityProvider idpToUpdate = createIdPClone(idp);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(idp);
             ProvisioningConnectorConfig connectorConfig = createProvisioningConnectorConfig(connectorId,
                     outboundConnector);
+            // The IdP is persisted as a whole, so an update which does not change the connector is not written.
+            if (isUnchangedConnector(idp, connectorConfig, outboundConnector.getIsDefault())) {
+                return createOutboundConnector(connectorId, idp);
+            }
 
-            ProvisioningConnectorConfig[] provConnectorConfigs = createProvisioningConnectorArrayClone(connectorId, idp
-                    .getProvisioningConnectorConfigs());
+            // The connector is replaced in the copied array, the other connectors are left as they are.
+            ProvisioningConnectorConfig[] provConnectorConfigs = idpToUpdate.getProvisioningConnectorConfigs();
             int configPos = getExistingProvConfigPosition(provConnectorConfigs, connectorId);
             if (configPos != -1) {
                 provConnectorConfigs[configPos] = connectorConfig;
@@ -736,9 +826,10 @@ public class ServerIdpManagementService {
                 idpToUpdate.setDefaultProvisioningConnectorConfig(null);
             }
 
-            IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(idpId, idpToUpdate, ContextLoader
-                            .getTenantDomainFromContext());
+            IdentityProvider updatedIdP = BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId, idpToUpdate,
+                            ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
             return createOutboundConnector(connectorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CONNECTOR, connectorId);
@@ -755,13 +846,15 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider identityProvider =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (identityProvider == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            return createClaimResponse(identityProvider.getClaimConfig());
+            return createClaimResponse(identityProvider.getClaimConfig(),
+                    new LocalClaimIndex(ContextLoader.getTenantDomainFromContext()));
 
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_IDP_CLAIMS, idpId);
@@ -779,19 +872,23 @@ public class ServerIdpManagementService {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            validateClaims(tenantDomain, claims);
-            IdentityProvider idP =
-                    createIdPClone(IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
-                            tenantDomain, true));
+            LocalClaimIndex localClaims = new LocalClaimIndex(tenantDomain);
+            validateClaims(tenantDomain, claims, localClaims);
+            IdentityProvider idP = IdentityProviderCopier.copyOf(
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    tenantDomain, true)));
             if (idP == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
             updateClaims(idP, claims);
             IdentityProvider updatedIdP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
-                            idP, tenantDomain);
-            return createClaimResponse(updatedIdP.getClaimConfig());
+                    BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId, idP,
+                                    tenantDomain));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
+            return createClaimResponse(updatedIdP.getClaimConfig(), localClaims);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CLAIMS, idpId);
         }
@@ -807,8 +904,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider identityProvider =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (identityProvider == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -830,17 +928,21 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idP == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            updateRoles(idP, roles);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(idP);
+            updateRoles(idpToUpdate, roles);
 
             IdentityProvider updatedIdP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
-                            idP, ContextLoader.getTenantDomainFromContext());
+                    BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
+                                    idpToUpdate, ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
             return createRoleResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_ROLES, idpId);
@@ -857,8 +959,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider identityProvider =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (identityProvider == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -879,8 +982,9 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider identityProvider =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (identityProvider == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
@@ -902,17 +1006,21 @@ public class ServerIdpManagementService {
 
         try {
             IdentityProvider idP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId, ContextLoader
-                            .getTenantDomainFromContext(), true);
+                    BackendCallTimer.time(IDP_MANAGER, "getIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
+                                    ContextLoader.getTenantDomainFromContext(), true));
             if (idP == null) {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            updateJIT(idP, justInTimeProvisioningConfig);
+            IdentityProvider idpToUpdate = IdentityProviderCopier.copyOf(idP);
+            updateJIT(idpToUpdate, justInTimeProvisioningConfig);
 
             IdentityProvider updatedIdP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
-                            idP, ContextLoader.getTenantDomainFromContext());
+                    BackendCallTimer.time(IDP_MANAGER, "updateIdPByResourceId", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
+                                    idpToUpdate, ContextLoader.getTenantDomainFromContext()));
+            handleIdPChange(idpId, ChangeEvent.Operation.UPDATED);
             return createJITResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_JIT, idpId);
@@ -931,8 +1039,9 @@ public class ServerIdpManagementService {
 
         try {
             ConnectedAppsResult connectedAppsResult =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getConnectedApplications(resourceId,
-                            limit, offset, ContextLoader.getTenantDomainFromContext());
+                    BackendCallTimer.time(IDP_MANAGER, "getConnectedApplications", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getConnectedApplications(
+                                    resourceId, limit, offset, ContextLoader.getTenantDomainFromContext()));
             return createConnectedAppsResponse(resourceId, connectedAppsResult);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_IDP_CONNECTED_APPS,
@@ -953,16 +1062,74 @@ public class ServerIdpManagementService {
 
         try {
             TemplateManager templateManager = IdentityProviderServiceHolder.getTemplateManager();
+            Condition searchCondition = getSearchCondition(TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(),
+                    ContextLoader.getTenantDomainFromContext(), searchContext);
             List<Template> templateList = templateManager.listTemplates(
-                    TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), limit, offset, getSearchCondition
-                            (TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), ContextLoader
-                                    .getTenantDomainFromContext(), searchContext));
-            return createIDPTemplateListResponse(templateList, offset, limit, searchContext.getSearchExpression());
+                    TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), limit, offset, searchCondition);
+            int totalResults;
+            if (isLastIDPTemplatePage(templateList, limit, offset)) {
+                // A page which is not full is the last one, so the total is known without counting.
+                totalResults = (offset == null ? 0 : offset) + templateList.size();
+            } else {
+                totalResults = idpTemplateCountCache.get(() -> countIDPTemplates(templateManager, searchCondition),
+                        searchContext.getSearchExpression());
+            }
+            return createIDPTemplateListResponse(templateList, totalResults, offset, limit,
+                    searchContext.getSearchExpression());
         } catch (TemplateManagementException e) {
             throw handleTemplateMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDP_TEMPLATES, null);
         }
     }
 
+    /**
+     * Whether the given page of IDP templates is the last one. An empty page past the first one is not taken as the
+     * last, since the offset may be beyond the last template.
+     *
+     * @param templateList IDP templates of the page.
+     * @param limit        Requested page size.
+     * @param offset       Requested offset.
+     * @return True if the page is shorter than the limit and the total can be derived from it.
+     */
+    private static boolean isLastIDPTemplatePage(List<Template> templateList, Integer limit, Integer offset) {
+
+        if (templateList == null || limit == null || templateList.size() >= limit) {
+            return false;
+        }
+        return !templateList.isEmpty() || offset == null || offset == 0;
+    }
+
+    /**
+     * Count the IDP templates matching the given search condition. Since the template manager has no count query, the
+     * matching templates are listed in batches until a batch is not full. At most
+     * {@value #MAX_IDP_TEMPLATE_COUNT_BATCHES} batches are listed, so a template manager which ignores the offset
+     * cannot keep the count going.
+     *
+     * @param templateManager Template manager.
+     * @param searchCondition Search condition of the IDP templates.
+     * @return Number of matching IDP templates.
+     * @throws TemplateManagementException If an error occurred while listing the IDP templates.
+     */
+    private int countIDPTemplates(TemplateManager templateManager, Condition searchCondition)
+            throws TemplateManagementException {
+
+        int count = 0;
+        for (int batches = 0; batches < MAX_IDP_TEMPLATE_COUNT_BATCHES; batches++) {
+            List<Template> batch = templateManager.listTemplates(
+                    TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), IDP_TEMPLATE_COUNT_BATCH_SIZE, count,
+                    searchCondition);
+            if (batch == null) {
+                return count;
+            }
+            count += batch.size();
+            if (batch.size() < IDP_TEMPLATE_COUNT_BATCH_SIZE) {
+                return count;
+            }
+        }
+        log.warn("Stopped counting the IDP templates after " + count + " templates. The total results of the IDP " +
+                "template list may be incomplete.");
+        return count;
+    }
+
     /**
      * Retrieve search condition from @{SearchContext}.
      *
@@ -1138,6 +1305,7 @@ public class ServerIdpManagementService {
         try {
             Template idpTemplate = generateIDPTemplate(identityProviderTemplate);
             IdentityProviderServiceHolder.getTemplateManager().updateTemplateById(templateId, idpTemplate);
+            handleIdPTemplateChange();
         } catch (TemplateManagementException e) {
             throw handleTemplateMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_TEMPLATE,
                     identityProviderTemplate.getId());
@@ -1158,7 +1326,9 @@ public class ServerIdpManagementService {
         try {
             TemplateManager templateManager = IdentityProviderServiceHolder.getTemplateManager();
             Template idpTemplate = generateIDPTemplate(identityProviderTemplate);
-            return templateManager.addTemplate(idpTemplate);
+            String templateId = templateManager.addTemplate(idpTemplate);
+            handleIdPTemplateChange();
+            return templateId;
         } catch (TemplateManagementException e) {
             throw handleTemplateMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_ADDING_IDP_TEMPLATE, null);
         } catch (JsonProcessingException e) {
@@ -1177,6 +1347,7 @@ public class ServerIdpManagementService {
         try {
             TemplateManager templateManager = IdentityProviderServiceHolder.getTemplateManager();
             templateManager.deleteTemplateById(templateId);
+            handleIdPTemplateChange();
         } catch (TemplateManagementException e) {
             throw handleTemplateMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP_TEMPLATE,
                     templateId);
@@ -1187,13 +1358,14 @@ public class ServerIdpManagementService {
      * Create the IDP template list response.
      *
      * @param templateInfoList  List of IDP templates.
+     * @param totalResults      Number of IDP templates matching the filter.
      * @param offset            Offset.
      * @param limit             Limit.
      * @param filter            IDP template filter.
      * @return {@link IdentityProviderTemplateListResponse}
      */
     private IdentityProviderTemplateListResponse createIDPTemplateListResponse(
-            List<Template> templateInfoList, Integer offset, Integer limit, String filter) {
+            List<Template> templateInfoList, int totalResults, Integer offset, Integer limit, String filter) {
 
         IdentityProviderTemplateListResponse idpTemplateListResponse = new IdentityProviderTemplateListResponse();
         if (!CollectionUtils.isEmpty(templateInfoList)) {
@@ -1234,10 +1406,10 @@ public class ServerIdpManagementService {
         }
         limit = (limit == null) ? Integer.valueOf(0) : limit;
         offset = (offset == null) ? Integer.valueOf(0) : offset;
-        idpTemplateListResponse.setTotalResults(templateInfoList.size());
+        idpTemplateListResponse.setTotalResults(totalResults);
         idpTemplateListResponse.setStartIndex(offset + 1);
         idpTemplateListResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_TEMPLATE_PATH_COMPONENT,
-                limit, offset, templateInfoList.size(), filter));
+                limit, offset, totalResults, filter));
         return idpTemplateListResponse;
     }
 
@@ -1268,10 +1440,8 @@ public class ServerIdpManagementService {
                     Integer.valueOf(idpTemplate.getPropertiesMap().get(PROP_DISPLAY_ORDER)));
         }
         if (idpTemplate.getTemplateScript() != null) {
-            ObjectMapper mapper = new ObjectMapper();
-            IdentityProviderPOSTRequest idp = mapper.readValue(idpTemplate.getTemplateScript(),
-                    IdentityProviderPOSTRequest.class);
-            idpTemplateResponse.setIdp(idp);
+            idpTemplateResponse.setIdp(idpTemplateScriptCache.get(idpTemplate.getTemplateId(),
+                    idpTemplate.getTemplateScript()));
         }
         return idpTemplateResponse;
     }
@@ -1403,8 +1573,7 @@ public class ServerIdpManagementService {
      */
     private String createIDPTemplateScript(IdentityProviderPOSTRequest idpTemplate) throws JsonProcessingException {
 
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writeValueAsString(idpTemplate);
+        return ObjectMapperRegistry.getWriter(IdentityProviderPOSTRequest.class).writeValueAsString(idpTemplate);
     }
 
     private ConnectedApps createConnectedAppsResponse(String resourceId, ConnectedAppsResult connectedAppsResult) {
@@ -1436,21 +1605,15 @@ public class ServerIdpManagementService {
         return connectedAppsResponse;
     }
 
-    private MetaFederatedAuthenticatorListItem createMetaFederatedAuthenticatorListItem(FederatedAuthenticatorConfig
-                                                                                                authenticatorConfig) {
+    private MetaFederatedAuthenticatorListItem createMetaFederatedAuthenticatorListItem(MetaFederatedAuthenticator
+                                                                                                authenticator) {
 
         MetaFederatedAuthenticatorListItem metaFederatedAuthenticator = new MetaFederatedAuthenticatorListItem();
-        String authenticatorId = base64URLEncode(authenticatorConfig.getName());
-        metaFederatedAuthenticator.setName(authenticatorConfig.getName());
+        String authenticatorId = authenticator.getAuthenticatorId();
+        metaFederatedAuthenticator.setName(authenticator.getName());
         metaFederatedAuthenticator.setAuthenticatorId(authenticatorId);
-        FederatedAuthenticatorConfig federatedAuthenticatorConfig = ApplicationAuthenticatorService.getInstance()
-                .getFederatedAuthenticatorByName(authenticatorConfig.getName());
-        if (federatedAuthenticatorConfig != null) {
-            String[] tags = federatedAuthenticatorConfig.getTags();
-            if (ArrayUtils.isNotEmpty(tags)) {
-                metaFederatedAuthenticator.setTags(Arrays.asList(tags));
-            }
-        }
+        metaFederatedAuthenticator.setTags(authenticator.getTags());
+        // The self link depends on the tenant of the request, hence it is not kept in the catalog.
         metaFederatedAuthenticator.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
                 IDP_PATH_COMPONENT + "/meta/federated-authenticators/%s", authenticatorId)).toString());
         return metaFederatedAuthenticator;
@@ -1472,18 +1635,19 @@ public class ServerIdpManagementService {
             }
         }
         Property[] properties = authenticatorConfig.getProperties();
-        List<MetaProperty> metaProperties = Arrays.stream(properties).map(propertyToExternalMeta).collect(Collectors
-                .toList());
-        metaFederatedAuthenticator.setProperties(metaProperties);
+        if (properties != null) {
+            List<MetaProperty> metaProperties = Arrays.stream(properties).map(propertyToExternalMeta)
+                    .collect(Collectors.toList());
+            metaFederatedAuthenticator.setProperties(Collections.unmodifiableList(metaProperties));
+        }
         return metaFederatedAuthenticator;
     }
 
-    private MetaOutboundConnectorListItem createMetaOutboundConnectorListItem(ProvisioningConnectorConfig
-                                                                                      connectorConfig) {
+    private MetaOutboundConnectorListItem createMetaOutboundConnectorListItem(MetaOutboundConnector connector) {
 
         MetaOutboundConnectorListItem metaOutboundProvisioningConnector = new MetaOutboundConnectorListItem();
-        metaOutboundProvisioningConnector.setName(connectorConfig.getName());
-        String connectorId = base64URLEncode(connectorConfig.getName());
+        metaOutboundProvisioningConnector.setName(connector.getName());
+        String connectorId = connector.getConnectorId();
         metaOutboundProvisioningConnector.setConnectorId(connectorId);
         metaOutboundProvisioningConnector
                 .setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
@@ -1499,9 +1663,11 @@ public class ServerIdpManagementService {
         metaOutboundProvisioningConnector.setDisplayName(connectorConfig.getName());
         metaOutboundProvisioningConnector.setConnectorId(base64URLEncode(connectorConfig.getName()));
         Property[] properties = connectorConfig.getProvisioningProperties();
-        List<MetaProperty> metaProperties = Arrays.stream(properties).map(propertyToExternalMeta).collect(Collectors
-                .toList());
-        metaOutboundProvisioningConnector.setProperties(metaProperties);
+        if (properties != null) {
+            List<MetaProperty> metaProperties = Arrays.stream(properties).map(propertyToExternalMeta)
+                    .collect(Collectors.toList());
+            metaOutboundProvisioningConnector.setProperties(Collections.unmodifiableList(metaProperties));
+        }
         return metaOutboundProvisioningConnector;
     }
 
@@ -1560,8 +1726,8 @@ public class ServerIdpManagementService {
 
         try {
             FederatedAuthenticatorConfig[] authenticatorConfigs =
-                    IdentityProviderServiceHolder.getIdentityProviderManager()
-                            .getAllFederatedAuthenticators();
+                    BackendCallTimer.time(IDP_MANAGER, "getAllFederatedAuthenticators", () ->
+                            IdentityProviderServiceHolder.getIdentityProviderManager().getAllFederatedAuthenticators());
             for (FederatedAuthenticatorConfig config : authenticatorConfigs) {
 
                 if (StringUtils.equals(config.getName(), authenticatorName)) {
@@ -1830,14 +1996,22 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProviderListResponse createIDPListResponse(IdpSearchResult idpSearchResult,
-                                                               List<String> requestedAttributeList) {
+                                                               List<String> requestedAttributeList,
+                                                               CursorPaginator cursorPaginator) {
 
         List<IdentityProvider> idps = idpSearchResult.getIdPs();
+        int offset = idpSearchResult.getOffSet();
+        if (cursorPaginator != null) {
+            idps = cursorPaginator.selectPage(idps, IdentityProvider::getIdentityProviderName);
+            offset = cursorPaginator.getPageOffset();
+        }
         IdentityProviderListResponse listResponse = new IdentityProviderListResponse();
         if (CollectionUtils.isNotEmpty(idps)) {
             List<IdentityProviderListItem> identityProviderList = new ArrayList<>();
+            LocalClaimIndex localClaims = new LocalClaimIndex(ContextLoader.getTenantDomainFromContext());
             for (IdentityProvider idp : idps) {
-                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList);
+                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList,
+                        localClaims);
                 identityProviderList.add(listItem);
             }
             listResponse.setIdentityProviders(identityProviderList);
@@ -1847,15 +2021,24 @@ public class ServerIdpManagementService {
         }
 
         listResponse.setTotalResults(idpSearchResult.getTotalIDPCount());
-        listResponse.setStartIndex(idpSearchResult.getOffSet() + 1);
-        listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT, idpSearchResult
-                        .getLimit(), idpSearchResult.getOffSet(), idpSearchResult.getTotalIDPCount(), idpSearchResult
-                .getFilter()));
+        listResponse.setStartIndex(offset + 1);
+        if (cursorPaginator != null) {
+            listResponse.setLinks(cursorPaginator.buildLinks(IDP_PATH_COMPONENT, idps,
+                    IdentityProvider::getIdentityProviderName, idpSearchResult.getTotalIDPCount(),
+                    idpSearchResult.getFilter()).entrySet().stream()
+                    .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
+                    .collect(Collectors.toList()));
+        } else {
+            listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT, idpSearchResult
+                            .getLimit(), idpSearchResult.getOffSet(), idpSearchResult.getTotalIDPCount(),
+                    idpSearchResult.getFilter()));
+        }
         return listResponse;
     }
 
     private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp,
-                                                             List<String> requestedAttributeList) {
+                                                             List<String> requestedAttributeList,
+                                                             LocalClaimIndex localClaims) {
 
         IdentityProviderListItem identityProviderListItem = new IdentityProviderListItem();
         // Create IDP basic information.
@@ -1888,7 +2071,7 @@ public class ServerIdpManagementService {
                         identityProviderListItem.setAlias(idp.getAlias());
                         break;
                     case Constants.CLAIMS:
-                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig()));
+                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig(), localClaims));
                         break;
                     case Constants.ROLES:
                         identityProviderListItem.setRoles(createRoleResponse(idp));
@@ -1966,7 +2149,8 @@ public class ServerIdpManagementService {
         populateIDPBasicInfo(idpResponse, identityProvider);
         idpResponse.setTemplateId(identityProvider.getTemplateId());
         idpResponse.setCertificate(createIDPCertificate(identityProvider));
-        idpResponse.setClaims(createClaimResponse(identityProvider.getClaimConfig()));
+        idpResponse.setClaims(createClaimResponse(identityProvider.getClaimConfig(),
+                new LocalClaimIndex(ContextLoader.getTenantDomainFromContext())));
         idpResponse.setRoles(createRoleResponse(identityProvider));
         idpResponse.setFederatedAuthenticators(createFederatedAuthenticatorResponse(identityProvider));
         idpResponse.setProvisioning(createProvisioningResponse(identityProvider));
@@ -2018,7 +2202,7 @@ public class ServerIdpManagementService {
         return certificate;
     }
 
-    private Claims createClaimResponse(ClaimConfig claimConfig) {
+    private Claims createClaimResponse(ClaimConfig claimConfig, LocalClaimIndex localClaims) {
 
         Claims apiClaims = new Claims();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> apiMappings = new ArrayList<>();
@@ -2033,7 +2217,8 @@ public class ServerIdpManagementService {
                     Claim localClaim = new Claim();
                     localClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                     localClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri(),
+                            localClaims));
                     apiMapping.setLocalClaim(localClaim);
                     // As the provisioning claims are added as claim mappings without any remote claim internally, we
                     // need to validate this here.
@@ -2050,7 +2235,8 @@ public class ServerIdpManagementService {
                         } else {
                             provClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                             provClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(
+                                    mapping.getLocalClaim().getClaimUri(), localClaims));
                         }
                         provClaimResponse.setClaim(provClaim);
                         provClaimResponse.setDefaultValue(mapping.getDefaultValue());
@@ -2060,17 +2246,17 @@ public class ServerIdpManagementService {
             }
 
             Claim roleClaim = new Claim();
-            if (getLocalClaim(claimConfig.getRoleClaimURI()) != null) {
+            if (getLocalClaim(claimConfig.getRoleClaimURI(), localClaims) != null) {
                 roleClaim.setId(base64URLEncode(claimConfig.getRoleClaimURI()));
-                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI()));
+                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI(), localClaims));
             }
             roleClaim.setUri(claimConfig.getRoleClaimURI());
             apiClaims.setRoleClaim(roleClaim);
 
             Claim userIdClaim = new Claim();
-            if (getLocalClaim(claimConfig.getUserClaimURI()) != null) {
+            if (getLocalClaim(claimConfig.getUserClaimURI(), localClaims) != null) {
                 userIdClaim.setId(base64URLEncode(claimConfig.getUserClaimURI()));
-                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI()));
+                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI(), localClaims));
             }
             userIdClaim.setUri(claimConfig.getUserClaimURI());
             apiClaims.setUserIdClaim(userIdClaim);
@@ -2204,6 +2390,28 @@ public class ServerIdpManagementService {
         return jitConfig;
     }
 
+    /**
+     * Evict the cached identity provider reads of the tenant after a write, and publish the change.
+     *
+     * @param idpId     Resource ID of the changed identity provider.
+     * @param operation Operation which changed the identity provider.
+     */
+    private void handleIdPChange(String idpId, ChangeEvent.Operation operation) {
+
+        idpListCache.invalidateTenant();
+        idpCache.invalidateTenant();
+        ChangeFeed.getInstance().publish(ChangeEvent.ResourceType.IDENTITY_PROVIDER, idpId, operation);
+    }
+
+    /**
+     * Evict the cached IDP template reads of the tenant after a write.
+     */
+    private void handleIdPTemplateChange() {
+
+        idpTemplateCountCache.invalidateTenant();
+        idpTemplateScriptCache.invalidateTenant();
+    }
+
     private Function<SubProperty, MetaProperty> subPropertyToExternalMeta = property -> {
 
         MetaProperty metaSubProperty = new MetaProperty();
@@ -2270,12 +2478,13 @@ public class ServerIdpManagementService {
     /**
      * Retrieves display name property of Local claim identified by local claim uri.
      *
-     * @param claimUri Local claim uri.
+     * @param claimUri    Local claim uri.
+     * @param localClaims Local claims of the tenant.
      * @return Display Name.
      */
-    private String getDisplayNameOfLocalClaim(String claimUri) {
+    private String getDisplayNameOfLocalClaim(String claimUri, LocalClaimIndex localClaims) {
 
-        LocalClaim localClaim = getLocalClaim(claimUri);
+        LocalClaim localClaim = getLocalClaim(claimUri, localClaims);
         if (localClaim != null) {
             Map<String, String> localClaimProperties = localClaim.getClaimProperties();
             return localClaimProperties.get(Constants.PROP_DISPLAY_NAME);
@@ -2288,100 +2497,114 @@ public class ServerIdpManagementService {
     /**
      * Returns internal LocalClaim given local claim URI.
      *
-     * @param claimUri URI of the required local claim.
+     * @param claimUri    URI of the required local claim.
+     * @param localClaims Local claims of the tenant.
      * @return Local Claim.
      */
-    private LocalClaim getLocalClaim(String claimUri) {
+    private LocalClaim getLocalClaim(String claimUri, LocalClaimIndex localClaims) {
 
-        LocalClaim localClaim;
         try {
-            List<LocalClaim> localClaimList =
-                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(
-                            ContextLoader.getTenantDomainFromContext());
-
-            localClaim = extractLocalClaimFromClaimList(claimUri, localClaimList);
+            return localClaims.get(claimUri);
         } catch (ClaimMetadataException e) {
             throw handleException(Response.Status.BAD_REQUEST,
                     Constants.ErrorMessage.ERROR_CODE_INVALID_LOCAL_CLAIM_ID, claimUri);
         }
-        return localClaim;
     }
 
     /**
-     * Extracts the LocalClaim corresponding to the given claim uri.
+     * Whether the given authenticator config is already configured for the IDP as it is, including whether it is the
+     * default authenticator.
      *
-     * @param claimURI  Local claim uri.
-     * @param claimList Local claim list.
-     * @return LocalClaim.
+     * @param idp        Identity Provider.
+     * @param authConfig Federated authenticator config of the update.
+     * @param isDefault  Whether the authenticator should be the default authenticator.
+     * @return True if the update does not change the authenticator.
      */
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
+    private boolean isUnchangedAuthenticator(IdentityProvider idp, FederatedAuthenticatorConfig authConfig,
+                                             boolean isDefault) {
 
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
+        FederatedAuthenticatorConfig existingConfig = null;
+        if (idp.getFederatedAuthenticatorConfigs() != null) {
+            for (FederatedAuthenticatorConfig config : idp.getFederatedAuthenticatorConfigs()) {
+                if (StringUtils.equals(config.getName(), authConfig.getName())) {
+                    existingConfig = config;
+                    break;
+                }
             }
         }
-        return null;
-    }
-
-    /**
-     * Create a duplicate of the input Identity Provider.
-     *
-     * @param idP Identity Provider.
-     * @return Clone of IDP.
-     */
-    private IdentityProvider createIdPClone(IdentityProvider idP) {
-
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-        return clonedIdentityProvider;
+        if (existingConfig == null || existingConfig.isEnabled() != authConfig.isEnabled() ||
+                !isSameProperties(existingConfig.getProperties(), authConfig.getProperties())) {
+            return false;
+        }
+        FederatedAuthenticatorConfig defaultConfig = idp.getDefaultAuthenticatorConfig();
+        return isDefault == (defaultConfig != null && StringUtils.equals(defaultConfig.getName(),
+                authConfig.getName()));
     }
 
     /**
-     * Creates a clone of IDP's federated authenticator list to be modified during PUT request.
+     * Whether the given provisioning connector config is already configured for the IDP as it is, including whether
+     * it is the default connector.
      *
-     * @param authenticatorId Federated authenticator resource ID.
-     * @param configs         IDP's authenticator configs.
-     * @return Clone of authenticator config array.
+     * @param idp             Identity Provider.
+     * @param connectorConfig Provisioning connector config of the update.
+     * @param isDefault       Whether the connector should be the default connector.
+     * @return True if the update does not change the connector.
      */
-    private FederatedAuthenticatorConfig[] createFederatedAuthenticatorArrayClone(String authenticatorId,
-                                                                                  FederatedAuthenticatorConfig[]
-                                                                                          configs) {
+    private boolean isUnchangedConnector(IdentityProvider idp, ProvisioningConnectorConfig connectorConfig,
+                                         boolean isDefault) {
 
-        List<FederatedAuthenticatorConfig> cloneList = new ArrayList<>();
-        try {
-            for (FederatedAuthenticatorConfig config : configs) {
-                cloneList.add((FederatedAuthenticatorConfig) BeanUtils.cloneBean(config));
+        ProvisioningConnectorConfig existingConfig = null;
+        if (idp.getProvisioningConnectorConfigs() != null) {
+            for (ProvisioningConnectorConfig config : idp.getProvisioningConnectorConfigs()) {
+                if (StringUtils.equals(config.getName(), connectorConfig.getName())) {
+                    existingConfig = config;
+                    break;
+                }
             }
-            return cloneList.toArray(new FederatedAuthenticatorConfig[0]);
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException
-                e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
-                    .ERROR_CODE_ERROR_UPDATING_IDP_AUTHENTICATOR, authenticatorId);
         }
+        if (existingConfig == null || existingConfig.isEnabled() != connectorConfig.isEnabled() ||
+                existingConfig.isBlocking() != connectorConfig.isBlocking() ||
+                existingConfig.isRulesEnabled() != connectorConfig.isRulesEnabled() ||
+                !isSameProperties(existingConfig.getProvisioningProperties(),
+                        connectorConfig.getProvisioningProperties())) {
+            return false;
+        }
+        ProvisioningConnectorConfig defaultConfig = idp.getDefaultProvisioningConnectorConfig();
+        return isDefault == (defaultConfig != null && StringUtils.equals(defaultConfig.getName(),
+                connectorConfig.getName()));
     }
 
     /**
-     * Creates a clone of IDP's provisioning connector config list to be modified during PUT request.
+     * Whether both property arrays hold the same property names with the same values, in any order.
      *
-     * @param connectorId Provisioning connector resource ID.
-     * @param configs     IDP's provisioning connector configs.
-     * @return Clone of connector config array.
+     * @param properties      Properties.
+     * @param otherProperties Properties to compare with.
+     * @return True if the properties are the same.
      */
-    private ProvisioningConnectorConfig[] createProvisioningConnectorArrayClone(String connectorId,
-                                                                                ProvisioningConnectorConfig[] configs) {
+    private boolean isSameProperties(Property[] properties, Property[] otherProperties) {
 
-        List<ProvisioningConnectorConfig> cloneList = new ArrayList<>();
-        try {
-            for (ProvisioningConnectorConfig config : configs) {
-                cloneList.add((ProvisioningConnectorConfig) BeanUtils.cloneBean(config));
+        int size = properties == null ? 0 : properties.length;
+        int otherSize = otherProperties == null ? 0 : otherProperties.length;
+        if (size != otherSize) {
+            return false;
+        }
+        if (size == 0) {
+            return true;
+        }
+        Map<String, String> values = new HashMap<>();
+        for (Property property : properties) {
+            values.put(property.getName(), property.getValue());
+        }
+        if (values.size() != size) {
+            return false;
+        }
+        for (Property property : otherProperties) {
+            if (!values.containsKey(property.getName()) ||
+                    !StringUtils.equals(values.get(property.getName()), property.getValue())) {
+                return false;
             }
-            return cloneList.toArray(new ProvisioningConnectorConfig[0]);
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException | NoSuchMethodException
-                e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
-                    .ERROR_CODE_ERROR_UPDATING_IDP_CONNECTOR, connectorId);
         }
+        return true;
     }
 
     /**
@@ -2416,8 +2639,8 @@ public class ServerIdpManagementService {
     private boolean isValidConnector(String connectorId) throws IdentityProviderManagementException {
 
         ProvisioningConnectorConfig[] supportedConnectorConfigs =
-                IdentityProviderServiceHolder.getIdentityProviderManager()
-                        .getAllProvisioningConnectors();
+                BackendCallTimer.time(IDP_MANAGER, "getAllProvisioningConnectors", () ->
+                        IdentityProviderServiceHolder.getIdentityProviderManager().getAllProvisioningConnectors());
         if (supportedConnectorConfigs != null) {
             String connectorName = base64URLDecode(connectorId);
             for (ProvisioningConnectorConfig supportedConfig : supportedConnectorConfigs) {
@@ -2608,8 +2831,9 @@ public class ServerIdpManagementService {
     private boolean isValidAuthenticator(String federatedAuthenticatorId) throws
             IdentityProviderManagementException {
 
-        FederatedAuthenticatorConfig[] supportedAuthConfigs = IdentityProviderServiceHolder.getIdentityProviderManager()
-                .getAllFederatedAuthenticators();
+        FederatedAuthenticatorConfig[] supportedAuthConfigs = BackendCallTimer.time(IDP_MANAGER,
+                "getAllFederatedAuthenticators", () ->
+                        IdentityProviderServiceHolder.getIdentityProviderManager().getAllFederatedAuthenticators());
         if (supportedAuthConfigs != null) {
             String authenticatorName = base64URLDecode(federatedAuthenticatorId);
             for (FederatedAuthenticatorConfig supportedConfig : supportedAuthConfigs) {
@@ -2746,217 +2970,201 @@ public class ServerIdpManagementService {
      */
     private void processPatchRequest(List<Patch> patchRequest, IdentityProvider idpToUpdate) {
 
-        if (CollectionUtils.isEmpty(patchRequest)) {
-            return;
+        idpPatchRouter.apply(idpToUpdate, patchRequest, Patch::getOperation, Patch::getPath, Patch::getValue);
+    }
+
+    /**
+     * Build the router of the patch operations supported on the root level attributes of an identity provider.
+     * 'ADD', 'REPLACE' and 'REMOVE' patch operations are supported.
+     *
+     * @return Patch router.
+     */
+    private PatchRouter<IdentityProvider> buildIdpPatchRouter() {
+
+        return new PatchRouter.Builder<IdentityProvider>((operation, path) -> handleException(
+                Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, null))
+                .on(PatchOperation.REPLACE, Constants.NAME_PATH,
+                        (idp, parameters, value) -> idp.setIdentityProviderName(value))
+                .on(PatchOperation.REPLACE, Constants.DESCRIPTION_PATH,
+                        (idp, parameters, value) -> idp.setIdentityProviderDescription(value))
+                .on(PatchOperation.REPLACE, Constants.IMAGE_PATH,
+                        (idp, parameters, value) -> idp.setImageUrl(value))
+                .on(PatchOperation.REPLACE, Constants.IS_PRIMARY_PATH,
+                        (idp, parameters, value) -> idp.setPrimary(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.IS_ENABLED_PATH,
+                        (idp, parameters, value) -> idp.setEnable(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.IS_FEDERATION_HUB_PATH,
+                        (idp, parameters, value) -> idp.setFederationHub(Boolean.parseBoolean(value)))
+                .on(PatchOperation.REPLACE, Constants.HOME_REALM_PATH,
+                        (idp, parameters, value) -> idp.setHomeRealmId(value))
+                .on(PatchOperation.REPLACE, Constants.ALIAS_PATH,
+                        (idp, parameters, value) -> idp.setAlias(value))
+                .on(PatchOperation.REPLACE, Constants.IDP_ISSUER_NAME_PATH,
+                        (idp, parameters, value) -> patchIdpProperties(idp, Constants.IDP_ISSUER_NAME, value))
+                .on(PatchOperation.REPLACE, Constants.CERTIFICATE_JWKSURI_PATH,
+                        (idp, parameters, value) -> patchIdpProperties(idp, Constants.JWKS_URI, value))
+                .on(PatchOperation.REPLACE, Constants.CERTIFICATE_PATH, this::replaceCertificate)
+                .on(PatchOperation.ADD, Constants.CERTIFICATE_PATH, this::addCertificate)
+                .on(PatchOperation.ADD, Constants.CERTIFICATE_JWKSURI_PATH, this::addJwksUri)
+                .on(PatchOperation.ADD, Constants.IDP_ISSUER_NAME_PATH, this::addIdpIssuerName)
+                .on(PatchOperation.REMOVE, Constants.CERTIFICATE_PATH, this::removeCertificate)
+                .on(PatchOperation.REMOVE, Constants.CERTIFICATE_JWKSURI_PATH, this::removeJwksUri)
+                .build();
+    }
+
+    private void replaceCertificate(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        int index = Integer.parseInt(parameters.get(0));
+        if (ArrayUtils.isEmpty(idpToUpdate.getCertificateInfoArray()) ||
+                index >= idpToUpdate.getCertificateInfoArray().length) {
+            throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage
+                    .ERROR_CODE_ERROR_UPDATING_IDP, "Cannot replace certificate as it does not exist.");
+        }
+        List<String> certificates = new ArrayList<>();
+        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
+            certificates.add(base64Decode(certInfo.getCertValue()));
+        }
+        value = decodeCertificate(value);
+        if (certificates.contains(value)) {
+            throw handleException(Response.Status.CONFLICT,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
+                    "Cannot replace certificate as this certificate already exists.");
+        }
+        certificates.set(index, value);
+        idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
+    }
+
+    private void addCertificate(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        List<String> certificates = new ArrayList<>();
+        int index = Integer.parseInt(parameters.get(0));
+        if (index != idpToUpdate.getCertificateInfoArray().length) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
         }
-        for (Patch patch : patchRequest) {
-            String path = patch.getPath();
-            Patch.OperationEnum operation = patch.getOperation();
-            String value = patch.getValue();
-            boolean isCertificateUpdateRequest =
-                    path.matches(Constants.CERTIFICATE_PATH_REGEX) && path.split(Constants.PATH_SEPERATOR).length == 4;
-            // 'ADD', 'REPLACE' and 'REMOVE' patch operations supported.
-            if (operation == Patch.OperationEnum.REPLACE) {
-                if (isCertificateUpdateRequest) {
-                    List<String> certificates = new ArrayList<>();
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[3]);
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray()) && (index >= 0)
-                            && (index < idpToUpdate.getCertificateInfoArray().length)) {
-                        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
-                            certificates.add(base64Decode(certInfo.getCertValue()));
-                        }
-                        if (!value.startsWith(IdentityUtil.PEM_BEGIN_CERTFICATE)) {
-                            try {
-                                value = base64Decode(value);
-                            } catch (IllegalArgumentException e) {
-                                throw handleException(Response.Status.BAD_REQUEST,
-                                        Constants.ErrorMessage.ERROR_CODE_INVALID_CERTIFICATE_FORMAT, null);
-                            }
-                        }
-                        if (certificates.contains(value)) {
-                            throw handleException(Response.Status.CONFLICT,
-                                    Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
-                                    "Cannot replace certificate as this certificate already exists.");
-                        }
-                        certificates.set(index, value);
-                        idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
-                    } else if (ArrayUtils.isEmpty(idpToUpdate.getCertificateInfoArray()) ||
-                            index >= idpToUpdate.getCertificateInfoArray().length) {
-                        throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage
-                                .ERROR_CODE_ERROR_UPDATING_IDP, "Cannot replace certificate as it does not exist.");
-                    } else {
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, null);
-                    }
-                } else {
-                    switch (path) {
-                        case Constants.NAME_PATH:
-                            idpToUpdate.setIdentityProviderName(value);
-                            break;
-                        case Constants.DESCRIPTION_PATH:
-                            idpToUpdate.setIdentityProviderDescription(value);
-                            break;
-                        case Constants.IMAGE_PATH:
-                            idpToUpdate.setImageUrl(value);
-                            break;
-                        case Constants.IS_PRIMARY_PATH:
-                            idpToUpdate.setPrimary(Boolean.parseBoolean(value));
-                            break;
-                        case Constants.IS_ENABLED_PATH:
-                            idpToUpdate.setEnable(Boolean.parseBoolean(value));
-                            break;
-                        case Constants.IS_FEDERATION_HUB_PATH:
-                            idpToUpdate.setFederationHub(Boolean.parseBoolean(value));
-                            break;
-                        case Constants.HOME_REALM_PATH:
-                            idpToUpdate.setHomeRealmId(value);
-                            break;
-                        case Constants.ALIAS_PATH:
-                            idpToUpdate.setAlias(value);
-                            break;
-                        case Constants.IDP_ISSUER_NAME_PATH:
-                            patchIdpProperties(idpToUpdate, Constants.IDP_ISSUER_NAME, value);
-                            break;
-                        case Constants.CERTIFICATE_JWKSURI_PATH:
-                            patchIdpProperties(idpToUpdate, Constants.JWKS_URI, value);
-                            break;
-                        default:
-                            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                    .ERROR_CODE_INVALID_INPUT, null);
-                    }
-                }
-            } else if (operation == Patch.OperationEnum.ADD) {
-                if (isCertificateUpdateRequest) {
+        if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray())) {
+            for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
+                certificates.add(base64Decode(certInfo.getCertValue()));
+            }
+        }
+        value = decodeCertificate(value);
+        if (certificates.contains(value)) {
+            throw handleException(Response.Status.CONFLICT,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
+                    "Cannot add certificate as it already exists.");
+        }
+        certificates.add(index, value);
+        idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
 
-                    List<String> certificates = new ArrayList<>();
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[3]);
-                    if (index != idpToUpdate.getCertificateInfoArray().length) {
-                        throw handleException(Response.Status.BAD_REQUEST,
-                                Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                    }
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray())) {
-                        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
-                            certificates.add(base64Decode(certInfo.getCertValue()));
-                        }
-                    }
-                    if (!value.startsWith(IdentityUtil.PEM_BEGIN_CERTFICATE)) {
-                        try {
-                            value = base64Decode(value);
-                        } catch (IllegalArgumentException e) {
-                            throw handleException(Response.Status.BAD_REQUEST,
-                                    Constants.ErrorMessage.ERROR_CODE_INVALID_CERTIFICATE_FORMAT, null);
-                        }
-                    }
-                    if (certificates.contains(value)) {
-                        throw handleException(Response.Status.CONFLICT,
-                                Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
-                                "Cannot add certificate as it already exists.");
-                    }
-                    certificates.add(index, value);
-                    idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
-
-                    // Need to remove the JWKS URI property, if it exists, when adding certificates as they are
-                    // alternate options of the property Certificate Type.
-                    IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
-                    List<IdentityProviderProperty> idpNewProperties = new ArrayList<>();
-                    for (IdentityProviderProperty propertyDTO : propertyDTOS) {
-                        // Add properties to new list omitting the JWKS URI property.
-                        if (!Constants.JWKS_URI.equals(propertyDTO.getName())) {
-                            idpNewProperties.add(propertyDTO);
-                        }
-                    }
-                    idpToUpdate.setIdpProperties(idpNewProperties.toArray(new IdentityProviderProperty[0]));
-                } else if (Constants.CERTIFICATE_JWKSURI_PATH.equals(path)) {
-
-                    IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
-                    for (IdentityProviderProperty propertyDTO : propertyDTOS) {
-                        if (Constants.JWKS_URI.equals(propertyDTO.getName())) {
-                            throw handleException(Response.Status.BAD_REQUEST,
-                                    Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
-                                    "Cannot add JWKS URI as it already exists");
-                        }
-                    }
+        // Need to remove the JWKS URI property, if it exists, when adding certificates as they are
+        // alternate options of the property Certificate Type.
+        IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
+        List<IdentityProviderProperty> idpNewProperties = new ArrayList<>();
+        for (IdentityProviderProperty propertyDTO : propertyDTOS) {
+            // Add properties to new list omitting the JWKS URI property.
+            if (!Constants.JWKS_URI.equals(propertyDTO.getName())) {
+                idpNewProperties.add(propertyDTO);
+            }
+        }
+        idpToUpdate.setIdpProperties(idpNewProperties.toArray(new IdentityProviderProperty[0]));
+    }
 
-                    List<IdentityProviderProperty> idpProperties = new ArrayList<>(Arrays.asList(propertyDTOS));
-                    IdentityProviderProperty jwksProperty = new IdentityProviderProperty();
-                    jwksProperty.setName(Constants.JWKS_URI);
-                    jwksProperty.setValue(value);
-                    idpProperties.add(jwksProperty);
-                    idpToUpdate.setIdpProperties(idpProperties.toArray(new IdentityProviderProperty[0]));
-                    // Need to remove certificates, if any, when adding JWKS URI as they are alternate options of the
-                    // property Certificate Type.
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray())) {
-                        idpToUpdate.setCertificate(null);
-                    }
-                } else if (Constants.IDP_ISSUER_NAME_PATH.equals(path)) {
-                    IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
-                    for (IdentityProviderProperty propertyDTO : propertyDTOS) {
-                        if (Constants.IDP_ISSUER_NAME.equals(propertyDTO.getName())) {
-                            throw handleException(Response.Status.BAD_REQUEST,
-                                    Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
-                                    "Cannot add Issuer Name as it already exists");
-                        }
-                    }
-                    List<IdentityProviderProperty> idpProperties = new ArrayList<>(Arrays.asList(propertyDTOS));
-                    IdentityProviderProperty issuerNameProperty = new IdentityProviderProperty();
-                    issuerNameProperty.setName(Constants.IDP_ISSUER_NAME);
-                    issuerNameProperty.setValue(value);
-                    idpProperties.add(issuerNameProperty);
-                    idpToUpdate.setIdpProperties(idpProperties.toArray(new IdentityProviderProperty[0]));
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST,
-                            Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, null);
-                }
-            } else if (operation == Patch.OperationEnum.REMOVE) {
-                if (isCertificateUpdateRequest) {
-
-                    List<String> certificates = new ArrayList<>();
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[3]);
-                    if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray()) && (index >= 0) &&
-                            index < idpToUpdate.getCertificateInfoArray().length) {
-                        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
-                            certificates.add(base64Decode(certInfo.getCertValue()));
-                        }
-                        certificates.remove(index);
-                    } else if (ArrayUtils.isEmpty(idpToUpdate.getCertificateInfoArray()) ||
-                            index >= idpToUpdate.getCertificateInfoArray().length) {
-                        throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage
-                                .ERROR_CODE_ERROR_UPDATING_IDP, "Cannot replace certificate as it does not exist.");
-                    } else {
-                        throw handleException(Response.Status.BAD_REQUEST,
-                                Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                    }
-                    idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
-                } else if (Constants.CERTIFICATE_JWKSURI_PATH.equals(path)) {
-
-                    IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
-                    List<IdentityProviderProperty> idpNewProperties = new ArrayList<>();
-                    for (IdentityProviderProperty propertyDTO : propertyDTOS) {
-                        // Add properties to new list omitting the JWKS URI property.
-                        if (!Constants.JWKS_URI.equals(propertyDTO.getName())) {
-                            idpNewProperties.add(propertyDTO);
-                        }
-                    }
+    private void removeCertificate(IdentityProvider idpToUpdate, List<String> parameters, String value) {
 
-                    // If the sizes of original and new property lists are equal, then the JWKS URI property has not
-                    // been available.
-                    if (propertyDTOS.length == idpNewProperties.size()) {
-                        throw handleException(Response.Status.NOT_FOUND,
-                                Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
-                                "Cannot remove JWKS URI as it does not exist.");
-                    }
+        int index = Integer.parseInt(parameters.get(0));
+        if (ArrayUtils.isEmpty(idpToUpdate.getCertificateInfoArray()) ||
+                index >= idpToUpdate.getCertificateInfoArray().length) {
+            throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage
+                    .ERROR_CODE_ERROR_UPDATING_IDP, "Cannot replace certificate as it does not exist.");
+        }
+        List<String> certificates = new ArrayList<>();
+        for (CertificateInfo certInfo : idpToUpdate.getCertificateInfoArray()) {
+            certificates.add(base64Decode(certInfo.getCertValue()));
+        }
+        certificates.remove(index);
+        idpToUpdate.setCertificate(base64Encode(StringUtils.join(certificates, "")));
+    }
 
-                    idpToUpdate.setIdpProperties(idpNewProperties.toArray(new IdentityProviderProperty[0]));
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST,
-                            Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, null);
-                }
-            } else {
-                // Throw an error if any other patch operations are sent in the request.
-                throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                        .ERROR_CODE_INVALID_INPUT, null);
+    /**
+     * Certificates are accepted either in PEM format or base64 encoded.
+     *
+     * @param value Certificate of the patch operation.
+     * @return Certificate in PEM format.
+     */
+    private String decodeCertificate(String value) {
+
+        if (value.startsWith(IdentityUtil.PEM_BEGIN_CERTFICATE)) {
+            return value;
+        }
+        try {
+            return base64Decode(value);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_CERTIFICATE_FORMAT, null);
+        }
+    }
+
+    private void addJwksUri(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
+        for (IdentityProviderProperty propertyDTO : propertyDTOS) {
+            if (Constants.JWKS_URI.equals(propertyDTO.getName())) {
+                throw handleException(Response.Status.BAD_REQUEST,
+                        Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
+                        "Cannot add JWKS URI as it already exists");
+            }
+        }
+        List<IdentityProviderProperty> idpProperties = new ArrayList<>(Arrays.asList(propertyDTOS));
+        IdentityProviderProperty jwksProperty = new IdentityProviderProperty();
+        jwksProperty.setName(Constants.JWKS_URI);
+        jwksProperty.setValue(value);
+        idpProperties.add(jwksProperty);
+        idpToUpdate.setIdpProperties(idpProperties.toArray(new IdentityProviderProperty[0]));
+        // Need to remove certificates, if any, when adding JWKS URI as they are alternate options of the
+        // property Certificate Type.
+        if (ArrayUtils.isNotEmpty(idpToUpdate.getCertificateInfoArray())) {
+            idpToUpdate.setCertificate(null);
+        }
+    }
+
+    private void addIdpIssuerName(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
+        for (IdentityProviderProperty propertyDTO : propertyDTOS) {
+            if (Constants.IDP_ISSUER_NAME.equals(propertyDTO.getName())) {
+                throw handleException(Response.Status.BAD_REQUEST,
+                        Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
+                        "Cannot add Issuer Name as it already exists");
             }
         }
+        List<IdentityProviderProperty> idpProperties = new ArrayList<>(Arrays.asList(propertyDTOS));
+        IdentityProviderProperty issuerNameProperty = new IdentityProviderProperty();
+        issuerNameProperty.setName(Constants.IDP_ISSUER_NAME);
+        issuerNameProperty.setValue(value);
+        idpProperties.add(issuerNameProperty);
+        idpToUpdate.setIdpProperties(idpProperties.toArray(new IdentityProviderProperty[0]));
+    }
+
+    private void removeJwksUri(IdentityProvider idpToUpdate, List<String> parameters, String value) {
+
+        IdentityProviderProperty[] propertyDTOS = idpToUpdate.getIdpProperties();
+        List<IdentityProviderProperty> idpNewProperties = new ArrayList<>();
+        for (IdentityProviderProperty propertyDTO : propertyDTOS) {
+            // Add properties to new list omitting the JWKS URI property.
+            if (!Constants.JWKS_URI.equals(propertyDTO.getName())) {
+                idpNewProperties.add(propertyDTO);
+            }
+        }
+
+        // If the sizes of original and new property lists are equal, then the JWKS URI property has not
+        // been available.
+        if (propertyDTOS.length == idpNewProperties.size()) {
+            throw handleException(Response.Status.NOT_FOUND,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP,
+                    "Cannot remove JWKS URI as it does not exist.");
+        }
+
+        idpToUpdate.setIdpProperties(idpNewProperties.toArray(new IdentityProviderProperty[0]));
     }
 
     private void patchIdpProperties(IdentityProvider identityProvider, String propertyName, String propertyValue) {
@@ -3121,10 +3329,12 @@ public class ServerIdpManagementService {
      *
      * @param tenantDomain Tenant domain.
      * @param claims       Claim configs.
+     * @param localClaims  Local claims of the tenant.
      * @throws IdentityProviderManagementException If an error while validating the claim configs or if an invalid
      *                                             config is found.
      */
-    private void validateClaims(String tenantDomain, Claims claims) throws IdentityProviderManagementException {
+    private void validateClaims(String tenantDomain, Claims claims, LocalClaimIndex localClaims)
+            throws IdentityProviderManagementException {
 
         if (claims == null) {
             return;
@@ -3135,8 +3345,7 @@ public class ServerIdpManagementService {
 
         // EMPTY claimMappings indicate that the IDP is using local claim dialect.
         if (CollectionUtils.isEmpty(claimMappings)) {
-            List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-            Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+            Set<String> claimURIs = getLocalClaimURIs(tenantDomain, localClaims);
             // Validate userClaimURI and roleClaimURI.
             if (StringUtils.isNotBlank(userClaimURI) && !claimURIs.contains(userClaimURI)) {
                 throw new IdentityProviderManagementClientException(
@@ -3155,8 +3364,7 @@ public class ServerIdpManagementService {
         validateUserAndRoleClaims(userClaimURI, roleClaimURI, claimMappings);
 
         // Validate LocalClaim objects against local claim URIs.
-        List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-        Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+        Set<String> claimURIs = getLocalClaimURIs(tenantDomain, localClaims);
         for (org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping claimMapping : claimMappings) {
 
             // If a claim URI does not exist in claimURIs list, then that's a not existing URI.
@@ -3215,22 +3423,20 @@ public class ServerIdpManagementService {
      * Get the local claim URIs of the tenant.
      *
      * @param tenantDomain Tenant domain.
-     * @return List of local claim URIs.
+     * @param localClaims  Local claims of the tenant.
+     * @return Local claim URIs.
      * @throws IdentityProviderManagementServerException If an error occurred while getting the claims list.
      */
-    private List<LocalClaim> getLocalClaimURIs(String tenantDomain) throws IdentityProviderManagementServerException {
+    private Set<String> getLocalClaimURIs(String tenantDomain, LocalClaimIndex localClaims)
+            throws IdentityProviderManagementServerException {
 
         try {
-            List<LocalClaim> localClaimsList =
-                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(tenantDomain);
-            if (localClaimsList.isEmpty()) {
-                if (log.isDebugEnabled()) {
-                    log.debug("No local claims found for tenant:" + tenantDomain + ".Therefore, skipping " +
-                            "local claim URI validation.");
-                }
-                return Collections.emptyList();
+            Set<String> claimURIs = localClaims.getClaimURIs();
+            if (claimURIs.isEmpty() && log.isDebugEnabled()) {
+                log.debug("No local claims found for tenant:" + tenantDomain + ".Therefore, skipping " +
+                        "local claim URI validation.");
             }
-            return localClaimsList;
+            return claimURIs;
         } catch (ClaimMetadataException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error occurred while validating the local claim URIs for tenant: " + tenantDomain, e);
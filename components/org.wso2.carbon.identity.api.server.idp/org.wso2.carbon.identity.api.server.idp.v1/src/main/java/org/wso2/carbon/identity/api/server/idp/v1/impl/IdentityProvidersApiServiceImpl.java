@@ -21,6 +21,9 @@ package org.wso2.carbon.identity.api.server.idp.v1.impl;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkOperationRouter;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequest;
+import org.wso2.carbon.identity.api.server.common.bulk.BulkRequestExecutor;
 import org.wso2.carbon.identity.api.server.idp.v1.IdentityProvidersApiService;
 import org.wso2.carbon.identity.api.server.idp.v1.core.ServerIdpManagementService;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Claims;
@@ -37,6 +40,7 @@ import org.wso2.carbon.identity.api.server.idp.v1.model.Roles;
 
 import java.net.URI;
 import java.util.List;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -51,6 +55,11 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
     @Autowired
     private ServerIdpManagementService idpManagementService;
 
+    // Bulk requests are authorized with the create scope, hence only the create operation is routed.
+    private final BulkRequestExecutor bulkRequestExecutor = new BulkRequestExecutor(new BulkOperationRouter()
+            .route(HttpMethod.POST, IDP_PATH_COMPONENT, request ->
+                    addIDP(request.getData(IdentityProviderPOSTRequest.class))));
+
     @Override
     public Response addIDP(IdentityProviderPOSTRequest identityProviderPOSTRequest) {
 
@@ -70,6 +79,12 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
         return Response.created(location).build();
     }
 
+    @Override
+    public Response bulkIDPOperations(BulkRequest bulkRequest) {
+
+        return Response.ok().entity(bulkRequestExecutor.execute(bulkRequest)).build();
+    }
+
     @Override
     public Response deleteIDP(String identityProviderId, Boolean force) {
 
@@ -134,10 +149,16 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
 
     @Override
     public Response getIDPs(Integer limit, Integer offset, String filter, String sortOrder, String sortBy,
-                            String requiredAttributes) {
+                            String requiredAttributes, String after, String before) {
 
         return Response.ok().entity(idpManagementService.getIDPs(requiredAttributes, limit, offset, filter, sortBy,
-                sortOrder)).build();
+                sortOrder, after, before)).build();
+    }
+
+    @Override
+    public Response getIDPsByIds(List<String> ids) {
+
+        return Response.ok().entity(idpManagementService.getIDPsByIds(ids)).build();
     }
 
     @Override
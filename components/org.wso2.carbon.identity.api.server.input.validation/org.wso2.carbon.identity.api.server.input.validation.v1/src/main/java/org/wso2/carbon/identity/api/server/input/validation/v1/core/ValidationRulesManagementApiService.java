@@ -16,10 +16,10 @@
 
 package org.wso2.carbon.identity.api.server.input.validation.v1.core;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ObjectMapperRegistry;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.input.validation.common.InputValidationServiceHolder;
@@ -143,8 +143,7 @@ public class ValidationRulesManagementApiService {
 
         List<ValidatorModel> response = new ArrayList<>();
         for (ValidatorConfiguration configuration : validators) {
-            ObjectMapper mapper = new ObjectMapper();
-            ValidatorModel validator = mapper.convertValue(configuration, ValidatorModel.class);
+            ValidatorModel validator = ObjectMapperRegistry.convertValue(configuration, ValidatorModel.class);
             response.add(validator);
         }
         return response;
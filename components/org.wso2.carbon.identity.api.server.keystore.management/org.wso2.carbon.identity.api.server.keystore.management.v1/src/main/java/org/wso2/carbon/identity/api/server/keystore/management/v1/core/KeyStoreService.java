@@ -20,6 +20,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.LinkBuilder;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
@@ -218,13 +219,12 @@ public class KeyStoreService {
             componentPath = CLIENT_CERTIFICATE_PATH_COMPONENT;
         }
 
+        LinkBuilder keyStoreLinkBuilder =
+                ContextLoader.getLinkBuilderForHeader(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT);
         for (String alias : aliasList) {
             CertificateResponse certificatesResponse = new CertificateResponse();
             certificatesResponse.setAlias(alias);
-            String certificateEndPoint =
-                    String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
-                            componentPath, alias);
-            certificatesResponse.setCertificate(buildURIForHeader(certificateEndPoint));
+            certificatesResponse.setCertificate(keyStoreLinkBuilder.buildURI(String.format(componentPath, alias)));
             certificatesResponses.add(certificatesResponse);
         }
         return certificatesResponses;
@@ -17,6 +17,7 @@ package org.wso2.carbon.identity.api.server.oidc.scope.management.v1.core;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.JsonArrayStreamingOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.common.OidcScopeConstants;
@@ -26,11 +27,11 @@ import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.IdentityOAuthClientException;
 import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.oidc.scope.management.common.OIDCScopeManagementServiceHolder.getOAuthAdminService;
 
@@ -98,9 +99,9 @@ public class OidcScopeManagementService {
     /**
      * List all available OIDC scopes.
      *
-     * @return List of scopes.
+     * @return Scopes, streamed as a JSON array.
      */
-    public List<Scope> getScopes() {
+    public StreamingOutput getScopes() {
 
         try {
             ScopeDTO[] scopes = getOAuthAdminService().getScopes();
@@ -134,16 +135,11 @@ public class OidcScopeManagementService {
      * Build scope list.
      *
      * @param scopeDTOS ScopeDTOs.
-     * @return Return list of scope.
+     * @return Return list of scope, converted as each scope is written.
      */
-    private List<Scope> buildScopeList(ScopeDTO[] scopeDTOS) {
+    private StreamingOutput buildScopeList(ScopeDTO[] scopeDTOS) {
 
-        List<Scope> scopeList = new ArrayList<>();
-
-        for (int i = 0; i < scopeDTOS.length; i++) {
-            scopeList.add(convertScopeDTOObjectToScope(scopeDTOS[i]));
-        }
-        return scopeList;
+        return JsonArrayStreamingOutput.of(Arrays.asList(scopeDTOS), this::convertScopeDTOObjectToScope);
     }
 
     /**
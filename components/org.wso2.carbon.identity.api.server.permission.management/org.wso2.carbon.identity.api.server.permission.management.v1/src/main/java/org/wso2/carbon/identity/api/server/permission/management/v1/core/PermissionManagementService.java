@@ -20,6 +20,7 @@ import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.JsonArrayStreamingOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.permission.management.common.Constant;
@@ -29,7 +30,10 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.mgt.RolePermissionException;
 import org.wso2.carbon.user.mgt.RolePermissionManagementService;
 
+import java.util.Arrays;
+
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * The Permission Management Service class.
@@ -39,18 +43,18 @@ public class PermissionManagementService {
     private static final Log LOG = LogFactory.getLog(PermissionManagementService.class);
 
     /**
-     * Get all permissions array.
+     * Get all permissions.
      *
-     * @return PermissionObject[] of permissions.
+     * @return Permissions, streamed as a JSON array.
      */
-    public Permission[] getAllPermissions() {
+    public StreamingOutput getAllPermissions() {
 
         try {
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             RolePermissionManagementService rolePermissionManagementService =
                     RolePermissionManagementServiceDataHolder.getRolePermissionManagementService();
-            return getPermissionObjects(rolePermissionManagementService.getAllPermissions(IdentityTenantUtil
-                    .getTenantId(tenantDomain)));
+            return JsonArrayStreamingOutput.of(Arrays.asList(rolePermissionManagementService.getAllPermissions(
+                    IdentityTenantUtil.getTenantId(tenantDomain))), this::getPermissionObject);
         } catch (RolePermissionException e) {
             throw handleException(e);
         }
@@ -59,19 +63,15 @@ public class PermissionManagementService {
     /**
      * Convert Permission Object to PermissionObject type.
      *
-     * @param permissions from backend service.
-     * @return PermissionObject[] of permissions.
+     * @param backendPermission Permission from backend service.
+     * @return PermissionObject of the permission.
      */
-    private Permission[] getPermissionObjects(org.wso2.carbon.user.mgt.common.model.Permission[] permissions) {
-
-        Permission[] outputPermissions = new Permission[permissions.length];
-        for (int i = 0; i < permissions.length; i++) {
-            Permission permission = new Permission();
-            permission.setDisplayName(permissions[i].getDisplayName());
-            permission.setResourcePath(permissions[i].getResourcePath());
-            outputPermissions[i] = permission;
-        }
-        return outputPermissions;
+    private Permission getPermissionObject(org.wso2.carbon.user.mgt.common.model.Permission backendPermission) {
+
+        Permission permission = new Permission();
+        permission.setDisplayName(backendPermission.getDisplayName());
+        permission.setResourcePath(backendPermission.getResourcePath());
+        return permission;
     }
 
     private APIError handleException(Exception e, String... data) {
@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.api.server.secret.management.v1.core;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.JsonArrayStreamingOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.secret.management.common.SecretManagementConstants;
@@ -34,8 +35,8 @@ import org.wso2.carbon.identity.secret.mgt.core.model.Secret;
 import org.wso2.carbon.identity.secret.mgt.core.model.Secrets;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.ErrorMessages.ERROR_CODE_SECRET_ALREADY_EXISTS;
 import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.ErrorMessages.ERROR_CODE_SECRET_DOES_NOT_EXISTS;
@@ -164,15 +165,14 @@ public class SecretManagementService {
      * Retrieve all the secrets of the tenant.
      *
      * @param secretType Secret type name.
-     * @return Secrets of the tenant.
+     * @return Secrets of the tenant, streamed as a JSON array.
      */
-    public List<SecretResponse> getSecretsList(String secretType) {
+    public StreamingOutput getSecretsList(String secretType) {
 
         try {
             Secrets secrets = SecretManagementServiceHolder.getSecretConfigManager().getSecrets(secretType);
             List<Secret> secretsList = secrets.getSecrets();
-            return secretsList.stream().map(secret ->
-                    buildSecretResponseFromResponseDTO(secret)).collect(Collectors.toList());
+            return JsonArrayStreamingOutput.of(secretsList, this::buildSecretResponseFromResponseDTO);
         } catch (SecretManagementException e) {
             throw handleSecretMgtException(e, SecretManagementConstants.ErrorMessage.
                     ERROR_CODE_ERROR_GETTING_SECRET, null);
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantMode
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantResponseModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.identity.api.server.common.async.AsyncRequestExecutor;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.TenantsApiService;
 
 import javax.validation.Valid;
@@ -64,9 +65,9 @@ public class TenantsApi  {
         @ApiResponse(code = 409, message = "Element Already Exists", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response addTenant(@ApiParam(value = "This represents the tenant to be created." ,required=true) @Valid TenantModel tenantModel) {
+    public Object addTenant(@ApiParam(value = "This represents the tenant to be created." ,required=true) @Valid TenantModel tenantModel) {
 
-        return delegate.addTenant(tenantModel );
+        return AsyncRequestExecutor.getInstance().execute(() -> delegate.addTenant(tenantModel ));
     }
 
     @Valid
@@ -208,9 +209,9 @@ public class TenantsApi  {
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response retrieveTenants(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved tenants should be sorted.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. Currently sorting through _<b>domainName<b>_ only supported.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /tenants?filter=domain+sw+\"wso2\". _<b>This option is not yet supported.<b>_ ")  @QueryParam("filter") String filter) {
+    public Response retrieveTenants(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved tenants should be sorted.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. Currently sorting through _<b>domainName<b>_ only supported.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /tenants?filter=domain+sw+\"wso2\". _<b>This option is not yet supported.<b>_ ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Cursor of the tenant after which the records should be returned, as given in the 'next' link of a previous page. Cannot be used along with the 'offset' or 'before' parameters.")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the tenant before which the records should be returned, as given in the 'previous' link of a previous page. Cannot be used along with the 'offset' or 'after' parameters.")  @QueryParam("before") String before) {
 
-        return delegate.retrieveTenants(limit,  offset,  sortOrder,  sortBy,  filter );
+        return delegate.retrieveTenants(limit,  offset,  sortOrder,  sortBy,  filter,  after,  before );
     }
 
     @Valid
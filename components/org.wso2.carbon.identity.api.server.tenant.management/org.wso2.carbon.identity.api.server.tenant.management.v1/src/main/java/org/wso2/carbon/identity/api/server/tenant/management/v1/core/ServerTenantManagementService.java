@@ -22,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.pagination.CursorPaginator;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.AdditionalClaims;
@@ -108,18 +109,27 @@ public class ServerTenantManagementService {
      * @param filter    Filter string. E.g. filter="domainName" sw "wso2.com"
      * @param sortBy    Attribute to sort the tenants by. E.g. domainName
      * @param sortOrder Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param after     Cursor of the tenant after which the page starts.
+     * @param before    Cursor of the tenant before which the page ends.
      * @return TenantsListResponse.
      */
     public TenantsListResponse listTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
-                                           String filter) {
+                                           String filter, String after, String before) {
 
         handleNotImplementedCapabilities(filter);
         TenantMgtService tenantMgtService = TenantManagementServiceHolder.getTenantMgtService();
 
         try {
+            if (CursorPaginator.isCursorRequest(after, before)) {
+                CursorPaginator cursorPaginator = CursorPaginator.forRequest(after, before, offset, limit, sortBy,
+                        sortOrder);
+                TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(cursorPaginator.getFetchLimit(),
+                        cursorPaginator.getFetchOffset(), sortOrder, sortBy, filter);
+                return createTenantListResponse(tenantSearchResult, cursorPaginator);
+            }
             TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(limit, offset, sortOrder, sortBy,
                     filter);
-            return createTenantListResponse(tenantSearchResult);
+            return createTenantListResponse(tenantSearchResult, null);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_LISTING_TENANTS, null);
@@ -294,9 +304,15 @@ public class ServerTenantManagementService {
         return claimsMapping;
     }
 
-    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult) {
+    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult,
+                                                         CursorPaginator cursorPaginator) {
 
         List<Tenant> tenants = tenantSearchResult.getTenantList();
+        int offset = tenantSearchResult.getOffSet();
+        if (cursorPaginator != null) {
+            tenants = cursorPaginator.selectPage(tenants, Tenant::getDomain);
+            offset = cursorPaginator.getPageOffset();
+        }
         TenantsListResponse listResponse = new TenantsListResponse();
         if (CollectionUtils.isNotEmpty(tenants)) {
             List<TenantListItem> tenantListItems = getTenantListItems(tenants);
@@ -307,10 +323,20 @@ public class ServerTenantManagementService {
         }
 
         listResponse.setTotalResults(tenantSearchResult.getTotalTenantCount());
-        listResponse.setStartIndex(tenantSearchResult.getOffSet() + 1);
-        listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT,
-                tenantSearchResult.getLimit(), tenantSearchResult.getOffSet(), tenantSearchResult.getTotalTenantCount(),
-                tenantSearchResult.getFilter()));
+        listResponse.setStartIndex(offset + 1);
+        if (cursorPaginator != null) {
+            List<Link> links = new ArrayList<>();
+            for (Map.Entry<String, String> link : cursorPaginator.buildLinks(TENANT_MANAGEMENT_PATH_COMPONENT,
+                    tenants, Tenant::getDomain, tenantSearchResult.getTotalTenantCount(),
+                    tenantSearchResult.getFilter()).entrySet()) {
+                links.add(new Link().rel(link.getKey()).href(link.getValue()));
+            }
+            listResponse.setLinks(links);
+        } else {
+            listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT,
+                    tenantSearchResult.getLimit(), tenantSearchResult.getOffSet(),
+                    tenantSearchResult.getTotalTenantCount(), tenantSearchResult.getFilter()));
+        }
         return listResponse;
     }
 
@@ -27,7 +27,7 @@ public class UserStoreConstants {
     public static final String USER_STORE_DESCRIPTION = "/description";
     public static final String USER_STORE_CLASS_NAME = "/className";
     public static final String USER_STORE_DOMAIN_NAME = "/domainName";
-    public static final String USER_STORE_PROPERTIES = "/properties/";
+    public static final String USER_STORE_PROPERTY = "/properties/{name}";
     public static final String USER_STORE_PROPERTY_MASK = "************";
     public static final String CLAIM_MANAGEMENT_PREFIX = "CMT-";
 
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.userstore.common.factory;
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 
 /**
@@ -47,7 +48,8 @@ public class ClaimMetadataManagementServiceFactory extends AbstractFactoryBean<C
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .getOSGiService(ClaimMetadataManagementService.class, null);
         if (claimMetadataManagementService != null) {
-            this.claimMetadataManagementService = claimMetadataManagementService;
+            this.claimMetadataManagementService =
+                    BackendTimingProxy.wrap(ClaimMetadataManagementService.class, claimMetadataManagementService);
             return this.claimMetadataManagementService;
         }
         throw new Exception("Unable to retrieve Claim Metadata Management Service.");
@@ -18,6 +18,7 @@ package org.wso2.carbon.identity.api.server.userstore.common.factory;
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -42,7 +43,7 @@ public class RealmServiceFactory extends AbstractFactoryBean<RealmService> {
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .getOSGiService(RealmService.class, null);
             if (realmService != null) {
-                this.realmService = realmService;
+                this.realmService = BackendTimingProxy.wrap(RealmService.class, realmService);
             } else {
                 throw new Exception("Unable to retrieve UserStoreConfig Service.");
             }
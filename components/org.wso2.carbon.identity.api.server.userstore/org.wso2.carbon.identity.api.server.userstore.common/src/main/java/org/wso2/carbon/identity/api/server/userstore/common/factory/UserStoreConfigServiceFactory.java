@@ -18,6 +18,7 @@ package org.wso2.carbon.identity.api.server.userstore.common.factory;
 
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.metrics.BackendTimingProxy;
 import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
 
 /**
@@ -42,7 +43,8 @@ public class UserStoreConfigServiceFactory extends AbstractFactoryBean<UserStore
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .getOSGiService(UserStoreConfigService.class, null);
             if (userStoreConfigService != null) {
-                this.userStoreConfigService = userStoreConfigService;
+                this.userStoreConfigService =
+                        BackendTimingProxy.wrap(UserStoreConfigService.class, userStoreConfigService);
             } else {
                 throw new Exception("Unable to retrieve UserStoreConfig Service.");
             }
@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreConfigura
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
+import org.wso2.carbon.identity.api.server.common.async.AsyncRequestExecutor;
 import org.wso2.carbon.identity.api.server.userstore.v1.UserstoresApiService;
 
 import javax.validation.Valid;
@@ -275,9 +276,9 @@ public class UserstoresApi  {
         @ApiResponse(code = 401, message = "Unauthorized.", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = Error.class)
     })
-    public Response testRDBMSConnection(@ApiParam(value = "RDBMS connection properties used to connect to the datasource used by a JDBC user store manager." ) @Valid RDBMSConnectionReq rdBMSConnectionReq) {
+    public Object testRDBMSConnection(@ApiParam(value = "RDBMS connection properties used to connect to the datasource used by a JDBC user store manager." ) @Valid RDBMSConnectionReq rdBMSConnectionReq) {
 
-        return delegate.testRDBMSConnection(rdBMSConnectionReq );
+        return AsyncRequestExecutor.getInstance().execute(() -> delegate.testRDBMSConnection(rdBMSConnectionReq ));
     }
 
     @Valid
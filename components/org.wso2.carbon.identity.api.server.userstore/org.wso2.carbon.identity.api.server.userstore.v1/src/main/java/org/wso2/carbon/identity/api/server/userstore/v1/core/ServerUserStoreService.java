@@ -25,8 +25,15 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.LinkBuilder;
+import org.wso2.carbon.identity.api.server.common.cache.ResponseCache;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeEvent;
+import org.wso2.carbon.identity.api.server.common.changefeed.ChangeFeed;
+import org.wso2.carbon.identity.api.server.common.projection.FieldMask;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.patch.PatchOperation;
+import org.wso2.carbon.identity.api.server.common.patch.PatchRouter;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.functions.userstore.AttributeMappingsToApiModel;
@@ -71,7 +78,6 @@ import org.wso2.carbon.user.core.tracker.UserStoreManagerRegistry;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
@@ -82,7 +88,6 @@ import java.util.UUID;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
-import static org.wso2.carbon.identity.api.server.common.Constants.REGEX_COMMA;
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants.ErrorMessage.ERROR_CODE_USER_STORE_LIMIT_REACHED;
 
@@ -95,6 +100,10 @@ public class ServerUserStoreService {
 
     private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
 
+    private final ResponseCache<List<UserStoreListResponse>> userStoreListCache = new ResponseCache<>("userstores");
+    private final ResponseCache<UserStoreConfigurationsRes> userStoreCache = new ResponseCache<>("userstore");
+    private final PatchRouter<UserStorePatchTarget> userStorePatchRouter = buildUserStorePatchRouter();
+
     private static boolean isAvailableUserStoreTypes(List<AvailableUserStoreClassesRes> userStoreList, String typeID) {
 
         for (AvailableUserStoreClassesRes userStore : userStoreList) {
@@ -133,6 +142,7 @@ public class ServerUserStoreService {
                     .getUserStoreConfigService();
             UserStoreDTO userStoreDTO = createUserStoreDTO(userStoreReq);
             userStoreConfigService.addUserStore(userStoreDTO);
+            handleUserStoreChange(base64URLEncodeId(userstoreDomain), ChangeEvent.Operation.CREATED);
 
             if (claimAttributeMappingList != null) {
                 updateClaimMappings(userstoreDomain, tenantDomain, localClaimList);
@@ -157,6 +167,7 @@ public class ServerUserStoreService {
             UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance().
                     getUserStoreConfigService();
             userStoreConfigService.deleteUserStore(base64URLDecodeId(userstoreDomainId));
+            handleUserStoreChange(userstoreDomainId, ChangeEvent.Operation.DELETED);
         } catch (IdentityUserStoreClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -195,6 +206,7 @@ public class ServerUserStoreService {
                 validateClaimMappings(tenantDomain, localClaimList);
             }
             userStoreConfigService.updateUserStore(createUserStoreDTO(userStoreReq), false);
+            handleUserStoreChange(domainId, ChangeEvent.Operation.UPDATED);
             if (claimAttributeMappingList != null) {
                 updateClaimMappings(userstoreDomain, tenantDomain, localClaimList);
             }
@@ -259,6 +271,10 @@ public class ServerUserStoreService {
                                                         String requiredAttributes) {
 
         handleNotImplementedBehaviour(limit, offset, filter, sort);
+        return userStoreListCache.get(() -> listUserStores(requiredAttributes), requiredAttributes);
+    }
+
+    private List<UserStoreListResponse> listUserStores(String requiredAttributes) {
 
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
@@ -340,6 +356,11 @@ public class ServerUserStoreService {
      */
     public UserStoreConfigurationsRes getUserStoreByDomainId(String domainId) {
 
+        return userStoreCache.get(() -> retrieveUserStore(domainId), domainId);
+    }
+
+    private UserStoreConfigurationsRes retrieveUserStore(String domainId) {
+
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
         List<AddUserStorePropertiesRes> propertiesTobeAdd = new ArrayList<>();
@@ -524,6 +545,7 @@ public class ServerUserStoreService {
                 .getUserStoreConfigService();
         try {
             userStoreConfigService.updateUserStore(userStoreDTO, false);
+            handleUserStoreChange(base64URLEncodeId(userStoreDTO.getDomainId()), ChangeEvent.Operation.UPDATED);
             return buildResponseForPatchReplace(userStoreDTO, userStoreDTO.getProperties());
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -572,31 +594,8 @@ public class ServerUserStoreService {
                 throw handleException(Response.Status.NOT_FOUND, UserStoreConstants.ErrorMessage.ERROR_CODE_NOT_FOUND);
             }
 
-            PropertyDTO[] propertyDTOS = userStoreDTO.getProperties();
-            for (PatchDocument patchDocument : patchDocuments) {
-                String path = patchDocument.getPath();
-                String value = patchDocument.getValue();
-                if (StringUtils.isBlank(path)) {
-                    throw handleException(Response.Status.BAD_REQUEST, UserStoreConstants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT);
-                }
-                if (path.startsWith(UserStoreConstants.USER_STORE_PROPERTIES)) {
-                    String propName = extractPropertyName(path);
-                    if (StringUtils.isNotEmpty(propName)) {
-                        for (PropertyDTO propertyDTO : propertyDTOS) {
-                            if (propName.equals(propertyDTO.getName())) {
-                                propertyDTO.setValue(value);
-                            }
-                        }
-                    }
-                } else if (path.equals(UserStoreConstants.USER_STORE_DESCRIPTION)) {
-                    userStoreDTO.setDescription(value);
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST, UserStoreConstants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT);
-                }
-            }
-            userStoreDTO.setProperties(propertyDTOS);
+            userStorePatchRouter.apply(new UserStorePatchTarget(userStoreDTO), patchDocuments,
+                    PatchDocument::getOperation, PatchDocument::getPath, PatchDocument::getValue);
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
                     UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_USER_STORE;
@@ -606,6 +605,46 @@ public class ServerUserStoreService {
         return userStoreDTO;
     }
 
+    /**
+     * Build the router of the patch operations supported on a user store. Only the 'REPLACE' operation is supported,
+     * on the description and the properties of the user store. Unknown properties are ignored.
+     *
+     * @return Patch router.
+     */
+    private PatchRouter<UserStorePatchTarget> buildUserStorePatchRouter() {
+
+        return new PatchRouter.Builder<UserStorePatchTarget>((operation, path) -> handleException(
+                Response.Status.BAD_REQUEST, UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT))
+                .on(PatchOperation.REPLACE, UserStoreConstants.USER_STORE_DESCRIPTION,
+                        (target, parameters, value) -> target.userStoreDTO.setDescription(value))
+                .on(PatchOperation.REPLACE, UserStoreConstants.USER_STORE_PROPERTY, (target, parameters, value) -> {
+                    PropertyDTO propertyDTO = target.properties.get(parameters.get(0));
+                    if (propertyDTO != null) {
+                        propertyDTO.setValue(value);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * User store being patched, with its properties indexed by name.
+     */
+    private static class UserStorePatchTarget {
+
+        private final UserStoreDTO userStoreDTO;
+        private final Map<String, PropertyDTO> properties = new HashMap<>();
+
+        private UserStorePatchTarget(UserStoreDTO userStoreDTO) {
+
+            this.userStoreDTO = userStoreDTO;
+            if (userStoreDTO.getProperties() != null) {
+                for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
+                    properties.putIfAbsent(propertyDTO.getName(), propertyDTO);
+                }
+            }
+        }
+    }
+
     /**
      * Construct the response for patch replace.
      *
@@ -660,12 +699,26 @@ public class ServerUserStoreService {
         try {
             claimMetadataManagementService.validateClaimAttributeMapping(localClaimList, tenantDomain);
             claimMetadataManagementService.updateLocalClaimMappings(localClaimList, tenantDomain, userstoreDomain);
+            handleUserStoreChange(base64URLEncodeId(userstoreDomain), ChangeEvent.Operation.UPDATED);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e,
                     UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CLAIM_MAPPING);
         }
     }
 
+    /**
+     * Evict the cached user store reads of the tenant after a write and publish the change to the change feed.
+     *
+     * @param domainId  Base64 URL encoded domain id of the changed user store.
+     * @param operation Operation performed on the user store.
+     */
+    private void handleUserStoreChange(String domainId, ChangeEvent.Operation operation) {
+
+        userStoreListCache.invalidateTenant();
+        userStoreCache.invalidateTenant();
+        ChangeFeed.getInstance().publish(ChangeEvent.ResourceType.USERSTORE, domainId, operation);
+    }
+
     /**
      * To validate claim existence of claim attribute mappings.
      *
@@ -750,22 +803,23 @@ public class ServerUserStoreService {
                                                                    String requiredAttributes) {
 
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
+        FieldMask requiredProperties = FieldMask.parseNames(requiredAttributes);
         Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
         if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
+            LinkBuilder userStoreLinkBuilder = ContextLoader.getLinkBuilderForBody(V1_API_PATH_COMPONENT +
+                    UserStoreConstants.USER_STORE_PATH_COMPONENT);
             for (UserStoreDTO jsonObject : userStoreDTOS) {
                 UserStoreListResponse userStoreList = new UserStoreListResponse();
+                String userStoreId = base64URLEncodeId(jsonObject.getDomainId());
                 userStoreList.setDescription(jsonObject.getDescription());
                 userStoreList.setName(jsonObject.getDomainId());
-                userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
-                        base64URLEncodeId(jsonObject.getDomainId()))).toString());
+                userStoreList.setId(userStoreId);
+                userStoreList.setSelf(userStoreLinkBuilder.build(userStoreId));
                 userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
                 userStoreList.setTypeName(getUserStoreTypeName(jsonObject.getClassName()));
 
-                if (StringUtils.isNotBlank(requiredAttributes)) {
-                    String[] requiredAttributesArray = requiredAttributes.split(REGEX_COMMA);
-                    addUserstoreProperties(jsonObject, userStoreList, Arrays.asList(requiredAttributesArray));
+                if (!requiredProperties.isAll()) {
+                    addUserstoreProperties(jsonObject, userStoreList, requiredProperties);
                 }
 
                 if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
@@ -783,13 +837,13 @@ public class ServerUserStoreService {
      *
      * @param userStoreDTO            userStoreDTO object.
      * @param userStoreListResponse   userStoreListResponse object.
-     * @param requestedAttributesList Requested user store properties name list.
+     * @param requiredProperties      Requested user store property names.
      */
     private void addUserstoreProperties(UserStoreDTO userStoreDTO, UserStoreListResponse userStoreListResponse,
-                                        List<String> requestedAttributesList) {
+                                        FieldMask requiredProperties) {
 
         for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
-            if (requestedAttributesList.contains(propertyDTO.getName()) &&
+            if (requiredProperties.includes(propertyDTO.getName()) &&
                     StringUtils.isNotBlank(propertyDTO.getValue())) {
                 AddUserStorePropertiesRes addUserStorePropertiesRes = new AddUserStorePropertiesRes();
                 addUserStorePropertiesRes.setName(propertyDTO.getName());
@@ -1281,16 +1335,6 @@ public class ServerUserStoreService {
         }
     }
 
-    private String extractPropertyName(String pathProp) {
-
-        String name = null;
-        String[] splittedPath = pathProp.split("/");
-        if (splittedPath.length > 2) {
-            name = splittedPath[2];
-        }
-        return name;
-    }
-
     /**
      * Get user store attributes mappings for a given user store type id.
      *